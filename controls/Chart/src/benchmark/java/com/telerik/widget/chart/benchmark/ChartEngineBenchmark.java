@@ -0,0 +1,399 @@
+package com.telerik.widget.chart.benchmark;
+
+import com.telerik.android.common.Function;
+import com.telerik.android.common.ObservableCollection;
+import com.telerik.android.common.math.RadRect;
+import com.telerik.widget.chart.engine.axes.AxisModel;
+import com.telerik.widget.chart.engine.axes.AxisType;
+import com.telerik.widget.chart.engine.axes.categorical.CategoricalAxisModel;
+import com.telerik.widget.chart.engine.axes.continuous.LinearAxisModel;
+import com.telerik.widget.chart.engine.chartAreas.CartesianChartAreaModel;
+import com.telerik.widget.chart.engine.chartAreas.ChartAreaModel;
+import com.telerik.widget.chart.engine.chartAreas.ChartFrameTimings;
+import com.telerik.widget.chart.engine.databinding.GenericDataPointBinding;
+import com.telerik.widget.chart.engine.databinding.datasources.CategoricalSeriesDataSource;
+import com.telerik.widget.chart.engine.databinding.datasources.ChartSeriesDataSource;
+import com.telerik.widget.chart.engine.databinding.datasources.OhlcSeriesDataSource;
+import com.telerik.widget.chart.engine.databinding.datasources.ScatterSeriesDataSource;
+import com.telerik.widget.chart.engine.series.BarSeriesModel;
+import com.telerik.widget.chart.engine.series.OhlcSeriesModel;
+import com.telerik.widget.chart.engine.series.PointSeriesModel;
+import com.telerik.widget.chart.engine.series.ScatterSeriesModel;
+import com.telerik.widget.chart.engine.series.SeriesModelWithAxes;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Measures the Chart engine without views: binding the data points of a line, bar, ohlc and scatter series,
+ * the first arrange that updates the axes and lays out the points, an arrange after panning the zoomed chart
+ * and an arrange after appending one percent of points to the items source.
+ * <p/>
+ * The benchmark runs on a plain JVM. The engine uses a few utility classes of the Android framework, such as
+ * <code>SparseArray</code>, <code>Point</code> and <code>AsyncTask</code>, so it runs with the android-all jar used by
+ * Robolectric on the class path:
+ * <code>gradlew :controls:Chart:runBenchmark [-PbenchmarkArgs="points..."]</code>. Each case is measured
+ * the way JMH does in average time mode: a number of warm-up iterations followed by measured iterations, each on
+ * a new chart. Besides the mean time per operation the benchmark reports the part of it spent updating the axes
+ * and arranging the series, taken from the {@link ChartFrameTimings} of the chart, and the bytes allocated per
+ * operation, when the JVM can measure them.
+ */
+public class ChartEngineBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASUREMENT_ITERATIONS = 5;
+    private static final int[] POINTS = new int[]{1000, 10000, 100000, 1000000};
+    private static final double VIEWPORT_WIDTH = 1080;
+    private static final double VIEWPORT_HEIGHT = 720;
+    private static final double PANNED_ZOOM = 4;
+
+    // Consumes the results so that the JIT cannot eliminate the measured code.
+    private static double sink;
+
+    public static void main(String[] args) {
+        int[] points = POINTS;
+        if (args.length > 0) {
+            points = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                points[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        ChartCase[] cases = new ChartCase[]{new LineCase(), new BarCase(), new OhlcCase(), new ScatterCase()};
+        Phase[] phases = Phase.values();
+
+        System.out.println(String.format("%-8s %8s %-8s %12s %12s %12s %14s", "Series", "Points", "Phase", "ms/op", "axes ms/op", "series ms/op", "KB/op"));
+        for (int count : points) {
+            ArrayList<Item> items = createItems(count + getAppendCount(count), 42);
+            for (ChartCase chartCase : cases) {
+                for (Phase phase : phases) {
+                    report(chartCase.name, count, phase, measure(chartCase, phase, items, count));
+                }
+            }
+        }
+
+        if (sink == 42) {
+            System.out.println();
+        }
+    }
+
+    private static int getAppendCount(int count) {
+        return Math.max(1, count / 100);
+    }
+
+    private static ArrayList<Item> createItems(int length, long seed) {
+        Random random = new Random(seed);
+        ArrayList<Item> items = new ArrayList<Item>(length);
+        double value = 100;
+        double x = 0;
+        for (int i = 0; i < length; i++) {
+            double open = value;
+            value += random.nextGaussian();
+            x += random.nextDouble();
+
+            Item item = new Item();
+            item.category = i;
+            item.value = value;
+            item.open = open;
+            item.close = value;
+            item.high = Math.max(open, value) + random.nextDouble();
+            item.low = Math.min(open, value) - random.nextDouble();
+            item.x = x;
+            items.add(item);
+        }
+
+        return items;
+    }
+
+    private static Result measure(ChartCase chartCase, Phase phase, ArrayList<Item> items, int count) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            run(chartCase, phase, items, count, new Result());
+        }
+
+        Result result = new Result();
+        for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+            run(chartCase, phase, items, count, result);
+        }
+
+        result.time /= MEASUREMENT_ITERATIONS;
+        result.axesUpdateTime /= MEASUREMENT_ITERATIONS;
+        result.seriesArrangeTime /= MEASUREMENT_ITERATIONS;
+        result.allocatedBytes /= MEASUREMENT_ITERATIONS;
+        return result;
+    }
+
+    private static void run(ChartCase chartCase, Phase phase, ArrayList<Item> items, int count, Result result) {
+        HeadlessChartView view = new HeadlessChartView(VIEWPORT_WIDTH, VIEWPORT_HEIGHT);
+        ChartAreaModel chartArea = chartCase.createChartArea(view);
+        ChartSeriesDataSource dataSource = chartCase.createDataSource();
+        RadRect rect = new RadRect(0, 0, VIEWPORT_WIDTH, VIEWPORT_HEIGHT);
+
+        ObservableCollection<Item> source = new ObservableCollection<Item>();
+        source.addAll(items.subList(0, count));
+
+        if (phase != Phase.BIND) {
+            dataSource.setItemsSource(source);
+        }
+        if (phase == Phase.PAN || phase == Phase.APPEND) {
+            chartArea.arrange(rect);
+        }
+        if (phase == Phase.PAN) {
+            view.zoom = PANNED_ZOOM;
+            chartArea.onZoomChanged();
+            chartArea.arrange(rect);
+        }
+
+        ChartFrameTimings timings = chartArea.getFrameTimings();
+        timings.setEnabled(true);
+
+        long allocatedBytes = getAllocatedBytes();
+        long start = System.nanoTime();
+        switch (phase) {
+            case BIND:
+                dataSource.setItemsSource(source);
+                break;
+            case ARRANGE:
+                chartArea.arrange(rect);
+                break;
+            case PAN:
+                view.panOffsetX -= VIEWPORT_WIDTH;
+                chartArea.onPanOffsetChanged();
+                chartArea.arrange(rect);
+                break;
+            case APPEND:
+                source.addAll(items.subList(count, count + getAppendCount(count)));
+                chartArea.arrange(rect);
+                break;
+        }
+        result.time += System.nanoTime() - start;
+        result.allocatedBytes += getAllocatedBytes() - allocatedBytes;
+        result.axesUpdateTime += timings.getAxesUpdateTime();
+        result.seriesArrangeTime += timings.getSeriesArrangeTime();
+
+        sink += chartArea.getSeries().get(0).dataPoints().size();
+    }
+
+    private static long getAllocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+
+        return 0;
+    }
+
+    private static void report(String name, int points, Phase phase, Result result) {
+        System.out.println(String.format("%-8s %8d %-8s %12.3f %12.3f %12.3f %14.1f", name, points, phase.name().toLowerCase(),
+                result.time / 1e6, result.axesUpdateTime / 1e6, result.seriesArrangeTime / 1e6, result.allocatedBytes / 1024.0));
+    }
+
+    private enum Phase {
+        BIND,
+        ARRANGE,
+        PAN,
+        APPEND
+    }
+
+    private static class Result {
+        long time;
+        long axesUpdateTime;
+        long seriesArrangeTime;
+        long allocatedBytes;
+    }
+
+    private static class Item {
+        int category;
+        double value;
+        double open;
+        double high;
+        double low;
+        double close;
+        double x;
+    }
+
+    /**
+     * Creates the chart area with the axes and the series of a case and the data source of the series.
+     */
+    private abstract static class ChartCase {
+        final String name;
+        private SeriesModelWithAxes series;
+
+        ChartCase(String name) {
+            this.name = name;
+        }
+
+        abstract SeriesModelWithAxes createSeries();
+
+        abstract AxisModel createHorizontalAxis();
+
+        abstract ChartSeriesDataSource createDataSource(SeriesModelWithAxes series);
+
+        ChartAreaModel createChartArea(HeadlessChartView view) {
+            CartesianChartAreaModel chartArea = new CartesianChartAreaModel();
+
+            AxisModel horizontalAxis = this.createHorizontalAxis();
+            AxisModel verticalAxis = new LinearAxisModel();
+            setAxis(chartArea, horizontalAxis, AxisType.FIRST, view);
+            setAxis(chartArea, verticalAxis, AxisType.SECOND, view);
+
+            this.series = this.createSeries();
+            this.series.attachAxis(horizontalAxis, AxisType.FIRST);
+            this.series.attachAxis(verticalAxis, AxisType.SECOND);
+            this.series.setPresenter(view);
+            chartArea.getSeries().add(this.series);
+
+            chartArea.loadElementTree(view);
+            return chartArea;
+        }
+
+        ChartSeriesDataSource createDataSource() {
+            return this.createDataSource(this.series);
+        }
+
+        private static void setAxis(CartesianChartAreaModel chartArea, AxisModel axis, AxisType type, HeadlessChartView view) {
+            axis.setIsPrimary(true);
+            axis.setPresenter(view);
+            chartArea.setAxis(axis, type);
+        }
+    }
+
+    private static class LineCase extends ChartCase {
+        LineCase() {
+            this("line");
+        }
+
+        LineCase(String name) {
+            super(name);
+        }
+
+        @Override
+        SeriesModelWithAxes createSeries() {
+            return new PointSeriesModel();
+        }
+
+        @Override
+        AxisModel createHorizontalAxis() {
+            return new CategoricalAxisModel();
+        }
+
+        @Override
+        ChartSeriesDataSource createDataSource(SeriesModelWithAxes series) {
+            CategoricalSeriesDataSource dataSource = new CategoricalSeriesDataSource(series);
+            dataSource.setCategoryBinding(new GenericDataPointBinding<Item, Object>(new Function<Item, Object>() {
+                @Override
+                public Object apply(Item item) {
+                    return item.category;
+                }
+            }));
+            dataSource.setValueBinding(new GenericDataPointBinding<Item, Object>(new Function<Item, Object>() {
+                @Override
+                public Object apply(Item item) {
+                    return item.value;
+                }
+            }));
+
+            return dataSource;
+        }
+    }
+
+    private static class BarCase extends LineCase {
+        BarCase() {
+            super("bar");
+        }
+
+        @Override
+        SeriesModelWithAxes createSeries() {
+            return new BarSeriesModel();
+        }
+    }
+
+    private static class OhlcCase extends ChartCase {
+        OhlcCase() {
+            super("ohlc");
+        }
+
+        @Override
+        SeriesModelWithAxes createSeries() {
+            return new OhlcSeriesModel();
+        }
+
+        @Override
+        AxisModel createHorizontalAxis() {
+            return new CategoricalAxisModel();
+        }
+
+        @Override
+        ChartSeriesDataSource createDataSource(SeriesModelWithAxes series) {
+            OhlcSeriesDataSource dataSource = new OhlcSeriesDataSource(series);
+            dataSource.setCategoryBinding(new GenericDataPointBinding<Item, Object>(new Function<Item, Object>() {
+                @Override
+                public Object apply(Item item) {
+                    return item.category;
+                }
+            }));
+            dataSource.setOpenBinding(new GenericDataPointBinding<Item, Object>(new Function<Item, Object>() {
+                @Override
+                public Object apply(Item item) {
+                    return item.open;
+                }
+            }));
+            dataSource.setHighBinding(new GenericDataPointBinding<Item, Object>(new Function<Item, Object>() {
+                @Override
+                public Object apply(Item item) {
+                    return item.high;
+                }
+            }));
+            dataSource.setLowBinding(new GenericDataPointBinding<Item, Object>(new Function<Item, Object>() {
+                @Override
+                public Object apply(Item item) {
+                    return item.low;
+                }
+            }));
+            dataSource.setCloseBinding(new GenericDataPointBinding<Item, Object>(new Function<Item, Object>() {
+                @Override
+                public Object apply(Item item) {
+                    return item.close;
+                }
+            }));
+
+            return dataSource;
+        }
+    }
+
+    private static class ScatterCase extends ChartCase {
+        ScatterCase() {
+            super("scatter");
+        }
+
+        @Override
+        SeriesModelWithAxes createSeries() {
+            return new ScatterSeriesModel();
+        }
+
+        @Override
+        AxisModel createHorizontalAxis() {
+            return new LinearAxisModel();
+        }
+
+        @Override
+        ChartSeriesDataSource createDataSource(SeriesModelWithAxes series) {
+            ScatterSeriesDataSource dataSource = new ScatterSeriesDataSource(series);
+            dataSource.setXValueBinding(new GenericDataPointBinding<Item, Object>(new Function<Item, Object>() {
+                @Override
+                public Object apply(Item item) {
+                    return item.x;
+                }
+            }));
+            dataSource.setYValueBinding(new GenericDataPointBinding<Item, Object>(new Function<Item, Object>() {
+                @Override
+                public Object apply(Item item) {
+                    return item.value;
+                }
+            }));
+
+            return dataSource;
+        }
+    }
+}
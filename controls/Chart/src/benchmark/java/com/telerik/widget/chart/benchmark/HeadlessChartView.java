@@ -0,0 +1,80 @@
+package com.telerik.widget.chart.benchmark;
+
+import com.telerik.android.common.math.RadRect;
+import com.telerik.android.common.math.RadSize;
+import com.telerik.widget.chart.engine.elementTree.ChartNode;
+import com.telerik.widget.chart.engine.view.ChartView;
+
+/**
+ * A view that lays the chart out in a fixed viewport and estimates the size of the labels, so that the
+ * engine can be arranged without the Android views.
+ */
+class HeadlessChartView implements ChartView {
+    private static final double CHARACTER_WIDTH = 7;
+    private static final double LINE_HEIGHT = 14;
+
+    private final double viewportWidth;
+    private final double viewportHeight;
+
+    double zoom = 1;
+    double panOffsetX;
+
+    HeadlessChartView(double viewportWidth, double viewportHeight) {
+        this.viewportWidth = viewportWidth;
+        this.viewportHeight = viewportHeight;
+    }
+
+    @Override
+    public double getViewportWidth() {
+        return this.viewportWidth;
+    }
+
+    @Override
+    public double getViewportHeight() {
+        return this.viewportHeight;
+    }
+
+    @Override
+    public double getZoomWidth() {
+        return this.zoom;
+    }
+
+    @Override
+    public double getZoomHeight() {
+        return 1;
+    }
+
+    @Override
+    public double getPanOffsetX() {
+        return this.panOffsetX;
+    }
+
+    @Override
+    public double getPanOffsetY() {
+        return 0;
+    }
+
+    @Override
+    public RadRect getPlotAreaClip() {
+        return new RadRect(0, 0, this.viewportWidth, this.viewportHeight);
+    }
+
+    @Override
+    public void refreshNode(ChartNode node) {
+    }
+
+    @Override
+    public RadSize measureContent(ChartNode owner, Object content) {
+        String text = content == null ? "" : content.toString();
+        return new RadSize(text.length() * CHARACTER_WIDTH, LINE_HEIGHT);
+    }
+
+    @Override
+    public void invalidatePalette() {
+    }
+
+    @Override
+    public int getCollectionIndex() {
+        return 0;
+    }
+}
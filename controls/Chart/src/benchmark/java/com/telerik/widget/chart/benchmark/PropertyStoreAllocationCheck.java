@@ -0,0 +1,167 @@
+package com.telerik.widget.chart.benchmark;
+
+import com.telerik.android.common.Function;
+import com.telerik.android.common.math.RadRect;
+import com.telerik.widget.chart.engine.axes.AxisModel;
+import com.telerik.widget.chart.engine.axes.AxisType;
+import com.telerik.widget.chart.engine.axes.categorical.CategoricalAxisModel;
+import com.telerik.widget.chart.engine.axes.continuous.LinearAxisModel;
+import com.telerik.widget.chart.engine.chartAreas.CartesianChartAreaModel;
+import com.telerik.widget.chart.engine.databinding.GenericDataPointBinding;
+import com.telerik.widget.chart.engine.databinding.datasources.CategoricalSeriesDataSource;
+import com.telerik.widget.chart.engine.elementTree.ChartAreaInvalidateFlags;
+import com.telerik.widget.chart.engine.elementTree.ChartElement;
+import com.telerik.widget.chart.engine.elementTree.ChartNode;
+import com.telerik.widget.chart.engine.propertyStore.AllocationCountingPropertyStore;
+import com.telerik.widget.chart.engine.series.ChartSeriesModel;
+import com.telerik.widget.chart.engine.series.PointSeriesModel;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Checks that arranging a line series does not allocate in the property stores of the chart nodes. The stores of
+ * the chart area, the axes, the series and the data points are replaced with an
+ * {@link AllocationCountingPropertyStore} after the first arrange, which adds the entries of the properties set by
+ * the layout, and the check fails when a full arrange, an arrange after zooming or an arrange after panning
+ * allocates any bytes in them.
+ * <p/>
+ * It is a manual harness that no build task runs. Like the {@link ChartEngineBenchmark}, it runs on a plain JVM:
+ * <code>gradlew :controls:Chart:runBenchmark -Pbenchmark=PropertyStoreAllocationCheck [-PbenchmarkArgs=points]</code>.
+ * The allocations are measured with the thread allocation counters of HotSpot, so on other JVMs the check only
+ * prints that it is not supported. The process exits with status 1 when the check fails.
+ */
+public class PropertyStoreAllocationCheck {
+
+    private static final int ITERATIONS = 5;
+    private static final int POINTS = 10000;
+    private static final double VIEWPORT_WIDTH = 1080;
+    private static final double VIEWPORT_HEIGHT = 720;
+    private static final double ZOOM = 4;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : POINTS;
+        if (!AllocationCountingPropertyStore.isSupported()) {
+            System.out.println("The JVM cannot measure the bytes allocated by a thread.");
+            return;
+        }
+
+        HeadlessChartView view = new HeadlessChartView(VIEWPORT_WIDTH, VIEWPORT_HEIGHT);
+        CartesianChartAreaModel chartArea = createChartArea(view, count);
+        RadRect rect = new RadRect(0, 0, VIEWPORT_WIDTH, VIEWPORT_HEIGHT);
+        chartArea.arrange(rect);
+
+        install(chartArea);
+        for (ChartSeriesModel series : chartArea.getSeries()) {
+            for (Object point : series.dataPoints()) {
+                AllocationCountingPropertyStore.install((ChartNode) point);
+            }
+        }
+
+        boolean passed = true;
+        System.out.println(String.format("%-8s %8s %12s %12s", "Phase", "Points", "calls/op", "bytes/op"));
+        for (Phase phase : Phase.values()) {
+            AllocationCountingPropertyStore.reset();
+            for (int i = 0; i < ITERATIONS; i++) {
+                switch (phase) {
+                    case ARRANGE:
+                        chartArea.requestArrange(ChartAreaInvalidateFlags.ALL);
+                        break;
+                    case ZOOM:
+                        view.zoom = i % 2 == 0 ? ZOOM : 1;
+                        view.panOffsetX = 0;
+                        chartArea.onZoomChanged();
+                        break;
+                    case PAN:
+                        view.zoom = ZOOM;
+                        view.panOffsetX = -(i % 3) * VIEWPORT_WIDTH;
+                        chartArea.onPanOffsetChanged();
+                        break;
+                }
+
+                chartArea.arrange(rect);
+            }
+
+            long calls = AllocationCountingPropertyStore.getCallsCount() / ITERATIONS;
+            long bytes = AllocationCountingPropertyStore.getAllocatedBytes() / ITERATIONS;
+            System.out.println(String.format("%-8s %8d %12d %12d", phase.name().toLowerCase(), count, calls, bytes));
+            passed &= AllocationCountingPropertyStore.getAllocatedBytes() == 0;
+        }
+
+        if (!passed) {
+            System.out.println("The property stores allocated while arranging the chart.");
+            System.exit(1);
+        }
+    }
+
+    private static CartesianChartAreaModel createChartArea(HeadlessChartView view, int count) {
+        CartesianChartAreaModel chartArea = new CartesianChartAreaModel();
+
+        AxisModel horizontalAxis = new CategoricalAxisModel();
+        AxisModel verticalAxis = new LinearAxisModel();
+        setAxis(chartArea, horizontalAxis, AxisType.FIRST, view);
+        setAxis(chartArea, verticalAxis, AxisType.SECOND, view);
+
+        PointSeriesModel series = new PointSeriesModel();
+        series.attachAxis(horizontalAxis, AxisType.FIRST);
+        series.attachAxis(verticalAxis, AxisType.SECOND);
+        series.setPresenter(view);
+        chartArea.getSeries().add(series);
+        chartArea.loadElementTree(view);
+
+        CategoricalSeriesDataSource dataSource = new CategoricalSeriesDataSource(series);
+        dataSource.setCategoryBinding(new GenericDataPointBinding<Item, Object>(new Function<Item, Object>() {
+            @Override
+            public Object apply(Item item) {
+                return item.category;
+            }
+        }));
+        dataSource.setValueBinding(new GenericDataPointBinding<Item, Object>(new Function<Item, Object>() {
+            @Override
+            public Object apply(Item item) {
+                return item.value;
+            }
+        }));
+
+        Random random = new Random(42);
+        ArrayList<Item> items = new ArrayList<Item>(count);
+        double value = 100;
+        for (int i = 0; i < count; i++) {
+            value += random.nextGaussian();
+
+            Item item = new Item();
+            item.category = i;
+            item.value = value;
+            items.add(item);
+        }
+        dataSource.setItemsSource(items);
+
+        return chartArea;
+    }
+
+    private static void install(ChartNode node) {
+        AllocationCountingPropertyStore.install(node);
+        if (node instanceof ChartElement) {
+            for (ChartNode child : ((ChartElement) node).children) {
+                install(child);
+            }
+        }
+    }
+
+    private static void setAxis(CartesianChartAreaModel chartArea, AxisModel axis, AxisType type, HeadlessChartView view) {
+        axis.setIsPrimary(true);
+        axis.setPresenter(view);
+        chartArea.setAxis(axis, type);
+    }
+
+    private enum Phase {
+        ARRANGE,
+        ZOOM,
+        PAN
+    }
+
+    private static class Item {
+        int category;
+        double value;
+    }
+}
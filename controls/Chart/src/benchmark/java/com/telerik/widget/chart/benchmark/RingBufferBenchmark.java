@@ -0,0 +1,163 @@
+package com.telerik.widget.chart.benchmark;
+
+import com.telerik.widget.chart.engine.databinding.datasources.financial.RingBuffer;
+
+import java.util.Random;
+
+/**
+ * Compares the {@link RingBuffer} with a copy of the {@link SizedQueue} it replaces on the operations the
+ * financial indicators perform per bar: a sliding sum (moving averages) and sliding extremes
+ * (stochastic indicators).
+ * <p/>
+ * The benchmark runs on a plain JVM:
+ * <code>gradlew :controls:Chart:runBenchmark -Pbenchmark=RingBufferBenchmark [-PbenchmarkArgs=bars]</code>. Each case is
+ * measured the way JMH does in average time mode: a number of warm-up iterations followed by
+ * measured iterations, reporting the mean time per bar.
+ */
+public class RingBufferBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int[] PERIODS = new int[]{14, 200};
+
+    // Consumes the results so that the JIT cannot eliminate the measured code.
+    private static double sink;
+
+    public static void main(String[] args) {
+        int bars = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        double[] values = createRandomWalk(bars, 42);
+
+        System.out.println(String.format("%-32s %8s %12s", "Benchmark", "Period", "ns/bar"));
+        for (int period : PERIODS) {
+            report("SizedQueue.sum", period, measure(new SizedQueueSum(values, period)), bars);
+            report("RingBuffer.sum", period, measure(new RingBufferSum(values, period)), bars);
+            report("SizedQueue.minMax", period, measure(new SizedQueueMinMax(values, period)), bars);
+            report("RingBuffer.minMax", period, measure(new RingBufferMinMax(values, period)), bars);
+        }
+
+        if (sink == 42) {
+            System.out.println();
+        }
+    }
+
+    private static double[] createRandomWalk(int length, long seed) {
+        Random random = new Random(seed);
+        double[] values = new double[length];
+        double value = 100;
+        for (int i = 0; i < length; i++) {
+            value += random.nextGaussian();
+            values[i] = value;
+        }
+
+        return values;
+    }
+
+    private static long measure(Runnable benchmark) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            benchmark.run();
+        }
+
+        long total = 0;
+        for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            benchmark.run();
+            total += System.nanoTime() - start;
+        }
+
+        return total / MEASUREMENT_ITERATIONS;
+    }
+
+    private static void report(String name, int period, long nanos, int bars) {
+        System.out.println(String.format("%-32s %8d %12.2f", name, period, (double) nanos / bars));
+    }
+
+    private static class SizedQueueSum implements Runnable {
+        private final double[] values;
+        private final int period;
+
+        SizedQueueSum(double[] values, int period) {
+            this.values = values;
+            this.period = period;
+        }
+
+        @Override
+        public void run() {
+            SizedQueue queue = new SizedQueue();
+            queue.size = this.period;
+            double result = 0;
+            for (double value : this.values) {
+                queue.enqueueItem(value);
+                result += queue.runningSum / queue.currentItemsCount;
+            }
+
+            sink += result;
+        }
+    }
+
+    private static class RingBufferSum implements Runnable {
+        private final double[] values;
+        private final int period;
+
+        RingBufferSum(double[] values, int period) {
+            this.values = values;
+            this.period = period;
+        }
+
+        @Override
+        public void run() {
+            RingBuffer buffer = new RingBuffer(this.period);
+            double result = 0;
+            for (double value : this.values) {
+                buffer.enqueue(value);
+                result += buffer.getAverage();
+            }
+
+            sink += result;
+        }
+    }
+
+    private static class SizedQueueMinMax implements Runnable {
+        private final double[] values;
+        private final int period;
+
+        SizedQueueMinMax(double[] values, int period) {
+            this.values = values;
+            this.period = period;
+        }
+
+        @Override
+        public void run() {
+            SizedQueue queue = new SizedQueue();
+            queue.size = this.period;
+            double result = 0;
+            for (double value : this.values) {
+                queue.enqueueItem(value);
+                result += queue.max() - queue.min();
+            }
+
+            sink += result;
+        }
+    }
+
+    private static class RingBufferMinMax implements Runnable {
+        private final double[] values;
+        private final int period;
+
+        RingBufferMinMax(double[] values, int period) {
+            this.values = values;
+            this.period = period;
+        }
+
+        @Override
+        public void run() {
+            RingBuffer buffer = new RingBuffer(this.period);
+            double result = 0;
+            for (double value : this.values) {
+                buffer.enqueue(value);
+                result += buffer.max() - buffer.min();
+            }
+
+            sink += result;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.telerik.widget.chart.benchmark;
+
+import java.util.ArrayDeque;
+
+/**
+ * A verbatim copy of the queue the financial indicators used before the ring buffer, so that the
+ * {@link RingBufferBenchmark} keeps comparing against it when the queue of the library changes.
+ */
+class SizedQueue extends ArrayDeque<Double> {
+
+    public double runningSum;
+    public int size;
+    public int currentItemsCount;
+
+    public double enqueueItem(double item) {
+        double result = 0;
+        if (this.size <= this.currentItemsCount && this.size > 0) {
+            result = this.removeFirst();
+            this.runningSum -= result;
+            this.currentItemsCount--;
+        }
+
+        if (this.size > this.currentItemsCount) {
+            this.add(item);
+            this.runningSum += item;
+            this.currentItemsCount++;
+        }
+
+        return result;
+    }
+
+    public double dequeueItem() {
+        double result = removeFirst();
+        this.runningSum -= result;
+        this.currentItemsCount--;
+        return result;
+    }
+
+    public double min() {
+        double min = Double.POSITIVE_INFINITY;
+        for (double value : this)
+            if (value < min) {
+                min = value;
+            }
+
+        return min;
+    }
+
+    public double max() {
+        double max = Double.NEGATIVE_INFINITY;
+        for (double value : this)
+            if (value > max) {
+                max = value;
+            }
+
+        return max;
+    }
+}
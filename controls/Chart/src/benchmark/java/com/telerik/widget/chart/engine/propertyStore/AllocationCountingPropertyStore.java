@@ -0,0 +1,168 @@
+package com.telerik.widget.chart.engine.propertyStore;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * A property store that forwards its calls to the store of a {@link PropertyBagObject} and counts the calls and the
+ * bytes they allocate on the current thread. It lives in the package of the property store so that it can replace the
+ * store of existing nodes without changing their values.
+ */
+public class AllocationCountingPropertyStore extends FastPropertyStore {
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN = getThreadBean();
+    private static final long MEASUREMENT_OVERHEAD = measureOverhead();
+
+    private static long callsCount;
+    private static long allocatedBytes;
+
+    private final FastPropertyStore store;
+
+    private AllocationCountingPropertyStore(FastPropertyStore store) {
+        this.store = store;
+    }
+
+    /**
+     * Determines whether the JVM can measure the bytes allocated by a thread.
+     */
+    public static boolean isSupported() {
+        return THREAD_BEAN != null;
+    }
+
+    /**
+     * Replaces the property store of the given object with a store that counts the allocations of its calls.
+     */
+    public static void install(PropertyBagObject owner) {
+        if (!(owner.propertyStore instanceof AllocationCountingPropertyStore)) {
+            owner.propertyStore = new AllocationCountingPropertyStore(owner.propertyStore);
+        }
+    }
+
+    /**
+     * Resets the counters of all installed stores.
+     */
+    public static void reset() {
+        callsCount = 0;
+        allocatedBytes = 0;
+    }
+
+    /**
+     * Gets the number of calls to the installed stores since the last reset.
+     */
+    public static long getCallsCount() {
+        return callsCount;
+    }
+
+    /**
+     * Gets the number of bytes allocated by the calls to the installed stores since the last reset.
+     */
+    public static long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    @Override
+    public void clear() {
+        long start = begin();
+        this.store.clear();
+        end(start);
+    }
+
+    @Override
+    public boolean containsEntry(int key) {
+        long start = begin();
+        boolean result = this.store.containsEntry(key);
+        end(start);
+        return result;
+    }
+
+    @Override
+    public Object getEntry(int key) {
+        long start = begin();
+        Object result = this.store.getEntry(key);
+        end(start);
+        return result;
+    }
+
+    @Override
+    public double getDouble(int key, double defaultValue) {
+        long start = begin();
+        double result = this.store.getDouble(key, defaultValue);
+        end(start);
+        return result;
+    }
+
+    @Override
+    public boolean getBoolean(int key, boolean defaultValue) {
+        long start = begin();
+        boolean result = this.store.getBoolean(key, defaultValue);
+        end(start);
+        return result;
+    }
+
+    @Override
+    public void setEntry(int key, Object value) {
+        long start = begin();
+        this.store.setEntry(key, value);
+        end(start);
+    }
+
+    @Override
+    public void setDouble(int key, double value) {
+        long start = begin();
+        this.store.setDouble(key, value);
+        end(start);
+    }
+
+    @Override
+    public void setBoolean(int key, boolean value) {
+        long start = begin();
+        this.store.setBoolean(key, value);
+        end(start);
+    }
+
+    @Override
+    public void removeEntry(int key) {
+        long start = begin();
+        this.store.removeEntry(key);
+        end(start);
+    }
+
+    private static long begin() {
+        return THREAD_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static void end(long start) {
+        long allocated = THREAD_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId()) - start - MEASUREMENT_OVERHEAD;
+        callsCount++;
+        if (allocated > 0) {
+            allocatedBytes += allocated;
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean getThreadBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return (com.sun.management.ThreadMXBean) bean;
+        }
+
+        return null;
+    }
+
+    /**
+     * Measures the bytes that reading the allocated bytes of the thread allocates itself, so that they are not
+     * attributed to the property store.
+     */
+    private static long measureOverhead() {
+        if (THREAD_BEAN == null) {
+            return 0;
+        }
+
+        long overhead = Long.MAX_VALUE;
+        for (int i = 0; i < 10000; i++) {
+            long start = begin();
+            overhead = Math.min(overhead, THREAD_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId()) - start);
+        }
+
+        return overhead;
+    }
+}
@@ -71,6 +71,7 @@ public abstract class AxisModel extends ChartElement {
 
 
     protected boolean isPlotValid = false;
+    private int plotVersion;
 
     /**
      * Creates an instance of the {@link AxisModel} class.
@@ -166,6 +167,16 @@ public abstract class AxisModel extends ChartElement {
         return this.isPlotValid;
     }
 
+    /**
+     * Gets a number that changes whenever the axis plots the data points again, for example after its range
+     * has changed. The elements positioned by the axis only need to be arranged again when it changes.
+     *
+     * @return the current plot version.
+     */
+    public int getPlotVersion() {
+        return this.plotVersion;
+    }
+
     /**
      * Gets a string representing the format used to display the labels on the {@link com.telerik.widget.chart.visualization.common.Axis} associated with this {@link AxisModel}.
      *
@@ -287,7 +298,7 @@ public abstract class AxisModel extends ChartElement {
      * @return the rotation angle.
      */
     public double getNormalizedLabelRotationAngle() {
-        return this.getTypedValue(NORMALIZED_LABEL_ROTATION_ANGLE_PROPERTY_KEY, 300D);
+        return this.getDoubleValue(NORMALIZED_LABEL_ROTATION_ANGLE_PROPERTY_KEY, 300D);
     }
 
     /**
@@ -330,7 +341,7 @@ public abstract class AxisModel extends ChartElement {
      * @return the thickness.
      */
     public float getTickThickness() {
-        return this.getTypedValue(TICK_THICKNESS_PROPERTY_KEY, 1F);
+        return (float) this.getDoubleValue(TICK_THICKNESS_PROPERTY_KEY, 1F);
     }
 
     /**
@@ -352,7 +363,7 @@ public abstract class AxisModel extends ChartElement {
      * @return the label margin.
      */
     public float getLabelMargin() {
-        return this.getTypedValue(LABEL_MARGIN_PROPERTY_KEY, 0f);
+        return (float) this.getDoubleValue(LABEL_MARGIN_PROPERTY_KEY, 0f);
     }
 
     /**
@@ -409,7 +420,7 @@ public abstract class AxisModel extends ChartElement {
      * @return the tick length.
      */
     public float getMajorTickLength() {
-        return this.getTypedValue(MAJOR_TICK_LENGTH_PROPERTY_KEY, 5F);
+        return (float) this.getDoubleValue(MAJOR_TICK_LENGTH_PROPERTY_KEY, 5F);
     }
 
     /**
@@ -431,7 +442,7 @@ public abstract class AxisModel extends ChartElement {
      * @return the thickness of the {@link com.telerik.widget.chart.visualization.common.Axis}.
      */
     public float getLineThickness() {
-        return this.getTypedValue(LINE_THICKNESS_PROPERTY_KEY, 2F);
+        return (float) this.getDoubleValue(LINE_THICKNESS_PROPERTY_KEY, 2F);
     }
 
     /**
@@ -682,6 +693,7 @@ public abstract class AxisModel extends ChartElement {
             // actual points plot
             this.plotCore(context);
             this.isPlotValid = true;
+            this.plotVersion++;
         }
     }
 
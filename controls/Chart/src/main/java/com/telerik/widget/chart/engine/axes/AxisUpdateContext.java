@@ -49,7 +49,7 @@ public class AxisUpdateContext {
             // extract only relevant combined and non combined series.
             for (ChartSeriesModel seriesModel : series) {
                 for (CombinedSeries combinedSeries : combineStrategy.combinedSeries) {
-                    if (combinedSeries.series().contains(seriesModel)) {
+                    if (combinedSeries.series().contains(seriesModel) && !this.combinedSeries.contains(combinedSeries)) {
                         this.combinedSeries.add(combinedSeries);
                         this.isStacked |= combinedSeries.combineMode() == ChartSeriesCombineMode.STACK;
                         this.isStacked100 |= combinedSeries.combineMode() == ChartSeriesCombineMode.STACK_100;
@@ -88,7 +88,7 @@ public class CategoricalAxisModel extends AxisModel implements AxisSupportsCombi
      * @return The gap length.
      */
     public float getGapLength() {
-        return this.getTypedValue(GAP_LENGTH_PROPERTY_KEY, 0.3F);
+        return (float) this.getDoubleValue(GAP_LENGTH_PROPERTY_KEY, 0.3F);
     }
 
     @Override
@@ -378,7 +378,7 @@ public class CategoricalAxisModel extends AxisModel implements AxisSupportsCombi
             // tell each series what is the plot direction
             series.setValue(AxisModel.PLOT_DIRECTION_PROPERTY_KEY, direction);
 
-            for (Object point : series.visibleDataPoints()) {
+            for (Object point : series.dataPointsForAxis(this)) {
                 DataPoint dataPoint = (DataPoint) point;
                 Object value = dataPoint.getValueForAxis(this);
                 Object categoryKey = this.getCategoryKey(dataPoint, value);
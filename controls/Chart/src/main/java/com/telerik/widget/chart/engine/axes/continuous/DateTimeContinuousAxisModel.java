@@ -2,7 +2,6 @@ package com.telerik.widget.chart.engine.axes.continuous;
 
 import android.nfc.FormatException;
 
-import com.telerik.android.common.DateTimeExtensions;
 import com.telerik.android.common.TimeSpan;
 import com.telerik.android.common.math.RadMath;
 import com.telerik.android.common.math.RadPoint;
@@ -29,9 +28,8 @@ import com.telerik.widget.chart.engine.view.ChartView;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.Date;
 import java.util.LinkedList;
 import java.util.List;
@@ -65,9 +63,27 @@ public class DateTimeContinuousAxisModel extends AxisModel implements Continuous
     DateFormat dateFormat = DateFormat.getDateInstance();
 
     AxisPlotMode actualPlotMode;
-    ArrayList<DateTimePoint> values;
     PlotInfo plotInfo;
 
+    // Chronologically sorted index of the plotted values: the epoch millis of each value, the point it
+    // belongs to, its original axis value and the length of the time slot it falls in (-1 if none).
+    private long[] valueTicks = new long[0];
+    private DataPoint[] valuePoints = new DataPoint[0];
+    private Object[] valueKeys = new Object[0];
+    private long[] valueSlotTicks = new long[0];
+    private int valuesCount;
+
+    // The state of the series the index was built from, used to merge appended points incrementally.
+    private ChartSeriesModel[] indexedSeries;
+    private int[] indexedPointsCounts;
+    private int[] indexedResetVersions;
+    private int[] indexedModifiedCounts;
+    private int[] indexedRemovedCounts;
+
+    private SimpleDateFormat isoDateFormat;
+    // Reused by the tick calculations that step by months or years.
+    private final Calendar tickCalendar = Calendar.getInstance();
+
     /**
      * Creates a new instance of the {@link DateTimeContinuousAxisModel}.
      */
@@ -77,8 +93,6 @@ public class DateTimeContinuousAxisModel extends AxisModel implements Continuous
         this.visibleTicks = new ValueRange<>(-1L, -1L);
         this.tickZoomFactor = 1.0;
 
-        this.values = new ArrayList<>(16);
-
         Calendar min = Calendar.getInstance();
         min.setTime(new Date(Long.MIN_VALUE));
         minDate = min;
@@ -100,7 +114,7 @@ public class DateTimeContinuousAxisModel extends AxisModel implements Continuous
      * @return The gap length.
      */
     public double getGapLength() {
-        return this.getTypedValue(DateTimeContinuousAxisModel.GAP_LENGTH_PROPERTY_KEY, 0.3);
+        return this.getDoubleValue(DateTimeContinuousAxisModel.GAP_LENGTH_PROPERTY_KEY, 0.3);
     }
 
     /**
@@ -140,7 +154,7 @@ public class DateTimeContinuousAxisModel extends AxisModel implements Continuous
      * @return The major step.
      */
     public double getMajorStep() {
-        return this.getTypedValue(MAJOR_STEP_PROPERTY_KEY, 0D);
+        return this.getDoubleValue(MAJOR_STEP_PROPERTY_KEY, 0D);
     }
 
     /**
@@ -276,8 +290,8 @@ public class DateTimeContinuousAxisModel extends AxisModel implements Continuous
 
     @Override
     protected void updateCore(AxisUpdateContext context) {
-        this.buildValues(context);
-        if (this.values.size() == 0) {
+        this.updateValues(context);
+        if (this.valuesCount == 0) {
             return;
         }
 
@@ -317,27 +331,29 @@ public class DateTimeContinuousAxisModel extends AxisModel implements Continuous
         double pointPosition, timeSlotPosition, timeSlotLength;
         double pointSlotLength;
         double extend = this.plotInfo.extend / 2;
+        double gapLength = this.getGapLength();
 
-        for (DateTimePoint value : this.values) {
-            if (value.slot == null) {
+        for (int i = 0; i < this.valuesCount; i++) {
+            long slotTicks = this.valueSlotTicks[i];
+            if (slotTicks < 0) {
                 continue;
             }
 
-            double pointTicks = value.date.getTimeInMillis();
+            double pointTicks = this.valueTicks[i];
 
             pointPosition = ((pointTicks - this.plotInfo.min) + extend) / delta;
-            timeSlotLength = value.slot.ticks / delta;
+            timeSlotLength = slotTicks / delta;
             timeSlotPosition = pointPosition - timeSlotLength / 2;
 
-            double tmp = this.getGapLength() * timeSlotLength;
+            double tmp = gapLength * timeSlotLength;
             pointSlotLength = timeSlotLength - tmp;
 
             CategoricalAxisPlotInfo plotInfo = CategoricalAxisPlotInfo.create(this, timeSlotPosition, timeSlotLength);
-            plotInfo.categoryKey = value.date;
+            plotInfo.categoryKey = this.valueKeys[i];
             plotInfo.position = pointPosition - (pointSlotLength / 2);
             plotInfo.length = pointSlotLength;
 
-            value.point.setValueFromAxis(this, plotInfo);
+            this.valuePoints[i].setValueFromAxis(this, plotInfo);
         }
     }
 
@@ -378,7 +394,7 @@ public class DateTimeContinuousAxisModel extends AxisModel implements Continuous
         double currentTicks = startTicks;
         double paddedCurrentTicks = currentTicks;
 
-        int virtualIndex = (int) (startTicks * this.values.size());
+        int virtualIndex = (int) (startTicks * this.valuesCount);
 
         if (this.actualPlotMode == AxisPlotMode.ON_TICKS_PADDED) {
             double nextTicks = this.getNextTicks(this.plotInfo.min, this.tickZoomFactor);
@@ -484,7 +500,7 @@ public class DateTimeContinuousAxisModel extends AxisModel implements Continuous
         AxisLabelModel lastLabel = new AxisLabelModel(1, RadPoint.getEmpty(), RadSize.getEmpty());
 
         Object content = "";
-        if (values.size() > 0) {
+        if (this.valuesCount > 0) {
             PlotInfo info = createPlotInfo(calculateActualRange());
             content = getLabelContent(new MajorTickModel(info.max, 1, 0));
         }
@@ -506,7 +522,7 @@ public class DateTimeContinuousAxisModel extends AxisModel implements Continuous
     }
 
     private boolean getCanPlot() {
-        return this.values.size() > 0 && this.minDelta.getMillis() > 0;
+        return this.valuesCount > 0 && this.minDelta.getMillis() > 0;
     }
 
     private void updateVisibleTicks(final ValueRange<Double> visibleRange) {
@@ -563,24 +579,20 @@ public class DateTimeContinuousAxisModel extends AxisModel implements Continuous
     private void findMinDelta() {
         // find the smallest difference between any two dates - this will give us the major and minor unit components
         // since values are sorted, all we need to do is loop the list once and compare two adjacent values
-        this.minDelta = TimeSpan.getZero();
-        DateTimePoint prevPoint = null;
-
-        for (DateTimePoint point : this.values) {
-            if (prevPoint != null && !prevPoint.date.equals(point.date)) {
-                TimeSpan diff = DateTimeExtensions.subtract(point.date, prevPoint.date);
-                if (diff.compareTo(TimeSpan.getZero()) != 0 && diff.compareTo(this.minDelta) < 0 || this.minDelta.compareTo(TimeSpan.getZero()) == 0) {
-                    this.minDelta = diff;
-                }
+        long minDelta = 0;
+        for (int i = 1; i < this.valuesCount; i++) {
+            long diff = this.valueTicks[i] - this.valueTicks[i - 1];
+            if (diff != 0 && (diff < minDelta || minDelta == 0)) {
+                minDelta = diff;
             }
-
-            prevPoint = point;
         }
 
         // min delta will not be initialized if only one point is present in the widget
-        if (this.minDelta.compareTo(TimeSpan.getZero()) == 0) {
-            this.minDelta = TimeSpan.fromMilliseconds(this.values.get(0).date.getTimeInMillis());
+        if (minDelta == 0) {
+            minDelta = this.valueTicks[0];
         }
+
+        this.minDelta = TimeSpan.fromMilliseconds(minDelta);
     }
 
     private void updateUnits() {
@@ -695,8 +707,10 @@ public class DateTimeContinuousAxisModel extends AxisModel implements Continuous
 
     private ValueRange<Calendar> getAutoRange() {
         ValueRange<Calendar> autoRange = new ValueRange<Calendar>();
-        autoRange.minimum = this.values.get(0).date;
-        autoRange.maximum = this.values.get(this.values.size() - 1).date;
+        autoRange.minimum = Calendar.getInstance();
+        autoRange.minimum.setTimeInMillis(this.valueTicks[0]);
+        autoRange.maximum = Calendar.getInstance();
+        autoRange.maximum.setTimeInMillis(this.valueTicks[this.valuesCount - 1]);
 
         return autoRange;
     }
@@ -728,15 +742,15 @@ public class DateTimeContinuousAxisModel extends AxisModel implements Continuous
     }
 
     private void buildTimeSlots() {
-        long startTicks = this.values.get(0).date.getTimeInMillis();
-        long endTicks = this.values.get(this.values.size() - 1).date.getTimeInMillis();
+        long startTicks = this.valueTicks[0];
+        long endTicks = this.valueTicks[this.valuesCount - 1];
 
         if (startTicks == endTicks) {
             this.buildSingleTimeSlot();
             return;
         }
 
-        int pointCount = this.values.size();
+        int pointCount = this.valuesCount;
         int pointIndex = 0;
         long currentTicks = startTicks;
         long nextTicks;
@@ -744,107 +758,260 @@ public class DateTimeContinuousAxisModel extends AxisModel implements Continuous
         while (currentTicks <= endTicks) {
             nextTicks = this.getNextTicks(currentTicks, 1.0);
 
-            if (pointIndex < pointCount) {
-                DateTimePoint point = this.values.get(pointIndex);
-
-                // value falls within the slot
-                if (point.date.getTimeInMillis() < nextTicks) {
-                    TimeSlot slot = new TimeSlot();
-                    slot.startTicks = currentTicks;
-                    slot.ticks = nextTicks - currentTicks;
-
-                    point.slot = slot;
-
-                    // move to next point index
-                    pointIndex++;
-                    while (pointIndex < pointCount) {
-                        DateTimePoint nextPoint = this.values.get(pointIndex);
-                        if (nextPoint.date.getTimeInMillis() >= nextTicks) {
-                            break;
-                        }
-
-                        nextPoint.slot = slot;
-                        pointIndex++;
-                    }
-                }
+            // assign the slot to all values that fall within it
+            long slotTicks = nextTicks - currentTicks;
+            while (pointIndex < pointCount && this.valueTicks[pointIndex] < nextTicks) {
+                this.valueSlotTicks[pointIndex] = slotTicks;
+                pointIndex++;
             }
 
             currentTicks = nextTicks;
         }
+
+        for (int i = pointIndex; i < pointCount; i++) {
+            this.valueSlotTicks[i] = -1;
+        }
     }
 
     private void buildSingleTimeSlot() {
         long startTicks = this.actualRange.minimum.getTimeInMillis();
         long ticks = this.getNextTicks(startTicks, 1.0) - startTicks;
 
-        TimeSlot slot = new TimeSlot();
-        slot.startTicks = startTicks;
-        slot.ticks = ticks;
-
-        for (DateTimePoint point : this.values) {
-            point.slot = slot;
+        for (int i = 0; i < this.valuesCount; i++) {
+            this.valueSlotTicks[i] = ticks;
         }
     }
 
-    private void buildValues(AxisUpdateContext context) {
-        this.values.clear();
-
-        if (context.series() == null) {
+    /**
+     * Updates the chronological index of the values of the plotted points. The index is kept between
+     * updates: if the series are the same and their points were only appended or removed from the start
+     * since the last update, the removed values are dropped and the appended values are merged into it;
+     * otherwise it is rebuilt from scratch.
+     */
+    private void updateValues(AxisUpdateContext context) {
+        Iterable<ChartSeriesModel> seriesModels = context.series();
+        if (seriesModels == null) {
+            Arrays.fill(this.valuePoints, 0, this.valuesCount, null);
+            Arrays.fill(this.valueKeys, 0, this.valuesCount, null);
+            this.valuesCount = 0;
+            this.indexedSeries = null;
             return;
         }
 
         AxisPlotDirection direction = this.getType() == AxisType.FIRST ? AxisPlotDirection.VERTICAL : AxisPlotDirection.HORIZONTAL;
 
-        for (ChartSeriesModel series : context.series()) {
+        int seriesCount = 0;
+        for (ChartSeriesModel series : seriesModels) {
             // tell each series what is the plot direction
             series.setValue(AxisModel.PLOT_DIRECTION_PROPERTY_KEY, direction);
+            seriesCount++;
+        }
+
+        int previousCount = this.valuesCount;
+        boolean canMerge = this.indexedSeries != null && this.indexedSeries.length == seriesCount;
+        boolean pointsRemoved = false;
+        int seriesIndex = 0;
+        for (ChartSeriesModel series : seriesModels) {
+            if (!canMerge) {
+                break;
+            }
 
-            for (Object obj : series.visibleDataPoints()) {
-                DataPoint point = (DataPoint) obj;
+            // Series that give the axis only their visible points change them on pan and zoom, so they are always reindexed.
+            int removedCount = series.getRemovedFromStartCount() - this.indexedRemovedCounts[seriesIndex];
+            canMerge = this.indexedSeries[seriesIndex] == series &&
+                    series.dataPointsForAxis(this) == series.dataPoints() &&
+                    this.indexedResetVersions[seriesIndex] == series.getDataResetVersion() &&
+                    this.indexedModifiedCounts[seriesIndex] == series.getModifiedPointsCount() &&
+                    this.indexedPointsCounts[seriesIndex] - removedCount <= series.dataPoints().size();
+            pointsRemoved |= removedCount > 0;
+            seriesIndex++;
+        }
+
+        int mergeStart = 0;
+        if (canMerge) {
+            if (pointsRemoved) {
+                this.removeDetachedValues();
+            }
+            mergeStart = this.valuesCount;
+        } else {
+            this.valuesCount = 0;
+            this.indexedSeries = new ChartSeriesModel[seriesCount];
+            this.indexedPointsCounts = new int[seriesCount];
+            this.indexedResetVersions = new int[seriesCount];
+            this.indexedModifiedCounts = new int[seriesCount];
+            this.indexedRemovedCounts = new int[seriesCount];
+        }
+
+        seriesIndex = 0;
+        for (ChartSeriesModel series : seriesModels) {
+            List points = series.dataPointsForAxis(this);
+            int pointsCount = points.size();
+            int firstPoint = 0;
+            if (canMerge) {
+                int removedCount = series.getRemovedFromStartCount() - this.indexedRemovedCounts[seriesIndex];
+                firstPoint = Math.max(0, this.indexedPointsCounts[seriesIndex] - removedCount);
+            }
+
+            for (int i = firstPoint; i < pointsCount; i++) {
+                DataPoint point = (DataPoint) points.get(i);
                 Object value = point.getValueForAxis(this);
-                if (!(value instanceof Calendar)) {
-
-                    if (value instanceof Long) {
-
-                        Calendar newInstance = Calendar.getInstance();
-                        newInstance.setTimeInMillis((Long) value);
-                        value = newInstance;
-                    } else if (value instanceof String) {
-                        try {
-                            SimpleDateFormat sdf = new SimpleDateFormat(ISO8601DateFormat);
-                            Date parsedDate = sdf.parse((String) value);
-                            Calendar newInstance = Calendar.getInstance();
-                            newInstance.setTimeInMillis(parsedDate.getTime());
-                            value = newInstance;
-                        } catch (Exception e) {
-                            continue;
-                        }
-                    } else {
+                long ticks;
+                if (value instanceof Calendar) {
+                    ticks = ((Calendar) value).getTimeInMillis();
+                } else if (value instanceof Long) {
+                    ticks = (Long) value;
+                } else if (value instanceof String) {
+                    try {
+                        ticks = this.getIsoDateFormat().parse((String) value).getTime();
+                    } catch (Exception e) {
                         continue;
                     }
+                } else {
+                    continue;
                 }
 
-                DateTimePoint datePoint = new DateTimePoint();
-                datePoint.point = point;
-                datePoint.date = (Calendar) value;
+                this.addValue(ticks, point, value);
+            }
+
+            this.indexedSeries[seriesIndex] = series;
+            this.indexedPointsCounts[seriesIndex] = pointsCount;
+            this.indexedResetVersions[seriesIndex] = series.getDataResetVersion();
+            this.indexedModifiedCounts[seriesIndex] = series.getModifiedPointsCount();
+            this.indexedRemovedCounts[seriesIndex] = series.getRemovedFromStartCount();
+            seriesIndex++;
+        }
+
+        // sort all the values chronologically, merging the appended values into the already sorted ones
+        this.sortValues(mergeStart);
+
+        // release the points that are no longer indexed
+        if (previousCount > this.valuesCount) {
+            Arrays.fill(this.valuePoints, this.valuesCount, previousCount, null);
+            Arrays.fill(this.valueKeys, this.valuesCount, previousCount, null);
+        }
+    }
+
+    /**
+     * Drops the values of the points that were removed from their series, keeping the order of the other values.
+     */
+    private void removeDetachedValues() {
+        int count = 0;
+        for (int i = 0; i < this.valuesCount; i++) {
+            if (this.valuePoints[i].getParent() == null) {
+                continue;
+            }
+
+            this.valueTicks[count] = this.valueTicks[i];
+            this.valuePoints[count] = this.valuePoints[i];
+            this.valueKeys[count] = this.valueKeys[i];
+            count++;
+        }
+
+        this.valuesCount = count;
+    }
+
+    private SimpleDateFormat getIsoDateFormat() {
+        if (this.isoDateFormat == null) {
+            this.isoDateFormat = new SimpleDateFormat(ISO8601DateFormat);
+        }
+
+        return this.isoDateFormat;
+    }
+
+    private void addValue(long ticks, DataPoint point, Object key) {
+        if (this.valuesCount == this.valueTicks.length) {
+            int capacity = Math.max(16, this.valuesCount * 2);
+            this.valueTicks = Arrays.copyOf(this.valueTicks, capacity);
+            this.valuePoints = Arrays.copyOf(this.valuePoints, capacity);
+            this.valueKeys = Arrays.copyOf(this.valueKeys, capacity);
+            this.valueSlotTicks = new long[capacity];
+        }
+
+        this.valueTicks[this.valuesCount] = ticks;
+        this.valuePoints[this.valuesCount] = point;
+        this.valueKeys[this.valuesCount] = key;
+        this.valuesCount++;
+    }
+
+    /**
+     * Sorts the values, given that the ones before the provided index are already sorted.
+     */
+    private void sortValues(int sortedCount) {
+        int count = this.valuesCount;
+        int unsortedStart = sortedCount;
+        while (unsortedStart < count && (unsortedStart == 0 || this.valueTicks[unsortedStart - 1] <= this.valueTicks[unsortedStart])) {
+            unsortedStart++;
+        }
+
+        if (unsortedStart == count) {
+            // the usual case of chronologically ordered data
+            return;
+        }
+
+        long[] ticksBuffer = new long[count];
+        DataPoint[] pointsBuffer = new DataPoint[count];
+        Object[] keysBuffer = new Object[count];
 
-                this.values.add(datePoint);
+        // the values before unsortedStart are in order, so only the rest has to be sorted before merging both parts
+        this.mergeSort(unsortedStart, count, ticksBuffer, pointsBuffer, keysBuffer);
+        this.merge(0, unsortedStart, count, ticksBuffer, pointsBuffer, keysBuffer);
+    }
+
+    /**
+     * A stable bottom-up merge sort of the values in the given range.
+     */
+    private void mergeSort(int from, int to, long[] ticksBuffer, DataPoint[] pointsBuffer, Object[] keysBuffer) {
+        for (int width = 1; width < to - from; width *= 2) {
+            for (int left = from; left < to - width; left += 2 * width) {
+                this.merge(left, left + width, Math.min(left + 2 * width, to), ticksBuffer, pointsBuffer, keysBuffer);
             }
         }
+    }
 
-        // sort all the values chronologically
+    /**
+     * Merges the sorted ranges [from, middle) and [middle, to) of the values.
+     */
+    private void merge(int from, int middle, int to, long[] ticksBuffer, DataPoint[] pointsBuffer, Object[] keysBuffer) {
+        if (this.valueTicks[middle - 1] <= this.valueTicks[middle]) {
+            return;
+        }
 
-        Collections.sort(this.values, new Comparator<DateTimePoint>() {
-            @Override
-            public int compare(DateTimePoint dateTimePoint, DateTimePoint dateTimePoint2) {
-                return dateTimePoint.compareTo(dateTimePoint2);
+        int length = middle - from;
+        System.arraycopy(this.valueTicks, from, ticksBuffer, 0, length);
+        System.arraycopy(this.valuePoints, from, pointsBuffer, 0, length);
+        System.arraycopy(this.valueKeys, from, keysBuffer, 0, length);
+
+        int left = 0;
+        int right = middle;
+        int target = from;
+        while (left < length && right < to) {
+            if (this.valueTicks[right] < ticksBuffer[left]) {
+                this.valueTicks[target] = this.valueTicks[right];
+                this.valuePoints[target] = this.valuePoints[right];
+                this.valueKeys[target] = this.valueKeys[right];
+                right++;
+            } else {
+                this.valueTicks[target] = ticksBuffer[left];
+                this.valuePoints[target] = pointsBuffer[left];
+                this.valueKeys[target] = keysBuffer[left];
+                left++;
             }
-        });
+
+            target++;
+        }
+
+        while (left < length) {
+            this.valueTicks[target] = ticksBuffer[left];
+            this.valuePoints[target] = pointsBuffer[left];
+            this.valueKeys[target] = keysBuffer[left];
+            left++;
+            target++;
+        }
     }
 
     private long getNextTicks(long currentTicks, Double zoomFactor) {
         if (this.monthStep != -1) {
-            Calendar date = Calendar.getInstance();
+            Calendar date = this.tickCalendar;
             date.setTimeInMillis(currentTicks);
             double tmp = this.monthStep / zoomFactor;
             int months = Math.max(1, (int) tmp);
@@ -852,7 +1019,7 @@ public class DateTimeContinuousAxisModel extends AxisModel implements Continuous
 
             return date.getTimeInMillis();
         } else if (this.yearStep != -1) {
-            Calendar date = Calendar.getInstance();
+            Calendar date = this.tickCalendar;
             date.setTimeInMillis(currentTicks);
             double tmp = this.yearStep / zoomFactor;
             int years = Math.max(1, (int) tmp);
@@ -867,7 +1034,7 @@ public class DateTimeContinuousAxisModel extends AxisModel implements Continuous
 
     private long getPreviousTicks(long currentTicks, Double zoomFactor) {
         if (this.monthStep != -1) {
-            Calendar date = Calendar.getInstance();
+            Calendar date = this.tickCalendar;
             date.setTimeInMillis(currentTicks);
             double tmp = this.monthStep / zoomFactor;
             int months = Math.max(1, (int) tmp);
@@ -875,7 +1042,7 @@ public class DateTimeContinuousAxisModel extends AxisModel implements Continuous
 
             return date.getTimeInMillis();
         } else if (this.yearStep != -1) {
-            Calendar date = Calendar.getInstance();
+            Calendar date = this.tickCalendar;
             date.setTimeInMillis(currentTicks);
             double tmp = this.yearStep / zoomFactor;
             int years = Math.max(1, (int) tmp);
@@ -887,26 +1054,9 @@ public class DateTimeContinuousAxisModel extends AxisModel implements Continuous
         return currentTicks - Math.round(this.majorStep / zoomFactor);
     }
 
-    class DateTimePoint implements Comparable<DateTimePoint> {
-        public Calendar date;
-        public DataPoint point;
-        public TimeSlot slot;
-
-        @Override
-        public int compareTo(DateTimePoint other) {
-            return this.date.compareTo(other.date);
-        }
-    }
-
-    class TimeSlot {
-        public double startTicks;
-        public double ticks;
-    }
-
     class PlotInfo {
         public long min = 0L;
         public long max = 0L;
         public long extend = 0L;
     }
 }
-
@@ -83,6 +83,7 @@ public class LogarithmicAxisModel extends LinearAxisModel {
         // update local value first and then call super to raise the PropertyChanged event (if needed).
         if (e.getKey() == LOGARITHM_BASE_PROPERTY_KEY) {
             this.logBase = ((Number) e.newValue()).doubleValue();
+            this.invalidateSeriesRanges();
         }
 
         super.onPropertyChanged(e);
@@ -20,6 +20,9 @@ import com.telerik.widget.chart.engine.series.combination.CombinedSeries;
 import com.telerik.widget.chart.engine.series.rangeSeries.Range;
 import com.telerik.widget.chart.engine.view.ChartView;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Base class for all numeric axis models.
  */
@@ -42,6 +45,12 @@ public abstract class NumericalAxisModel extends AxisModel implements Continuous
     private byte percentDecimalOffset;
     private boolean isStacked100 = false;
 
+    // The value ranges of the data points of the series plotted on this axis, kept between updates.
+    private ArrayList<SeriesValueRange> seriesRanges = new ArrayList<SeriesValueRange>();
+    private int rangeUpdateStamp;
+    private double pointMinimum;
+    private double pointMaximum;
+
     /**
      * Creates a new instance of the {@link NumericalAxisModel} class.
      */
@@ -97,7 +106,7 @@ public abstract class NumericalAxisModel extends AxisModel implements Continuous
      * @return The user-defined major step of the axis.
      */
     public double getMajorStep() {
-        return this.getTypedValue(MAJOR_STEP_PROPERTY_KEY, this.majorStep);
+        return this.getDoubleValue(MAJOR_STEP_PROPERTY_KEY, this.majorStep);
     }
 
     /**
@@ -125,7 +134,7 @@ public abstract class NumericalAxisModel extends AxisModel implements Continuous
      * @return The user-defined minimum of the axis.
      */
     public double getMinimum() {
-        return this.getTypedValue(MINIMUM_PROPERTY_KEY, DEFAULT_MINIMUM);
+        return this.getDoubleValue(MINIMUM_PROPERTY_KEY, DEFAULT_MINIMUM);
     }
 
     /**
@@ -153,7 +162,7 @@ public abstract class NumericalAxisModel extends AxisModel implements Continuous
      * @return The user-defined maximum of the axis.
      */
     public double getMaximum() {
-        return this.getTypedValue(MAXIMUM_PROPERTY_KEY, DEFAULT_MAXIMUM);
+        return this.getDoubleValue(MAXIMUM_PROPERTY_KEY, DEFAULT_MAXIMUM);
     }
 
     /**
@@ -184,6 +193,18 @@ public abstract class NumericalAxisModel extends AxisModel implements Continuous
         return this.actualRange;
     }
 
+    /**
+     * Gets the value that is plotted at a relative position along the axis, where 0 is the minimum and 1 is the maximum
+     * of the actual range. The position is converted back from the scale of the axis, such as the logarithmic one.
+     *
+     * @param position the relative position.
+     * @return the value at the position.
+     */
+    public double getValueAtPosition(double position) {
+        double delta = this.actualRange.maximum - this.actualRange.minimum;
+        return this.reverseTransformValue((position * delta) + this.actualRange.minimum);
+    }
+
     int getDefaultTickCount() {
         return 8;
     }
@@ -406,10 +427,7 @@ public abstract class NumericalAxisModel extends AxisModel implements Continuous
             relativeValue = 1 - relativeValue;
         }
 
-        double delta = this.actualRange.maximum - this.actualRange.minimum;
-        double value = (relativeValue * delta) + this.actualRange.minimum;
-        value = this.reverseTransformValue(value);
-        return value;
+        return this.getValueAtPosition(relativeValue);
     }
 
     private void roundToUserTicks() {
@@ -437,6 +455,8 @@ public abstract class NumericalAxisModel extends AxisModel implements Continuous
     private ValueRange<Double> calculateRange(AxisUpdateContext context) {
         ValueRange<Double> range;
 
+        this.rangeUpdateStamp++;
+
         if (context.isStacked()) {
             range = this.calculateStackedRange(context);
         } else if (context.isStacked100()) {
@@ -445,26 +465,71 @@ public abstract class NumericalAxisModel extends AxisModel implements Continuous
             range = this.calculateNormalRange(context.series());
         }
 
+        // forget the series that are no longer plotted on this axis
+        for (int i = this.seriesRanges.size() - 1; i >= 0; i--) {
+            if (this.seriesRanges.get(i).updateStamp != this.rangeUpdateStamp) {
+                this.seriesRanges.remove(i);
+            }
+        }
+
         return range;
     }
 
     private ValueRange<Double> calculateNormalRange(Iterable<ChartSeriesModel> series) {
         ValueRange<Double> range = new ValueRange<Double>(-1.0, -1.0);
-        range.minimum = Double.POSITIVE_INFINITY;
-        range.maximum = 0.0;
+        double minimum = Double.POSITIVE_INFINITY;
+        double maximum = 0.0;
 
         // retrieve core range
         if (series != null) {
             for (ChartSeriesModel model : series) {
-                for (Object point : model.visibleDataPoints()) {
-                    DataPoint dataPoint = (DataPoint) point;
-                    Object value = dataPoint.getValueForAxis(this);
-                    Object transformedValue = this.transformValue(value);
-                    range = this.adjustRange(transformedValue, range);
+                ValueRangeTree tree = this.getSeriesValueRange(model).tree;
+                List visiblePoints = model.dataPointsForAxis(this);
+                int visibleCount = visiblePoints.size();
+                if (visibleCount == 0) {
+                    continue;
+                }
+
+                // The visible points are either all points or a window of them, in ascending or descending order,
+                // unless the series virtualizes its points by value.
+                int start = 0;
+                int end = tree.size();
+                if (visiblePoints != model.dataPoints()) {
+                    int first = ((DataPoint) visiblePoints.get(0)).collectionIndex();
+                    int last = ((DataPoint) visiblePoints.get(visibleCount - 1)).collectionIndex();
+                    start = Math.min(first, last);
+                    end = Math.max(first, last) + 1;
+                }
+
+                double seriesMinimum;
+                double seriesMaximum;
+                if (start >= 0 && end <= tree.size() && end - start == visibleCount) {
+                    seriesMinimum = tree.getMinimum(start, end);
+                    seriesMaximum = tree.getMaximum(start, end);
+                } else {
+                    seriesMinimum = Double.POSITIVE_INFINITY;
+                    seriesMaximum = Double.NEGATIVE_INFINITY;
+                    for (int i = 0; i < visibleCount; i++) {
+                        int index = ((DataPoint) visiblePoints.get(i)).collectionIndex();
+                        if (index >= 0 && index < tree.size()) {
+                            seriesMinimum = Math.min(seriesMinimum, tree.getMinimum(index));
+                            seriesMaximum = Math.max(seriesMaximum, tree.getMaximum(index));
+                        }
+                    }
+                }
+
+                if (seriesMinimum < minimum) {
+                    minimum = seriesMinimum;
+                }
+                if (seriesMaximum > maximum) {
+                    maximum = seriesMaximum;
                 }
             }
         }
 
+        range.minimum = minimum;
+        range.maximum = maximum;
+
         if (range.minimum == Double.POSITIVE_INFINITY) {
             range.minimum = 0.0;
         } else if (range.minimum.equals(range.maximum)) {
@@ -478,56 +543,109 @@ public abstract class NumericalAxisModel extends AxisModel implements Continuous
         return range;
     }
 
-    private ValueRange<Double> adjustRange(Object value, final ValueRange<Double> range) {
-        if (value instanceof Double) {
-            return this.adjustRange((Double)value, range);
-        } else if (value instanceof Ohlc) {
-            return this.adjustRange((Ohlc) value, range);
-        } else if (value instanceof Range) {
-            return this.adjustRange((Range) value, range);
-        } else return range;
+    /**
+     * Discards the value ranges of the series plotted on this axis, so that they are rebuilt on the next update.
+     * Called when a property that affects {@link #transformValue(double)} changes.
+     */
+    void invalidateSeriesRanges() {
+        this.seriesRanges.clear();
     }
 
-    private ValueRange<Double> adjustRange(final Range value, final ValueRange<Double> range) {
-        ValueRange<Double> newRange = range.clone();
-        double high = value.high();
-        double low = value.low();
+    /**
+     * Gets the value ranges of the data points of the given series, bringing them up to date with the series.
+     * Appended and modified points are added to the existing ranges, any other change rebuilds them.
+     */
+    private SeriesValueRange getSeriesValueRange(ChartSeriesModel series) {
+        SeriesValueRange seriesRange = null;
+        for (int i = 0, count = this.seriesRanges.size(); i < count; i++) {
+            if (this.seriesRanges.get(i).series == series) {
+                seriesRange = this.seriesRanges.get(i);
+                break;
+            }
+        }
 
-        if (high > newRange.maximum) {
-            newRange.maximum = high;
+        if (seriesRange == null) {
+            seriesRange = new SeriesValueRange(series);
+            this.seriesRanges.add(seriesRange);
         }
-        if (low < newRange.minimum) {
-            newRange.minimum = low;
+
+        seriesRange.updateStamp = this.rangeUpdateStamp;
+
+        List points = series.dataPoints();
+        int pointsCount = points.size();
+        ValueRangeTree tree = seriesRange.tree;
+
+        // The values of the points depend on the type of the axis they are plotted on.
+        if (seriesRange.axisType != this.getType() || seriesRange.resetVersion != series.getDataResetVersion()) {
+            tree.clear();
+            seriesRange.axisType = this.getType();
+            seriesRange.resetVersion = series.getDataResetVersion();
+            seriesRange.modifiedCount = 0;
+            seriesRange.removedCount = series.getRemovedFromStartCount();
         }
 
-        return newRange;
-    }
+        // The points removed from the start precede the recorded modifications and may include appended points not in the tree yet.
+        int removedCount = series.getRemovedFromStartCount() - seriesRange.removedCount;
+        if (removedCount > 0) {
+            tree.removeFirst(Math.min(removedCount, tree.size()));
+            seriesRange.removedCount = series.getRemovedFromStartCount();
+        }
 
-    private ValueRange<Double> adjustRange(final Ohlc value, final ValueRange<Double> range) {
-        ValueRange<Double> newRange = range.clone();
-        double high = value.high();
-        double low = value.low();
+        if (tree.size() > pointsCount) {
+            tree.clear();
+            seriesRange.modifiedCount = series.getModifiedPointsCount();
+        }
 
-        if (high > newRange.maximum) {
-            newRange.maximum = high;
+        int modifiedCount = series.getModifiedPointsCount();
+        for (int i = seriesRange.modifiedCount; i < modifiedCount; i++) {
+            int index = series.getModifiedPointIndex(i);
+            if (index < tree.size()) {
+                this.updatePointRange((DataPoint) points.get(index));
+                tree.set(index, this.pointMinimum, this.pointMaximum);
+            }
         }
-        if (low < newRange.minimum) {
-            newRange.minimum = low;
+        seriesRange.modifiedCount = modifiedCount;
+
+        for (int i = tree.size(); i < pointsCount; i++) {
+            this.updatePointRange((DataPoint) points.get(i));
+            tree.add(this.pointMinimum, this.pointMaximum);
         }
 
-        return newRange;
+        return seriesRange;
     }
 
-    private ValueRange<Double> adjustRange(Double value, final ValueRange<Double> range) {
-        ValueRange<Double> newRange = range.clone();
-        if (value > newRange.maximum) {
-            newRange.maximum = value;
-        }
-        if (value < newRange.minimum) {
-            newRange.minimum = value;
+    /**
+     * Stores the lowest and the highest value of the given point in {@link #pointMinimum} and {@link #pointMaximum}.
+     * Points without numeric values get an empty range.
+     */
+    private void updatePointRange(DataPoint point) {
+        this.pointMinimum = Double.POSITIVE_INFINITY;
+        this.pointMaximum = Double.NEGATIVE_INFINITY;
+
+        Object value = point.getValueForAxis(this);
+        double low;
+        double high;
+        if (value instanceof Number) {
+            low = this.transformValue(((Number) value).doubleValue());
+            high = low;
+        } else if (value instanceof Ohlc) {
+            Ohlc ohlc = this.transformValue((Ohlc) value);
+            low = ohlc.low();
+            high = ohlc.high();
+        } else if (value instanceof Range) {
+            low = ((Range) value).low();
+            high = ((Range) value).high();
+        } else {
+            return;
         }
 
-        return newRange;
+        // NaN values never adjust the range
+        if (!Double.isNaN(low)) {
+            this.pointMinimum = low;
+        }
+        if (!Double.isNaN(high)) {
+            this.pointMaximum = high;
+        }
     }
 
     private ValueRange<Double> calculateStackedRange(AxisUpdateContext context) {
@@ -613,7 +731,7 @@ public abstract class NumericalAxisModel extends AxisModel implements Continuous
 
         // update points values
         for (ChartSeriesModel model : series) {
-            for (Object point : model.visibleDataPoints()) {
+            for (Object point : model.dataPointsForAxis(this)) {
                 DataPoint dataPoint = (DataPoint) point;
                 if (dataPoint.isEmpty) {
                     continue;
@@ -791,7 +909,7 @@ public abstract class NumericalAxisModel extends AxisModel implements Continuous
         // apply the plot origin to the series
         if (context.series() != null) {
             for (ChartSeriesModel model : context.series()) {
-                model.setValue(PLOT_ORIGIN_PROPERTY_KEY, this.normalizedOrigin);
+                model.setDoubleValue(PLOT_ORIGIN_PROPERTY_KEY, this.normalizedOrigin);
             }
         }
     }
@@ -898,5 +1016,22 @@ public abstract class NumericalAxisModel extends AxisModel implements Continuous
             }
         }
     }
+
+    /**
+     * The value ranges of the data points of a series together with the state of the series they were built from.
+     */
+    private static class SeriesValueRange {
+        final ChartSeriesModel series;
+        final ValueRangeTree tree = new ValueRangeTree();
+        AxisType axisType;
+        int resetVersion;
+        int modifiedCount;
+        int removedCount;
+        int updateStamp;
+
+        SeriesValueRange(ChartSeriesModel series) {
+            this.series = series;
+        }
+    }
 }
 
@@ -0,0 +1,189 @@
+package com.telerik.widget.chart.engine.axes.continuous;
+
+/**
+ * A segment tree that keeps the lowest and the highest value of each data point of a series by point index.
+ * Appending or replacing a point and finding the extremes of an index range all take logarithmic time and points
+ * are removed from the start without moving the others, so the range of an axis can follow a live series, a
+ * sliding window or a zoomed window without walking all of its points.
+ * <p/>
+ * Points without values are stored with a positive infinite minimum and a negative infinite maximum and never
+ * affect the result of a query.
+ */
+class ValueRangeTree {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private double[] minimums = new double[0];
+    private double[] maximums = new double[0];
+    private int capacity;
+    private int size;
+
+    // The leaves are used as a ring, so removing points from the start does not move the other points.
+    private int first;
+
+    /**
+     * Gets the number of points in the tree.
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Removes all points from the tree, keeping the allocated storage.
+     */
+    void clear() {
+        for (int i = 1, count = this.capacity << 1; i < count; i++) {
+            this.minimums[i] = Double.POSITIVE_INFINITY;
+            this.maximums[i] = Double.NEGATIVE_INFINITY;
+        }
+
+        this.size = 0;
+        this.first = 0;
+    }
+
+    /**
+     * Appends a point with the given values.
+     */
+    void add(double minimum, double maximum) {
+        if (this.size == this.capacity) {
+            this.grow();
+        }
+
+        this.set(this.size++, minimum, maximum);
+    }
+
+    /**
+     * Removes the given number of points from the start, so that the following points get lower indices.
+     */
+    void removeFirst(int count) {
+        for (int i = 0; i < count; i++) {
+            this.set(i, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY);
+        }
+
+        if (this.capacity > 0) {
+            this.first = (this.first + count) & (this.capacity - 1);
+        }
+        this.size -= count;
+    }
+
+    /**
+     * Replaces the values of the point with the given index.
+     */
+    void set(int index, double minimum, double maximum) {
+        int node = this.leaf(index);
+        this.minimums[node] = minimum;
+        this.maximums[node] = maximum;
+
+        for (node >>= 1; node > 0; node >>= 1) {
+            int left = node << 1;
+            this.minimums[node] = Math.min(this.minimums[left], this.minimums[left + 1]);
+            this.maximums[node] = Math.max(this.maximums[left], this.maximums[left + 1]);
+        }
+    }
+
+    /**
+     * Gets the lowest value of the point with the given index.
+     */
+    double getMinimum(int index) {
+        return this.minimums[this.leaf(index)];
+    }
+
+    /**
+     * Gets the highest value of the point with the given index.
+     */
+    double getMaximum(int index) {
+        return this.maximums[this.leaf(index)];
+    }
+
+    /**
+     * Gets the lowest value of the points from the start index inclusive to the end index exclusive.
+     */
+    double getMinimum(int start, int end) {
+        if (start >= end) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        int from = this.leaf(start) - this.capacity;
+        int to = from + end - start;
+        if (to <= this.capacity) {
+            return queryMinimum(this.minimums, this.capacity, from, to);
+        }
+
+        return Math.min(queryMinimum(this.minimums, this.capacity, from, this.capacity),
+                queryMinimum(this.minimums, this.capacity, 0, to - this.capacity));
+    }
+
+    /**
+     * Gets the highest value of the points from the start index inclusive to the end index exclusive.
+     */
+    double getMaximum(int start, int end) {
+        if (start >= end) {
+            return Double.NEGATIVE_INFINITY;
+        }
+
+        int from = this.leaf(start) - this.capacity;
+        int to = from + end - start;
+        if (to <= this.capacity) {
+            return queryMaximum(this.maximums, this.capacity, from, to);
+        }
+
+        return Math.max(queryMaximum(this.maximums, this.capacity, from, this.capacity),
+                queryMaximum(this.maximums, this.capacity, 0, to - this.capacity));
+    }
+
+    private int leaf(int index) {
+        return this.capacity + ((this.first + index) & (this.capacity - 1));
+    }
+
+    private static double queryMinimum(double[] minimums, int capacity, int start, int end) {
+        double result = Double.POSITIVE_INFINITY;
+        for (start += capacity, end += capacity; start < end; start >>= 1, end >>= 1) {
+            if ((start & 1) == 1) {
+                result = Math.min(result, minimums[start++]);
+            }
+            if ((end & 1) == 1) {
+                result = Math.min(result, minimums[--end]);
+            }
+        }
+
+        return result;
+    }
+
+    private static double queryMaximum(double[] maximums, int capacity, int start, int end) {
+        double result = Double.NEGATIVE_INFINITY;
+        for (start += capacity, end += capacity; start < end; start >>= 1, end >>= 1) {
+            if ((start & 1) == 1) {
+                result = Math.max(result, maximums[start++]);
+            }
+            if ((end & 1) == 1) {
+                result = Math.max(result, maximums[--end]);
+            }
+        }
+
+        return result;
+    }
+
+    private void grow() {
+        int newCapacity = this.capacity == 0 ? INITIAL_CAPACITY : this.capacity << 1;
+        double[] newMinimums = new double[newCapacity << 1];
+        double[] newMaximums = new double[newCapacity << 1];
+
+        // the points are stored from the first leaf on
+        for (int i = 0; i < newCapacity; i++) {
+            boolean stored = i < this.size;
+            newMinimums[newCapacity + i] = stored ? this.minimums[this.leaf(i)] : Double.POSITIVE_INFINITY;
+            newMaximums[newCapacity + i] = stored ? this.maximums[this.leaf(i)] : Double.NEGATIVE_INFINITY;
+        }
+
+        for (int node = newCapacity - 1; node > 0; node--) {
+            int left = node << 1;
+            newMinimums[node] = Math.min(newMinimums[left], newMinimums[left + 1]);
+            newMaximums[node] = Math.max(newMaximums[left], newMaximums[left + 1]);
+        }
+
+        this.minimums = newMinimums;
+        this.maximums = newMaximums;
+        this.capacity = newCapacity;
+        this.first = 0;
+    }
+}
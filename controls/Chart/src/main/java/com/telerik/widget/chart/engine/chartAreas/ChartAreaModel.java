@@ -4,6 +4,7 @@ import com.telerik.android.common.math.RadRect;
 import com.telerik.widget.chart.engine.elementTree.ChartAreaInvalidateFlags;
 import com.telerik.widget.chart.engine.elementTree.ChartElement;
 import com.telerik.widget.chart.engine.elementTree.ChartMessage;
+import com.telerik.widget.chart.engine.dataPoints.DataPoint;
 import com.telerik.widget.chart.engine.elementTree.ChartNode;
 import com.telerik.widget.chart.engine.elementTree.ElementCollection;
 import com.telerik.widget.chart.engine.elementTree.MessageDispatcher;
@@ -29,6 +30,10 @@ public class ChartAreaModel extends ChartElement {
     private MessageDispatcher dispatcher;
     private byte suspendUpdate;
 
+    private final ChartArrangeCounters arrangeCounters = new ChartArrangeCounters();
+    private final ChartFrameTimings frameTimings = new ChartFrameTimings();
+    private int pendingArrangeFlags = ChartAreaInvalidateFlags.ALL;
+
     /**
      * Creates an instance of the {@link ChartAreaModel} class by initializing its plot area and messaging
      * infrastructure.
@@ -92,6 +97,62 @@ public class ChartAreaModel extends ChartElement {
         return this.dispatcher;
     }
 
+    /**
+     * Gets the counters of the arrange stages that were performed and skipped by this model.
+     *
+     * @return the arrange counters.
+     */
+    public ChartArrangeCounters getArrangeCounters() {
+        return this.arrangeCounters;
+    }
+
+    /**
+     * Gets the time spent in the stages of the frames of the chart. The timings are only recorded while they are enabled.
+     *
+     * @return the frame timings.
+     */
+    public ChartFrameTimings getFrameTimings() {
+        return this.frameTimings;
+    }
+
+    /**
+     * Records which parts of the chart need to be arranged by the next arrange pass without invalidating
+     * their state. Changes that the model tracks on its own, such as the zoom, the pan offset and the data
+     * of the series, do not need to be requested.
+     *
+     * @param flags a set of {@link ChartAreaInvalidateFlags} specifying the parts to arrange.
+     */
+    public void requestArrange(int flags) {
+        this.pendingArrangeFlags |= flags;
+    }
+
+    /**
+     * Determines whether the given element kept its previous layout during the last arrange pass,
+     * so that its visuals do not need to be updated.
+     *
+     * @param element the element to check.
+     * @return <code>true</code> if the element was not arranged, <code>false</code> otherwise.
+     */
+    public boolean isArrangeSkipped(ChartNode element) {
+        return false;
+    }
+
+    /**
+     * Gets the parts of the chart requested to be arranged since the last arrange pass and clears them.
+     */
+    int consumeArrangeFlags() {
+        int flags = this.pendingArrangeFlags;
+        this.pendingArrangeFlags = ChartAreaInvalidateFlags.NONE;
+        return flags;
+    }
+
+    /**
+     * Determines whether the given series needs to be arranged in the current arrange pass.
+     */
+    boolean shouldArrangeSeries(ChartSeriesModel series) {
+        return true;
+    }
+
     /**
      * Called when the Chart's zoom factor changes.
      */
@@ -131,6 +192,7 @@ public class ChartAreaModel extends ChartElement {
 
         this.suspendUpdate--;
         if (this.suspendUpdate == 0 && refresh) {
+            this.requestArrange(ChartAreaInvalidateFlags.ALL);
             this.invalidateNode(this);
         }
     }
@@ -147,6 +209,7 @@ public class ChartAreaModel extends ChartElement {
         }
 
         this.view = view;
+        this.requestArrange(ChartAreaInvalidateFlags.ALL);
         this.load(new LoadContext(this));
     }
 
@@ -171,7 +234,13 @@ public class ChartAreaModel extends ChartElement {
     protected RadRect arrangeOverride(final RadRect rect) {
         this.beginUpdate();
 
+        this.arrangeCounters.recordArrangePass();
+        this.consumeArrangeFlags();
+        long start = this.frameTimings.isEnabled() ? System.nanoTime() : 0;
         this.plotArea.arrange(rect);
+        if (this.frameTimings.isEnabled()) {
+            this.frameTimings.recordSeriesArrange(System.nanoTime() - start);
+        }
         this.applyLayoutRounding();
 
         this.endUpdate(false);
@@ -199,9 +268,17 @@ public class ChartAreaModel extends ChartElement {
             message.stopDispatch = true;
         } else {
             if (message.getId() == ChartNode.PROPERTY_CHANGED_MESSAGE) {
-                this.invalidate(PropertyKeys.getPropertyFlags(((RadPropertyEventArgs) message.data).getKey()));
+                int flags = PropertyKeys.getPropertyFlags(((RadPropertyEventArgs) message.data).getKey());
+
+                // the values of a data point only affect its series and the axes the series is plotted on
+                ChartNode sender = message.getSender();
+                if (flags != ChartAreaInvalidateFlags.NONE && sender instanceof DataPoint && sender.getParent() instanceof ChartSeriesModel) {
+                    this.invalidateSeriesData((ChartSeriesModel) sender.getParent());
+                } else {
+                    this.invalidate(flags);
+                }
             } else if (message.getId() == ChartSeriesModel.DATA_POINTS_MODIFIED_MESSAGE_KEY) {
-                this.invalidate(ChartAreaInvalidateFlags.ALL);
+                this.invalidateSeriesData((ChartSeriesModel) message.getSender());
             }
         }
     }
@@ -213,11 +290,21 @@ public class ChartAreaModel extends ChartElement {
      * @param flags a set of flas specifying the type of invalidation.
      */
     public void invalidate(int flags) {
+        this.requestArrange(flags);
         if (this.isTreeLoaded()) {
             this.invalidateCore(flags);
         }
     }
 
+    /**
+     * Invalidates the parts of the chart that depend on the data points of the given series.
+     *
+     * @param series the series whose data points changed.
+     */
+    protected void invalidateSeriesData(ChartSeriesModel series) {
+        this.invalidate(ChartAreaInvalidateFlags.ALL);
+    }
+
     void invalidateCore(int flags) {
         if ((flags & ChartAreaInvalidateFlags.INVALIDATE_SERIES) == ChartAreaInvalidateFlags.INVALIDATE_SERIES) {
             for (ChartSeriesModel series : this.plotArea.series) {
@@ -15,8 +15,10 @@ import com.telerik.widget.chart.engine.elementTree.ChartNode;
 import com.telerik.widget.chart.engine.elementTree.ModifyChildrenResult;
 import com.telerik.widget.chart.engine.series.ChartSeriesModel;
 import com.telerik.widget.chart.engine.series.combination.ChartSeriesCombineStrategy;
+import com.telerik.widget.chart.engine.view.ChartView;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -36,6 +38,26 @@ public abstract class ChartAreaModelWithAxes extends ChartAreaModel {
     public AxisModel primarySecondAxis;
     ChartGridModel grid;
 
+    // The series whose data changed since the last arrange pass.
+    private final ArrayList<ChartSeriesModel> dirtySeries = new ArrayList<ChartSeriesModel>();
+
+    // The elements that kept their layout during the last arrange pass.
+    private final ArrayList<ChartNode> skippedElements = new ArrayList<ChartNode>();
+
+    // The plot versions of the axes that positioned each element when it was last arranged.
+    private final HashMap<ChartNode, Long> arrangedAxesVersions = new HashMap<ChartNode, Long>();
+
+    // The data versions of the series when they were last arranged.
+    private final HashMap<ChartSeriesModel, Integer> arrangedDataVersions = new HashMap<ChartSeriesModel, Integer>();
+
+    private boolean arrangeAllElements;
+    private RadRect lastArrangeRect;
+    private RadRect lastSeriesRect;
+    private double lastZoomWidth;
+    private double lastZoomHeight;
+    private double lastPanOffsetX;
+    private double lastPanOffsetY;
+
     /**
      * Creates an instance of the {@link ChartAreaModelWithAxes}
      */
@@ -189,11 +211,71 @@ public abstract class ChartAreaModelWithAxes extends ChartAreaModel {
     protected RadRect arrangeOverride(final RadRect rect) {
         this.beginUpdate();
 
+        ChartArrangeCounters counters = this.getArrangeCounters();
+        counters.recordArrangePass();
+        this.skippedElements.clear();
+
+        int flags = this.consumeArrangeFlags();
+        if ((flags & ChartAreaInvalidateFlags.RESET_AXES) == ChartAreaInvalidateFlags.RESET_AXES) {
+            this.arrangedAxesVersions.clear();
+            this.arrangedDataVersions.clear();
+        }
+
+        // Data changes made while the messages were suspended are only visible through the invalidated series.
+        for (ChartSeriesModel series : this.getSeries()) {
+            if (series.isInvalidateScheduled() && !this.dirtySeries.contains(series)) {
+                this.invalidateSeriesData(series);
+            }
+        }
+
+        // Zooming, panning and resizing move all elements, while the other changes only affect the elements
+        // that depend on the modified series and axes.
+        ChartView view = this.getView();
+        boolean viewChanged = !rect.equals(this.lastArrangeRect) ||
+                view.getZoomWidth() != this.lastZoomWidth || view.getZoomHeight() != this.lastZoomHeight ||
+                view.getPanOffsetX() != this.lastPanOffsetX || view.getPanOffsetY() != this.lastPanOffsetY;
+        this.lastArrangeRect = rect;
+        this.lastZoomWidth = view.getZoomWidth();
+        this.lastZoomHeight = view.getZoomHeight();
+        this.lastPanOffsetX = view.getPanOffsetX();
+        this.lastPanOffsetY = view.getPanOffsetY();
+
+        int arrangeAllFlags = ChartAreaInvalidateFlags.RESET_AXES | ChartAreaInvalidateFlags.INVALIDATE_AXES | ChartAreaInvalidateFlags.INVALIDATE_SERIES;
+        this.arrangeAllElements = viewChanged || (flags & arrangeAllFlags) != 0;
+
         this.updateSeriesVisiblePoints();
-        // TODO: axis update should be handled smarter, not on every arrange pass
-        this.updateAxes();
+
+        // The axes are only updated after a change of the data or the axes, or after zooming and panning changed the visible
+        // points of a virtualized series, which resets the axes that plot only its visible points.
+        boolean updateAxes = (flags & arrangeAllFlags) != 0 || !this.dirtySeries.isEmpty() || !this.areAxesValid();
+        ChartFrameTimings timings = this.getFrameTimings();
+        if (updateAxes) {
+            long start = timings.isEnabled() ? System.nanoTime() : 0;
+            this.updateAxes();
+
+            // Series virtualized by value look up their visible points with the ranges of the axes they are virtualized
+            // along, which are only known once these axes are updated, so the points are looked up again with them.
+            this.updateSeriesVisiblePoints();
+            if (!this.areAxesValid()) {
+                this.updateAxes();
+            }
+            if (timings.isEnabled()) {
+                timings.recordAxesUpdate(System.nanoTime() - start);
+            }
+        }
+        counters.recordAxesUpdate(updateAxes);
+
         RadRect seriesRect = this.arrangeAxes(rect);
+        if (!seriesRect.equals(this.lastSeriesRect)) {
+            this.lastSeriesRect = seriesRect;
+            this.arrangeAllElements = true;
+        }
+
+        long seriesArrangeStart = timings.isEnabled() ? System.nanoTime() : 0;
         this.getPlotArea().arrange(seriesRect);
+        if (timings.isEnabled()) {
+            timings.recordSeriesArrange(System.nanoTime() - seriesArrangeStart);
+        }
         this.applyLayoutRounding();
 
         if (this.getView().getZoomWidth() > 1 || getView().getZoomHeight() > 1) {
@@ -210,24 +292,189 @@ public abstract class ChartAreaModelWithAxes extends ChartAreaModel {
 
         // arrange the grid within the series rect
         if (this.grid != null) {
-            this.grid.arrange(seriesRect);
+            boolean arrange = this.shouldArrange(this.grid, this.getAxesVersion(null),
+                    (flags & ChartAreaInvalidateFlags.INVALIDATE_GRID) == ChartAreaInvalidateFlags.INVALIDATE_GRID);
+            if (arrange) {
+                this.grid.arrange(seriesRect);
+            }
+
+            counters.recordGridArrange(arrange);
         }
 
         // arrange the annotations within the series rect
+        boolean annotationsInvalidated = (flags & (ChartAreaInvalidateFlags.RESET_ANNOTATIONS | ChartAreaInvalidateFlags.INVALIDATE_ANNOTATIONS)) != 0;
         for (ChartAnnotationModel annotation : this.annotations) {
-            annotation.arrange(seriesRect);
+            long axesVersion = this.getAxesVersion(annotation);
+            Long arrangedVersion = this.arrangedAxesVersions.get(annotation);
+            if (arrangedVersion != null && arrangedVersion != axesVersion) {
+                // the axes the annotation is positioned by were plotted again, so its plot information is outdated
+                annotation.resetState();
+            }
+
+            boolean arrange = this.shouldArrange(annotation, axesVersion, annotationsInvalidated);
+            if (arrange) {
+                annotation.arrange(seriesRect);
+            }
+
+            counters.recordAnnotationArrange(arrange);
         }
 
+        this.dirtySeries.clear();
+
         this.endUpdate(false);
         return rect;
     }
 
+    @Override
+    public boolean isArrangeSkipped(ChartNode element) {
+        return this.skippedElements.contains(element);
+    }
+
+    @Override
+    boolean shouldArrangeSeries(ChartSeriesModel series) {
+        long axesVersion = 0;
+        if (series instanceof SeriesModelWithAxes) {
+            SeriesModelWithAxes seriesWithAxes = (SeriesModelWithAxes) series;
+            axesVersion = getAxesVersion(seriesWithAxes.getFirstAxis(), seriesWithAxes.getSecondAxis());
+        }
+
+        // changes that do not affect the axes, such as the selection of a point, still need the series to be arranged
+        Integer arrangedDataVersion = this.arrangedDataVersions.put(series, series.getDataVersion());
+        boolean invalidated = this.dirtySeries.contains(series) ||
+                arrangedDataVersion == null || arrangedDataVersion != series.getDataVersion();
+
+        return this.shouldArrange(series, axesVersion, invalidated);
+    }
+
+    @Override
+    protected void invalidateSeriesData(ChartSeriesModel series) {
+        if (!(series instanceof SeriesModelWithAxes)) {
+            super.invalidateSeriesData(series);
+            return;
+        }
+
+        if (!this.dirtySeries.contains(series)) {
+            this.dirtySeries.add(series);
+        }
+
+        // The other axes are not affected by the data of the series. The series that share the reset axes
+        // are arranged again once the axes are plotted again.
+        this.resetSeriesAxes(series);
+        this.requestArrange(ChartAreaInvalidateFlags.NONE);
+    }
+
+    private boolean shouldArrange(ChartNode element, long axesVersion, boolean invalidated) {
+        Long arrangedVersion = this.arrangedAxesVersions.put(element, axesVersion);
+        if (this.arrangeAllElements || invalidated || element.isInvalidateScheduled() ||
+                arrangedVersion == null || arrangedVersion != axesVersion) {
+            return true;
+        }
+
+        this.skippedElements.add(element);
+        return false;
+    }
+
+    private boolean areAxesValid() {
+        for (AxisModel axis : this.firstAxes) {
+            if (!axis.isUpdated() || !axis.isPlotValid()) {
+                return false;
+            }
+        }
+        for (AxisModel axis : this.secondAxes) {
+            if (!axis.isUpdated() || !axis.isPlotValid()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static long getAxesVersion(AxisModel firstAxis, AxisModel secondAxis) {
+        long firstVersion = firstAxis == null ? 0 : firstAxis.getPlotVersion();
+        long secondVersion = secondAxis == null ? 0 : secondAxis.getPlotVersion();
+
+        return (firstVersion << 32) | (secondVersion & 0xffffffffL);
+    }
+
+    // Sums the plot versions of the axes the annotation depends on or of all axes if no annotation is given.
+    private long getAxesVersion(ChartAnnotationModel annotation) {
+        long version = 0;
+        for (AxisModel axis : this.firstAxes) {
+            if (annotation == null || annotation.dependsOnAxis(axis)) {
+                version += axis.getPlotVersion();
+            }
+        }
+        for (AxisModel axis : this.secondAxes) {
+            if (annotation == null || annotation.dependsOnAxis(axis)) {
+                version += axis.getPlotVersion();
+            }
+        }
+
+        return version;
+    }
+
     private void updateSeriesVisiblePoints() {
         for(ChartSeriesModel series : this.getSeries()) {
-            series.updateVisibleDataPoints();
+            if (this.arrangeAllElements || this.dirtySeries.contains(series) || !this.areSeriesAxesValid(series)) {
+                List visiblePoints = series.visibleDataPoints();
+                int count = visiblePoints.size();
+                Object first = count > 0 ? visiblePoints.get(0) : null;
+                Object last = count > 0 ? visiblePoints.get(count - 1) : null;
+
+                series.updateVisibleDataPoints();
+
+                // The axes that only plot the visible points have no plot information for the points that became
+                // visible and a range that no longer fits them until they are updated again. The axes along which the
+                // points are virtualized plot all points and are not affected.
+                visiblePoints = series.visibleDataPoints();
+                if (visiblePoints != series.dataPoints() && (visiblePoints.size() != count ||
+                        (count > 0 && (visiblePoints.get(0) != first || visiblePoints.get(count - 1) != last)))) {
+                    this.resetVisiblePointsAxes(series);
+                }
+            }
+        }
+    }
+
+    private void resetVisiblePointsAxes(ChartSeriesModel series) {
+        if (!(series instanceof SeriesModelWithAxes)) {
+            return;
+        }
+
+        AxisModel firstAxis = ((SeriesModelWithAxes) series).getFirstAxis();
+        AxisModel secondAxis = ((SeriesModelWithAxes) series).getSecondAxis();
+        if (firstAxis != null && series.dataPointsForAxis(firstAxis) != series.dataPoints()) {
+            firstAxis.resetState();
+        }
+        if (secondAxis != null && series.dataPointsForAxis(secondAxis) != series.dataPoints()) {
+            secondAxis.resetState();
         }
     }
 
+    private void resetSeriesAxes(ChartSeriesModel series) {
+        if (!(series instanceof SeriesModelWithAxes)) {
+            return;
+        }
+
+        SeriesModelWithAxes seriesWithAxes = (SeriesModelWithAxes) series;
+        if (seriesWithAxes.getFirstAxis() != null) {
+            seriesWithAxes.getFirstAxis().resetState();
+        }
+        if (seriesWithAxes.getSecondAxis() != null) {
+            seriesWithAxes.getSecondAxis().resetState();
+        }
+    }
+
+    private boolean areSeriesAxesValid(ChartSeriesModel series) {
+        if (!(series instanceof SeriesModelWithAxes)) {
+            return false;
+        }
+
+        AxisModel firstAxis = ((SeriesModelWithAxes) series).getFirstAxis();
+        AxisModel secondAxis = ((SeriesModelWithAxes) series).getSecondAxis();
+        return (firstAxis == null || (firstAxis.isUpdated() && firstAxis.isPlotValid())) &&
+                (secondAxis == null || (secondAxis.isUpdated() && secondAxis.isPlotValid()));
+    }
+
     DataTuple convertPointToData(final RadPoint coordinates, AxisModel firstAxis, AxisModel secondAxis) {
         return new DataTuple(null, null, null);
     }
@@ -369,14 +616,19 @@ public abstract class ChartAreaModelWithAxes extends ChartAreaModel {
 
     private void updateCombineStrategy(AxisModel stackAxis, List<ChartSeriesModel> series) {
         ChartSeriesCombineStrategy strategy;
-        if (!this.seriesCombineStrategies.contains(stackAxis)) {
+        if (!this.seriesCombineStrategies.containsKey(stackAxis)) {
             strategy = new ChartSeriesCombineStrategy();
             this.seriesCombineStrategies.put(stackAxis, strategy);
         } else {
             strategy = this.seriesCombineStrategies.get(stackAxis);
         }
 
+        ChartFrameTimings timings = this.getFrameTimings();
+        long start = timings.isEnabled() ? System.nanoTime() : 0;
         strategy.update(series, stackAxis);
+        if (timings.isEnabled()) {
+            timings.recordCombine(System.nanoTime() - start);
+        }
     }
 
     private void updateAxis(AxisModel axis, ArrayList<ChartSeriesModel> series) {
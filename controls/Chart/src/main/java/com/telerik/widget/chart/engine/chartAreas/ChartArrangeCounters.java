@@ -0,0 +1,165 @@
+package com.telerik.widget.chart.engine.chartAreas;
+
+/**
+ * Counts the stages of the arrange passes of a {@link ChartAreaModel} that were performed and the ones that were
+ * skipped because the parts of the chart they lay out did not change. The counters keep growing until
+ * {@link #reset()} is called, so they can be sampled before and after an interaction to see what it cost.
+ */
+public class ChartArrangeCounters {
+
+    private int arrangePasses;
+    private int axesUpdates;
+    private int axesUpdatesSkipped;
+    private int seriesArranges;
+    private int seriesArrangesSkipped;
+    private int gridArranges;
+    private int gridArrangesSkipped;
+    private int annotationArranges;
+    private int annotationArrangesSkipped;
+    private int presenterUpdates;
+    private int presenterUpdatesSkipped;
+
+    /**
+     * Gets the number of arrange passes.
+     */
+    public int getArrangePasses() {
+        return this.arrangePasses;
+    }
+
+    /**
+     * Gets the number of passes that updated the ranges and the plot information of the axes.
+     */
+    public int getAxesUpdates() {
+        return this.axesUpdates;
+    }
+
+    /**
+     * Gets the number of passes that reused the ranges and the plot information of the axes.
+     */
+    public int getAxesUpdatesSkipped() {
+        return this.axesUpdatesSkipped;
+    }
+
+    /**
+     * Gets the number of times a series was arranged.
+     */
+    public int getSeriesArranges() {
+        return this.seriesArranges;
+    }
+
+    /**
+     * Gets the number of times a series kept its previous layout.
+     */
+    public int getSeriesArrangesSkipped() {
+        return this.seriesArrangesSkipped;
+    }
+
+    /**
+     * Gets the number of times the grid was arranged.
+     */
+    public int getGridArranges() {
+        return this.gridArranges;
+    }
+
+    /**
+     * Gets the number of times the grid kept its previous layout.
+     */
+    public int getGridArrangesSkipped() {
+        return this.gridArrangesSkipped;
+    }
+
+    /**
+     * Gets the number of times an annotation was arranged.
+     */
+    public int getAnnotationArranges() {
+        return this.annotationArranges;
+    }
+
+    /**
+     * Gets the number of times an annotation kept its previous layout.
+     */
+    public int getAnnotationArrangesSkipped() {
+        return this.annotationArrangesSkipped;
+    }
+
+    /**
+     * Gets the number of times a presenter updated its visuals after an arrange pass.
+     */
+    public int getPresenterUpdates() {
+        return this.presenterUpdates;
+    }
+
+    /**
+     * Gets the number of times a presenter kept its visuals because its element was not arranged.
+     */
+    public int getPresenterUpdatesSkipped() {
+        return this.presenterUpdatesSkipped;
+    }
+
+    /**
+     * Sets all counters to zero.
+     */
+    public void reset() {
+        this.arrangePasses = 0;
+        this.axesUpdates = 0;
+        this.axesUpdatesSkipped = 0;
+        this.seriesArranges = 0;
+        this.seriesArrangesSkipped = 0;
+        this.gridArranges = 0;
+        this.gridArrangesSkipped = 0;
+        this.annotationArranges = 0;
+        this.annotationArrangesSkipped = 0;
+        this.presenterUpdates = 0;
+        this.presenterUpdatesSkipped = 0;
+    }
+
+    /**
+     * Records that a presenter was or was not updated after an arrange pass.
+     * This method is used by the Chart engine and is not meant to be called by you.
+     *
+     * @param updated <code>true</code> if the presenter was updated, <code>false</code> if it was skipped.
+     */
+    public void recordPresenterUpdate(boolean updated) {
+        if (updated) {
+            this.presenterUpdates++;
+        } else {
+            this.presenterUpdatesSkipped++;
+        }
+    }
+
+    void recordArrangePass() {
+        this.arrangePasses++;
+    }
+
+    void recordAxesUpdate(boolean updated) {
+        if (updated) {
+            this.axesUpdates++;
+        } else {
+            this.axesUpdatesSkipped++;
+        }
+    }
+
+    void recordSeriesArrange(boolean arranged) {
+        if (arranged) {
+            this.seriesArranges++;
+        } else {
+            this.seriesArrangesSkipped++;
+        }
+    }
+
+    void recordGridArrange(boolean arranged) {
+        if (arranged) {
+            this.gridArranges++;
+        } else {
+            this.gridArrangesSkipped++;
+        }
+    }
+
+    void recordAnnotationArrange(boolean arranged) {
+        if (arranged) {
+            this.annotationArranges++;
+        } else {
+            this.annotationArrangesSkipped++;
+        }
+    }
+}
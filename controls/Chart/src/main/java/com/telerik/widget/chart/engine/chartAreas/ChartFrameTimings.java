@@ -0,0 +1,199 @@
+package com.telerik.widget.chart.engine.chartAreas;
+
+/**
+ * Accumulates the time spent in the stages that produce a frame of a chart, together with the number of points
+ * the frame was produced for. The timings are only recorded while they are enabled, which is the case while a
+ * {@link com.telerik.widget.chart.visualization.common.ChartFrameListener} is set to the chart. The chart reports
+ * them after each drawn frame and then calls {@link #reset()}, so each report covers the work since the previous
+ * frame. All durations are in nanoseconds.
+ */
+public class ChartFrameTimings {
+
+    private boolean enabled;
+
+    private long bindTime;
+    private long axesUpdateTime;
+    private long combineTime;
+    private long seriesArrangeTime;
+    private long arrangeTime;
+    private long uiUpdateTime;
+    private long drawTime;
+    private int boundPointsCount;
+    private int seriesCount;
+    private int pointsCount;
+    private int visiblePointsCount;
+
+    /**
+     * Gets a value indicating whether the timings are recorded.
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Sets a value indicating whether the timings are recorded.
+     * This method is used by the Chart engine and is not meant to be called by you.
+     *
+     * @param value <code>true</code> to record the timings, <code>false</code> otherwise.
+     */
+    public void setEnabled(boolean value) {
+        this.enabled = value;
+        this.reset();
+    }
+
+    /**
+     * Gets the time spent creating data points from the items of the data sources, including the part of
+     * an asynchronous binding that ran on a background thread.
+     */
+    public long getBindTime() {
+        return this.bindTime;
+    }
+
+    /**
+     * Gets the time spent updating the ranges and the plot information of the axes, which includes the time
+     * spent combining the stacked and clustered series.
+     */
+    public long getAxesUpdateTime() {
+        return this.axesUpdateTime;
+    }
+
+    /**
+     * Gets the time spent combining the stacked and clustered series.
+     */
+    public long getCombineTime() {
+        return this.combineTime;
+    }
+
+    /**
+     * Gets the time spent arranging the series.
+     */
+    public long getSeriesArrangeTime() {
+        return this.seriesArrangeTime;
+    }
+
+    /**
+     * Gets the time spent arranging the chart area, which includes the update of the axes and the arrange of the series.
+     */
+    public long getArrangeTime() {
+        return this.arrangeTime;
+    }
+
+    /**
+     * Gets the time the presenters spent updating their visuals after the chart area was arranged.
+     */
+    public long getUIUpdateTime() {
+        return this.uiUpdateTime;
+    }
+
+    /**
+     * Gets the time the presenters spent drawing the frame.
+     */
+    public long getDrawTime() {
+        return this.drawTime;
+    }
+
+    /**
+     * Gets the number of data points created by the bindings.
+     */
+    public int getBoundPointsCount() {
+        return this.boundPointsCount;
+    }
+
+    /**
+     * Gets the number of series in the chart when the frame was drawn.
+     */
+    public int getSeriesCount() {
+        return this.seriesCount;
+    }
+
+    /**
+     * Gets the number of data points of all series when the frame was drawn.
+     */
+    public int getPointsCount() {
+        return this.pointsCount;
+    }
+
+    /**
+     * Gets the number of data points of all series that were visible when the frame was drawn.
+     */
+    public int getVisiblePointsCount() {
+        return this.visiblePointsCount;
+    }
+
+    /**
+     * Sets all timings and counts to zero.
+     */
+    public void reset() {
+        this.bindTime = 0;
+        this.axesUpdateTime = 0;
+        this.combineTime = 0;
+        this.seriesArrangeTime = 0;
+        this.arrangeTime = 0;
+        this.uiUpdateTime = 0;
+        this.drawTime = 0;
+        this.boundPointsCount = 0;
+        this.seriesCount = 0;
+        this.pointsCount = 0;
+        this.visiblePointsCount = 0;
+    }
+
+    /**
+     * Records the binding of data points.
+     * This method is used by the Chart engine and is not meant to be called by you.
+     *
+     * @param time        the time spent creating the data points.
+     * @param pointsCount the number of created data points.
+     */
+    public void recordBind(long time, int pointsCount) {
+        this.bindTime += time;
+        this.boundPointsCount += pointsCount;
+    }
+
+    /**
+     * Records an arrange pass of the chart area.
+     * This method is used by the Chart engine and is not meant to be called by you.
+     *
+     * @param time the time spent arranging the chart area.
+     */
+    public void recordArrange(long time) {
+        this.arrangeTime += time;
+    }
+
+    /**
+     * Records an update of the visuals of the presenters.
+     * This method is used by the Chart engine and is not meant to be called by you.
+     *
+     * @param time the time spent updating the visuals.
+     */
+    public void recordUIUpdate(long time) {
+        this.uiUpdateTime += time;
+    }
+
+    /**
+     * Records the drawing of a frame together with the points it was drawn for.
+     * This method is used by the Chart engine and is not meant to be called by you.
+     *
+     * @param time               the time spent drawing.
+     * @param seriesCount        the number of series.
+     * @param pointsCount        the number of data points of all series.
+     * @param visiblePointsCount the number of visible data points of all series.
+     */
+    public void recordDraw(long time, int seriesCount, int pointsCount, int visiblePointsCount) {
+        this.drawTime += time;
+        this.seriesCount = seriesCount;
+        this.pointsCount = pointsCount;
+        this.visiblePointsCount = visiblePointsCount;
+    }
+
+    void recordAxesUpdate(long time) {
+        this.axesUpdateTime += time;
+    }
+
+    void recordCombine(long time) {
+        this.combineTime += time;
+    }
+
+    void recordSeriesArrange(long time) {
+        this.seriesArrangeTime += time;
+    }
+}
@@ -60,8 +60,14 @@ public class ChartPlotAreaModel extends ChartElement {
 
     @Override
     protected RadRect arrangeOverride(final RadRect rect) {
+        ChartArrangeCounters counters = this.chartArea.getArrangeCounters();
         for (ChartSeriesModel series : this.series) {
-            series.arrange(rect);
+            boolean arrange = this.chartArea.shouldArrangeSeries(series);
+            if (arrange) {
+                series.arrange(rect);
+            }
+
+            counters.recordSeriesArrange(arrange);
         }
 
         return rect;
@@ -40,7 +40,7 @@ public class CategoricalDataPoint extends CategoricalDataPointBase {
      * @param value the new value for the data point.
      */
     public void setValue(double value) {
-        this.setValue(VALUE_PROPERTY_KEY, value);
+        this.setDoubleValue(VALUE_PROPERTY_KEY, value);
     }
 
     @Override
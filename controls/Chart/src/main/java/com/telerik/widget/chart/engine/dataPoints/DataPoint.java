@@ -148,7 +148,7 @@ public abstract class DataPoint extends ChartNode {
      * @param value the new state of the point.
      */
     public void setIsSelected(boolean value) {
-        this.setValue(IS_SELECTED_PROPERTY_KEY, value);
+        this.setBooleanValue(IS_SELECTED_PROPERTY_KEY, value);
     }
 
     /**
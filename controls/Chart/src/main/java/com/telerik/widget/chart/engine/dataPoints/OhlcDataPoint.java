@@ -75,7 +75,7 @@ public class OhlcDataPoint extends CategoricalDataPointBase {
      * @param value the new high.
      */
     public void setHigh(double value) {
-        this.setValue(HIGH_PROPERTY_KEY, value);
+        this.setDoubleValue(HIGH_PROPERTY_KEY, value);
     }
 
     /**
@@ -93,7 +93,7 @@ public class OhlcDataPoint extends CategoricalDataPointBase {
      * @param value the new low.
      */
     public void setLow(double value) {
-        this.setValue(LOW_PROPERTY_KEY, value);
+        this.setDoubleValue(LOW_PROPERTY_KEY, value);
     }
 
     /**
@@ -111,7 +111,7 @@ public class OhlcDataPoint extends CategoricalDataPointBase {
      * @param value the new open.
      */
     public void setOpen(double value) {
-        this.setValue(OPEN_PROPERTY_KEY, value);
+        this.setDoubleValue(OPEN_PROPERTY_KEY, value);
     }
 
     /**
@@ -129,7 +129,7 @@ public class OhlcDataPoint extends CategoricalDataPointBase {
      * @param value the new close.
      */
     public void setClose(double value) {
-        this.setValue(CLOSE_PROPERTY_KEY, value);
+        this.setDoubleValue(CLOSE_PROPERTY_KEY, value);
     }
 
     public NumericalAxisOhlcPlotInfo getNumericalPlot() {
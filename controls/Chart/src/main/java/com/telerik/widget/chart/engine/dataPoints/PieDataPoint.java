@@ -34,7 +34,7 @@ public class PieDataPoint extends SingleValueDataPoint {
      * @return the offset from the center relative to the radius
      */
     public double getRelativeOffsetFromCenter() {
-        return this.getTypedValue(RELATIVE_OFFSET_FROM_CENTER_PROPERTY_KEY, 0D);
+        return this.getDoubleValue(RELATIVE_OFFSET_FROM_CENTER_PROPERTY_KEY, 0);
     }
 
     /**
@@ -50,7 +50,7 @@ public class PieDataPoint extends SingleValueDataPoint {
             throw new IllegalArgumentException("RelativeOffsetFromCenter is not valid! The possible values are in the [0, 1] interval.");
         }
 
-        this.setValue(RELATIVE_OFFSET_FROM_CENTER_PROPERTY_KEY, value);
+        this.setDoubleValue(RELATIVE_OFFSET_FROM_CENTER_PROPERTY_KEY, value);
     }
 
     /**
@@ -43,7 +43,7 @@ public class RangeDataPoint extends CategoricalDataPointBase {
      * @param value the new high.
      */
     public void setHigh(double value) {
-        this.setValue(HIGH_PROPERTY_KEY, value);
+        this.setDoubleValue(HIGH_PROPERTY_KEY, value);
     }
 
     /**
@@ -61,7 +61,7 @@ public class RangeDataPoint extends CategoricalDataPointBase {
      * @param value the new low.
      */
     public void setLow(double value) {
-        this.setValue(LOW_PROPERTY_KEY, value);
+        this.setDoubleValue(LOW_PROPERTY_KEY, value);
     }
 
     /**
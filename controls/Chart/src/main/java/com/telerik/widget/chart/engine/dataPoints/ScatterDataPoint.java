@@ -40,7 +40,7 @@ public class ScatterDataPoint extends DataPoint {
      * @param value the new x value.
      */
     public void setXValue(double value) {
-        this.setValue(X_VALUE_PROPERTY_KEY, value);
+        this.setDoubleValue(X_VALUE_PROPERTY_KEY, value);
     }
 
     /**
@@ -58,7 +58,7 @@ public class ScatterDataPoint extends DataPoint {
      * @param value the new y value.
      */
     public void setYValue(double value) {
-        this.setValue(Y_VALUE_PROPERTY_KEY, value);
+        this.setDoubleValue(Y_VALUE_PROPERTY_KEY, value);
     }
 
     /**
@@ -36,7 +36,7 @@ public abstract class SingleValueDataPoint extends DataPoint {
      * @param value the new value.
      */
     public void setValue(double value) {
-        this.setValue(VALUE_PROPERTY_KEY, value);
+        this.setDoubleValue(VALUE_PROPERTY_KEY, value);
     }
 
     @Override
@@ -18,6 +18,39 @@ public abstract class DataPointBinding {
      */
     public abstract Object getValue(Object instance) throws IllegalArgumentException;
 
+    /**
+     * Gets the value of the bound member as a double.
+     *
+     * @param instance holds the instance of the object that has its member bound.
+     * @return The value of the bound member or {@link Double#NaN} if the value is not a {@link Number}.
+     * @throws IllegalArgumentException if the name is not properly set or if there is no such
+     *                                  member in the passed instance Object.
+     */
+    public double getDoubleValue(Object instance) throws IllegalArgumentException {
+        Object value = this.getValue(instance);
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+
+        return Double.NaN;
+    }
+
+    /**
+     * Gets the value of the bound member as a long.
+     *
+     * @param instance holds the instance of the object that has its member bound.
+     * @return The value of the bound member.
+     * @throws IllegalArgumentException if the value of the bound member is not a {@link Number}.
+     */
+    public long getLongValue(Object instance) throws IllegalArgumentException {
+        Object value = this.getValue(instance);
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+
+        throw new IllegalArgumentException(value + " is not a valid value. Use only valid Numbers.");
+    }
+
     // TODO
     /// <summary>
     /// Raises the <see cref="PropertyChanged"/> event.
@@ -1,7 +1,5 @@
 package com.telerik.widget.chart.engine.databinding;
 
-import java.lang.reflect.Field;
-
 /**
  * This class uses reflection to extract values from public fields.
  * This class is used in RadChartView's data binding mechanism.
@@ -43,12 +41,15 @@ public class FieldNameDataPointBinding extends ReflectiveDataPointBinding {
     protected Object getMemberValue(Object instance) {
         Object result = null;
         try {
-            Field getter = instance.getClass().getDeclaredField(this.getFieldName());
-            getter.setAccessible(true);
-            result = getter.get(instance);
+            result = this.getAccessor(instance.getClass()).getValue(instance);
         } catch (Exception e) {
             throw new Error(e);
         }
         return result;
     }
+
+    @Override
+    protected MemberAccessor resolveAccessor(Class<?> type) throws Exception {
+        return MemberAccessor.getFieldAccessor(type, this.getFieldName());
+    }
 }
@@ -0,0 +1,211 @@
+package com.telerik.widget.chart.engine.databinding;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Represents a resolved accessor of a member of a given type. Accessors are resolved once per
+ * (type, member name) pair and are cached so that the data binding mechanism does not have to
+ * perform a reflective lookup for every bound data item.
+ *
+ * @see ReflectiveDataPointBinding
+ */
+public abstract class MemberAccessor {
+
+    private static final Map<Class<?>, Map<String, MemberAccessor>> propertyAccessors = new HashMap<Class<?>, Map<String, MemberAccessor>>(16);
+    private static final Map<Class<?>, Map<String, MemberAccessor>> fieldAccessors = new HashMap<Class<?>, Map<String, MemberAccessor>>(16);
+
+    private final Class<?> declaringType;
+    private final Class<?> valueType;
+
+    /**
+     * Creates an instance of the {@link MemberAccessor} class.
+     *
+     * @param declaringType the type the accessor has been resolved for.
+     * @param valueType     the type of the value the accessor returns.
+     */
+    protected MemberAccessor(Class<?> declaringType, Class<?> valueType) {
+        this.declaringType = declaringType;
+        this.valueType = valueType;
+    }
+
+    /**
+     * Gets the cached accessor for the public getter <code>get + propertyName</code> of the given type.
+     * The getter is resolved on the first request only.
+     *
+     * @param type         the type that declares the property.
+     * @param propertyName the name of the property.
+     * @return the accessor of the property.
+     * @throws NoSuchMethodException if the type does not have such getter.
+     */
+    public static MemberAccessor getPropertyAccessor(Class<?> type, String propertyName) throws NoSuchMethodException {
+        synchronized (propertyAccessors) {
+            Map<String, MemberAccessor> accessors = getAccessors(propertyAccessors, type);
+            MemberAccessor accessor = accessors.get(propertyName);
+            if (accessor == null) {
+                final String get = "get";
+                accessor = new MethodAccessor(type, type.getMethod(get.concat(propertyName)));
+                accessors.put(propertyName, accessor);
+            }
+
+            return accessor;
+        }
+    }
+
+    /**
+     * Gets the cached accessor for the field with the given name declared by the given type.
+     * The field is resolved on the first request only.
+     *
+     * @param type      the type that declares the field.
+     * @param fieldName the name of the field.
+     * @return the accessor of the field.
+     * @throws NoSuchFieldException if the type does not declare such field.
+     */
+    public static MemberAccessor getFieldAccessor(Class<?> type, String fieldName) throws NoSuchFieldException {
+        synchronized (fieldAccessors) {
+            Map<String, MemberAccessor> accessors = getAccessors(fieldAccessors, type);
+            MemberAccessor accessor = accessors.get(fieldName);
+            if (accessor == null) {
+                Field field = type.getDeclaredField(fieldName);
+                field.setAccessible(true);
+                accessor = new FieldAccessor(type, field);
+                accessors.put(fieldName, accessor);
+            }
+
+            return accessor;
+        }
+    }
+
+    /**
+     * Gets the type this accessor has been resolved for.
+     *
+     * @return the declaring type.
+     */
+    public Class<?> getDeclaringType() {
+        return this.declaringType;
+    }
+
+    /**
+     * Gets the type of the values returned by this accessor.
+     *
+     * @return the value type.
+     */
+    public Class<?> getValueType() {
+        return this.valueType;
+    }
+
+    /**
+     * Gets the value of the member for the given instance.
+     *
+     * @param instance the instance to get the value from.
+     * @return the value of the member.
+     * @throws Exception if the value cannot be obtained.
+     */
+    public abstract Object getValue(Object instance) throws Exception;
+
+    /**
+     * Gets the value of the member as a double.
+     *
+     * @param instance the instance to get the value from.
+     * @return the value of the member or {@link Double#NaN} if the value is not a {@link Number}.
+     * @throws Exception if the value cannot be obtained.
+     */
+    public double getDouble(Object instance) throws Exception {
+        Object value = this.getValue(instance);
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+
+        return Double.NaN;
+    }
+
+    /**
+     * Gets the value of the member as a long.
+     *
+     * @param instance the instance to get the value from.
+     * @return the value of the member.
+     * @throws Exception if the value cannot be obtained.
+     * @throws IllegalArgumentException if the value is not a {@link Number}.
+     */
+    public long getLong(Object instance) throws Exception {
+        Object value = this.getValue(instance);
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+
+        throw new IllegalArgumentException(value + " is not a valid value. Use only valid Numbers.");
+    }
+
+    private static Map<String, MemberAccessor> getAccessors(Map<Class<?>, Map<String, MemberAccessor>> cache, Class<?> type) {
+        Map<String, MemberAccessor> accessors = cache.get(type);
+        if (accessors == null) {
+            accessors = new HashMap<String, MemberAccessor>(4);
+            cache.put(type, accessors);
+        }
+
+        return accessors;
+    }
+
+    private static boolean isFloatingPoint(Class<?> type) {
+        return type == double.class || type == float.class;
+    }
+
+    private static boolean isIntegral(Class<?> type) {
+        return type == long.class || type == int.class || type == short.class || type == byte.class || type == char.class;
+    }
+
+    private static class MethodAccessor extends MemberAccessor {
+        private final Method getter;
+
+        MethodAccessor(Class<?> declaringType, Method getter) {
+            super(declaringType, getter.getReturnType());
+
+            this.getter = getter;
+        }
+
+        @Override
+        public Object getValue(Object instance) throws Exception {
+            return this.getter.invoke(instance);
+        }
+    }
+
+    private static class FieldAccessor extends MemberAccessor {
+        private final Field field;
+        private final boolean isFloatingPoint;
+        private final boolean isIntegral;
+
+        FieldAccessor(Class<?> declaringType, Field field) {
+            super(declaringType, field.getType());
+
+            this.field = field;
+            this.isFloatingPoint = isFloatingPoint(field.getType());
+            this.isIntegral = isIntegral(field.getType());
+        }
+
+        @Override
+        public Object getValue(Object instance) throws Exception {
+            return this.field.get(instance);
+        }
+
+        @Override
+        public double getDouble(Object instance) throws Exception {
+            // Primitive fields are read directly to avoid boxing the value.
+            if (this.isFloatingPoint || this.isIntegral) {
+                return this.field.getDouble(instance);
+            }
+
+            return super.getDouble(instance);
+        }
+
+        @Override
+        public long getLong(Object instance) throws Exception {
+            if (this.isIntegral) {
+                return this.field.getLong(instance);
+            }
+
+            return super.getLong(instance);
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package com.telerik.widget.chart.engine.databinding;
 
-import java.lang.reflect.Method;
-
 /**
  * This class uses reflection to get the value of a field that has a public getter.
  *
@@ -44,12 +42,15 @@ public class PropertyNameDataPointBinding extends ReflectiveDataPointBinding {
     protected Object getMemberValue(Object instance) {
         Object result = null;
         try {
-            final String get = "get";
-            Method getter = instance.getClass().getMethod(get.concat(this.getPropertyName()));
-            result = getter.invoke(instance);
+            result = this.getAccessor(instance.getClass()).getValue(instance);
         } catch (Exception e) {
             throw new Error(e);
         }
         return result;
     }
-}
\ No newline at end of file
+
+    @Override
+    protected MemberAccessor resolveAccessor(Class<?> type) throws Exception {
+        return MemberAccessor.getPropertyAccessor(type, this.getPropertyName());
+    }
+}
@@ -13,6 +13,11 @@ public abstract class ReflectiveDataPointBinding extends DataPointBinding {
      */
     private String name;
 
+    /**
+     * The accessor resolved for the type of the last bound instance.
+     */
+    private MemberAccessor accessor;
+
     /**
      * Creates an instance of the {@link ReflectiveDataPointBinding} class.
      *
@@ -47,6 +52,7 @@ public abstract class ReflectiveDataPointBinding extends DataPointBinding {
         }
 
         this.name = value;
+        this.accessor = null;
 
         return true;
     }
@@ -68,6 +74,86 @@ public abstract class ReflectiveDataPointBinding extends DataPointBinding {
         }
     }
 
+    @SuppressLint("all")
+    @Override
+    public double getDoubleValue(Object instance) throws IllegalArgumentException {
+        if (instance == null) {
+            throw new IllegalArgumentException("instance cannot be null");
+        }
+
+        MemberAccessor accessor = this.getAccessor(instance.getClass());
+        if (accessor == null) {
+            return super.getDoubleValue(instance);
+        }
+
+        try {
+            return accessor.getDouble(instance);
+        } catch (Exception ex) {
+            throw new IllegalArgumentException(String.format(
+                    "Reflection failed for argument and property name. Reflection exception: %s",
+                    ex.toString()));
+        }
+    }
+
+    @SuppressLint("all")
+    @Override
+    public long getLongValue(Object instance) throws IllegalArgumentException {
+        if (instance == null) {
+            throw new IllegalArgumentException("instance cannot be null");
+        }
+
+        MemberAccessor accessor = this.getAccessor(instance.getClass());
+        if (accessor == null) {
+            return super.getLongValue(instance);
+        }
+
+        try {
+            return accessor.getLong(instance);
+        } catch (IllegalArgumentException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new IllegalArgumentException(String.format(
+                    "Reflection failed for argument and property name. Reflection exception: %s",
+                    ex.toString()));
+        }
+    }
+
+    /**
+     * Gets the accessor of the bound member for the given type. The accessor is resolved once per
+     * type and member name and is reused for all subsequent instances of the same type.
+     *
+     * @param type the type of the bound instance.
+     * @return the accessor of the bound member or <code>null</code> if this binding does not use accessors.
+     */
+    protected MemberAccessor getAccessor(Class<?> type) {
+        // Read the field once, the accessor carries the type it was resolved for.
+        MemberAccessor current = this.accessor;
+        if (current != null && current.getDeclaringType() == type) {
+            return current;
+        }
+
+        try {
+            current = this.resolveAccessor(type);
+        } catch (Exception e) {
+            throw new Error(e);
+        }
+
+        this.accessor = current;
+        return current;
+    }
+
+    /**
+     * Resolves the accessor of the bound member for the given type. Inheritors that do not use
+     * {@link MemberAccessor} instances may return <code>null</code>.
+     *
+     * @param type the type of the bound instance.
+     * @return the resolved accessor.
+     * @throws Exception if the member cannot be resolved.
+     */
+    protected MemberAccessor resolveAccessor(Class<?> type) throws Exception {
+        return null;
+    }
+
     /**
      * Gets the value of the bound member using reflection.
      *
@@ -35,6 +35,14 @@ public class CategoricalBubbleSeriesDataSource extends CategoricalSeriesDataSour
         }
     }
 
+    /**
+     * Columnar items sources have no bubble size column, so bubble series are bound to item objects only.
+     */
+    @Override
+    public boolean supportsColumnarData() {
+        return false;
+    }
+
     @Override
     protected DataPoint createDataPoint() {
         return new CategoricalBubbleDataPoint();
@@ -46,9 +54,9 @@ public class CategoricalBubbleSeriesDataSource extends CategoricalSeriesDataSour
 
         CategoricalBubbleDataPoint point = (CategoricalBubbleDataPoint) binding.getDataPoint();
         if(this.bubbleSizeBinding != null) {
-            Object sizeValue = this.bubbleSizeBinding.getValue(binding.getDataItem());
-            if(sizeValue instanceof Number) {
-                point.setSize(((Number) sizeValue).doubleValue());
+            double sizeValue = this.bubbleSizeBinding.getDoubleValue(binding.getDataItem());
+            if(!Double.isNaN(sizeValue)) {
+                point.setSize(sizeValue);
             }
         }
     }
@@ -5,6 +5,7 @@ import android.graphics.Point;
 import com.telerik.android.common.math.RadSize;
 import com.telerik.widget.chart.engine.dataPoints.CategoricalDataPoint;
 import com.telerik.widget.chart.engine.dataPoints.DataPoint;
+import com.telerik.widget.chart.engine.dataPoints.DataPointCollection;
 import com.telerik.widget.chart.engine.databinding.DataPointBinding;
 import com.telerik.widget.chart.engine.databinding.DataPointBindingEntry;
 import com.telerik.widget.chart.engine.series.ChartSeriesModel;
@@ -55,10 +56,10 @@ public class CategoricalSeriesDataSource extends CategoricalSeriesDataSourceBase
     protected void initializeBinding(DataPointBindingEntry binding) {
         if (this.valueBinding != null) {
 
-            Object value = this.valueBinding.getValue(binding.getDataItem());
+            double value = this.valueBinding.getDoubleValue(binding.getDataItem());
 
-            if (value instanceof Number) {
-                ((CategoricalDataPoint) binding.getDataPoint()).setValue(((Number) value).doubleValue());
+            if (!Double.isNaN(value)) {
+                ((CategoricalDataPoint) binding.getDataPoint()).setValue(value);
             }
         }
 
@@ -70,6 +71,35 @@ public class CategoricalSeriesDataSource extends CategoricalSeriesDataSourceBase
         return new CategoricalDataPoint();
     }
 
+    @Override
+    public boolean supportsColumnarData() {
+        return true;
+    }
+
+    @Override
+    protected void bindColumns(ColumnarItemsSource source) {
+        double[] values = source.getValues();
+        if (values == null) {
+            throw new IllegalArgumentException("The values column of the items source must be set.");
+        }
+
+        int length = source.getLength();
+        DataPointCollection dataPoints = this.owner.dataPoints();
+        dataPoints.ensureCapacity(dataPoints.size() + length);
+
+        for (int i = 0; i < length; i++) {
+            CategoricalDataPoint point = (CategoricalDataPoint) this.createDataPoint();
+            point.setValue(values[i]);
+
+            Object category = source.getCategory(i);
+            if (category != null) {
+                point.setCategory(category);
+            }
+
+            dataPoints.add(point);
+        }
+    }
+
     @Override
     protected void processDouble(DataPoint point, double value) {
         ((CategoricalDataPoint) point).setValue(value);
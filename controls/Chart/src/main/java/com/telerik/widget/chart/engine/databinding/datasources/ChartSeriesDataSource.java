@@ -1,13 +1,18 @@
 package com.telerik.widget.chart.engine.databinding.datasources;
 
 import android.graphics.Point;
+import android.os.AsyncTask;
 
+import com.telerik.android.common.CollectionChangeAction;
 import com.telerik.android.common.CollectionChangeListener;
 import com.telerik.android.common.CollectionChangedEvent;
 import com.telerik.android.common.ObservableCollection;
 import com.telerik.android.common.math.RadSize;
+import com.telerik.widget.chart.engine.chartAreas.ChartAreaModel;
+import com.telerik.widget.chart.engine.chartAreas.ChartFrameTimings;
 import com.telerik.widget.chart.engine.dataPoints.DataPoint;
 import com.telerik.widget.chart.engine.databinding.DataPointBindingEntry;
+import com.telerik.widget.chart.engine.elementTree.ChartAreaInvalidateFlags;
 import com.telerik.widget.chart.engine.series.ChartSeriesModel;
 import com.telerik.widget.chart.visualization.common.ChartSeries;
 
@@ -15,7 +20,12 @@ import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 
 /**
  * This is a base class for all data source classes used by the varieties of charts to hold
@@ -26,9 +36,25 @@ public abstract class ChartSeriesDataSource implements PropertyChangeListener, C
     protected Iterable itemsSource;
     protected ChartSeriesModel owner;
     protected ArrayList<DataPointBindingEntry> bindings;
+    private IdentityHashMap<Object, DataPointBindingEntry> bindingsByItem;
     private LinkedList<DataBindingListener> propertyChangeListeners;
     protected boolean dataChangeScheduled;
 
+    private boolean coalescePropertyChanges;
+    private boolean propertyChangesFlushScheduled;
+    private LinkedHashMap<DataPointBindingEntry, PropertyChangeEvent> pendingPropertyChanges;
+    private BindTask pendingBindTask;
+
+    private int windowCapacity;
+    // The number of leading items of the items source that are not shown by the sliding window.
+    private int windowStart;
+    private final Runnable flushPropertyChangesAction = new Runnable() {
+        @Override
+        public void run() {
+            flushPropertyChanges();
+        }
+    };
+
     /**
      * Initializes a new instance of the {@link ChartSeriesDataSource} class.
      *
@@ -41,6 +67,8 @@ public abstract class ChartSeriesDataSource implements PropertyChangeListener, C
         }
 
         this.bindings = new ArrayList<DataPointBindingEntry>(8);
+        this.bindingsByItem = new IdentityHashMap<Object, DataPointBindingEntry>(8);
+        this.pendingPropertyChanges = new LinkedHashMap<DataPointBindingEntry, PropertyChangeEvent>(8);
         this.propertyChangeListeners = new LinkedList<DataBindingListener>();
 
         this.owner = owner;
@@ -88,9 +116,114 @@ public abstract class ChartSeriesDataSource implements PropertyChangeListener, C
      * @param value the new items source.
      */
     public void setItemsSource(Iterable value) {
+        if (value instanceof ColumnarItemsSource && !this.supportsColumnarData()) {
+            throw new IllegalArgumentException(String.format("%s does not support columnar items sources.", this.getClass().getSimpleName()));
+        }
+
         this.rebind(true, value);
     }
 
+    /**
+     * Gets a value indicating whether this data source can populate its data points from the columns of a
+     * {@link ColumnarItemsSource}.
+     *
+     * @return <code>true</code> if columnar items sources are supported, <code>false</code> otherwise.
+     */
+    public boolean supportsColumnarData() {
+        return false;
+    }
+
+    /**
+     * Gets a value indicating whether property changes of bound items are coalesced. When enabled,
+     * all changes raised before the next frame are applied together and cause a single
+     * re-layout of the chart. Only the last change of each item is reported to the
+     * {@link DataBindingListener} instances.
+     *
+     * @return <code>true</code> if property changes are coalesced, <code>false</code> otherwise.
+     */
+    public boolean getCoalescePropertyChanges() {
+        return this.coalescePropertyChanges;
+    }
+
+    /**
+     * Sets a value indicating whether property changes of bound items are coalesced.
+     *
+     * @param value <code>true</code> to coalesce property changes, <code>false</code> otherwise.
+     */
+    public void setCoalescePropertyChanges(boolean value) {
+        if (this.coalescePropertyChanges == value) {
+            return;
+        }
+
+        this.coalescePropertyChanges = value;
+        if (!value) {
+            this.flushPropertyChanges();
+        }
+    }
+
+    /**
+     * Gets the maximum number of data points created for the items source or 0 if all items are shown.
+     *
+     * @return the capacity of the sliding window.
+     */
+    public int getWindowCapacity() {
+        return this.windowCapacity;
+    }
+
+    /**
+     * Sets the maximum number of data points created for the items source. When the items exceed it, only the
+     * last ones are shown and appending an item to an {@link ObservableCollection} removes the data point of
+     * the oldest one, so the series can display the latest values of a live feed. The items that are no longer
+     * shown can stay in the items source or be removed from its start. Removing points from the start of the
+     * window does not reset the data of the series and does not update the indexes of the remaining points, so
+     * the axes and renderers only drop the removed points and add the appended ones. The lists of the points and
+     * their bindings still move the references of the remaining points once per removal. Indicator data sources
+     * compute each value from all preceding items and do not support a sliding window.
+     *
+     * @param value the capacity of the sliding window or 0 to show all items.
+     */
+    public void setWindowCapacity(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("value cannot be negative");
+        }
+
+        if (this.windowCapacity == value) {
+            return;
+        }
+
+        this.windowCapacity = value;
+        if (this.itemsSource != null) {
+            this.rebind(false, null);
+        }
+    }
+
+    /**
+     * Applies all pending coalesced property changes of bound items.
+     */
+    public void flushPropertyChanges() {
+        this.propertyChangesFlushScheduled = false;
+        if (this.pendingPropertyChanges.size() == 0) {
+            return;
+        }
+
+        ChartAreaModel chartArea = this.owner.chartArea();
+        if (chartArea != null) {
+            chartArea.beginUpdate();
+        }
+
+        try {
+            for (Map.Entry<DataPointBindingEntry, PropertyChangeEvent> change : this.pendingPropertyChanges.entrySet()) {
+                this.onBoundItemPropertyChanged(change.getKey(), change.getValue());
+            }
+        } finally {
+            this.pendingPropertyChanges.clear();
+
+            if (chartArea != null) {
+                chartArea.endUpdate(true);
+            }
+        }
+    }
+
     /**
      * Gets the binding entries corresponding to each data point in the data source.
      *
@@ -107,21 +240,146 @@ public abstract class ChartSeriesDataSource implements PropertyChangeListener, C
      * @param newSource          the new source to be bound.
      */
     protected void rebind(boolean itemsSourceChanged, Iterable newSource) {
+        this.cancelPendingBind();
+
+        if (this.canBindAsynchronously(itemsSourceChanged ? newSource : this.itemsSource)) {
+            // The current data points are shown until the new ones are created, only the old items are no longer tracked.
+            this.unhookItems();
+            this.pendingPropertyChanges.clear();
+            this.updateItemsSource(itemsSourceChanged, newSource);
+            this.bindAsynchronously();
+            return;
+        }
+
+        ChartFrameTimings timings = this.getFrameTimings();
+        long start = timings != null ? System.nanoTime() : 0;
+
         this.unbind();
+        this.updateItemsSource(itemsSourceChanged, newSource);
+        this.bind();
+
+        if (timings != null) {
+            timings.recordBind(System.nanoTime() - start, this.owner.dataPoints().size());
+        }
 
-        if (itemsSourceChanged) {
-            if(this.itemsSource instanceof ObservableCollection) {
-                ((ObservableCollection)this.itemsSource).removeCollectionChangeListener(this);
+        for (DataBindingListener listener : this.propertyChangeListeners) {
+            listener.onDataBindingComplete();
+        }
+    }
+
+    /**
+     * Gets a value indicating whether the data points of the current items source are being created on a background thread.
+     *
+     * @return <code>true</code> if an asynchronous binding is in progress, <code>false</code> otherwise.
+     */
+    public boolean isBindingPending() {
+        return this.pendingBindTask != null;
+    }
+
+    /**
+     * Gets a value indicating whether the data points of this data source can be created on a background thread,
+     * which is the case when each data point depends only on its own data item.
+     *
+     * @return <code>true</code> if the data source supports asynchronous binding, <code>false</code> otherwise.
+     */
+    protected boolean supportsAsynchronousBinding() {
+        return true;
+    }
+
+    private boolean canBindAsynchronously(Iterable source) {
+        if (source == null || source instanceof ColumnarItemsSource || !this.supportsAsynchronousBinding()) {
+            return false;
+        }
+
+        Object presenter = this.owner.getPresenter();
+        return presenter instanceof ChartSeries && ((ChartSeries) presenter).getChart() != null &&
+                ((ChartSeries) presenter).getChart().isAsyncDataBinding();
+    }
+
+    private void updateItemsSource(boolean itemsSourceChanged, Iterable newSource) {
+        if (!itemsSourceChanged) {
+            return;
+        }
+
+        if(this.itemsSource instanceof ObservableCollection) {
+            ((ObservableCollection)this.itemsSource).removeCollectionChangeListener(this);
+        }
+
+        this.itemsSource = newSource;
+
+        if (newSource instanceof ObservableCollection) {
+            ((ObservableCollection) newSource).addCollectionChangeListener(this);
+        }
+    }
+
+    private void bindAsynchronously() {
+        // The items are copied on the UI thread, so the source can be modified while the data points are created.
+        int windowStart = this.getItemsBeforeWindow(this.itemsSource);
+        ArrayList<Object> items = new ArrayList<Object>();
+        int index = 0;
+        for (Object item : this.itemsSource) {
+            if (index++ >= windowStart) {
+                items.add(item);
             }
+        }
+
+        this.pendingBindTask = new BindTask(items, windowStart);
+        this.pendingBindTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+    }
 
-            this.itemsSource = newSource;
+    private ChartFrameTimings getFrameTimings() {
+        ChartAreaModel chartArea = this.owner.chartArea();
+        return chartArea != null && chartArea.getFrameTimings().isEnabled() ? chartArea.getFrameTimings() : null;
+    }
+
+    private void cancelPendingBind() {
+        if (this.pendingBindTask == null) {
+            return;
+        }
 
-            if (newSource instanceof ObservableCollection) {
-                ((ObservableCollection) newSource).addCollectionChangeListener(this);
+        this.pendingBindTask.cancel(false);
+        this.pendingBindTask = null;
+    }
+
+    private void completeBind(BindTask task) {
+        if (this.pendingBindTask != task) {
+            return;
+        }
+
+        this.pendingBindTask = null;
+
+        ChartFrameTimings timings = this.getFrameTimings();
+        long start = timings != null ? System.nanoTime() : 0;
+
+        ChartAreaModel chartArea = this.owner.chartArea();
+        if (chartArea != null) {
+            chartArea.beginUpdate();
+        }
+
+        try {
+            this.unbind();
+
+            for (DataPoint point : task.points) {
+                this.owner.dataPoints().add(point);
+            }
+
+            for (DataPointBindingEntry binding : task.bindings) {
+                this.bindings.add(binding);
+                this.bindingsByItem.put(binding.getDataItem(), binding);
+                this.hookPropertyChanged(binding.getDataItem());
+            }
+
+            this.windowStart = task.windowStart;
+            this.trimToWindow();
+        } finally {
+            if (chartArea != null) {
+                chartArea.endUpdate(true);
             }
         }
 
-        this.bind();
+        if (timings != null) {
+            timings.recordBind(task.backgroundTime + System.nanoTime() - start, task.points.size());
+        }
 
         for (DataBindingListener listener : this.propertyChangeListeners) {
             listener.onDataBindingComplete();
@@ -179,12 +437,31 @@ public abstract class ChartSeriesDataSource implements PropertyChangeListener, C
      * Binds the items source entries to the owners data points.
      */
     protected void bindCore() {
+        // skip the items that do not fit in the sliding window instead of creating their data points
+        this.windowStart = this.getItemsBeforeWindow(this.itemsSource);
+
+        int index = 0;
         for (Object item : this.itemsSource) {
+            if (index++ < this.windowStart) {
+                continue;
+            }
+
             DataPoint point = this.generateDataPoint(item, -1);
             this.owner.dataPoints().add(point);
         }
     }
 
+    /**
+     * Binds the columns of a {@link ColumnarItemsSource} to the owners data points. Data sources
+     * that support columnar data override this method together with {@link #supportsColumnarData()} and
+     * populate the data points directly from the columns.
+     *
+     * @param source the columnar items source.
+     */
+    protected void bindColumns(ColumnarItemsSource source) {
+        throw new IllegalArgumentException(String.format("%s does not support columnar items sources.", this.getClass().getSimpleName()));
+    }
+
     /**
      * Generates a {@link DataPoint} instance of type corresponding to the type of the current chart
      * instance and handles the assignment from the data item to the newly generated data point.
@@ -199,6 +476,29 @@ public abstract class ChartSeriesDataSource implements PropertyChangeListener, C
             return point;
         }
 
+        DataPointBindingEntry binding = this.initializeDataPoint(point, dataItem);
+        if (binding != null) {
+            if (index == -1) {
+                this.bindings.add(binding);
+            } else {
+                this.bindings.add(index, binding);
+            }
+
+            this.bindingsByItem.put(dataItem, binding);
+
+            this.hookPropertyChanged(dataItem);
+        }
+
+        return point;
+    }
+
+    /**
+     * Assigns the values of the given data item to the given data point.
+     *
+     * @return the binding of the data point or <code>null</code> if the item is a value that does not need a binding.
+     */
+    private DataPointBindingEntry initializeDataPoint(DataPoint point, Object dataItem) {
+        DataPointBindingEntry binding = null;
         if (dataItem instanceof Number) {
             this.processDouble(point, ((Number) dataItem).doubleValue());
         } else if (dataItem instanceof double[]) {
@@ -208,21 +508,12 @@ public abstract class ChartSeriesDataSource implements PropertyChangeListener, C
         } else if (dataItem instanceof Point) {
             this.processPoint(point, (Point) dataItem);
         } else {
-            DataPointBindingEntry binding = new DataPointBindingEntry(dataItem, point);
-
+            binding = new DataPointBindingEntry(dataItem, point);
             this.initializeBinding(binding);
-
-            if (index == -1) {
-                this.bindings.add(binding);
-            } else {
-                this.bindings.add(index, binding);
-            }
-
-            this.hookPropertyChanged(dataItem);
         }
 
         point.setDataItem(dataItem);
-        return point;
+        return binding;
     }
 
     /**
@@ -231,13 +522,34 @@ public abstract class ChartSeriesDataSource implements PropertyChangeListener, C
      * @param event the instance containing the change event data.
      */
     public void propertyChange(PropertyChangeEvent event) {
-        DataPointBindingEntry binding = this.findBinding(event.getSource());
-        if (binding != null) {
-            this.updateBinding(binding);
+        DataPointBindingEntry binding = this.bindingsByItem.get(event.getSource());
+        if (binding == null) {
+            return;
+        }
 
-            for (DataBindingListener listener : this.propertyChangeListeners) {
-                listener.onBoundItemPropertyChanged(binding, event);
-            }
+        if (!this.coalescePropertyChanges) {
+            this.onBoundItemPropertyChanged(binding, event);
+            return;
+        }
+
+        this.pendingPropertyChanges.put(binding, event);
+        if (!this.propertyChangesFlushScheduled) {
+            this.propertyChangesFlushScheduled = true;
+            this.schedulePropertyChangesFlush();
+        }
+    }
+
+    /**
+     * Updates the given binding and notifies the listeners about the change.
+     *
+     * @param binding the binding of the changed item.
+     * @param event   the change event data.
+     */
+    protected void onBoundItemPropertyChanged(DataPointBindingEntry binding, PropertyChangeEvent event) {
+        this.updateBinding(binding);
+
+        for (DataBindingListener listener : this.propertyChangeListeners) {
+            listener.onBoundItemPropertyChanged(binding, event);
         }
     }
 
@@ -254,14 +566,13 @@ public abstract class ChartSeriesDataSource implements PropertyChangeListener, C
      * Unbinds the current items source.
      */
     protected void unbind() {
-        if (this.itemsSource != null) {
-            for (Object item : this.itemsSource) {
-                this.unhookPropertyChanged(item);
-            }
-        }
+        this.unhookItems();
 
         this.bindings.clear();
+        this.bindingsByItem.clear();
+        this.pendingPropertyChanges.clear();
         this.owner.dataPoints().clear();
+        this.windowStart = 0;
     }
 
     /**
@@ -271,7 +582,69 @@ public abstract class ChartSeriesDataSource implements PropertyChangeListener, C
         if (this.itemsSource == null)
             return;
 
-        this.bindCore();
+        if (this.itemsSource instanceof ColumnarItemsSource) {
+            this.bindColumns((ColumnarItemsSource) this.itemsSource);
+        } else {
+            this.bindCore();
+        }
+
+        this.trimToWindow();
+    }
+
+    private int getItemsBeforeWindow(Iterable source) {
+        if (this.windowCapacity == 0 || !(source instanceof Collection)) {
+            return 0;
+        }
+
+        return Math.max(0, ((Collection) source).size() - this.windowCapacity);
+    }
+
+    /**
+     * Removes the data points of the oldest items that exceed the capacity of the sliding window.
+     */
+    private void trimToWindow() {
+        int excess = this.windowCapacity == 0 ? 0 : this.owner.dataPoints().size() - this.windowCapacity;
+        if (excess > 0) {
+            this.removeFirstPoints(excess);
+            this.windowStart += excess;
+        }
+    }
+
+    /**
+     * Removes the given number of data points from the start of the series together with their bindings.
+     */
+    private void removeFirstPoints(int count) {
+        List points = this.owner.dataPoints();
+
+        // the bindings are in the order of the points, so the ones of the removed points are usually at the start
+        int leadingBindings = 0;
+        for (int i = 0; i < count; i++) {
+            Object item = ((DataPoint) points.get(i)).getDataItem();
+            DataPointBindingEntry binding = item == null ? null : this.bindingsByItem.get(item);
+            if (binding == null) {
+                continue;
+            }
+
+            this.unhookPropertyChanged(item);
+            if (leadingBindings < this.bindings.size() && this.bindings.get(leadingBindings) == binding) {
+                leadingBindings++;
+            } else {
+                this.bindings.remove(binding);
+            }
+
+            this.removeBinding(binding);
+        }
+        this.bindings.subList(0, leadingBindings).clear();
+
+        this.owner.removeFirstDataPoints(count);
+    }
+
+    private void unhookItems() {
+        if (this.itemsSource != null && !(this.itemsSource instanceof ColumnarItemsSource)) {
+            for (Object item : this.itemsSource) {
+                this.unhookPropertyChanged(item);
+            }
+        }
     }
 
     private void hookPropertyChanged(Object item) {
@@ -288,17 +661,30 @@ public abstract class ChartSeriesDataSource implements PropertyChangeListener, C
         }
     }
 
-    private DataPointBindingEntry findBinding(Object changedInstance) {
-        for (DataPointBindingEntry binding : this.bindings) {
-            if (changedInstance == binding.getDataItem()) {
-                return binding;
-            }
+    private void schedulePropertyChangesFlush() {
+        Object presenter = this.owner.getPresenter();
+        if (presenter instanceof ChartSeries && ((ChartSeries) presenter).getChart() != null) {
+            ((ChartSeries) presenter).getChart().post(this.flushPropertyChangesAction);
+        } else {
+            this.flushPropertyChanges();
+        }
+    }
+
+    private void removeBinding(DataPointBindingEntry binding) {
+        if (this.bindingsByItem.get(binding.getDataItem()) == binding) {
+            this.bindingsByItem.remove(binding.getDataItem());
         }
 
-        return null;
+        this.pendingPropertyChanges.remove(binding);
     }
 
     public void collectionChanged(CollectionChangedEvent e) {
+        if (this.pendingBindTask != null) {
+            // the items copied by the pending binding are outdated, so start over with the current ones
+            this.rebind(false, null);
+            return;
+        }
+
         switch (e.action()) {
             case RESET:
                 this.rebind(false, null);
@@ -317,48 +703,176 @@ public abstract class ChartSeriesDataSource implements PropertyChangeListener, C
                 break;
         }
 
-        if (!this.dataChangeScheduled)
-            ((ChartSeries) this.owner.getPresenter()).getChart().requestInvalidateArrange();
+        // The modified series invalidates itself, so only a reset needs the whole chart to be arranged again.
+        Object presenter = this.owner.getPresenter();
+        if (!this.dataChangeScheduled && presenter instanceof ChartSeries && ((ChartSeries) presenter).getChart() != null)
+            ((ChartSeries) presenter).getChart().requestInvalidateArrange(
+                    e.action() == CollectionChangeAction.RESET ? ChartAreaInvalidateFlags.ALL : ChartAreaInvalidateFlags.NONE);
     }
 
-    private void handleItemAdd(CollectionChangedEvent e) {
+    /**
+     * Handles items added to the observable items source.
+     *
+     * @param e the collection change event data.
+     */
+    protected void handleItemAdd(CollectionChangedEvent e) {
         this.performAdd(e.getNewItems(), e.getNewIndex());
     }
 
-    private void handleItemRemove(CollectionChangedEvent e) {
+    /**
+     * Handles items removed from the observable items source.
+     *
+     * @param e the collection change event data.
+     */
+    protected void handleItemRemove(CollectionChangedEvent e) {
         this.performRemove(e.getOldItems(), e.getOldIndex());
     }
 
-    private void handleItemReplace(CollectionChangedEvent e) {
+    /**
+     * Handles items replaced in the observable items source.
+     *
+     * @param e the collection change event data.
+     */
+    protected void handleItemReplace(CollectionChangedEvent e) {
         this.performRemove(e.getOldItems(), e.getNewIndex());
         this.performAdd(e.getNewItems(), e.getNewIndex());
     }
 
-    private void handleItemMove(CollectionChangedEvent e) {
+    /**
+     * Handles items moved in the observable items source.
+     *
+     * @param e the collection change event data.
+     */
+    protected void handleItemMove(CollectionChangedEvent e) {
         this.performRemove(e.getOldItems(), e.getOldIndex());
         this.performAdd(e.getNewItems(), e.getNewIndex());
     }
 
     private void performAdd(Iterable newItems, int newItemIndex) {
         for(Object newDataItem : newItems) {
-            DataPoint point = this.generateDataPoint(newDataItem, newItemIndex);
-            this.owner.dataPoints().add(newItemIndex, point);
+            // items inserted before the sliding window are older than the ones it shows
+            if (this.windowStart > 0 && newItemIndex <= this.windowStart) {
+                this.windowStart++;
+                continue;
+            }
+
+            int index = newItemIndex - this.windowStart;
+            DataPoint point = this.generateDataPoint(newDataItem, index);
+            this.owner.dataPoints().add(index, point);
         }
+
+        this.trimToWindow();
     }
 
     private void performRemove(Iterable removedItems, int removedItemIndex) {
         for(Object removedDataItem : removedItems) {
+            // the items before the sliding window no longer have data points
+            if (removedItemIndex < this.windowStart) {
+                this.windowStart--;
+                continue;
+            }
+
+            int index = removedItemIndex - this.windowStart;
+            List points = this.owner.dataPoints();
+            if (index == 0 && points.size() > 0 && ((DataPoint) points.get(0)).getDataItem() == removedDataItem) {
+                this.removeFirstPoints(1);
+                continue;
+            }
+
             this.unhookPropertyChanged(removedDataItem);
 
             // try to remove an existing binding
-            if (removedItemIndex >= 0 && removedItemIndex < this.bindings.size()) {
-                DataPointBindingEntry binding = this.bindings.get(removedItemIndex);
+            DataPointBindingEntry binding = null;
+            if (index >= 0 && index < this.bindings.size()) {
+                binding = this.bindings.get(index);
                 if (binding.getDataItem() == removedDataItem) {
-                    this.bindings.remove(removedItemIndex);
+                    this.bindings.remove(index);
+                } else {
+                    binding = null;
+                }
+            }
+
+            if (binding == null) {
+                binding = this.bindingsByItem.get(removedDataItem);
+                if (binding != null) {
+                    this.bindings.remove(binding);
                 }
             }
 
-            this.owner.dataPoints().remove(removedItemIndex);
+            if (binding != null) {
+                this.removeBinding(binding);
+            }
+
+            this.owner.dataPoints().remove(index);
+        }
+
+        this.fillWindow();
+    }
+
+    /**
+     * Creates the data points of the items before the sliding window that fit in it after points were removed,
+     * so that a full window stays full while older items are in the items source.
+     */
+    private void fillWindow() {
+        if (this.windowCapacity == 0 || this.windowStart == 0 || !(this.itemsSource instanceof List)) {
+            return;
+        }
+
+        List items = (List) this.itemsSource;
+        List points = this.owner.dataPoints();
+        while (this.windowStart > 0 && points.size() < this.windowCapacity) {
+            this.windowStart--;
+            DataPoint point = this.generateDataPoint(items.get(this.windowStart), 0);
+            points.add(0, point);
+        }
+    }
+
+    /**
+     * Creates the data points of a copy of the items on a background thread and applies them on the UI thread,
+     * unless a newer binding was started in the meantime. The task never touches the chart area, whose update and
+     * arrange run on the UI thread after the points are applied.
+     */
+    private class BindTask extends AsyncTask<Void, Void, Void> {
+
+        private final ArrayList<Object> items;
+        private final int windowStart;
+        private final ArrayList<DataPoint> points;
+        private final ArrayList<DataPointBindingEntry> bindings;
+        private long backgroundTime;
+
+        BindTask(ArrayList<Object> items, int windowStart) {
+            this.items = items;
+            this.windowStart = windowStart;
+            this.points = new ArrayList<DataPoint>(items.size());
+            this.bindings = new ArrayList<DataPointBindingEntry>(items.size());
+        }
+
+        @Override
+        protected Void doInBackground(Void... params) {
+            long start = System.nanoTime();
+            for (Object item : this.items) {
+                if (this.isCancelled()) {
+                    return null;
+                }
+
+                DataPoint point = createDataPoint();
+                if (item != null) {
+                    DataPointBindingEntry binding = initializeDataPoint(point, item);
+                    if (binding != null) {
+                        this.bindings.add(binding);
+                    }
+                }
+
+                this.points.add(point);
+            }
+
+            this.backgroundTime = System.nanoTime() - start;
+            return null;
+        }
+
+        @Override
+        protected void onPostExecute(Void result) {
+            completeBind(this);
         }
     }
 }
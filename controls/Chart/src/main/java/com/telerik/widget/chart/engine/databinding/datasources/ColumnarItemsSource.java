@@ -0,0 +1,413 @@
+package com.telerik.widget.chart.engine.databinding.datasources;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Represents an items source that holds its data in primitive columns rather than in separate
+ * item objects. When set as the items source of a series that supports columnar data
+ * (categorical, OHLC and scatter series other than bubble series) the data points are populated directly from the
+ * columns, without creating binding entries or intermediate boxed values.
+ * <p/>
+ * The columns are not copied. The first {@link #getLength()} entries of each column are used.
+ * Series that do not support columnar data reject this items source with an {@link IllegalArgumentException}.
+ * Enumerating the items source yields a {@link Row} view of each item.
+ */
+public class ColumnarItemsSource implements Iterable<ColumnarItemsSource.Row> {
+
+    private int length;
+
+    private Object[] categories;
+    private long[] dateTimeCategories;
+    private double[] values;
+    private double[] high;
+    private double[] low;
+    private double[] open;
+    private double[] close;
+    private double[] xValues;
+    private double[] yValues;
+
+    /**
+     * Initializes a new instance of the {@link ColumnarItemsSource} class.
+     *
+     * @param length the number of items described by the columns.
+     */
+    public ColumnarItemsSource(int length) {
+        this.setLength(length);
+    }
+
+    /**
+     * Gets the number of items described by the columns.
+     *
+     * @return the number of items.
+     */
+    public int getLength() {
+        return this.length;
+    }
+
+    /**
+     * Sets the number of items described by the columns. All assigned columns must have at least
+     * the given number of entries.
+     *
+     * @param value the new number of items.
+     */
+    public void setLength(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("length cannot be negative");
+        }
+
+        verifyColumn(this.categories == null ? -1 : this.categories.length, value, "categories");
+        verifyColumn(this.dateTimeCategories == null ? -1 : this.dateTimeCategories.length, value, "dateTimeCategories");
+        verifyColumn(this.values, value, "values");
+        verifyColumn(this.high, value, "high");
+        verifyColumn(this.low, value, "low");
+        verifyColumn(this.open, value, "open");
+        verifyColumn(this.close, value, "close");
+        verifyColumn(this.xValues, value, "xValues");
+        verifyColumn(this.yValues, value, "yValues");
+
+        this.length = value;
+    }
+
+    /**
+     * Gets the category column.
+     *
+     * @return the category column.
+     */
+    public Object[] getCategories() {
+        return this.categories;
+    }
+
+    /**
+     * Sets the category column.
+     *
+     * @param value the new category column.
+     */
+    public void setCategories(Object[] value) {
+        verifyColumn(value == null ? -1 : value.length, this.length, "categories");
+        this.categories = value;
+    }
+
+    /**
+     * Gets the column of date-time categories, expressed in milliseconds since the epoch.
+     *
+     * @return the date-time category column.
+     */
+    public long[] getDateTimeCategories() {
+        return this.dateTimeCategories;
+    }
+
+    /**
+     * Sets the column of date-time categories, expressed in milliseconds since the epoch. Takes
+     * precedence over the category column when both are set.
+     *
+     * @param value the new date-time category column.
+     */
+    public void setDateTimeCategories(long[] value) {
+        verifyColumn(value == null ? -1 : value.length, this.length, "dateTimeCategories");
+        this.dateTimeCategories = value;
+    }
+
+    /**
+     * Gets the value column.
+     *
+     * @return the value column.
+     */
+    public double[] getValues() {
+        return this.values;
+    }
+
+    /**
+     * Sets the value column.
+     *
+     * @param value the new value column.
+     */
+    public void setValues(double[] value) {
+        verifyColumn(value, this.length, "values");
+        this.values = value;
+    }
+
+    /**
+     * Gets the high column.
+     *
+     * @return the high column.
+     */
+    public double[] getHigh() {
+        return this.high;
+    }
+
+    /**
+     * Sets the high column.
+     *
+     * @param value the new high column.
+     */
+    public void setHigh(double[] value) {
+        verifyColumn(value, this.length, "high");
+        this.high = value;
+    }
+
+    /**
+     * Gets the low column.
+     *
+     * @return the low column.
+     */
+    public double[] getLow() {
+        return this.low;
+    }
+
+    /**
+     * Sets the low column.
+     *
+     * @param value the new low column.
+     */
+    public void setLow(double[] value) {
+        verifyColumn(value, this.length, "low");
+        this.low = value;
+    }
+
+    /**
+     * Gets the open column.
+     *
+     * @return the open column.
+     */
+    public double[] getOpen() {
+        return this.open;
+    }
+
+    /**
+     * Sets the open column.
+     *
+     * @param value the new open column.
+     */
+    public void setOpen(double[] value) {
+        verifyColumn(value, this.length, "open");
+        this.open = value;
+    }
+
+    /**
+     * Gets the close column.
+     *
+     * @return the close column.
+     */
+    public double[] getClose() {
+        return this.close;
+    }
+
+    /**
+     * Sets the close column.
+     *
+     * @param value the new close column.
+     */
+    public void setClose(double[] value) {
+        verifyColumn(value, this.length, "close");
+        this.close = value;
+    }
+
+    /**
+     * Gets the x value column used by the scatter series.
+     *
+     * @return the x value column.
+     */
+    public double[] getXValues() {
+        return this.xValues;
+    }
+
+    /**
+     * Sets the x value column used by the scatter series.
+     *
+     * @param value the new x value column.
+     */
+    public void setXValues(double[] value) {
+        verifyColumn(value, this.length, "xValues");
+        this.xValues = value;
+    }
+
+    /**
+     * Gets the y value column used by the scatter series.
+     *
+     * @return the y value column.
+     */
+    public double[] getYValues() {
+        return this.yValues;
+    }
+
+    /**
+     * Sets the y value column used by the scatter series.
+     *
+     * @param value the new y value column.
+     */
+    public void setYValues(double[] value) {
+        verifyColumn(value, this.length, "yValues");
+        this.yValues = value;
+    }
+
+    /**
+     * Gets the category of the item at the given index.
+     *
+     * @param index the index of the item.
+     * @return the category of the item or <code>null</code> if there is no category column.
+     */
+    public Object getCategory(int index) {
+        if (this.dateTimeCategories != null) {
+            return this.dateTimeCategories[index];
+        }
+
+        if (this.categories != null) {
+            return this.categories[index];
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets a view of the item at the given index. The view reads the columns when its values are requested.
+     *
+     * @param index the index of the item.
+     * @return the view of the item.
+     */
+    public Row getRow(int index) {
+        if (index < 0 || index >= this.length) {
+            throw new IndexOutOfBoundsException(String.format("index %d is out of range [0, %d)", index, this.length));
+        }
+
+        return new Row(this, index);
+    }
+
+    /**
+     * Enumerates the items of the columns as {@link Row} views.
+     */
+    @Override
+    public Iterator<Row> iterator() {
+        return new Iterator<Row>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return this.index < length;
+            }
+
+            @Override
+            public Row next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                return new Row(ColumnarItemsSource.this, this.index++);
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    private static double valueAt(double[] column, int index) {
+        return column == null ? Double.NaN : column[index];
+    }
+
+    private static void verifyColumn(double[] column, int length, String name) {
+        verifyColumn(column == null ? -1 : column.length, length, name);
+    }
+
+    private static void verifyColumn(int columnLength, int length, String name) {
+        if (columnLength >= 0 && columnLength < length) {
+            throw new IllegalArgumentException(String.format("%s has fewer than %d entries", name, length));
+        }
+    }
+
+    /**
+     * A view of a single item of a {@link ColumnarItemsSource}. The values of columns that are not set are
+     * {@link Double#NaN}.
+     */
+    public static final class Row {
+        private final ColumnarItemsSource source;
+        private final int index;
+
+        Row(ColumnarItemsSource source, int index) {
+            this.source = source;
+            this.index = index;
+        }
+
+        /**
+         * Gets the index of the item in the columns.
+         *
+         * @return the index of the item.
+         */
+        public int getIndex() {
+            return this.index;
+        }
+
+        /**
+         * Gets the category of the item.
+         *
+         * @return the category of the item or <code>null</code> if there is no category column.
+         */
+        public Object getCategory() {
+            return this.source.getCategory(this.index);
+        }
+
+        /**
+         * Gets the value of the item.
+         *
+         * @return the value of the item.
+         */
+        public double getValue() {
+            return valueAt(this.source.values, this.index);
+        }
+
+        /**
+         * Gets the high value of the item.
+         *
+         * @return the high value of the item.
+         */
+        public double getHigh() {
+            return valueAt(this.source.high, this.index);
+        }
+
+        /**
+         * Gets the low value of the item.
+         *
+         * @return the low value of the item.
+         */
+        public double getLow() {
+            return valueAt(this.source.low, this.index);
+        }
+
+        /**
+         * Gets the open value of the item.
+         *
+         * @return the open value of the item.
+         */
+        public double getOpen() {
+            return valueAt(this.source.open, this.index);
+        }
+
+        /**
+         * Gets the close value of the item.
+         *
+         * @return the close value of the item.
+         */
+        public double getClose() {
+            return valueAt(this.source.close, this.index);
+        }
+
+        /**
+         * Gets the x value of the item.
+         *
+         * @return the x value of the item.
+         */
+        public double getXValue() {
+            return valueAt(this.source.xValues, this.index);
+        }
+
+        /**
+         * Gets the y value of the item.
+         *
+         * @return the y value of the item.
+         */
+        public double getYValue() {
+            return valueAt(this.source.yValues, this.index);
+        }
+    }
+}
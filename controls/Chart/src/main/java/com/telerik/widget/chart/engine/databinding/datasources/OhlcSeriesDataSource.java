@@ -5,6 +5,7 @@ import android.graphics.Point;
 import com.telerik.android.common.Function;
 import com.telerik.android.common.math.RadSize;
 import com.telerik.widget.chart.engine.dataPoints.DataPoint;
+import com.telerik.widget.chart.engine.dataPoints.DataPointCollection;
 import com.telerik.widget.chart.engine.dataPoints.OhlcDataPoint;
 import com.telerik.widget.chart.engine.databinding.DataPointBinding;
 import com.telerik.widget.chart.engine.databinding.DataPointBindingEntry;
@@ -96,6 +97,45 @@ public class OhlcSeriesDataSource extends CategoricalSeriesDataSourceBase {
         return new OhlcDataPoint();
     }
 
+    @Override
+    public boolean supportsColumnarData() {
+        return true;
+    }
+
+    @Override
+    protected void bindColumns(ColumnarItemsSource source) {
+        double[] high = source.getHigh();
+        double[] low = source.getLow();
+        double[] open = source.getOpen();
+        double[] close = source.getClose();
+        if (high == null || low == null || open == null || close == null) {
+            throw new IllegalArgumentException("The high, low, open and close columns of the items source must be set.");
+        }
+
+        int length = source.getLength();
+        DataPointCollection dataPoints = this.owner.dataPoints();
+        dataPoints.ensureCapacity(dataPoints.size() + length);
+
+        for (int i = 0; i < length; i++) {
+            if (high[i] < low[i]) {
+                throw new IllegalStateException("OHLC data cannot contain such values: high < low.");
+            }
+
+            OhlcDataPoint point = (OhlcDataPoint) this.createDataPoint();
+            point.setHigh(high[i]);
+            point.setLow(low[i]);
+            point.setOpen(open[i]);
+            point.setClose(close[i]);
+
+            Object category = source.getCategory(i);
+            if (category != null) {
+                point.setCategory(category);
+            }
+
+            dataPoints.add(point);
+        }
+    }
+
     @Override
     protected void processDouble(DataPoint dataPoint, double value) {
         throw new UnsupportedOperationException("processing double values is not supported");
@@ -118,41 +158,41 @@ public class OhlcSeriesDataSource extends CategoricalSeriesDataSourceBase {
 
     @Override
     protected void initializeBinding(DataPointBindingEntry binding) {
-        Number value;
+        double value;
         OhlcDataPoint dataPoint = (OhlcDataPoint) binding.getDataPoint();
 
         if (this.highBinding != null) {
-            value = (Number) this.highBinding.getValue(binding.getDataItem());
+            value = this.highBinding.getDoubleValue(binding.getDataItem());
 
-            if (value != null) {
-                dataPoint.setHigh(value.doubleValue());
+            if (!Double.isNaN(value)) {
+                dataPoint.setHigh(value);
             } else {
                 dataPoint.isEmpty = true;
             }
         }
 
         if (this.lowBinding != null) {
-            value = (Number) this.lowBinding.getValue(binding.getDataItem());
-            if (value != null) {
-                dataPoint.setLow(value.doubleValue());
+            value = this.lowBinding.getDoubleValue(binding.getDataItem());
+            if (!Double.isNaN(value)) {
+                dataPoint.setLow(value);
             } else {
                 dataPoint.isEmpty = true;
             }
         }
 
         if (this.openBinding != null) {
-            value = (Number) this.openBinding.getValue(binding.getDataItem());
-            if (value != null) {
-                dataPoint.setOpen(value.doubleValue());
+            value = this.openBinding.getDoubleValue(binding.getDataItem());
+            if (!Double.isNaN(value)) {
+                dataPoint.setOpen(value);
             } else {
                 dataPoint.isEmpty = true;
             }
         }
 
         if (this.closeBinding != null) {
-            value = (Number) this.closeBinding.getValue(binding.getDataItem());
-            if (value != null) {
-                dataPoint.setClose(value.doubleValue());
+            value = this.closeBinding.getDoubleValue(binding.getDataItem());
+            if (!Double.isNaN(value)) {
+                dataPoint.setClose(value);
             } else {
                 dataPoint.isEmpty = true;
             }
@@ -120,9 +120,9 @@ public class RangeSeriesDataSourceBase extends CategoricalSeriesDataSourceBase {
         RangeDataPoint rangeDataPoint = (RangeDataPoint) binding.getDataPoint();
 
         if (this.highBinding != null) {
-            Object value = this.highBinding.getValue(binding.getDataItem());
-            if (value instanceof Number) {
-                rangeDataPoint.setHigh(((Number) value).doubleValue());
+            double value = this.highBinding.getDoubleValue(binding.getDataItem());
+            if (!Double.isNaN(value)) {
+                rangeDataPoint.setHigh(value);
             } else {
                 rangeDataPoint.setHigh(0F);
                 highIsValidNumber = false;
@@ -130,9 +130,9 @@ public class RangeSeriesDataSourceBase extends CategoricalSeriesDataSourceBase {
         }
 
         if (this.lowBinding != null) {
-            Object value = this.lowBinding.getValue(binding.getDataItem());
-            if (value instanceof Number) {
-                rangeDataPoint.setLow(((Number) value).doubleValue());
+            double value = this.lowBinding.getDoubleValue(binding.getDataItem());
+            if (!Double.isNaN(value)) {
+                rangeDataPoint.setLow(value);
             } else {
                 rangeDataPoint.setLow(0F);
                 lowIsValidNumber = false;
@@ -40,6 +40,14 @@ public class ScatterBubbleSeriesDataSource extends ScatterSeriesDataSource {
         }
     }
 
+    /**
+     * Columnar items sources have no bubble size column, so bubble series are bound to item objects only.
+     */
+    @Override
+    public boolean supportsColumnarData() {
+        return false;
+    }
+
     @Override
     protected DataPoint createDataPoint() {
         return new ScatterBubbleDataPoint();
@@ -51,9 +59,9 @@ public class ScatterBubbleSeriesDataSource extends ScatterSeriesDataSource {
 
         ScatterBubbleDataPoint point = (ScatterBubbleDataPoint) binding.getDataPoint();
         if(this.bubbleSizeBinding != null) {
-            Object sizeValue = this.bubbleSizeBinding.getValue(binding.getDataItem());
-            if(sizeValue instanceof Number) {
-                point.setSize(((Number) sizeValue).doubleValue());
+            double sizeValue = this.bubbleSizeBinding.getDoubleValue(binding.getDataItem());
+            if(!Double.isNaN(sizeValue)) {
+                point.setSize(sizeValue);
             }
         }
     }
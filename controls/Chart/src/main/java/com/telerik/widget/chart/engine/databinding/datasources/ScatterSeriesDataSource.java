@@ -4,6 +4,7 @@ import android.graphics.Point;
 
 import com.telerik.android.common.math.RadSize;
 import com.telerik.widget.chart.engine.dataPoints.DataPoint;
+import com.telerik.widget.chart.engine.dataPoints.DataPointCollection;
 import com.telerik.widget.chart.engine.dataPoints.ScatterDataPoint;
 import com.telerik.widget.chart.engine.databinding.DataPointBinding;
 import com.telerik.widget.chart.engine.databinding.DataPointBindingEntry;
@@ -54,6 +55,32 @@ public class ScatterSeriesDataSource extends ChartSeriesDataSource {
         return new ScatterDataPoint();
     }
 
+    @Override
+    public boolean supportsColumnarData() {
+        return true;
+    }
+
+    @Override
+    protected void bindColumns(ColumnarItemsSource source) {
+        double[] xValues = source.getXValues();
+        double[] yValues = source.getYValues();
+        if (xValues == null || yValues == null) {
+            throw new IllegalArgumentException("The x and y value columns of the items source must be set.");
+        }
+
+        int length = source.getLength();
+        DataPointCollection dataPoints = this.owner.dataPoints();
+        dataPoints.ensureCapacity(dataPoints.size() + length);
+
+        for (int i = 0; i < length; i++) {
+            ScatterDataPoint point = (ScatterDataPoint) this.createDataPoint();
+            point.setXValue(xValues[i]);
+            point.setYValue(yValues[i]);
+
+            dataPoints.add(point);
+        }
+    }
+
     @Override
     protected void processDouble(DataPoint dataPoint, double value) {
         throw new IllegalArgumentException("The scatter series don't support binding to primitive types.");
@@ -91,16 +118,16 @@ public class ScatterSeriesDataSource extends ChartSeriesDataSource {
         ScatterDataPoint point = (ScatterDataPoint)binding.getDataPoint();
 
         if(this.xValueBinding != null) {
-            Object xValue = this.xValueBinding.getValue(binding.getDataItem());
-            if(xValue instanceof Number) {
-                point.setXValue(((Number)xValue).doubleValue());
+            double xValue = this.xValueBinding.getDoubleValue(binding.getDataItem());
+            if(!Double.isNaN(xValue)) {
+                point.setXValue(xValue);
             }
         }
 
         if(this.yValueBinding != null) {
-            Object yValue = this.yValueBinding.getValue(binding.getDataItem());
-            if(yValue instanceof Number) {
-                point.setYValue(((Number)yValue).doubleValue());
+            double yValue = this.yValueBinding.getDoubleValue(binding.getDataItem());
+            if(!Double.isNaN(yValue)) {
+                point.setYValue(yValue);
             }
         }
     }
@@ -1,8 +1,5 @@
 package com.telerik.widget.chart.engine.databinding.datasources.financial;
 
-import com.telerik.widget.chart.engine.dataPoints.CategoricalDataPoint;
-import com.telerik.widget.chart.engine.dataPoints.DataPointCollection;
-import com.telerik.widget.chart.engine.databinding.DataPointBindingEntry;
 import com.telerik.widget.chart.engine.series.ChartSeriesModel;
 import com.telerik.widget.chart.visualization.cartesianChart.indicators.AdaptiveMovingAverageKaufmanIndicator;
 
@@ -11,6 +8,13 @@ public class AdaptiveMovingAverageKaufmanIndicatorDataSource extends ValuePeriod
     private int slowPeriod;
     private int fastPeriod;
 
+    private int period;
+    private double slowConstant;
+    private double fastConstant;
+    private double prevKAMA;
+    private RingBuffer currentItems;
+    private RingBuffer ranges;
+
     public AdaptiveMovingAverageKaufmanIndicatorDataSource(ChartSeriesModel owner) {
         super(owner);
     }
@@ -42,67 +46,43 @@ public class AdaptiveMovingAverageKaufmanIndicatorDataSource extends ValuePeriod
     }
 
     @Override
-    protected void updateBinding(DataPointBindingEntry binding) {
-        this.bindCore();
+    protected void resetState() {
+        AdaptiveMovingAverageKaufmanIndicator indicator = (AdaptiveMovingAverageKaufmanIndicator) this.owner.getPresenter();
+        this.period = indicator.getPeriod();
+        this.slowConstant = 2D / (indicator.getSlowPeriod() + 1);
+        this.fastConstant = 2D / (indicator.getFastPeriod() + 1);
+        this.prevKAMA = 0;
+
+        this.currentItems = new RingBuffer(this.period);
+
+        this.ranges = new RingBuffer(this.period - 1);
     }
 
     @Override
-    protected void bindCore() {
-        AdaptiveMovingAverageKaufmanIndicator indicator = (AdaptiveMovingAverageKaufmanIndicator) this.owner.getPresenter();
-        int period = indicator.getPeriod();
-
-        double currentAverage;
-        double prevKAMA = 0;
-        int currentIndex = 0;
-
-        SizedQueue currentItems = new SizedQueue();
-        currentItems.size = period;
-
-        for (Object item : this.itemsSource) {
-            double value = ((Number) this.valueBinding.getValue(item)).doubleValue();
-            currentItems.add(value);
-
-            //// The raw value is used for the first elements
-            if (currentIndex < period) {
-                currentAverage = value;
-                prevKAMA = value;
-            } else {
-                currentAverage = calculateCurrentValue(currentItems, indicator.getSlowPeriod(), indicator.getFastPeriod(), prevKAMA);
-                prevKAMA = currentAverage;
-            }
-
-            CategoricalDataPoint point;
-            DataPointCollection dataPoints = this.owner.dataPoints();
-            if (dataPoints.size() > currentIndex) {
-                point = (CategoricalDataPoint) dataPoints.get(currentIndex);
-                point.setValue(currentAverage);
-            } else {
-                point = (CategoricalDataPoint) this.generateDataPoint(item, -1);
-                point.setValue(currentAverage);
-                dataPoints.add(point);
-            }
-
-            currentIndex++;
+    protected void appendItem(Object item, int index) {
+        double value = this.valueBinding.getDoubleValue(item);
+        if (index > 0 && this.currentItems.size() > 0) {
+            this.ranges.enqueue(Math.abs(value - this.currentItems.last()));
         }
-    }
 
-    private static double calculateCurrentValue(SizedQueue currentItems, int slow, int fast, double prevKAMA) {
-        int period = currentItems.size();
-        Double[] itemsArray = new Double[currentItems.size()];
-        currentItems.toArray(itemsArray);
+        this.currentItems.enqueue(value);
 
-        double diff = Math.abs(itemsArray[period - 1] - itemsArray[0]);
-        double rangesSum = 0;
+        //// The raw value is used for the first elements
+        if (index < this.period || this.ranges.size() == 0) {
+            this.prevKAMA = value;
+        } else {
+            this.prevKAMA = calculateCurrentValue(this.currentItems, this.ranges, this.slowConstant, this.fastConstant, this.prevKAMA);
+        }
 
-        for (int i = 1; i < itemsArray.length; i++)
-            rangesSum += Math.abs(itemsArray[i] - itemsArray[i - 1]);
+        this.setPointValue(this.owner, item, index, this.prevKAMA);
+    }
 
-        double efficiencyRatio = diff / rangesSum;
+    private static double calculateCurrentValue(RingBuffer currentItems, RingBuffer ranges, double slowConstant, double fastConstant, double prevKAMA) {
+        double diff = Math.abs(currentItems.last() - currentItems.first());
+        double efficiencyRatio = diff / ranges.getSum();
 
-        double fastConstant = 2D / (fast + 1);
-        double slowConstant = 2D / (slow + 1);
         double weight = Math.pow((efficiencyRatio * (fastConstant - slowConstant)) + slowConstant, 2);
 
-        return prevKAMA + (weight * (currentItems.peekLast() - prevKAMA));
+        return prevKAMA + (weight * (currentItems.last() - prevKAMA));
     }
 }
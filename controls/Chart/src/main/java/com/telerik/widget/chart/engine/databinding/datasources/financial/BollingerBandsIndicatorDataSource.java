@@ -1,7 +1,5 @@
 package com.telerik.widget.chart.engine.databinding.datasources.financial;
 
-import com.telerik.widget.chart.engine.dataPoints.CategoricalDataPoint;
-import com.telerik.widget.chart.engine.databinding.DataPointBindingEntry;
 import com.telerik.widget.chart.engine.series.ChartSeriesModel;
 import com.telerik.widget.chart.visualization.cartesianChart.indicators.BollingerBandsIndicator;
 
@@ -9,6 +7,9 @@ public class BollingerBandsIndicatorDataSource extends ValuePeriodIndicatorDataS
 
     private int standardDeviations;
 
+    private double deviations;
+    private RingBuffer currentItems;
+
     public BollingerBandsIndicatorDataSource(ChartSeriesModel owner) {
         super(owner);
     }
@@ -28,44 +29,24 @@ public class BollingerBandsIndicatorDataSource extends ValuePeriodIndicatorDataS
     }
 
     @Override
-    protected void updateBinding(DataPointBindingEntry binding) {
-        this.bindCore();
+    protected void resetState() {
+        BollingerBandsIndicator owner = (BollingerBandsIndicator) this.getOwner().getPresenter();
+        this.deviations = owner.getStandardDeviations();
+        this.currentItems = new RingBuffer(owner.getPeriod());
     }
 
     @Override
-    protected void bindCore() {
+    protected void appendItem(Object item, int index) {
         BollingerBandsIndicator owner = (BollingerBandsIndicator) this.getOwner().getPresenter();
-        double deviations = owner.getStandardDeviations();
-        SizedQueue currentItems = new SizedQueue();
-        currentItems.size = owner.getPeriod();
-
-        int currentIndex = 0;
-        double stdDeviation = 0;
-
-        for (Object item : this.itemsSource) {
-            Object val = this.valueBinding.getValue(item);
-            currentItems.enqueueItem(((Number) val).doubleValue());
-            double currentAverage = MovingAverageIndicatorDataSource.calculateCurrentValue(currentItems);
-            stdDeviation = calculateStandardDeviation(currentItems, currentAverage);
-            CategoricalDataPoint point, secondPoint;
-            if (this.owner.dataPoints().size() > currentIndex) {
-                point = (CategoricalDataPoint) this.owner.dataPoints().get(currentIndex);
-                point.setValue(currentAverage + (deviations * stdDeviation));
+        double value = this.valueBinding.getDoubleValue(item);
 
-                secondPoint = (CategoricalDataPoint) owner.lowerBandModel().dataPoints().get(currentIndex);
-                secondPoint.setValue(currentAverage - (deviations * stdDeviation));
-            } else {
-                point = (CategoricalDataPoint) this.generateDataPoint(item, -1);
-                point.setValue(currentAverage + (deviations * stdDeviation));
-                owner.getDataPoints().add(point);
+        this.currentItems.enqueue(value);
 
-                secondPoint = (CategoricalDataPoint) this.generateDataPoint(item, -1);
-                secondPoint.setValue(currentAverage - (deviations * stdDeviation));
-                owner.lowerBandModel().dataPoints().add(secondPoint);
-            }
+        double currentAverage = MovingAverageIndicatorDataSource.calculateCurrentValue(this.currentItems);
+        double stdDeviation = Math.sqrt(this.currentItems.getSquaredDeviationsSum() / this.currentItems.getCapacity());
 
-            currentIndex++;
-        }
+        this.setPointValue(this.owner, item, index, currentAverage + (this.deviations * stdDeviation));
+        this.setPointValue(owner.lowerBandModel(), item, index, currentAverage - (this.deviations * stdDeviation));
     }
 
     @Override
@@ -73,14 +54,4 @@ public class BollingerBandsIndicatorDataSource extends ValuePeriodIndicatorDataS
         super.unbind();
         ((BollingerBandsIndicator) this.owner.getPresenter()).lowerBandModel().dataPoints().clear();
     }
-
-    private static double calculateStandardDeviation(SizedQueue items, double average) {
-        double sum = 0;
-        for (double item : items) {
-            double entry = Math.pow(item - average, 2);
-            sum += entry;
-        }
-
-        return Math.sqrt(sum / items.size);
-    }
 }
@@ -1,63 +1,45 @@
 package com.telerik.widget.chart.engine.databinding.datasources.financial;
 
-import com.telerik.widget.chart.engine.dataPoints.CategoricalDataPoint;
-import com.telerik.widget.chart.engine.dataPoints.DataPointCollection;
-import com.telerik.widget.chart.engine.databinding.DataPointBindingEntry;
 import com.telerik.widget.chart.engine.series.ChartSeriesModel;
 import com.telerik.widget.chart.visualization.cartesianChart.indicators.CommodityChannelIndexIndicator;
 
 public class CommodityChannelIndicatorDataSource extends HighLowClosePeriodIndicatorDataSourceBase {
 
+    private RingBuffer typicalPrices;
+
     public CommodityChannelIndicatorDataSource(ChartSeriesModel owner) {
         super(owner);
     }
 
     @Override
-    protected void updateBinding(DataPointBindingEntry binding) {
-        this.bindCore();
+    protected void resetState() {
+        this.typicalPrices = new RingBuffer(((CommodityChannelIndexIndicator) this.owner.getPresenter()).getPeriod());
     }
 
     @Override
-    protected void bindCore() {
-        int period = ((CommodityChannelIndexIndicator) this.owner.getPresenter()).getPeriod();
-        SizedQueue typicalPrices = new SizedQueue();
-        typicalPrices.size = period;
-
-        int currentIndex = 0;
-        for (Object item : this.itemsSource) {
-            double high = ((Number) this.highBinding.getValue(item)).doubleValue();
-            double low = ((Number) this.lowBinding.getValue(item)).doubleValue();
-            double close = ((Number) this.closeBinding.getValue(item)).doubleValue();
-
-            double typicalPrice = (high + low + close) / 3F;
-            typicalPrices.enqueueItem(typicalPrice);
+    protected void appendItem(Object item, int index) {
+        double high = this.highBinding.getDoubleValue(item);
+        double low = this.lowBinding.getDoubleValue(item);
+        double close = this.closeBinding.getDoubleValue(item);
 
-            double currentValue = 0;
+        double typicalPrice = (high + low + close) / 3F;
+        this.typicalPrices.enqueue(typicalPrice);
 
-            if (currentIndex > 0) {
-                double typicalPriceMA = MovingAverageIndicatorDataSource.calculateCurrentValue(typicalPrices);
+        double currentValue = 0;
 
-                double meanDeviation = 0;
-                for (double price : typicalPrices) {
-                    meanDeviation += Math.abs(typicalPriceMA - price);
-                }
-                meanDeviation /= typicalPrices.size;
+        if (index > 0) {
+            double typicalPriceMA = MovingAverageIndicatorDataSource.calculateCurrentValue(this.typicalPrices);
 
-                currentValue = (typicalPrice - typicalPriceMA) / 0.015D / meanDeviation;
+            //// The mean deviation depends on the current average, so it is the only part that walks the window.
+            double meanDeviation = 0;
+            for (int i = 0; i < this.typicalPrices.size(); i++) {
+                meanDeviation += Math.abs(typicalPriceMA - this.typicalPrices.get(i));
             }
+            meanDeviation /= this.typicalPrices.getCapacity();
 
-            CategoricalDataPoint point;
-            DataPointCollection dataPoints = this.owner.dataPoints();
-            if (dataPoints.size() > currentIndex) {
-                point = (CategoricalDataPoint) dataPoints.get(currentIndex);
-                point.setValue(currentValue);
-            } else {
-                point = (CategoricalDataPoint) this.generateDataPoint(item, -1);
-                point.setValue(currentValue);
-                dataPoints.add(point);
-            }
-
-            currentIndex++;
+            currentValue = (typicalPrice - typicalPriceMA) / 0.015D / meanDeviation;
         }
+
+        this.setPointValue(this.owner, item, index, currentValue);
     }
 }
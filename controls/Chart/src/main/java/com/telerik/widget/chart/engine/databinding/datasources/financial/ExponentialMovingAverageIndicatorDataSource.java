@@ -1,8 +1,5 @@
 package com.telerik.widget.chart.engine.databinding.datasources.financial;
 
-import com.telerik.widget.chart.engine.dataPoints.CategoricalDataPoint;
-import com.telerik.widget.chart.engine.dataPoints.DataPointCollection;
-import com.telerik.widget.chart.engine.databinding.DataPointBindingEntry;
 import com.telerik.widget.chart.engine.series.ChartSeriesModel;
 import com.telerik.widget.chart.visualization.cartesianChart.indicators.ValuePeriodIndicatorBase;
 
@@ -14,6 +11,11 @@ public class ExponentialMovingAverageIndicatorDataSource extends ValuePeriodIndi
 
     private boolean isModified;
 
+    private int period;
+    private double multiplier;
+    private double prevEMA;
+    private RingBuffer currentItems;
+
     public boolean isModified() {
         return this.isModified;
     }
@@ -28,47 +30,28 @@ public class ExponentialMovingAverageIndicatorDataSource extends ValuePeriodIndi
     }
 
     @Override
-    protected void bindCore() {
-        int period = ((ValuePeriodIndicatorBase) this.owner.getPresenter()).getPeriod();
-        SizedQueue currentItems = new SizedQueue();
-        currentItems.size = period;
+    protected void resetState() {
+        this.period = ((ValuePeriodIndicatorBase) this.owner.getPresenter()).getPeriod();
+        this.multiplier = this.isModified ? 1D / this.period : 2D / (1 + this.period);
+        this.prevEMA = 0;
+        this.currentItems = new RingBuffer(this.period);
+    }
 
+    @Override
+    protected void appendItem(Object item, int index) {
+        double value = this.valueBinding.getDoubleValue(item);
         double currentAverage;
-        double prevEMA = 0;
-        int currentIndex = 0;
-        double multiplier = this.isModified ? 1D / period : 2D / (1 + period);
-
-        for (Object item : this.itemsSource) {
-            double value = ((Number) this.valueBinding.getValue(item)).doubleValue();
-
-            //// The first values are calculated as SMA
-            if (currentIndex < period) {
-                currentItems.enqueueItem(value);
-                currentAverage = MovingAverageIndicatorDataSource.calculateCurrentValue(currentItems);
-            } else {
-                currentAverage = calculateCurrentValue(multiplier, value, prevEMA);
-            }
 
-            prevEMA = currentAverage;
-
-            CategoricalDataPoint point;
-            DataPointCollection dataPoints = this.owner.dataPoints();
-            if (dataPoints.size() > currentIndex) {
-                point = (CategoricalDataPoint) dataPoints.get(currentIndex);
-                point.setValue(currentAverage);
-            } else {
-                point = (CategoricalDataPoint) this.generateDataPoint(item, -1);
-                point.setValue(currentAverage);
-                dataPoints.add(point);
-            }
-
-            currentIndex++;
+        //// The first values are calculated as SMA
+        if (index < this.period) {
+            this.currentItems.enqueue(value);
+            currentAverage = MovingAverageIndicatorDataSource.calculateCurrentValue(this.currentItems);
+        } else {
+            currentAverage = calculateCurrentValue(this.multiplier, value, this.prevEMA);
         }
-    }
 
-    @Override
-    protected void updateBinding(DataPointBindingEntry binding) {
-        this.bindCore();
+        this.prevEMA = currentAverage;
+        this.setPointValue(this.owner, item, index, currentAverage);
     }
 
     private static double calculateCurrentValue(double multiplier, double value, double prevEMA) {
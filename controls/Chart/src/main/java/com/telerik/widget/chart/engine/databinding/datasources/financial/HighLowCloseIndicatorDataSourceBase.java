@@ -3,7 +3,7 @@ package com.telerik.widget.chart.engine.databinding.datasources.financial;
 import com.telerik.widget.chart.engine.databinding.DataPointBinding;
 import com.telerik.widget.chart.engine.series.ChartSeriesModel;
 
-public class HighLowCloseIndicatorDataSourceBase extends HighLowIndicatorDataSourceBase {
+public abstract class HighLowCloseIndicatorDataSourceBase extends HighLowIndicatorDataSourceBase {
     public HighLowCloseIndicatorDataSourceBase(ChartSeriesModel owner) {
         super(owner);
     }
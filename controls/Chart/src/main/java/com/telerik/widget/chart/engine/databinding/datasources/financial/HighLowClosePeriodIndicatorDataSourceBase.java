@@ -2,7 +2,7 @@ package com.telerik.widget.chart.engine.databinding.datasources.financial;
 
 import com.telerik.widget.chart.engine.series.ChartSeriesModel;
 
-public class HighLowClosePeriodIndicatorDataSourceBase extends HighLowCloseIndicatorDataSourceBase {
+public abstract class HighLowClosePeriodIndicatorDataSourceBase extends HighLowCloseIndicatorDataSourceBase {
     private int period;
 
     public HighLowClosePeriodIndicatorDataSourceBase(ChartSeriesModel owner) {
@@ -1,10 +1,9 @@
 package com.telerik.widget.chart.engine.databinding.datasources.financial;
 
 import com.telerik.widget.chart.engine.databinding.DataPointBinding;
-import com.telerik.widget.chart.engine.databinding.datasources.CategoricalSeriesDataSource;
 import com.telerik.widget.chart.engine.series.ChartSeriesModel;
 
-public class HighLowIndicatorDataSourceBase extends CategoricalSeriesDataSource {
+public abstract class HighLowIndicatorDataSourceBase extends IndicatorDataSourceBase {
     public HighLowIndicatorDataSourceBase(ChartSeriesModel owner) {
         super(owner);
     }
@@ -0,0 +1,150 @@
+package com.telerik.widget.chart.engine.databinding.datasources.financial;
+
+import com.telerik.android.common.CollectionChangedEvent;
+import com.telerik.widget.chart.engine.dataPoints.CategoricalDataPoint;
+import com.telerik.widget.chart.engine.dataPoints.DataPointCollection;
+import com.telerik.widget.chart.engine.databinding.DataPointBindingEntry;
+import com.telerik.widget.chart.engine.databinding.datasources.CategoricalSeriesDataSource;
+import com.telerik.widget.chart.engine.series.ChartSeriesModel;
+
+/**
+ * Base class for the financial indicator data sources. Indicators are computed as a stream: the
+ * state needed to produce the next value (running sums, previous averages, window extremes) is
+ * carried between items, so items appended at the end of an observable items source are
+ * processed without recomputing the values of the preceding items. Any other change of the items
+ * source recomputes the whole indicator.
+ */
+public abstract class IndicatorDataSourceBase extends CategoricalSeriesDataSource {
+
+    private int itemsCount;
+
+    /**
+     * Initializes a new instance of the {@link IndicatorDataSourceBase} class.
+     *
+     * @param owner the chart series this data source belongs to.
+     */
+    public IndicatorDataSourceBase(ChartSeriesModel owner) {
+        super(owner);
+    }
+
+    /**
+     * Gets the number of items the indicator has been computed for.
+     *
+     * @return the number of processed items.
+     */
+    protected int getItemsCount() {
+        return this.itemsCount;
+    }
+
+    /**
+     * Clears the state carried between the items so that the indicator can be computed from the
+     * first item of the items source.
+     */
+    protected abstract void resetState();
+
+    /**
+     * Computes the indicator value for the given item from the carried state and updates the
+     * state with the item.
+     *
+     * @param item  the data item.
+     * @param index the index of the item in the items source.
+     */
+    protected abstract void appendItem(Object item, int index);
+
+    /**
+     * Indicators do not support a sliding window, since the value of each item depends on all preceding items and
+     * some indicators fill more than one model.
+     *
+     * @param value the capacity of the sliding window, which can only be 0.
+     * @throws UnsupportedOperationException if the value is not 0.
+     */
+    @Override
+    public void setWindowCapacity(int value) {
+        if (value != 0) {
+            throw new UnsupportedOperationException(String.format("%s does not support a sliding window.", this.getClass().getSimpleName()));
+        }
+
+        super.setWindowCapacity(value);
+    }
+
+    @Override
+    protected boolean supportsAsynchronousBinding() {
+        // the indicator values depend on the preceding items
+        return false;
+    }
+
+    @Override
+    protected void bindCore() {
+        this.itemsCount = 0;
+        this.resetState();
+
+        for (Object item : this.itemsSource) {
+            this.appendItem(item, this.itemsCount++);
+        }
+    }
+
+    @Override
+    public boolean supportsColumnarData() {
+        return false;
+    }
+
+    @Override
+    protected void updateBinding(DataPointBindingEntry binding) {
+        this.bindCore();
+    }
+
+    @Override
+    protected void unbind() {
+        super.unbind();
+        this.itemsCount = 0;
+    }
+
+    @Override
+    protected void handleItemAdd(CollectionChangedEvent e) {
+        if (e.getNewIndex() != this.itemsCount) {
+            this.rebind(false, null);
+            return;
+        }
+
+        for (Object item : e.getNewItems()) {
+            this.appendItem(item, this.itemsCount++);
+        }
+    }
+
+    @Override
+    protected void handleItemRemove(CollectionChangedEvent e) {
+        this.rebind(false, null);
+    }
+
+    @Override
+    protected void handleItemReplace(CollectionChangedEvent e) {
+        this.rebind(false, null);
+    }
+
+    @Override
+    protected void handleItemMove(CollectionChangedEvent e) {
+        this.rebind(false, null);
+    }
+
+    /**
+     * Sets the value of the data point at the given index of the given model, generating the data
+     * point for the given item if the model does not have it yet.
+     *
+     * @param model the model that holds the data point.
+     * @param item  the data item of the data point.
+     * @param index the index of the data point.
+     * @param value the new value of the data point.
+     */
+    protected void setPointValue(ChartSeriesModel model, Object item, int index, double value) {
+        DataPointCollection dataPoints = model.dataPoints();
+        CategoricalDataPoint point;
+        if (dataPoints.size() > index) {
+            point = (CategoricalDataPoint) dataPoints.get(index);
+            point.setValue(value);
+        } else {
+            point = (CategoricalDataPoint) this.generateDataPoint(item, -1);
+            point.setValue(value);
+            dataPoints.add(point);
+        }
+    }
+}
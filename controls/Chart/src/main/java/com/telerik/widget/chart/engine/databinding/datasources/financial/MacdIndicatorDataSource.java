@@ -1,7 +1,5 @@
 package com.telerik.widget.chart.engine.databinding.datasources.financial;
 
-import com.telerik.widget.chart.engine.dataPoints.CategoricalDataPoint;
-import com.telerik.widget.chart.engine.databinding.DataPointBindingEntry;
 import com.telerik.widget.chart.engine.series.ChartSeriesModel;
 import com.telerik.widget.chart.visualization.cartesianChart.indicators.MacdIndicator;
 
@@ -10,6 +8,10 @@ public class MacdIndicatorDataSource extends ShortLongPeriodIndicatorDataSourceB
     private int signalPeriod;
     private double currentLongEMA;
     double currentShortEMA;
+    private double signalEMA;
+    private RingBuffer longPeriodItems;
+    private RingBuffer shortPeriodItems;
+    private RingBuffer signalPeriodItems;
 
     public MacdIndicatorDataSource(ChartSeriesModel owner) {
         super(owner);
@@ -30,6 +32,18 @@ public class MacdIndicatorDataSource extends ShortLongPeriodIndicatorDataSourceB
     }
 
 
+    protected static double calculateSignal(int signalPeriod, RingBuffer signalPeriodItems, int currentIndex, double signalEMA, double macd) {
+        if (currentIndex < signalPeriod)
+            signalEMA = MovingAverageIndicatorDataSource.calculateCurrentValue(signalPeriodItems);
+        else
+            signalEMA = ExponentialMovingAverageIndicatorDataSource.calculateCurrentValue(false, signalPeriod, macd, signalEMA);
+        return signalEMA;
+    }
+
+    /**
+     * @deprecated Use {@link #calculateSignal(int, RingBuffer, int, double, double)} instead.
+     */
+    @Deprecated
     protected static double calculateSignal(int signalPeriod, SizedQueue signalPeriodItems, int currentIndex, double signalEMA, double macd) {
         if (currentIndex < signalPeriod)
             signalEMA = MovingAverageIndicatorDataSource.calculateCurrentValue(signalPeriodItems);
@@ -39,61 +53,54 @@ public class MacdIndicatorDataSource extends ShortLongPeriodIndicatorDataSourceB
     }
 
     @Override
-    protected void updateBinding(DataPointBindingEntry binding) {
-        this.bindCore();
+    protected void resetState() {
+        MacdIndicator owner = (MacdIndicator) this.owner.getPresenter();
+        this.longPeriodItems = new RingBuffer(owner.getLongPeriod());
+
+        this.shortPeriodItems = new RingBuffer(owner.getShortPeriod());
+
+        this.signalPeriodItems = new RingBuffer(owner.getSignalPeriod());
+
+        this.currentLongEMA = 0;
+        this.currentShortEMA = 0;
+        this.signalEMA = 0;
     }
 
     @Override
-    protected void bindCore() {
+    protected void appendItem(Object item, int index) {
         MacdIndicator owner = (MacdIndicator) this.owner.getPresenter();
-        SizedQueue longPeriodItems = new SizedQueue();
-        longPeriodItems.size = owner.getLongPeriod();
 
-        SizedQueue shortPeriodItems = new SizedQueue();
-        shortPeriodItems.size = owner.getShortPeriod();
+        double macd = this.calculateMacdValue(owner.getLongPeriod(), this.longPeriodItems, owner.getShortPeriod(), this.shortPeriodItems, index, item);
+        this.signalPeriodItems.enqueue(macd);
 
-        SizedQueue signalPeriodItems = new SizedQueue();
-        signalPeriodItems.size = owner.getSignalPeriod();
+        this.signalEMA = calculateSignal(owner.getSignalPeriod(), this.signalPeriodItems, index, this.signalEMA, macd);
 
-        this.generateDataPoints(owner.getLongPeriod(), longPeriodItems, owner.getShortPeriod(), shortPeriodItems, owner.getSignalPeriod(), signalPeriodItems);
+        this.setPointValue(this.owner, item, index, macd);
+        this.setPointValue(owner.signalModel(), item, index, this.signalEMA);
     }
 
-    protected void generateDataPoints(int longPeriod, SizedQueue longPeriodItems, int shortPeriod, SizedQueue shortPeriodItems, int signalPeriod, SizedQueue signalPeriodItems) {
-        ChartSeriesModel signalModel = ((MacdIndicator) this.owner.getPresenter()).signalModel();
-
-        int currentIndex = 0;
-        CategoricalDataPoint point, point2;
-        double signalEMA = 0d;
-        double macd;
-
-        for (Object item : this.itemsSource) {
-            macd = this.calculateMacdValue(longPeriod, longPeriodItems, shortPeriod, shortPeriodItems, currentIndex, item);
-            signalPeriodItems.enqueueItem(macd);
-
-            signalEMA = calculateSignal(signalPeriod, signalPeriodItems, currentIndex, signalEMA, macd);
-
-            if (this.owner.dataPoints().size() > currentIndex) {
-                point = (CategoricalDataPoint) this.owner.dataPoints().get(currentIndex);
-                point.setValue(macd);
-            } else {
-                point = (CategoricalDataPoint) this.generateDataPoint(item, -1);
-                point.setValue(macd);
-                this.owner.dataPoints().add(point);
-            }
-
-            if (signalModel.dataPoints().size() > currentIndex) {
-                point2 = (CategoricalDataPoint) signalModel.dataPoints().get(currentIndex);
-                point2.setValue(signalEMA);
-            } else {
-                point2 = (CategoricalDataPoint) this.generateDataPoint(item, -1);
-                point2.setValue(signalEMA);
-                signalModel.dataPoints().add(point2);
-            }
-
-            currentIndex++;
-        }
+    protected double calculateMacdValue(int longPeriod, RingBuffer longPeriodItems, int shortPeriod, RingBuffer shortPeriodItems, int currentIndex, Object item) {
+        double value = this.valueBinding.getDoubleValue(item);
+        longPeriodItems.enqueue(value);
+        shortPeriodItems.enqueue(value);
+
+        if (currentIndex < longPeriod)
+            this.currentLongEMA = MovingAverageIndicatorDataSource.calculateCurrentValue(longPeriodItems);
+        else
+            this.currentLongEMA = ExponentialMovingAverageIndicatorDataSource.calculateCurrentValue(false, longPeriod, value, this.currentLongEMA);
+
+        if (currentIndex < shortPeriod)
+            this.currentShortEMA = MovingAverageIndicatorDataSource.calculateCurrentValue(shortPeriodItems);
+        else
+            this.currentShortEMA = ExponentialMovingAverageIndicatorDataSource.calculateCurrentValue(false, shortPeriod, value, this.currentShortEMA);
+
+        return this.currentShortEMA - this.currentLongEMA;
     }
 
+    /**
+     * @deprecated Use {@link #calculateMacdValue(int, RingBuffer, int, RingBuffer, int, Object)} instead.
+     */
+    @Deprecated
     protected double calculateMacdValue(int longPeriod, SizedQueue longPeriodItems, int shortPeriod, SizedQueue shortPeriodItems, int currentIndex, Object item) {
         double value = ((Number) this.valueBinding.getValue(item)).doubleValue();
         longPeriodItems.enqueueItem(value);
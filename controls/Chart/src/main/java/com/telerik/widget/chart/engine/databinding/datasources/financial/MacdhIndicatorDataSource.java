@@ -81,6 +81,12 @@ public class MacdhIndicatorDataSource extends CategoricalSeriesDataSource {
         return signalEMA;
     }
 
+    @Override
+    protected boolean supportsAsynchronousBinding() {
+        // the indicator values depend on the preceding items
+        return false;
+    }
+
     @Override
     protected void updateBinding(DataPointBindingEntry binding) {
         this.bindCore();
@@ -132,7 +138,7 @@ public class MacdhIndicatorDataSource extends CategoricalSeriesDataSource {
     }
 
     protected double calculateMacdValue(int longPeriod, SizedQueue longPeriodItems, int shortPeriod, SizedQueue shortPeriodItems, int currentIndex, Object item) {
-        double value = ((Number) this.valueBinding.getValue(item)).doubleValue();
+        double value = this.valueBinding.getDoubleValue(item);
         longPeriodItems.enqueueItem(value);
         shortPeriodItems.enqueueItem(value);
 
@@ -5,11 +5,10 @@ import com.telerik.widget.chart.engine.databinding.DataPointBindingEntry;
 import com.telerik.widget.chart.engine.series.ChartSeriesModel;
 import com.telerik.widget.chart.visualization.cartesianChart.indicators.MomentumIndicator;
 
-import java.util.ArrayList;
-import java.util.List;
-
 public class MomentumIndicatorDataSource extends ValuePeriodIndicatorDataSourceBase {
 
+    private RingBuffer currentItems;
+
     public MomentumIndicatorDataSource(ChartSeriesModel owner) {
         super(owner);
     }
@@ -22,7 +21,7 @@ public class MomentumIndicatorDataSource extends ValuePeriodIndicatorDataSourceB
     protected void updateBinding(DataPointBindingEntry binding) {
         int index = this.bindings.indexOf(binding);
         Object item = binding.getDataItem();
-        double value = ((Number) this.valueBinding.getValue(item)).doubleValue();
+        double value = this.valueBinding.getDoubleValue(item);
         double previousItemValue, nextItemValue;
         int period = ((MomentumIndicator) this.owner.getPresenter()).getPeriod();
 
@@ -32,7 +31,7 @@ public class MomentumIndicatorDataSource extends ValuePeriodIndicatorDataSourceB
         else
             previousItem = this.bindings.get(index - period).getDataItem();
 
-        previousItemValue = ((Number) this.valueBinding.getValue(previousItem)).doubleValue();
+        previousItemValue = this.valueBinding.getDoubleValue(previousItem);
 
         double currentValue = this.calculateValue(value, previousItemValue);
         ((CategoricalDataPoint) binding.getDataPoint()).setValue(currentValue);
@@ -40,28 +39,20 @@ public class MomentumIndicatorDataSource extends ValuePeriodIndicatorDataSourceB
         if (index + period < this.bindings.size()) {
             DataPointBindingEntry nextItemBinding = this.bindings.get(index + period);
             nextItem = nextItemBinding.getDataItem();
-            nextItemValue = ((Number) this.valueBinding.getValue(nextItem)).doubleValue();
+            nextItemValue = this.valueBinding.getDoubleValue(nextItem);
             double nextValue = this.calculateValue(nextItemValue, value);
             ((CategoricalDataPoint) nextItemBinding.getDataPoint()).setValue(nextValue);
         }
     }
 
     @Override
-    protected void bindCore() {
-        MomentumIndicator indicator = (MomentumIndicator) this.owner.getPresenter();
-        int period = indicator.getPeriod();
-        List<Double> currentItems = new ArrayList<Double>();
-
-        for (Object item : this.itemsSource) {
-            if (currentItems.size() >= period + 1)
-                currentItems.remove(0);
-
-            currentItems.add(((Number) this.valueBinding.getValue(item)).doubleValue());
+    protected void resetState() {
+        this.currentItems = new RingBuffer(((MomentumIndicator) this.owner.getPresenter()).getPeriod() + 1);
+    }
 
-            CategoricalDataPoint point;
-            point = (CategoricalDataPoint) this.generateDataPoint(item, -1);
-            point.setValue(this.calculateValue(currentItems.get(currentItems.size() - 1), currentItems.get(0)));
-            this.owner.dataPoints().add(point);
-        }
+    @Override
+    protected void appendItem(Object item, int index) {
+        this.currentItems.enqueue(this.valueBinding.getDoubleValue(item));
+        this.setPointValue(this.owner, item, index, this.calculateValue(this.currentItems.last(), this.currentItems.first()));
     }
 }
@@ -1,8 +1,5 @@
 package com.telerik.widget.chart.engine.databinding.datasources.financial;
 
-import com.telerik.widget.chart.engine.dataPoints.CategoricalDataPoint;
-import com.telerik.widget.chart.engine.dataPoints.DataPointCollection;
-import com.telerik.widget.chart.engine.databinding.DataPointBindingEntry;
 import com.telerik.widget.chart.engine.series.ChartSeriesModel;
 import com.telerik.widget.chart.visualization.cartesianChart.indicators.RelativeMomentumIndexIndicator;
 
@@ -14,6 +11,11 @@ public class RelativeMomentumIndexIndicatorDataSource extends ValuePeriodIndicat
 
     private int momentumPeriod;
 
+    private int momentumShift;
+    private RingBuffer values;
+    private RingBuffer upMomentumValues;
+    private RingBuffer downMomentumValues;
+
     public int getMomentumPeriod() {
         return this.momentumPeriod;
     }
@@ -30,77 +32,53 @@ public class RelativeMomentumIndexIndicatorDataSource extends ValuePeriodIndicat
     }
 
     @Override
-    protected void updateBinding(DataPointBindingEntry binding) {
-        //// TODO: Optimize this to update only the effected points.
-        this.bindCore();
-    }
-
-    @Override
-    protected void bindCore() {
-        int currentIndex = 0;
-
+    protected void resetState() {
         RelativeMomentumIndexIndicator owner = (RelativeMomentumIndexIndicator) this.owner.getPresenter();
-        ChartSeriesModel model = this.owner;
-
-        int period = owner.getPeriod();
-        int momentumShift = owner.getMomentumPeriod();
+        this.momentumShift = owner.getMomentumPeriod();
 
-        SizedQueue values = new SizedQueue();
-        values.size = momentumShift;
+        this.values = new RingBuffer(this.momentumShift);
 
-        SizedQueue upMomentumValues = new SizedQueue();
-        upMomentumValues.size = period;
+        this.upMomentumValues = new RingBuffer(owner.getPeriod());
 
-        SizedQueue downMomentumValues = new SizedQueue();
-        downMomentumValues.size = period;
+        this.downMomentumValues = new RingBuffer(owner.getPeriod());
+    }
 
-        double oldValue, value, currentIndicatorValue;
+    @Override
+    protected void appendItem(Object item, int index) {
+        double oldValue, currentIndicatorValue;
         double upMomentumAverage, downMomentumAverage;
         double up, down;
 
-        for (Object item : this.itemsSource) {
-            value = ((Number) this.valueBinding.getValue(item)).doubleValue();
-
-            if (currentIndex == 0)
-                oldValue = value;
-            else if (currentIndex < momentumShift)
-                oldValue = values.peek();
-            else
-                oldValue = values.dequeueItem();
-
-            if (oldValue > value) {
-                up = 0;
-                down = oldValue - value;
-            } else {
-                up = value - oldValue;
-                down = 0;
-            }
-
-            upMomentumValues.enqueueItem(up);
-            downMomentumValues.enqueueItem(down);
-
-            upMomentumAverage = MovingAverageIndicatorDataSource.calculateCurrentValue(upMomentumValues);
-            downMomentumAverage = MovingAverageIndicatorDataSource.calculateCurrentValue(downMomentumValues);
-
-            if (Math.round(upMomentumAverage + downMomentumAverage) == 0)
-                currentIndicatorValue = 100;
-            else
-                currentIndicatorValue = 100 * upMomentumAverage / (upMomentumAverage + downMomentumAverage);
-
-            values.enqueueItem(value);
-
-            CategoricalDataPoint point;
-            DataPointCollection dataPoints = this.owner.dataPoints();
-            if (dataPoints.size() > currentIndex) {
-                point = (CategoricalDataPoint) dataPoints.get(currentIndex);
-                point.setValue(currentIndicatorValue);
-            } else {
-                point = (CategoricalDataPoint) this.generateDataPoint(item, -1);
-                point.setValue(currentIndicatorValue);
-                dataPoints.add(point);
-            }
-
-            currentIndex++;
+        double value = this.valueBinding.getDoubleValue(item);
+
+        if (index == 0)
+            oldValue = value;
+        else if (index < this.momentumShift)
+            oldValue = this.values.first();
+        else
+            oldValue = this.values.dequeue();
+
+        if (oldValue > value) {
+            up = 0;
+            down = oldValue - value;
+        } else {
+            up = value - oldValue;
+            down = 0;
         }
+
+        this.upMomentumValues.enqueue(up);
+        this.downMomentumValues.enqueue(down);
+
+        upMomentumAverage = MovingAverageIndicatorDataSource.calculateCurrentValue(this.upMomentumValues);
+        downMomentumAverage = MovingAverageIndicatorDataSource.calculateCurrentValue(this.downMomentumValues);
+
+        if (Math.round(upMomentumAverage + downMomentumAverage) == 0)
+            currentIndicatorValue = 100;
+        else
+            currentIndicatorValue = 100 * upMomentumAverage / (upMomentumAverage + downMomentumAverage);
+
+        this.values.enqueue(value);
+
+        this.setPointValue(this.owner, item, index, currentIndicatorValue);
     }
 }
@@ -1,80 +1,68 @@
 package com.telerik.widget.chart.engine.databinding.datasources.financial;
 
-import com.telerik.widget.chart.engine.dataPoints.CategoricalDataPoint;
-import com.telerik.widget.chart.engine.dataPoints.DataPointCollection;
-import com.telerik.widget.chart.engine.databinding.DataPointBindingEntry;
 import com.telerik.widget.chart.engine.series.ChartSeriesModel;
 import com.telerik.widget.chart.visualization.cartesianChart.indicators.ValuePeriodIndicatorBase;
 
 public class RelativeStrengthIndexIndicatorDataSource extends ValuePeriodIndicatorDataSourceBase {
 
+    private int period;
+    private RingBuffer losses;
+    private RingBuffer gains;
+    private double prevValue;
+    private double currentValue;
+    private double lossesAverage;
+    private double gainsAverage;
+
     public RelativeStrengthIndexIndicatorDataSource(ChartSeriesModel owner) {
         super(owner);
     }
 
     @Override
-    protected void bindCore() {
-        int period = ((ValuePeriodIndicatorBase) this.owner.getPresenter()).getPeriod();
-        SizedQueue losses = new SizedQueue();
-        losses.size = period;
-
-        SizedQueue gains = new SizedQueue();
-        gains.size = period;
-
-        double prevValue = 0;
-        double currentValue = 0;
-        double lossesAverage = 0;
-        double gainsAverage = 0;
-        int currentIndex = 0;
+    protected void resetState() {
+        this.period = ((ValuePeriodIndicatorBase) this.owner.getPresenter()).getPeriod();
+        this.losses = new RingBuffer(this.period);
 
-        for (Object item : this.itemsSource) {
-            double value = ((Number) this.valueBinding.getValue(item)).doubleValue();
-            double difference = 0;
-            if (currentIndex > 0)
-                difference = Math.abs(value - prevValue);
+        this.gains = new RingBuffer(this.period);
 
-            double gain;
-            double loss;
+        this.prevValue = 0;
+        this.currentValue = 0;
+        this.lossesAverage = 0;
+        this.gainsAverage = 0;
+    }
 
-            if (value > prevValue) {
-                gain = difference;
-                loss = 0;
-            } else {
-                gain = 0;
-                loss = difference;
-            }
+    @Override
+    protected void appendItem(Object item, int index) {
+        double value = this.valueBinding.getDoubleValue(item);
+        double difference = 0;
+        if (index > 0)
+            difference = Math.abs(value - this.prevValue);
 
-            gains.enqueueItem(gain);
-            losses.enqueueItem(loss);
+        double gain;
+        double loss;
 
-            if (currentIndex < period) {
-                lossesAverage = MovingAverageIndicatorDataSource.calculateCurrentValue(losses);
-                gainsAverage = MovingAverageIndicatorDataSource.calculateCurrentValue(gains);
-            } else {
-                gainsAverage = ExponentialMovingAverageIndicatorDataSource.calculateCurrentValue(false, period, gain, gainsAverage);
-                lossesAverage = ExponentialMovingAverageIndicatorDataSource.calculateCurrentValue(false, period, loss, lossesAverage);
+        if (value > this.prevValue) {
+            gain = difference;
+            loss = 0;
+        } else {
+            gain = 0;
+            loss = difference;
+        }
 
-                currentValue = 100 - (100 / (1 + (gainsAverage / lossesAverage)));
-            }
+        this.gains.enqueue(gain);
+        this.losses.enqueue(loss);
 
-            CategoricalDataPoint point;
-            DataPointCollection dataPoints = this.owner.dataPoints();
-            if (dataPoints.size() > currentIndex) {
-                point = (CategoricalDataPoint) dataPoints.get(currentIndex);
-                point.setValue(currentValue);
-            } else {
-                point = (CategoricalDataPoint) this.generateDataPoint(item, -1);
-                point.setValue(currentValue);
-                dataPoints.add(point);
-            }
+        if (index < this.period) {
+            this.lossesAverage = MovingAverageIndicatorDataSource.calculateCurrentValue(this.losses);
+            this.gainsAverage = MovingAverageIndicatorDataSource.calculateCurrentValue(this.gains);
+        } else {
+            this.gainsAverage = ExponentialMovingAverageIndicatorDataSource.calculateCurrentValue(false, this.period, gain, this.gainsAverage);
+            this.lossesAverage = ExponentialMovingAverageIndicatorDataSource.calculateCurrentValue(false, this.period, loss, this.lossesAverage);
 
-            prevValue = value;
-            currentIndex++;
+            this.currentValue = 100 - (100 / (1 + (this.gainsAverage / this.lossesAverage)));
         }
-    }
 
-    @Override
-    protected void updateBinding(DataPointBindingEntry binding) {
-        this.bindCore();
+        this.setPointValue(this.owner, item, index, this.currentValue);
+
+        this.prevValue = value;
     }
 }
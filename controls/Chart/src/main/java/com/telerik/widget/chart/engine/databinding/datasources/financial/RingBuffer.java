@@ -0,0 +1,329 @@
+package com.telerik.widget.chart.engine.databinding.datasources.financial;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A fixed capacity window of double values stored in a primitive ring buffer. When the window is
+ * full, enqueuing a value evicts the oldest one. The buffer keeps the sum of the values up to date
+ * and, once they have been requested, the sum of the squared deviations from the mean and the
+ * window extremes, so that all of them are available in amortized O(1) time.
+ */
+public class RingBuffer {
+
+    private final double[] items;
+    private int head;
+    private int count;
+
+    private double sum;
+
+    // Welford state of the window. Maintained once getSquaredDeviationsSum() has been called.
+    private boolean trackDeviations;
+    private double mean;
+    private double squaredDeviationsSum;
+
+    // Monotonic deques of the window extremes, holding the values and the sequence numbers of the
+    // candidate items. Created on the first min() or max() call and updated on every change afterwards.
+    private double[] minValues;
+    private long[] minSequences;
+    private int minHead;
+    private int minCount;
+    private double[] maxValues;
+    private long[] maxSequences;
+    private int maxHead;
+    private int maxCount;
+
+    // Sequence number of the oldest item in the window.
+    private long firstSequence;
+
+    /**
+     * Creates a new instance of the {@link RingBuffer} class.
+     *
+     * @param capacity the number of values the window holds. A buffer with zero capacity ignores
+     *                 the enqueued values.
+     */
+    public RingBuffer(int capacity) {
+        this.items = new double[Math.max(capacity, 0)];
+    }
+
+    /**
+     * Gets the number of values the window holds.
+     *
+     * @return the capacity of the buffer.
+     */
+    public int getCapacity() {
+        return this.items.length;
+    }
+
+    /**
+     * Gets the number of values currently in the window.
+     *
+     * @return the number of values.
+     */
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * Determines whether the window has no values.
+     *
+     * @return <code>true</code> if the window is empty, <code>false</code> otherwise.
+     */
+    public boolean isEmpty() {
+        return this.count == 0;
+    }
+
+    /**
+     * Determines whether the window holds as many values as its capacity.
+     *
+     * @return <code>true</code> if the window is full, <code>false</code> otherwise.
+     */
+    public boolean isFull() {
+        return this.count == this.items.length;
+    }
+
+    /**
+     * Gets the sum of the values in the window.
+     *
+     * @return the sum of the values.
+     */
+    public double getSum() {
+        return this.sum;
+    }
+
+    /**
+     * Gets the average of the values in the window.
+     *
+     * @return the average or {@link Double#NaN} if the window is empty.
+     */
+    public double getAverage() {
+        return this.sum / this.count;
+    }
+
+    /**
+     * Gets the sum of the squared deviations of the values from their mean. After the first call
+     * the sum is updated with Welford's method as values enter and leave the window.
+     *
+     * @return the sum of the squared deviations.
+     */
+    public double getSquaredDeviationsSum() {
+        if (!this.trackDeviations) {
+            this.trackDeviations = true;
+            this.mean = 0;
+            this.squaredDeviationsSum = 0;
+            for (int i = 0; i < this.count; i++) {
+                double value = this.items[this.wrap(this.head + i)];
+                double delta = value - this.mean;
+                this.mean += delta / (i + 1);
+                this.squaredDeviationsSum += delta * (value - this.mean);
+            }
+        }
+
+        return Math.max(this.squaredDeviationsSum, 0);
+    }
+
+    /**
+     * Gets the value at the given position, counted from the oldest value in the window.
+     *
+     * @param index the position of the value.
+     * @return the value.
+     */
+    public double get(int index) {
+        if (index < 0 || index >= this.count) {
+            throw new IndexOutOfBoundsException("index");
+        }
+
+        return this.items[this.wrap(this.head + index)];
+    }
+
+    /**
+     * Gets the oldest value in the window.
+     *
+     * @return the oldest value.
+     * @throws NoSuchElementException if the window is empty.
+     */
+    public double first() {
+        if (this.count == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return this.items[this.head];
+    }
+
+    /**
+     * Gets the newest value in the window.
+     *
+     * @return the newest value.
+     * @throws NoSuchElementException if the window is empty.
+     */
+    public double last() {
+        if (this.count == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return this.items[this.wrap(this.head + this.count - 1)];
+    }
+
+    /**
+     * Adds the value to the window, evicting the oldest value if the window is full.
+     *
+     * @param value the value to add.
+     * @return the evicted value or {@link Double#NaN} if no value was evicted.
+     */
+    public double enqueue(double value) {
+        if (this.items.length == 0) {
+            return Double.NaN;
+        }
+
+        double result = Double.NaN;
+        if (this.count == this.items.length) {
+            result = this.dequeue();
+        }
+
+        this.items[this.wrap(this.head + this.count)] = value;
+        long sequence = this.firstSequence + this.count;
+        this.count++;
+
+        this.sum += value;
+        if (this.trackDeviations) {
+            double delta = value - this.mean;
+            this.mean += delta / this.count;
+            this.squaredDeviationsSum += delta * (value - this.mean);
+        }
+
+        if (this.minValues != null) {
+            this.pushExtremes(value, sequence);
+        }
+
+        return result;
+    }
+
+    /**
+     * Removes the oldest value from the window.
+     *
+     * @return the removed value.
+     * @throws NoSuchElementException if the window is empty.
+     */
+    public double dequeue() {
+        if (this.count == 0) {
+            throw new NoSuchElementException();
+        }
+
+        double value = this.items[this.head];
+        this.head = this.wrap(this.head + 1);
+        this.count--;
+
+        if (this.count == 0) {
+            this.sum = 0;
+            this.mean = 0;
+            this.squaredDeviationsSum = 0;
+        } else {
+            this.sum -= value;
+            if (this.trackDeviations) {
+                double delta = value - this.mean;
+                this.mean -= delta / this.count;
+                this.squaredDeviationsSum -= delta * (value - this.mean);
+            }
+        }
+
+        if (this.minValues != null) {
+            if (this.minCount > 0 && this.minSequences[this.minHead] == this.firstSequence) {
+                this.minHead = this.wrap(this.minHead + 1);
+                this.minCount--;
+            }
+
+            if (this.maxCount > 0 && this.maxSequences[this.maxHead] == this.firstSequence) {
+                this.maxHead = this.wrap(this.maxHead + 1);
+                this.maxCount--;
+            }
+        }
+
+        this.firstSequence++;
+
+        return value;
+    }
+
+    /**
+     * Gets the smallest value in the window.
+     *
+     * @return the smallest value or {@link Double#POSITIVE_INFINITY} if the window is empty.
+     */
+    public double min() {
+        this.ensureExtremes();
+        if (this.minCount == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        return this.minValues[this.minHead];
+    }
+
+    /**
+     * Gets the largest value in the window.
+     *
+     * @return the largest value or {@link Double#NEGATIVE_INFINITY} if the window is empty.
+     */
+    public double max() {
+        this.ensureExtremes();
+        if (this.maxCount == 0) {
+            return Double.NEGATIVE_INFINITY;
+        }
+
+        return this.maxValues[this.maxHead];
+    }
+
+    /**
+     * Removes all values from the window.
+     */
+    public void clear() {
+        this.head = 0;
+        this.count = 0;
+        this.sum = 0;
+        this.mean = 0;
+        this.squaredDeviationsSum = 0;
+        this.firstSequence = 0;
+        this.minHead = 0;
+        this.minCount = 0;
+        this.maxHead = 0;
+        this.maxCount = 0;
+    }
+
+    private void ensureExtremes() {
+        if (this.minValues != null) {
+            return;
+        }
+
+        int capacity = this.items.length;
+        this.minValues = new double[capacity];
+        this.minSequences = new long[capacity];
+        this.maxValues = new double[capacity];
+        this.maxSequences = new long[capacity];
+
+        for (int i = 0; i < this.count; i++) {
+            this.pushExtremes(this.items[this.wrap(this.head + i)], this.firstSequence + i);
+        }
+    }
+
+    private void pushExtremes(double value, long sequence) {
+        while (this.minCount > 0 && this.minValues[this.wrap(this.minHead + this.minCount - 1)] > value) {
+            this.minCount--;
+        }
+
+        int index = this.wrap(this.minHead + this.minCount);
+        this.minValues[index] = value;
+        this.minSequences[index] = sequence;
+        this.minCount++;
+
+        while (this.maxCount > 0 && this.maxValues[this.wrap(this.maxHead + this.maxCount - 1)] < value) {
+            this.maxCount--;
+        }
+
+        index = this.wrap(this.maxHead + this.maxCount);
+        this.maxValues[index] = value;
+        this.maxSequences[index] = sequence;
+        this.maxCount++;
+    }
+
+    private int wrap(int index) {
+        int capacity = this.items.length;
+        return index >= capacity ? index - capacity : index;
+    }
+}
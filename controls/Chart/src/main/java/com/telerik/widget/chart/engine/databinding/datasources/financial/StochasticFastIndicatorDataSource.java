@@ -1,80 +1,49 @@
 package com.telerik.widget.chart.engine.databinding.datasources.financial;
 
-import com.telerik.widget.chart.engine.dataPoints.CategoricalDataPoint;
-import com.telerik.widget.chart.engine.dataPoints.DataPointCollection;
-import com.telerik.widget.chart.engine.databinding.DataPointBindingEntry;
 import com.telerik.widget.chart.engine.series.ChartSeriesModel;
 import com.telerik.widget.chart.visualization.cartesianChart.indicators.StochasticFastIndicator;
 import com.telerik.widget.chart.visualization.cartesianChart.indicators.StochasticIndicatorDataSourceBase;
 
 public class StochasticFastIndicatorDataSource extends StochasticIndicatorDataSourceBase {
 
+    private RingBuffer highValues;
+    private RingBuffer lowValues;
+    private RingBuffer stochValues;
+
     public StochasticFastIndicatorDataSource(ChartSeriesModel owner) {
         super(owner);
     }
 
     @Override
-    protected void updateBinding(DataPointBindingEntry binding) {
-        this.bindCore();
+    protected void resetState() {
+        StochasticFastIndicator owner = (StochasticFastIndicator) this.owner.getPresenter();
+
+        this.highValues = new RingBuffer(owner.getMainPeriod());
+
+        this.lowValues = new RingBuffer(owner.getMainPeriod());
+
+        this.stochValues = new RingBuffer(owner.getSignalPeriod());
     }
 
-    protected void bindCore() {
-        int currentIndex = 0;
+    @Override
+    protected void appendItem(Object item, int index) {
+        double high = this.highBinding.getDoubleValue(item);
+        double low = this.lowBinding.getDoubleValue(item);
+        double close = this.closeBinding.getDoubleValue(item);
 
-        StochasticFastIndicator owner = (StochasticFastIndicator) this.owner.getPresenter();
-        ChartSeriesModel signalModel = owner.signalModel();
-
-        int mainPeriod = owner.getMainPeriod();
-        int signalPeriod = owner.getSignalPeriod();
-
-        SizedQueue highValues = new SizedQueue();
-        highValues.size = mainPeriod;
-
-        SizedQueue lowValues = new SizedQueue();
-        lowValues.size = mainPeriod;
-
-        SizedQueue stochValues = new SizedQueue();
-        stochValues.size = signalPeriod;
-
-        for (Object item : this.itemsSource) {
-            double high = ((Number) this.highBinding.getValue(item)).doubleValue();
-            double low = ((Number) this.lowBinding.getValue(item)).doubleValue();
-            double close = ((Number) this.closeBinding.getValue(item)).doubleValue();
-
-            double mainValue = calculateMainValue(highValues, lowValues, high, low, close);
-
-            stochValues.enqueueItem(mainValue);
-
-            double signalValue = MovingAverageIndicatorDataSource.calculateCurrentValue(stochValues);
-
-            CategoricalDataPoint point, point2;
-            DataPointCollection dataPoints = this.owner.dataPoints();
-            if (dataPoints.size() > currentIndex) {
-                point = (CategoricalDataPoint) dataPoints.get(currentIndex);
-                point.setValue(mainValue);
-            } else {
-                point = (CategoricalDataPoint) this.generateDataPoint(item, -1);
-                point.setValue(mainValue);
-                dataPoints.add(point);
-            }
-
-            dataPoints = signalModel.dataPoints();
-            if (dataPoints.size() > currentIndex) {
-                point2 = (CategoricalDataPoint) dataPoints.get(currentIndex);
-                point2.setValue(signalValue);
-            } else {
-                point2 = (CategoricalDataPoint) this.generateDataPoint(item, -1);
-                point2.setValue(signalValue);
-                dataPoints.add(point2);
-            }
-
-            currentIndex++;
-        }
+        double mainValue = calculateMainValue(this.highValues, this.lowValues, high, low, close);
+
+        this.stochValues.enqueue(mainValue);
+
+        double signalValue = MovingAverageIndicatorDataSource.calculateCurrentValue(this.stochValues);
+
+        this.setPointValue(this.owner, item, index, mainValue);
+        this.setPointValue(((StochasticFastIndicator) this.owner.getPresenter()).signalModel(), item, index, signalValue);
     }
 
-    private static double calculateMainValue(SizedQueue highValues, SizedQueue lowValues, double high, double low, double close) {
-        highValues.enqueueItem(high);
-        lowValues.enqueueItem(low);
+    private static double calculateMainValue(RingBuffer highValues, RingBuffer lowValues, double high, double low, double close) {
+        highValues.enqueue(high);
+        lowValues.enqueue(low);
         double max = highValues.max();
         double min = lowValues.min();
 
@@ -1,7 +1,5 @@
 package com.telerik.widget.chart.engine.databinding.datasources.financial;
 
-import com.telerik.widget.chart.engine.dataPoints.CategoricalDataPoint;
-import com.telerik.widget.chart.engine.databinding.DataPointBindingEntry;
 import com.telerik.widget.chart.engine.series.ChartSeriesModel;
 import com.telerik.widget.chart.visualization.cartesianChart.indicators.StochasticIndicatorDataSourceBase;
 import com.telerik.widget.chart.visualization.cartesianChart.indicators.StochasticSlowIndicator;
@@ -9,6 +7,11 @@ import com.telerik.widget.chart.visualization.cartesianChart.indicators.Stochast
 public class StochasticSlowIndicatorDataSource extends StochasticIndicatorDataSourceBase {
     private int slowingPeriod;
 
+    private RingBuffer highValues;
+    private RingBuffer lowValues;
+    private RingBuffer fastStochValues;
+    private RingBuffer slowStochValues;
+
     public StochasticSlowIndicatorDataSource(ChartSeriesModel owner) {
         super(owner);
     }
@@ -30,69 +33,36 @@ public class StochasticSlowIndicatorDataSource extends StochasticIndicatorDataSo
     }
 
     @Override
-    protected void updateBinding(DataPointBindingEntry binding) {
-        this.bindCore();
+    protected void resetState() {
+        StochasticSlowIndicator owner = (StochasticSlowIndicator) this.owner.getPresenter();
+
+        this.highValues = new RingBuffer(owner.getMainPeriod());
+        this.lowValues = new RingBuffer(owner.getMainPeriod());
+        this.fastStochValues = new RingBuffer(owner.getSlowingPeriod());
+        this.slowStochValues = new RingBuffer(owner.getSignalPeriod());
     }
 
     @Override
-    protected void bindCore() {
-        int currentIndex = 0;
+    protected void appendItem(Object item, int index) {
+        double high = this.getHighBinding().getDoubleValue(item);
+        double low = this.getLowBinding().getDoubleValue(item);
+        double close = this.getCloseBinding().getDoubleValue(item);
 
-        StochasticSlowIndicator owner = (StochasticSlowIndicator) this.owner.getPresenter();
-        ChartSeriesModel signalModel = owner.signalModel();
-
-        int mainPeriod = owner.getMainPeriod();
-        int slowingPeriod = owner.getSlowingPeriod();
-        int signalPeriod = owner.getSignalPeriod();
-
-        SizedQueue highValues = new SizedQueue();
-        highValues.size = mainPeriod;
-        SizedQueue lowValues = new SizedQueue();
-        lowValues.size = mainPeriod;
-        SizedQueue fastStochValues = new SizedQueue();
-        fastStochValues.size = slowingPeriod;
-        SizedQueue slowStochValues = new SizedQueue();
-        slowStochValues.size = signalPeriod;
-
-        for (Object item : this.itemsSource) {
-            double high = ((Number) this.getHighBinding().getValue(item)).doubleValue();
-            double low = ((Number) this.getLowBinding().getValue(item)).doubleValue();
-            double close = ((Number) this.getCloseBinding().getValue(item)).doubleValue();
-
-            double fastStochValue = calculateMainValue(highValues, lowValues, high, low, close);
-            fastStochValues.enqueueItem(fastStochValue);
-
-            double slowStochValue = MovingAverageIndicatorDataSource.calculateCurrentValue(fastStochValues);
-            slowStochValues.enqueueItem(slowStochValue);
-
-            double slowSignalValue = MovingAverageIndicatorDataSource.calculateCurrentValue(slowStochValues);
-
-            CategoricalDataPoint point, point2;
-            if (this.owner.dataPoints().size() > currentIndex) {
-                point = (CategoricalDataPoint) this.owner.dataPoints().get(currentIndex);
-                point.setValue(slowStochValue);
-            } else {
-                point = (CategoricalDataPoint) this.generateDataPoint(item, -1);
-                point.setValue(slowStochValue);
-                this.owner.dataPoints().add(point);
-            }
-
-            if (signalModel.dataPoints().size() > currentIndex) {
-                point2 = (CategoricalDataPoint) signalModel.dataPoints().get(currentIndex);
-                point2.setValue(slowSignalValue);
-            } else {
-                point2 = (CategoricalDataPoint) this.generateDataPoint(item, -1);
-                point2.setValue(slowSignalValue);
-                signalModel.dataPoints().add(point2);
-            }
-
-            currentIndex++;
-        }
+        double fastStochValue = calculateMainValue(this.highValues, this.lowValues, high, low, close);
+        this.fastStochValues.enqueue(fastStochValue);
+
+        double slowStochValue = MovingAverageIndicatorDataSource.calculateCurrentValue(this.fastStochValues);
+        this.slowStochValues.enqueue(slowStochValue);
+
+        double slowSignalValue = MovingAverageIndicatorDataSource.calculateCurrentValue(this.slowStochValues);
+
+        this.setPointValue(this.owner, item, index, slowStochValue);
+        this.setPointValue(((StochasticSlowIndicator) this.owner.getPresenter()).signalModel(), item, index, slowSignalValue);
     }
 
-    private static double calculateMainValue(SizedQueue highValues, SizedQueue lowValues, double high, double low, double close) {
-        highValues.enqueueItem(high);
-        lowValues.enqueueItem(low);
+    private static double calculateMainValue(RingBuffer highValues, RingBuffer lowValues, double high, double low, double close) {
+        highValues.enqueue(high);
+        lowValues.enqueue(low);
         double max = highValues.max();
         double min = lowValues.min();
 
@@ -1,74 +1,65 @@
 package com.telerik.widget.chart.engine.databinding.datasources.financial;
 
-import com.telerik.widget.chart.engine.dataPoints.CategoricalDataPoint;
-import com.telerik.widget.chart.engine.databinding.DataPointBindingEntry;
 import com.telerik.widget.chart.engine.series.ChartSeriesModel;
 import com.telerik.widget.chart.visualization.cartesianChart.indicators.ValuePeriodIndicatorBase;
 
 public class TrixIndicatorDataSource extends ValuePeriodIndicatorDataSourceBase {
+
+    private int period;
+    private RingBuffer currentItems;
+    private RingBuffer emaOneItems;
+    private RingBuffer emaTwoItems;
+    private double lastEmaOne;
+    private double lastEmaTwo;
+    private double lastEmaThree;
+
     public TrixIndicatorDataSource(ChartSeriesModel owner) {
         super(owner);
     }
 
     @Override
-    protected void bindCore() {
-        int period = ((ValuePeriodIndicatorBase) this.owner.getPresenter()).getPeriod();
-        SizedQueue currentItems = new SizedQueue();
-        currentItems.size = period;
-        SizedQueue emaOneItems = new SizedQueue();
-        emaOneItems.size = period;
-        SizedQueue emaTwoItems = new SizedQueue();
-        emaTwoItems.size = period;
+    protected void resetState() {
+        this.period = ((ValuePeriodIndicatorBase) this.owner.getPresenter()).getPeriod();
+        this.currentItems = new RingBuffer(this.period);
+        this.emaOneItems = new RingBuffer(this.period);
+        this.emaTwoItems = new RingBuffer(this.period);
 
-        int currentIndex = 0;
+        this.lastEmaOne = 0;
+        this.lastEmaTwo = 0;
+        this.lastEmaThree = 0;
+    }
+
+    @Override
+    protected void appendItem(Object item, int index) {
         double emaOne, emaTwo, emaThree;
-        double lastEmaOne = 0;
-        double lastEmaTwo = 0;
-        double lastEmaThree = 0;
         double currentValue;
 
-        for (Object item : this.itemsSource) {
-            double value = ((Number) this.getValueBinding().getValue(item)).doubleValue();
-            currentItems.enqueueItem(value);
+        double value = this.getValueBinding().getDoubleValue(item);
+        this.currentItems.enqueue(value);
 
-            if (currentIndex < period) {
-                emaOne = MovingAverageIndicatorDataSource.calculateCurrentValue(currentItems);
-                emaOneItems.enqueueItem(emaOne);
-                emaTwo = MovingAverageIndicatorDataSource.calculateCurrentValue(emaOneItems);
-                emaTwoItems.enqueueItem(emaTwo);
-                emaThree = MovingAverageIndicatorDataSource.calculateCurrentValue(emaTwoItems);
-            } else {
-                emaOne = ExponentialMovingAverageIndicatorDataSource.calculateCurrentValue(false, period, value, lastEmaOne);
-                emaOneItems.enqueueItem(emaOne);
-                emaTwo = ExponentialMovingAverageIndicatorDataSource.calculateCurrentValue(false, period, emaOne, lastEmaTwo);
-                emaTwoItems.enqueueItem(emaTwo);
-                emaThree = ExponentialMovingAverageIndicatorDataSource.calculateCurrentValue(false, period, emaTwo, lastEmaThree);
-            }
+        if (index < this.period) {
+            emaOne = MovingAverageIndicatorDataSource.calculateCurrentValue(this.currentItems);
+            this.emaOneItems.enqueue(emaOne);
+            emaTwo = MovingAverageIndicatorDataSource.calculateCurrentValue(this.emaOneItems);
+            this.emaTwoItems.enqueue(emaTwo);
+            emaThree = MovingAverageIndicatorDataSource.calculateCurrentValue(this.emaTwoItems);
+        } else {
+            emaOne = ExponentialMovingAverageIndicatorDataSource.calculateCurrentValue(false, this.period, value, this.lastEmaOne);
+            this.emaOneItems.enqueue(emaOne);
+            emaTwo = ExponentialMovingAverageIndicatorDataSource.calculateCurrentValue(false, this.period, emaOne, this.lastEmaTwo);
+            this.emaTwoItems.enqueue(emaTwo);
+            emaThree = ExponentialMovingAverageIndicatorDataSource.calculateCurrentValue(false, this.period, emaTwo, this.lastEmaThree);
+        }
 
-            if (currentIndex == 0)
-                currentValue = 0;
-            else
-                currentValue = 100 * (emaThree - lastEmaThree) / emaThree;
+        if (index == 0)
+            currentValue = 0;
+        else
+            currentValue = 100 * (emaThree - this.lastEmaThree) / emaThree;
 
-            CategoricalDataPoint point;
-            if (this.owner.dataPoints().size() > currentIndex) {
-                point = (CategoricalDataPoint) this.owner.dataPoints().get(currentIndex);
-                point.setValue(currentValue);
-            } else {
-                point = (CategoricalDataPoint) this.generateDataPoint(item, -1);
-                point.setValue(currentValue);
-                this.owner.dataPoints().add(point);
-            }
+        this.setPointValue(this.owner, item, index, currentValue);
 
-            lastEmaOne = emaOne;
-            lastEmaTwo = emaTwo;
-            lastEmaThree = emaThree;
-            currentIndex++;
-        }
-    }
-
-    @Override
-    protected void updateBinding(DataPointBindingEntry binding) {
-        this.bindCore();
+        this.lastEmaOne = emaOne;
+        this.lastEmaTwo = emaTwo;
+        this.lastEmaThree = emaThree;
     }
 }
@@ -1,14 +1,14 @@
 package com.telerik.widget.chart.engine.databinding.datasources.financial;
 
 import com.telerik.widget.chart.engine.dataPoints.CategoricalDataPoint;
-import com.telerik.widget.chart.engine.dataPoints.DataPointCollection;
 import com.telerik.widget.chart.engine.databinding.DataPointBinding;
 import com.telerik.widget.chart.engine.databinding.DataPointBindingEntry;
 import com.telerik.widget.chart.engine.series.ChartSeriesModel;
-import com.telerik.widget.chart.visualization.common.ChartSeries;
 
 public class TrueRangeIndicatorDataSource extends HighLowCloseIndicatorDataSourceBase {
 
+    private Object previousItem;
+
     public TrueRangeIndicatorDataSource(ChartSeriesModel owner) {
         super(owner);
     }
@@ -16,12 +16,12 @@ public class TrueRangeIndicatorDataSource extends HighLowCloseIndicatorDataSourc
     public static double calculateValue(DataPointBinding highBinding, DataPointBinding lowBinding, DataPointBinding closeBinding, Object previousItem, Object currentItem) {
         double previousClose, high, low, value;
 
-        high = ((Number) highBinding.getValue(currentItem)).doubleValue();
-        low = ((Number) lowBinding.getValue(currentItem)).doubleValue();
+        high = highBinding.getDoubleValue(currentItem);
+        low = lowBinding.getDoubleValue(currentItem);
         if (previousItem != null)
-            previousClose = ((Number) closeBinding.getValue(previousItem)).doubleValue();
+            previousClose = closeBinding.getDoubleValue(previousItem);
         else
-            previousClose = ((Number) closeBinding.getValue(currentItem)).doubleValue();
+            previousClose = closeBinding.getDoubleValue(currentItem);
 
         value = high - low;
 
@@ -36,13 +36,13 @@ public class TrueRangeIndicatorDataSource extends HighLowCloseIndicatorDataSourc
         int index = this.bindings.indexOf(binding);
         Object item = binding.getDataItem();
 
-        double high = ((Number) this.highBinding.getValue(item)).doubleValue();
-        double low = ((Number) this.lowBinding.getValue(item)).doubleValue();
+        double high = this.highBinding.getDoubleValue(item);
+        double low = this.lowBinding.getDoubleValue(item);
         double value = high - low;
 
         if (index > 0) {
             Object previousItem = this.bindings.get(index - 1).getDataItem();
-            double previousClose = ((Number) this.closeBinding.getValue(previousItem)).doubleValue();
+            double previousClose = this.closeBinding.getDoubleValue(previousItem);
             value = calculateValue(previousClose, low, high);
         }
 
@@ -52,39 +52,28 @@ public class TrueRangeIndicatorDataSource extends HighLowCloseIndicatorDataSourc
         if (index < this.bindings.size() - 1) {
             nextBinding = this.bindings.get(index + 1);
             Object nextItem = nextBinding.getDataItem();
-            double nextHigh = ((Number) this.highBinding.getValue(nextItem)).doubleValue();
-            double nextLow = ((Number) this.lowBinding.getValue(nextItem)).doubleValue();
-            double close = ((Number) this.closeBinding.getValue(item)).doubleValue();
+            double nextHigh = this.highBinding.getDoubleValue(nextItem);
+            double nextLow = this.lowBinding.getDoubleValue(nextItem);
+            double close = this.closeBinding.getDoubleValue(item);
 
             double nextValue = calculateValue(close, nextLow, nextHigh);
             ((CategoricalDataPoint) nextBinding.getDataPoint()).setValue(nextValue);
         }
 
-        super.updateBinding(binding);
+        this.initializeBinding(binding);
     }
 
     @Override
-    protected void bindCore() {
-        double value;
-        int currentIndex = 0;
-        Object previousItem = null;
-        for (Object item : this.itemsSource) {
-            value = calculateValue(this.highBinding, this.lowBinding, this.closeBinding, previousItem, item);
-
-            CategoricalDataPoint point;
-            DataPointCollection dataPoints = ((ChartSeries) this.owner.getPresenter()).model().dataPoints();
-            if (dataPoints.size() > currentIndex) {
-                point = (CategoricalDataPoint) dataPoints.get(currentIndex);
-                point.setValue(value);
-            } else {
-                point = (CategoricalDataPoint) this.generateDataPoint(item, -1);
-                point.setValue(value);
-                dataPoints.add(point);
-            }
-            currentIndex++;
-
-            previousItem = item;
-        }
+    protected void resetState() {
+        this.previousItem = null;
+    }
+
+    @Override
+    protected void appendItem(Object item, int index) {
+        double value = calculateValue(this.highBinding, this.lowBinding, this.closeBinding, this.previousItem, item);
+        this.setPointValue(this.owner, item, index, value);
+
+        this.previousItem = item;
     }
 
     private static double calculateValue(double previousClose, double low, double high) {
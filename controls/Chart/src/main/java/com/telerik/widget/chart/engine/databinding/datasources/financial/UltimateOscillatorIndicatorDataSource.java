@@ -1,7 +1,5 @@
 package com.telerik.widget.chart.engine.databinding.datasources.financial;
 
-import com.telerik.widget.chart.engine.dataPoints.CategoricalDataPoint;
-import com.telerik.widget.chart.engine.databinding.DataPointBindingEntry;
 import com.telerik.widget.chart.engine.series.ChartSeriesModel;
 import com.telerik.widget.chart.visualization.cartesianChart.indicators.UltimateOscillatorIndicator;
 
@@ -13,6 +11,14 @@ public class UltimateOscillatorIndicatorDataSource extends HighLowClosePeriodInd
     private int period2;
     private int period3;
 
+    private RingBuffer items;
+    private RingBuffer items2;
+    private RingBuffer items3;
+    private RingBuffer trueRangeItems;
+    private RingBuffer trueRangeItems2;
+    private RingBuffer trueRangeItems3;
+    private double previousClose;
+
     public int getPeriod2() {
         return this.period2;
     }
@@ -45,90 +51,70 @@ public class UltimateOscillatorIndicatorDataSource extends HighLowClosePeriodInd
         }
     }
 
+    /**
+     * @deprecated No longer used by the data source.
+     */
+    @Deprecated
     public static double calculateCurrentValue(SizedQueue items) {
         return items.runningSum / items.currentItemsCount;
     }
 
     @Override
-    protected void updateBinding(DataPointBindingEntry binding) {
-        this.bindCore();
-    }
-
-    @Override
-    protected void bindCore() {
+    protected void resetState() {
         UltimateOscillatorIndicator indicator = (UltimateOscillatorIndicator) this.owner.getPresenter();
 
-        int period = indicator.getPeriod();
-        int period2 = indicator.getPeriod2();
-        int period3 = indicator.getPeriod3();
+        this.items = new RingBuffer(indicator.getPeriod());
 
-        SizedQueue items = new SizedQueue();
-        items.size = period;
+        this.items2 = new RingBuffer(indicator.getPeriod2());
 
-        SizedQueue items2 = new SizedQueue();
-        items2.size = period2;
+        this.items3 = new RingBuffer(indicator.getPeriod3());
 
-        SizedQueue items3 = new SizedQueue();
-        items3.size = period3;
+        this.trueRangeItems = new RingBuffer(indicator.getPeriod());
+        this.trueRangeItems2 = new RingBuffer(indicator.getPeriod2());
+        this.trueRangeItems3 = new RingBuffer(indicator.getPeriod3());
 
-        SizedQueue trueRangeItems = new SizedQueue();
-        trueRangeItems.size = period;
-        SizedQueue trueRangeItems2 = new SizedQueue();
-        trueRangeItems2.size = period2;
-        SizedQueue trueRangeItems3 = new SizedQueue();
-        trueRangeItems3.size = period3;
+        this.previousClose = 0;
+    }
 
-        int currentIndex = 0;
+    @Override
+    protected void appendItem(Object item, int index) {
         double trueHigh, trueLow, trueRange;
         double high, low, close, range;
         double average1, average2, average3;
         double trueRangeAverage1, trueRangeAverage2, trueRangeAverage3;
 
-        double previousClose = 0;
+        high = this.getHighBinding().getDoubleValue(item);
+        low = this.getLowBinding().getDoubleValue(item);
+        close = this.getCloseBinding().getDoubleValue(item);
 
-        for (Object item : this.itemsSource) {
-            high = ((Number) this.getHighBinding().getValue(item)).doubleValue();
-            low = ((Number) this.getLowBinding().getValue(item)).doubleValue();
-            close = ((Number) this.getCloseBinding().getValue(item)).doubleValue();
+        if (index == 0)
+            this.previousClose = close;
 
-            if (currentIndex == 0)
-                previousClose = close;
+        trueHigh = Math.max(high, this.previousClose);
+        trueLow = Math.min(low, this.previousClose);
+        trueRange = trueHigh - trueLow;
+        range = close - trueLow;
 
-            trueHigh = Math.max(high, previousClose);
-            trueLow = Math.min(low, previousClose);
-            trueRange = trueHigh - trueLow;
-            range = close - trueLow;
+        this.items.enqueue(range);
+        this.items2.enqueue(range);
+        this.items3.enqueue(range);
 
-            items.enqueueItem(range);
-            items2.enqueueItem(range);
-            items3.enqueueItem(range);
+        this.trueRangeItems.enqueue(trueRange);
+        this.trueRangeItems2.enqueue(trueRange);
+        this.trueRangeItems3.enqueue(trueRange);
 
-            trueRangeItems.enqueueItem(trueRange);
-            trueRangeItems2.enqueueItem(trueRange);
-            trueRangeItems3.enqueueItem(trueRange);
+        average1 = MovingAverageIndicatorDataSource.calculateCurrentValue(this.items);
+        average2 = MovingAverageIndicatorDataSource.calculateCurrentValue(this.items2);
+        average3 = MovingAverageIndicatorDataSource.calculateCurrentValue(this.items3);
 
-            average1 = MovingAverageIndicatorDataSource.calculateCurrentValue(items);
-            average2 = MovingAverageIndicatorDataSource.calculateCurrentValue(items2);
-            average3 = MovingAverageIndicatorDataSource.calculateCurrentValue(items3);
+        trueRangeAverage1 = MovingAverageIndicatorDataSource.calculateCurrentValue(this.trueRangeItems);
+        trueRangeAverage2 = MovingAverageIndicatorDataSource.calculateCurrentValue(this.trueRangeItems2);
+        trueRangeAverage3 = MovingAverageIndicatorDataSource.calculateCurrentValue(this.trueRangeItems3);
 
-            trueRangeAverage1 = MovingAverageIndicatorDataSource.calculateCurrentValue(trueRangeItems);
-            trueRangeAverage2 = MovingAverageIndicatorDataSource.calculateCurrentValue(trueRangeItems2);
-            trueRangeAverage3 = MovingAverageIndicatorDataSource.calculateCurrentValue(trueRangeItems3);
+        double value = 100 * ((4 * average1 / trueRangeAverage1) + (2 * average2 / trueRangeAverage2) + (average3 / trueRangeAverage3)) / 7D;
 
-            double value = 100 * ((4 * average1 / trueRangeAverage1) + (2 * average2 / trueRangeAverage2) + (average3 / trueRangeAverage3)) / 7D;
+        this.setPointValue(this.owner, item, index, value);
 
-            CategoricalDataPoint point;
-            if (this.owner.dataPoints().size() > currentIndex) {
-                point = (CategoricalDataPoint) this.owner.dataPoints().get(currentIndex);
-                point.setValue(value);
-            } else {
-                point = (CategoricalDataPoint) this.generateDataPoint(item, -1);
-                point.setValue(value);
-                this.owner.dataPoints().add(point);
-            }
-
-            previousClose = close;
-            currentIndex++;
-        }
+        this.previousClose = close;
     }
-}
\ No newline at end of file
+}
@@ -1,13 +1,12 @@
 package com.telerik.widget.chart.engine.databinding.datasources.financial;
 
 import com.telerik.widget.chart.engine.databinding.PropertyNameDataPointBinding;
-import com.telerik.widget.chart.engine.databinding.datasources.CategoricalSeriesDataSource;
 import com.telerik.widget.chart.engine.series.ChartSeriesModel;
 import com.telerik.widget.chart.visualization.cartesianChart.indicators.ValueIndicatorBase;
 
 import java.beans.PropertyChangeEvent;
 
-public abstract class ValueIndicatorDataSourceBase extends CategoricalSeriesDataSource {
+public abstract class ValueIndicatorDataSourceBase extends IndicatorDataSourceBase {
     public ValueIndicatorDataSourceBase(ChartSeriesModel owner) {
         super(owner);
     }
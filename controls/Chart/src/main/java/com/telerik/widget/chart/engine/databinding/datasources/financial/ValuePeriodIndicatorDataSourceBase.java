@@ -2,7 +2,7 @@ package com.telerik.widget.chart.engine.databinding.datasources.financial;
 
 import com.telerik.widget.chart.engine.series.ChartSeriesModel;
 
-public class ValuePeriodIndicatorDataSourceBase extends ValueIndicatorDataSourceBase {
+public abstract class ValuePeriodIndicatorDataSourceBase extends ValueIndicatorDataSourceBase {
     private int period;
 
     public ValuePeriodIndicatorDataSourceBase(ChartSeriesModel owner) {
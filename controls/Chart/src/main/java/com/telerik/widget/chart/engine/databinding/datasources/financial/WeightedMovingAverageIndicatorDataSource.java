@@ -1,65 +1,51 @@
 package com.telerik.widget.chart.engine.databinding.datasources.financial;
 
-import com.telerik.widget.chart.engine.dataPoints.CategoricalDataPoint;
-import com.telerik.widget.chart.engine.databinding.DataPointBindingEntry;
 import com.telerik.widget.chart.engine.series.ChartSeriesModel;
 import com.telerik.widget.chart.visualization.cartesianChart.indicators.ValuePeriodIndicatorBase;
 
 public class WeightedMovingAverageIndicatorDataSource extends ValuePeriodIndicatorDataSourceBase {
 
+    private RingBuffer currentItems;
+    private double weightedSum;
+
     public WeightedMovingAverageIndicatorDataSource(ChartSeriesModel owner) {
         super(owner);
     }
 
-    @Override
-    protected void bindCore() {
-        this.bindCore(0);
-    }
+    /**
+     * Enqueues the value in the given window and returns the updated sum of the window items
+     * weighted by their position, the oldest item having weight 1.
+     */
+    static double enqueueWeightedItem(RingBuffer currentItems, double weightedSum, double value) {
+        if (currentItems.isFull()) {
+            //// Every weight drops by one, which removes the oldest item and the old window sum.
+            weightedSum -= currentItems.getSum();
+            currentItems.enqueue(value);
+            return weightedSum + (currentItems.getCapacity() * value);
+        }
 
-    protected void updateBinding(DataPointBindingEntry binding) {
-        this.bindCore(this.bindings.indexOf(binding));
+        currentItems.enqueue(value);
+        return weightedSum + (currentItems.size() * value);
     }
 
-    private static double calculateCurrentValue(SizedQueue currentItems) {
-        int itemsCount = currentItems.currentItemsCount;
-        Double[] currentItemsArray = currentItems.toArray(new Double[currentItems.size]);
-
-        double weightedSum = 0;
-
-        for (int i = 0; i < itemsCount; i++)
-            weightedSum += currentItemsArray[i] * (i + 1);
-
+    private static double calculateCurrentValue(RingBuffer currentItems, double weightedSum) {
+        int itemsCount = currentItems.size();
         double divider = itemsCount * (itemsCount + 1) / 2;
 
         return weightedSum / divider;
     }
 
-    private void bindCore(int startIndex) {
-        ValuePeriodIndicatorBase indicator = (ValuePeriodIndicatorBase) this.owner.getPresenter();
-
-        int period = indicator.getPeriod();
-        SizedQueue currentItems = new SizedQueue();
-        currentItems.size = period;
-
-        int currentIndex = 0;
+    @Override
+    protected void resetState() {
+        this.currentItems = new RingBuffer(((ValuePeriodIndicatorBase) this.owner.getPresenter()).getPeriod());
+        this.weightedSum = 0;
+    }
 
-        for (Object item : this.itemsSource) {
-            Object val = this.getValueBinding().getValue(item);
-            currentItems.enqueueItem(((Number) val).doubleValue());
+    @Override
+    protected void appendItem(Object item, int index) {
+        double value = this.getValueBinding().getDoubleValue(item);
+        this.weightedSum = enqueueWeightedItem(this.currentItems, this.weightedSum, value);
 
-            if (currentIndex >= startIndex) {
-                double currentAverage = calculateCurrentValue(currentItems);
-                CategoricalDataPoint point;
-                if (this.owner.dataPoints().size() > currentIndex) {
-                    point = (CategoricalDataPoint) this.owner.dataPoints().get(currentIndex);
-                    point.setValue(currentAverage);
-                } else {
-                    point = (CategoricalDataPoint) this.generateDataPoint(item, -1);
-                    point.setValue(currentAverage);
-                    this.owner.dataPoints().add(point);
-                }
-            }
-            currentIndex++;
-        }
+        this.setPointValue(this.owner, item, index, calculateCurrentValue(this.currentItems, this.weightedSum));
     }
 }
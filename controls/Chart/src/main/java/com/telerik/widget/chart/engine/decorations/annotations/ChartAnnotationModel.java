@@ -58,6 +58,17 @@ public abstract class ChartAnnotationModel extends ChartElement {
      */
     public abstract boolean isUpdated();
 
+    /**
+     * Determines whether the position of the current annotation depends on the given axis. Annotations
+     * that do not know their axes depend on all axes.
+     *
+     * @param axis the axis to check.
+     * @return <code>true</code> if the annotation depends on the axis, <code>false</code> otherwise.
+     */
+    public boolean dependsOnAxis(AxisModel axis) {
+        return true;
+    }
+
     /**
      * Used to reset the update state.
      */
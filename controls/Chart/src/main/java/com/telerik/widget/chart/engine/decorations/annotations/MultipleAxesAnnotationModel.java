@@ -64,6 +64,11 @@ public abstract class MultipleAxesAnnotationModel extends ChartAnnotationModel {
         this.setValue(SECOND_AXIS_PROPERTY_KEY, value);
     }
 
+    @Override
+    public boolean dependsOnAxis(AxisModel axis) {
+        return this.getFirstAxis() == axis || this.getSecondAxis() == axis;
+    }
+
     /**
      * Gets called whenever a change has been made to the first axis.
      */
@@ -38,6 +38,11 @@ public abstract class SingleAxisAnnotationModel extends ChartAnnotationModel {
         this.isUpdated = false;
     }
 
+    @Override
+    public boolean dependsOnAxis(AxisModel axis) {
+        return this.getAxis() == axis;
+    }
+
     @Override
     public boolean isUpdated() {
         return this.isUpdated;
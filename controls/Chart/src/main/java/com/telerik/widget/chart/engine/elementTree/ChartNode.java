@@ -23,8 +23,10 @@ public abstract class ChartNode extends PropertyBagObject {
     public boolean trackPropertyChanged = false;
     protected ChartElement parent;
 
+    // the indexes count the nodes removed from the start of the collections, see NodeCollection.indexOffset
     int index;
     int collectionIndex;
+    ElementCollection<?> collection;
     NodeState nodeState = NodeState.INITIAL;
     LoadContext loadContext;
 
@@ -72,7 +74,11 @@ public abstract class ChartNode extends PropertyBagObject {
      * @return the index of the {@link ChartNode}.
      */
     public int index() {
-        return this.index;
+        if (this.index < 0 || this.parent == null) {
+            return this.index;
+        }
+
+        return this.index - this.parent.children.indexOffset;
     }
 
     /**
@@ -81,7 +87,11 @@ public abstract class ChartNode extends PropertyBagObject {
      * @return the index of the {@link ChartNode}.
      */
     public int collectionIndex() {
-        return this.collectionIndex;
+        if (this.collectionIndex < 0 || this.collection == null) {
+            return this.collectionIndex;
+        }
+
+        return this.collectionIndex - this.collection.indexOffset;
     }
 
     /**
@@ -200,6 +210,16 @@ public abstract class ChartNode extends PropertyBagObject {
         return this.layoutSlot;
     }
 
+    /**
+     * Gets a value indicating whether the current {@link ChartNode} instance was invalidated and has not been
+     * arranged since.
+     *
+     * @return <code>true</code> if the node waits for an arrange pass, <code>false</code> otherwise.
+     */
+    public boolean isInvalidateScheduled() {
+        return this.invalidateScheduled;
+    }
+
     /**
      * Invalidates the layout parameters of the current {@link ChartNode} instance in the context of
      * the owning chart area.
@@ -249,6 +269,64 @@ public abstract class ChartNode extends PropertyBagObject {
         return true;
     }
 
+    @Override
+    public boolean setDoubleValue(int key, double value) {
+        if (!this.trackPropertyChanging && !this.trackPropertyChanged) {
+            return super.setDoubleValue(key, value);
+        }
+
+        // Compare the primitive values so that setting an unchanged value does not box it.
+        if (this.propertyStore.containsEntry(key) &&
+                Double.doubleToLongBits(this.propertyStore.getDouble(key, Double.NaN)) == Double.doubleToLongBits(value)) {
+            return false;
+        }
+
+        RadPropertyEventArgs args = new RadPropertyEventArgs(key, this.getValue(key), value);
+
+        if (this.trackPropertyChanging) {
+            this.onPropertyChanging(args);
+            if (args.Cancel) {
+                return false;
+            }
+        }
+
+        this.propertyStore.setDouble(key, value);
+
+        if (this.trackPropertyChanged) {
+            this.onPropertyChanged(args);
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean setBooleanValue(int key, boolean value) {
+        if (!this.trackPropertyChanging && !this.trackPropertyChanged) {
+            return super.setBooleanValue(key, value);
+        }
+
+        if (this.propertyStore.containsEntry(key) && this.propertyStore.getBoolean(key, !value) == value) {
+            return false;
+        }
+
+        RadPropertyEventArgs args = new RadPropertyEventArgs(key, this.getValue(key), value);
+
+        if (this.trackPropertyChanging) {
+            this.onPropertyChanging(args);
+            if (args.Cancel) {
+                return false;
+            }
+        }
+
+        this.propertyStore.setBoolean(key, value);
+
+        if (this.trackPropertyChanged) {
+            this.onPropertyChanged(args);
+        }
+
+        return true;
+    }
+
     @Override
     public boolean clearValue(int key) {
         if (!this.trackPropertyChanging && !this.trackPropertyChanged) {
@@ -11,6 +11,9 @@ import java.util.ArrayList;
 public class ElementCollection<T extends ChartNode> extends ArrayList<T> {
     private ChartElement owner;
 
+    // The number of items removed from the start of the collection, see NodeCollection.indexOffset.
+    int indexOffset;
+
     /**
      * Creates an instance of the {@link com.telerik.widget.chart.engine.elementTree.ElementCollection} class
      * with a specified owner.
@@ -55,11 +58,45 @@ public class ElementCollection<T extends ChartNode> extends ArrayList<T> {
 
         super.remove(index);
 
+        node.collection = null;
         this.owner.children.remove(node);
         this.shiftNodesIndexes(index - 1, -1);
         return node;
     }
 
+    /**
+     * Removes the given number of items from the start of the collection. The indexes of the remaining items
+     * are not updated, so the cost does not depend on the removed items but on moving the references of the
+     * remaining items once.
+     *
+     * @param count the number of items to remove.
+     */
+    public void removeFirst(int count) {
+        if (count < 0 || count > this.size()) {
+            throw new IndexOutOfBoundsException("count");
+        }
+
+        if (count == 0) {
+            return;
+        }
+
+        ArrayList<ChartNode> removed = new ArrayList<ChartNode>(this.subList(0, count));
+        for (ChartNode node : removed) {
+            node.collection = null;
+        }
+
+        this.removeRange(0, count);
+        this.indexOffset += count;
+        if (this.isEmpty()) {
+            this.indexOffset = 0;
+        } else if (this.indexOffset > NodeCollection.MAX_INDEX_OFFSET) {
+            this.shiftNodesIndexes(-1, -this.indexOffset);
+            this.indexOffset = 0;
+        }
+
+        this.owner.children.removeNodes(removed);
+    }
+
     /**
      * Inserts the provided item at the provided index.
      *
@@ -70,7 +107,8 @@ public class ElementCollection<T extends ChartNode> extends ArrayList<T> {
         super.add(index, item);
 
         this.owner.children.add(item);
-        item.collectionIndex = index;
+        item.collectionIndex = index + this.indexOffset;
+        item.collection = this;
         this.shiftNodesIndexes(index, 1);
     }
 
@@ -85,6 +123,7 @@ public class ElementCollection<T extends ChartNode> extends ArrayList<T> {
         }*/
 
         super.clear();
+        this.indexOffset = 0;
     }
 
     private void shiftNodesIndexes(int index, int offset) {
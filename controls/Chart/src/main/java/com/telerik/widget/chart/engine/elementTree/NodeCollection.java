@@ -1,6 +1,7 @@
 package com.telerik.widget.chart.engine.elementTree;
 
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Represents a collection of {@link ChartNode} instances.
@@ -10,6 +11,12 @@ public class NodeCollection extends ArrayList<ChartNode> {
     private ChartElement owner;
     private boolean suspendIndexShift = false;
 
+    // The number of nodes removed from the start of the collection. The stored indexes of the nodes still count them,
+    // so removing nodes from the start does not update the indexes of the remaining nodes.
+    int indexOffset;
+
+    static final int MAX_INDEX_OFFSET = Integer.MAX_VALUE / 2;
+
     /**
      * Creates an instance of the {@link NodeCollection} class with a specified owner.
      *
@@ -66,9 +73,79 @@ public class NodeCollection extends ArrayList<ChartNode> {
         return this.removeCore(index);
     }
 
+    /**
+     * Removes the provided nodes with a single pass over the collection, which is faster than removing them one by one
+     * when there are many of them. When the nodes are the first ones of the collection, the indexes of the remaining
+     * nodes are not updated and only their references are moved. The owner is notified about each removed node in the order of the provided list and
+     * with the index the node would have had if the preceding nodes were removed one by one.
+     *
+     * @param nodes the nodes to remove.
+     */
+    public void removeNodes(List<? extends ChartNode> nodes) {
+        int[] indexes = new int[nodes.size()];
+        int removedCount = 0;
+        for (ChartNode node : nodes) {
+            int index = this.indexOf(node);
+            if (index == -1) {
+                throw new IllegalArgumentException("The provided node does not exist in this collection.");
+            }
+
+            if (this.verifyRemoveChild(node)) {
+                indexes[removedCount++] = index;
+            }
+        }
+
+        if (removedCount == 0) {
+            return;
+        }
+
+        if (indexes[removedCount - 1] == removedCount - 1 && isAscending(indexes, removedCount)) {
+            this.removeFirst(removedCount);
+            return;
+        }
+
+        // mark the removed nodes and compact the remaining ones, updating their indexes
+        ChartNode[] removed = new ChartNode[removedCount];
+        for (int i = 0; i < removedCount; i++) {
+            removed[i] = super.get(indexes[i]);
+            removed[i].index = -1;
+        }
+
+        int count = super.size();
+        int newCount = 0;
+        this.indexOffset = 0;
+        for (int i = 0; i < count; i++) {
+            ChartNode node = super.get(i);
+            if (node.index == -1) {
+                continue;
+            }
+
+            super.set(newCount, node);
+            node.index = newCount++;
+        }
+        this.removeRange(newCount, count);
+
+        boolean ascending = isAscending(indexes, removedCount);
+        for (int i = 0; i < removedCount; i++) {
+            int index = indexes[i] - i;
+            if (!ascending) {
+                index = indexes[i];
+                for (int j = 0; j < i; j++) {
+                    if (indexes[j] < indexes[i]) {
+                        index--;
+                    }
+                }
+            }
+
+            removed[i].collectionIndex = -1;
+            this.owner.onChildRemoved(index, removed[i]);
+        }
+    }
+
     @Override
     public void clear() {
         super.clear();
+        this.indexOffset = 0;
         this.suspendIndexShift = true;
 
         int count = super.size();
@@ -85,7 +162,7 @@ public class NodeCollection extends ArrayList<ChartNode> {
         }
 
         if (node.parent == this.owner) {
-            return node.index;
+            return node.index - this.indexOffset;
         }
 
         return -1;
@@ -97,7 +174,7 @@ public class NodeCollection extends ArrayList<ChartNode> {
         }
 
         super.add(index, node);
-        node.index = index;
+        node.index = index + this.indexOffset;
 
         this.shiftNodesIndexes(index, 1);
 
@@ -120,6 +197,40 @@ public class NodeCollection extends ArrayList<ChartNode> {
         return node;
     }
 
+    private void removeFirst(int count) {
+        ChartNode[] removed = new ChartNode[count];
+        for (int i = 0; i < count; i++) {
+            removed[i] = super.get(i);
+        }
+
+        this.removeRange(0, count);
+        this.indexOffset += count;
+        if (super.size() == 0) {
+            this.indexOffset = 0;
+        } else if (this.indexOffset > MAX_INDEX_OFFSET) {
+            for (int i = 0, size = super.size(); i < size; i++) {
+                super.get(i).index -= this.indexOffset;
+            }
+            this.indexOffset = 0;
+        }
+
+        for (ChartNode node : removed) {
+            node.index = -1;
+            node.collectionIndex = -1;
+            this.owner.onChildRemoved(0, node);
+        }
+    }
+
+    private static boolean isAscending(int[] indexes, int count) {
+        for (int i = 1; i < count; i++) {
+            if (indexes[i - 1] >= indexes[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     private boolean verifyAddChild(ChartNode node) {
         ModifyChildrenResult result = this.owner.canAddChild(node);
         if (result == ModifyChildrenResult.CANCEL) {
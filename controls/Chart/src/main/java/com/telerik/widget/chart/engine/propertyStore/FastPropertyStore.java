@@ -2,10 +2,28 @@ package com.telerik.widget.chart.engine.propertyStore;
 
 /**
  * This class contains property value entries so that properties can be shared between classes.
+ * <p/>
+ * Property keys are grouped in entries of four consecutive keys. The entries are kept sorted by
+ * key in parallel arrays that grow by doubling, so looking up a value does not allocate and
+ * adding a new entry is amortized O(1) in memory. Numeric and boolean values stored through
+ * {@link #setDouble(int, double)} and {@link #setBoolean(int, boolean)} are kept in primitive
+ * slots and are not boxed.
  */
 public class FastPropertyStore {
 
-    private Entry[] entries;
+    private static final int ELEMENTS_PER_ENTRY = 4;
+    private static final int INITIAL_CAPACITY = 2;
+
+    private int count;
+    private short[] keys;
+    // Bit i of an entry mask is set when element i has a value.
+    private byte[] masks;
+    // Bit i of an entry primitive mask is set when element i is stored in the primitive slots.
+    private byte[] primitiveMasks;
+    // Bit i of an entry boolean mask is set when the primitive value of element i is a boolean.
+    private byte[] booleanMasks;
+    private Object[] values;
+    private double[] primitiveValues;
 
     /**
      * Creates a new instance of the property store.
@@ -17,116 +35,180 @@ public class FastPropertyStore {
      * Clear the property entries.
      */
     public void clear() {
-        this.entries = null;
+        this.count = 0;
+        this.keys = null;
+        this.masks = null;
+        this.primitiveMasks = null;
+        this.booleanMasks = null;
+        this.values = null;
+        this.primitiveValues = null;
     }
 
     /**
      * Checks if the store contains an entry for the given property key.
      *
      * @param key The property key.
-     * @return Returns <code>true</code> if the store contains an entry for this key and <code>false</code> otherwise.
+     * @return Returns <code>true</code> if the store contains a non-null value for this key and <code>false</code>
+     * otherwise.
      */
     public boolean containsEntry(int key) {
-        return this.getEntry(key) != null;
+        int index = this.locateEntry(entryKey(key));
+        if (index < 0) {
+            return false;
+        }
+
+        int bit = 1 << element(key);
+        if ((this.masks[index] & bit) == 0) {
+            return false;
+        }
+
+        // primitive slots always hold a value, object slots may hold a null set through setEntry
+        int slot = (index * ELEMENTS_PER_ENTRY) + element(key);
+        return (this.primitiveMasks[index] & bit) != 0 || this.values[slot] != null;
     }
 
     /**
-     * Gets a property value entry for the given key.
+     * Gets a property value entry for the given key. Values stored in primitive slots are boxed.
      *
      * @param key The key for which to get a value.
      * @return Returns a property value for the given key if it exists. Otherwise <code>null</code> is returned.
      */
     public Object getEntry(int key) {
-
-        PropertyKeyValue splitKeyValue = this.splitKey(key);
-        short element = splitKeyValue.Element;
-        short entryKey = splitKeyValue.EntryKey;
-
-        ValueExtractor<Integer> extractor = new ValueExtractor<Integer>();
-        boolean found = this.locateObject(entryKey, extractor);
-        int objectIndex = extractor.value;
-        if (!found) {
+        int index = this.locateEntry(entryKey(key));
+        if (index < 0) {
             return null;
         }
 
-        if (((1 << element) & this.entries[objectIndex].Mask) == 0) {
+        int bit = 1 << element(key);
+        if ((this.masks[index] & bit) == 0) {
             return null;
         }
 
-        switch (element) {
-            case 0:
-                return this.entries[objectIndex].Val1;
-
-            case 1:
-                return this.entries[objectIndex].Val2;
-
-            case 2:
-                return this.entries[objectIndex].Val3;
+        int slot = (index * ELEMENTS_PER_ENTRY) + element(key);
+        if ((this.primitiveMasks[index] & bit) == 0) {
+            return this.values[slot];
+        }
 
-            case 3:
-                return this.entries[objectIndex].Val4;
+        if ((this.booleanMasks[index] & bit) != 0) {
+            return this.primitiveValues[slot] != 0;
         }
 
-        return null;
+        return this.primitiveValues[slot];
     }
 
     /**
-     * Sets a property value for the given property key.
+     * Gets a numeric property value for the given key without boxing it.
      *
-     * @param key   The property key.
-     * @param value The property value.
+     * @param key          The key for which to get a value.
+     * @param defaultValue The value to return if the store does not contain a numeric value for the key.
+     * @return Returns the property value for the given key if it is a number. Otherwise the default value is returned.
      */
-    public void setEntry(int key, Object value) {
-
-        PropertyKeyValue splitKeyValue = this.splitKey(key);
-        short element = splitKeyValue.Element;
-        short entryKey = splitKeyValue.EntryKey;
+    public double getDouble(int key, double defaultValue) {
+        int index = this.locateEntry(entryKey(key));
+        if (index < 0) {
+            return defaultValue;
+        }
 
-        ValueExtractor<Integer> extractor = new ValueExtractor<Integer>();
-        boolean found = this.locateObject(entryKey, extractor);
+        int bit = 1 << element(key);
+        if ((this.masks[index] & bit) == 0) {
+            return defaultValue;
+        }
 
-        int objectIndex = extractor.value;
-        if (!found) {
-            if (this.entries == null) {
-                this.entries = new Entry[1];
-                this.entries[0] = new Entry();
-            } else {
-                Entry[] destinationArray = new Entry[this.entries.length + 1];
-                for (int i = 0; i < destinationArray.length; ++i) {
-                    destinationArray[i] = new Entry();
-                }
-
-                if (objectIndex > 0) {
-                    System.arraycopy(this.entries, 0, destinationArray, 0, objectIndex);
-                }
-                if ((this.entries.length - objectIndex) > 0) {
-                    System.arraycopy(this.entries, objectIndex, destinationArray, objectIndex + 1, this.entries.length - objectIndex);
-                }
-                this.entries = destinationArray;
-            }
+        int slot = (index * ELEMENTS_PER_ENTRY) + element(key);
+        if ((this.primitiveMasks[index] & bit) != 0) {
+            return (this.booleanMasks[index] & bit) == 0 ? this.primitiveValues[slot] : defaultValue;
+        }
 
-            this.entries[objectIndex].Key = entryKey;
+        Object value = this.values[slot];
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
         }
 
-        switch (element) {
-            case 0:
-                this.entries[objectIndex].Val1 = value;
-                break;
+        return defaultValue;
+    }
+
+    /**
+     * Gets a boolean property value for the given key without boxing it.
+     *
+     * @param key          The key for which to get a value.
+     * @param defaultValue The value to return if the store does not contain a boolean value for the key.
+     * @return Returns the property value for the given key if it is a boolean. Otherwise the default value is returned.
+     */
+    public boolean getBoolean(int key, boolean defaultValue) {
+        int index = this.locateEntry(entryKey(key));
+        if (index < 0) {
+            return defaultValue;
+        }
 
-            case 1:
-                this.entries[objectIndex].Val2 = value;
-                break;
+        int bit = 1 << element(key);
+        if ((this.masks[index] & bit) == 0) {
+            return defaultValue;
+        }
 
-            case 2:
-                this.entries[objectIndex].Val3 = value;
-                break;
+        int slot = (index * ELEMENTS_PER_ENTRY) + element(key);
+        if ((this.primitiveMasks[index] & bit) != 0) {
+            return (this.booleanMasks[index] & bit) != 0 ? this.primitiveValues[slot] != 0 : defaultValue;
+        }
 
-            case 3:
-                this.entries[objectIndex].Val4 = value;
-                break;
+        Object value = this.values[slot];
+        if (value instanceof Boolean) {
+            return (Boolean) value;
         }
 
-        this.entries[objectIndex].Mask = (short) (((int) this.entries[objectIndex].Mask) | (1 << element));
+        return defaultValue;
+    }
+
+    /**
+     * Sets a property value for the given property key.
+     *
+     * @param key   The property key.
+     * @param value The property value.
+     */
+    public void setEntry(int key, Object value) {
+        int index = this.ensureEntry(entryKey(key));
+        int bit = 1 << element(key);
+        int slot = (index * ELEMENTS_PER_ENTRY) + element(key);
+
+        this.values[slot] = value;
+        this.masks[index] |= bit;
+        this.primitiveMasks[index] &= ~bit;
+        this.booleanMasks[index] &= ~bit;
+    }
+
+    /**
+     * Sets a numeric property value for the given property key in a primitive slot.
+     *
+     * @param key   The property key.
+     * @param value The property value.
+     */
+    public void setDouble(int key, double value) {
+        int index = this.ensureEntry(entryKey(key));
+        int bit = 1 << element(key);
+        int slot = (index * ELEMENTS_PER_ENTRY) + element(key);
+
+        this.values[slot] = null;
+        this.primitiveValues[slot] = value;
+        this.masks[index] |= bit;
+        this.primitiveMasks[index] |= bit;
+        this.booleanMasks[index] &= ~bit;
+    }
+
+    /**
+     * Sets a boolean property value for the given property key in a primitive slot.
+     *
+     * @param key   The property key.
+     * @param value The property value.
+     */
+    public void setBoolean(int key, boolean value) {
+        int index = this.ensureEntry(entryKey(key));
+        int bit = 1 << element(key);
+        int slot = (index * ELEMENTS_PER_ENTRY) + element(key);
+
+        this.values[slot] = null;
+        this.primitiveValues[slot] = value ? 1 : 0;
+        this.masks[index] |= bit;
+        this.primitiveMasks[index] |= bit;
+        this.booleanMasks[index] |= bit;
     }
 
     /**
@@ -135,185 +217,140 @@ public class FastPropertyStore {
      * @param key The key for which to remove a value entry.
      */
     public void removeEntry(int key) {
-        PropertyKeyValue splitKeyValue = this.splitKey(key);
-        short entryKey = splitKeyValue.EntryKey;
-        short element = splitKeyValue.Element;
-
-        int objectIndex = -1;
-        ValueExtractor extractor = new ValueExtractor();
-        boolean hasObject = this.locateObject(entryKey, extractor);
-
-        if (hasObject) {
-            objectIndex = (Integer) extractor.value;
-            boolean hasMask = ((1 << element) & this.entries[objectIndex].Mask) != 0;
-            hasObject = hasObject && hasMask;
+        int index = this.locateEntry(entryKey(key));
+        if (index < 0) {
+            return;
         }
 
-        if (!hasObject) {
+        int bit = 1 << element(key);
+        if ((this.masks[index] & bit) == 0) {
             return;
         }
 
-        short mask = this.entries[objectIndex].Mask;
-        mask = (short) (mask & ~((short) (1 << element)));
-        this.entries[objectIndex].Mask = mask;
+        this.values[(index * ELEMENTS_PER_ENTRY) + element(key)] = null;
+        this.masks[index] &= ~bit;
+        this.primitiveMasks[index] &= ~bit;
+        this.booleanMasks[index] &= ~bit;
 
-        if (mask == 0) {
-            int length = this.entries.length;
-            if (length == 1) {
-                this.entries = null;
-            } else {
-                Entry[] destArray = new Entry[length - 1];
-                if (objectIndex > 0) {
-                    System.arraycopy(this.entries, 0, destArray, 0, objectIndex);
-                }
-                if (objectIndex < length) {
-                    System.arraycopy(this.entries, objectIndex + 1, destArray, objectIndex, (length - objectIndex) - 1);
-                }
-                this.entries = destArray;
-            }
-        } else {
-            switch (element) {
-                case 0:
-                    this.entries[objectIndex].Val1 = null;
-                    return;
-
-                case 1:
-                    this.entries[objectIndex].Val2 = null;
-                    return;
-
-                case 2:
-                    this.entries[objectIndex].Val3 = null;
-                    return;
-
-                case 3:
-                    this.entries[objectIndex].Val4 = null;
-            }
+        if (this.masks[index] == 0) {
+            this.removeAt(index);
         }
     }
 
-    private PropertyKeyValue splitKey(int key) {
-        short element = (short) (key & 3);
-        short entryKey = (short) (key & 0xfffffffc);
-        return new PropertyKeyValue(entryKey, element);
+    private static short entryKey(int key) {
+        return (short) (key & 0xfffffffc);
     }
 
-    private boolean locateObject(short entryKey, ValueExtractor<Integer> resultIndex) {
-        resultIndex.value = 0;
-
-        if (this.entries == null) {
-            return false;
-        }
-
-        int middle;
-        int length = this.entries.length;
+    private static int element(int key) {
+        return key & 3;
+    }
 
-        if (length <= 16) {
-            middle = length >> 1; // / 2
-            if (this.entries[middle].Key <= entryKey) {
-                resultIndex.value = middle;
-                if (this.entries[resultIndex.value].Key == entryKey) {
-                    return true;
-                }
-            }
+    /**
+     * Returns the index of the entry with the given key or <code>-(insertionIndex + 1)</code> if
+     * there is no such entry.
+     */
+    private int locateEntry(short entryKey) {
+        int left = 0;
+        int right = this.count - 1;
 
-            middle = (length + 1) >> 2; // / 4
-            if (this.entries[resultIndex.value + middle].Key <= entryKey) {
-                resultIndex.value += middle;
-                if (this.entries[resultIndex.value].Key == entryKey) {
-                    return true;
-                }
-            }
+        while (left <= right) {
+            int middle = (left + right) >>> 1;
+            short key = this.keys[middle];
 
-            middle = (length + 3) >> 3; // / 8
-            if (this.entries[resultIndex.value + middle].Key <= entryKey) {
-                resultIndex.value += middle;
-                if (this.entries[resultIndex.value].Key == entryKey) {
-                    return true;
-                }
+            if (key < entryKey) {
+                left = middle + 1;
+            } else if (key > entryKey) {
+                right = middle - 1;
+            } else {
+                return middle;
             }
+        }
 
-            middle = (length + 7) >> 4; // / 16
-            if (this.entries[resultIndex.value + middle].Key <= entryKey) {
-                resultIndex.value += middle;
-                if (this.entries[resultIndex.value].Key == entryKey) {
-                    return true;
-                }
-            }
+        return -(left + 1);
+    }
 
-            if (entryKey > this.entries[resultIndex.value].Key) {
-                resultIndex.value++;
-            }
+    private int ensureEntry(short entryKey) {
+        int index = this.locateEntry(entryKey);
+        if (index >= 0) {
+            return index;
+        }
 
-            return false;
+        index = -(index + 1);
+        this.ensureCapacity(this.count + 1);
+
+        int moved = this.count - index;
+        if (moved > 0) {
+            System.arraycopy(this.keys, index, this.keys, index + 1, moved);
+            System.arraycopy(this.masks, index, this.masks, index + 1, moved);
+            System.arraycopy(this.primitiveMasks, index, this.primitiveMasks, index + 1, moved);
+            System.arraycopy(this.booleanMasks, index, this.booleanMasks, index + 1, moved);
+            System.arraycopy(this.values, index * ELEMENTS_PER_ENTRY, this.values, (index + 1) * ELEMENTS_PER_ENTRY, moved * ELEMENTS_PER_ENTRY);
+            System.arraycopy(this.primitiveValues, index * ELEMENTS_PER_ENTRY, this.primitiveValues, (index + 1) * ELEMENTS_PER_ENTRY, moved * ELEMENTS_PER_ENTRY);
         }
 
-        int left = 0;
-        int right = length - 1;
-        middle = 0;
-        short key;
+        this.keys[index] = entryKey;
+        this.masks[index] = 0;
+        this.primitiveMasks[index] = 0;
+        this.booleanMasks[index] = 0;
+        for (int i = index * ELEMENTS_PER_ENTRY, end = i + ELEMENTS_PER_ENTRY; i < end; i++) {
+            this.values[i] = null;
+        }
 
-        do {
-            middle = (right + left) >> 1;
-            key = this.entries[middle].Key;
+        this.count++;
 
-            if (key == entryKey) {
-                resultIndex.value = middle;
-                return true;
-            }
+        return index;
+    }
 
-            if (entryKey < key) {
-                right = middle - 1;
-            } else {
-                left = middle + 1;
-            }
+    private void removeAt(int index) {
+        int moved = this.count - index - 1;
+        if (moved > 0) {
+            System.arraycopy(this.keys, index + 1, this.keys, index, moved);
+            System.arraycopy(this.masks, index + 1, this.masks, index, moved);
+            System.arraycopy(this.primitiveMasks, index + 1, this.primitiveMasks, index, moved);
+            System.arraycopy(this.booleanMasks, index + 1, this.booleanMasks, index, moved);
+            System.arraycopy(this.values, (index + 1) * ELEMENTS_PER_ENTRY, this.values, index * ELEMENTS_PER_ENTRY, moved * ELEMENTS_PER_ENTRY);
+            System.arraycopy(this.primitiveValues, (index + 1) * ELEMENTS_PER_ENTRY, this.primitiveValues, index * ELEMENTS_PER_ENTRY, moved * ELEMENTS_PER_ENTRY);
         }
-        while (right >= left);
 
-        resultIndex.value = middle;
-        if (entryKey > this.entries[resultIndex.value].Key) {
-            resultIndex.value++;
-        }
+        this.count--;
 
-        return false;
+        // Release the references held by the vacated entry.
+        for (int i = this.count * ELEMENTS_PER_ENTRY, end = i + ELEMENTS_PER_ENTRY; i < end; i++) {
+            this.values[i] = null;
+        }
     }
 
-    class Entry {
-
-        short Key;
-        short Mask;
-        Object Val1;
-        Object Val2;
-        Object Val3;
-        Object Val4;
-
-        public Object getVal(int valIndex) {
-            Object val = null;
-            switch (valIndex) {
-                case 1:
-                    val = this.Val1;
-                    break;
-                case 2:
-                    val = this.Val2;
-                    break;
-                case 3:
-                    val = this.Val3;
-                    break;
-                case 4:
-                    val = this.Val4;
-                    break;
-            }
+    private void ensureCapacity(int capacity) {
+        if (this.keys != null && this.keys.length >= capacity) {
+            return;
+        }
 
-            return val;
+        int newCapacity = this.keys == null ? INITIAL_CAPACITY : this.keys.length * 2;
+        if (newCapacity < capacity) {
+            newCapacity = capacity;
         }
-    }
-}
 
-class PropertyKeyValue {
-    public short EntryKey;
-    public short Element;
+        short[] newKeys = new short[newCapacity];
+        byte[] newMasks = new byte[newCapacity];
+        byte[] newPrimitiveMasks = new byte[newCapacity];
+        byte[] newBooleanMasks = new byte[newCapacity];
+        Object[] newValues = new Object[newCapacity * ELEMENTS_PER_ENTRY];
+        double[] newPrimitiveValues = new double[newCapacity * ELEMENTS_PER_ENTRY];
+
+        if (this.count > 0) {
+            System.arraycopy(this.keys, 0, newKeys, 0, this.count);
+            System.arraycopy(this.masks, 0, newMasks, 0, this.count);
+            System.arraycopy(this.primitiveMasks, 0, newPrimitiveMasks, 0, this.count);
+            System.arraycopy(this.booleanMasks, 0, newBooleanMasks, 0, this.count);
+            System.arraycopy(this.values, 0, newValues, 0, this.count * ELEMENTS_PER_ENTRY);
+            System.arraycopy(this.primitiveValues, 0, newPrimitiveValues, 0, this.count * ELEMENTS_PER_ENTRY);
+        }
 
-    public PropertyKeyValue(short entryKey, short element) {
-        EntryKey = entryKey;
-        Element = element;
+        this.keys = newKeys;
+        this.masks = newMasks;
+        this.primitiveMasks = newPrimitiveMasks;
+        this.booleanMasks = newBooleanMasks;
+        this.values = newValues;
+        this.primitiveValues = newPrimitiveValues;
     }
 }
@@ -49,6 +49,54 @@ public abstract class PropertyBagObject {
         return true;
     }
 
+    /**
+     * Gets the numeric value for the property with the specified key without boxing it.
+     *
+     * @param key          the key of the property.
+     * @param defaultValue the value to return if the property has no numeric value.
+     * @return the value from the property store if present, otherwise the provided default one.
+     */
+    public double getDoubleValue(int key, double defaultValue) {
+        return this.propertyStore.getDouble(key, defaultValue);
+    }
+
+    /**
+     * Sets the property specified by the provided key to the provided number. The value is kept
+     * in a primitive slot of the property bag.
+     *
+     * @param key   the key of the property to set.
+     * @param value the value of the property.
+     * @return <code>true</code> if the property has been successfully set, otherwise <code>false</code>.
+     */
+    public boolean setDoubleValue(int key, double value) {
+        this.propertyStore.setDouble(key, value);
+        return true;
+    }
+
+    /**
+     * Gets the boolean value for the property with the specified key without boxing it.
+     *
+     * @param key          the key of the property.
+     * @param defaultValue the value to return if the property has no boolean value.
+     * @return the value from the property store if present, otherwise the provided default one.
+     */
+    public boolean getBooleanValue(int key, boolean defaultValue) {
+        return this.propertyStore.getBoolean(key, defaultValue);
+    }
+
+    /**
+     * Sets the property specified by the provided key to the provided boolean. The value is kept
+     * in a primitive slot of the property bag.
+     *
+     * @param key   the key of the property to set.
+     * @param value the value of the property.
+     * @return <code>true</code> if the property has been successfully set, otherwise <code>false</code>.
+     */
+    public boolean setBooleanValue(int key, boolean value) {
+        this.propertyStore.setBoolean(key, value);
+        return true;
+    }
+
     /**
      * Clears the current value for the specified property key.
      *
@@ -31,7 +31,7 @@ public class CategoricalSeriesRoundLayoutContext {
         CartesianChartAreaModel cartesianChartArea = (CartesianChartAreaModel) series.chartArea();
 
         this.plotDirection = series.getTypedValue(AxisModel.PLOT_DIRECTION_PROPERTY_KEY, AxisPlotDirection.VERTICAL);
-        this.plotOrigin = series.getTypedValue(AxisModel.PLOT_ORIGIN_PROPERTY_KEY, 0.0);
+        this.plotOrigin = series.getDoubleValue(AxisModel.PLOT_ORIGIN_PROPERTY_KEY, 0);
         RadRect slot = cartesianChartArea.getPlotArea().getLayoutSlot();
         double x = slot.getX() + series.chartArea().getView().getPanOffsetX();
         double y = slot.getY() + series.chartArea().getView().getPanOffsetY();
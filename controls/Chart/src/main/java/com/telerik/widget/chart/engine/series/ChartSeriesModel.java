@@ -1,6 +1,7 @@
 package com.telerik.widget.chart.engine.series;
 
 import com.telerik.android.common.math.RadRect;
+import com.telerik.widget.chart.engine.axes.AxisModel;
 import com.telerik.widget.chart.engine.axes.common.AxisPlotMode;
 import com.telerik.widget.chart.engine.dataPoints.DataPoint;
 import com.telerik.widget.chart.engine.dataPoints.DataPointCollection;
@@ -19,7 +20,15 @@ import java.util.List;
 public abstract class ChartSeriesModel<T extends DataPoint> extends ChartElement {
 
     public static final int DATA_POINTS_MODIFIED_MESSAGE_KEY = ChartMessage.register();
+    private static final int MODIFIED_POINTS_CAPACITY = 256;
     private DataPointsChangedListener dataPointsChangedListener;
+    private int dataVersion;
+    private int dataResetVersion;
+    private int dataPointsCount;
+    private int[] modifiedPoints;
+    private int modifiedPointsCount;
+    private int removedFromStartCount;
+    private boolean removingFromStart;
 
     /**
      * Gets a {@link com.telerik.widget.chart.engine.dataPoints.DataPointCollection} instance that holds the currently created data points in this series.
@@ -33,6 +42,17 @@ public abstract class ChartSeriesModel<T extends DataPoint> extends ChartElement
      */
     public abstract List<T> visibleDataPoints();
 
+    /**
+     * Gets the data points the given axis computes its range from and plots. These are the visible points, except
+     * for the axes along which a virtualized series looks up its visible points. Those axes get all points, so that
+     * their range and the plot information of the points do not change with the zoom and the pan offset.
+     *
+     * @param axis the axis.
+     * @return the data points of the axis.
+     */
+    public List<T> dataPointsForAxis(AxisModel axis) {
+        return this.visibleDataPoints();
+    }
 
     /**
      * Used to trigger the update of the currently visible points according to the current pan and zoom values. Ideally meant to be called once per arrange invalidation.
@@ -84,8 +104,65 @@ public abstract class ChartSeriesModel<T extends DataPoint> extends ChartElement
         return null;
     }
 
+    /**
+     * Gets a number that changes whenever a data point is added to, removed from or modified in this series.
+     * Allows consumers to cache information derived from the data points.
+     *
+     * @return the current data version.
+     */
+    public int getDataVersion() {
+        return this.dataVersion;
+    }
+
+    /**
+     * Gets a number that changes whenever a data point is removed from or inserted before the end of this
+     * series. Appending data points does not change it, the indices of the modified data points are
+     * reported by {@link #getModifiedPointIndex(int)} and the points removed by {@link #removeFirstDataPoints(int)}
+     * are counted by {@link #getRemovedFromStartCount()}, which allows consumers to update information derived
+     * from the data points incrementally.
+     *
+     * @return the current data reset version.
+     */
+    public int getDataResetVersion() {
+        return this.dataResetVersion;
+    }
+
+    /**
+     * Gets the number of data point modifications recorded since the data reset version last changed.
+     * The count only grows until the next reset, so consumers can remember it and later process only
+     * the modifications that follow.
+     *
+     * @return the number of recorded modifications.
+     */
+    public int getModifiedPointsCount() {
+        return this.modifiedPointsCount;
+    }
+
+    /**
+     * Gets the index of the data point affected by the modification at the given position.
+     *
+     * @param position the position of the modification, less than {@link #getModifiedPointsCount()}.
+     * @return the index of the modified data point.
+     */
+    public int getModifiedPointIndex(int position) {
+        if (position < 0 || position >= this.modifiedPointsCount) {
+            throw new IndexOutOfBoundsException("position");
+        }
+
+        return this.modifiedPoints[position];
+    }
+
     @Override
     protected void onChildInserted(int index, ChartNode child) {
+        this.dataVersion++;
+
+        // Clearing the data points does not report the removed children, so compare with the last known count as well.
+        int count = this.dataPoints().size();
+        if (count != this.dataPointsCount + 1 || this.dataPoints().get(count - 1) != child) {
+            this.resetData();
+        }
+        this.dataPointsCount = count;
+
         super.onChildInserted(index, child);
 
         this.onDataPointsModified();
@@ -94,8 +171,52 @@ public abstract class ChartSeriesModel<T extends DataPoint> extends ChartElement
         }
     }
 
+    /**
+     * Gets the number of data points removed from the start of this series by {@link #removeFirstDataPoints(int)}.
+     * While the data reset version stays the same, consumers can drop the difference from the last known count
+     * from the start of the information they derived from the data points. All such removals precede the
+     * modifications reported by {@link #getModifiedPointIndex(int)}.
+     *
+     * @return the number of data points removed from the start of the series.
+     */
+    public int getRemovedFromStartCount() {
+        return this.removedFromStartCount;
+    }
+
+    /**
+     * Removes the given number of data points from the start of this series, such as the oldest points of a
+     * sliding window. The remaining points are shifted once and the data is not reset, so the axes and renderers
+     * only drop the removed points instead of processing all remaining points again.
+     *
+     * @param count the number of points to remove.
+     */
+    public void removeFirstDataPoints(int count) {
+        if (count < 0 || count > this.dataPoints().size()) {
+            throw new IllegalArgumentException("count must be between 0 and the number of data points");
+        }
+
+        if (count == 0) {
+            return;
+        }
+
+        // The indices of the recorded modifications would change, so a removal after them resets the data.
+        this.removingFromStart = this.modifiedPointsCount == 0;
+        try {
+            this.dataPoints().removeFirst(count);
+        } finally {
+            this.removingFromStart = false;
+        }
+    }
+
     @Override
     protected void onChildRemoved(int index, ChartNode child) {
+        this.dataVersion++;
+        if (this.removingFromStart) {
+            this.removedFromStartCount++;
+        } else {
+            this.resetData();
+        }
+        this.dataPointsCount = this.dataPoints().size();
         super.onChildRemoved(index, child);
 
         this.onDataPointsModified();
@@ -114,6 +235,52 @@ public abstract class ChartSeriesModel<T extends DataPoint> extends ChartElement
         return new RadRect(rect.getX(), rect.getY(), rect.getWidth() * this.chartArea.getView().getZoomWidth(), rect.getHeight() * this.chartArea.getView().getZoomHeight());
     }
 
+    @Override
+    protected void processMessage(ChartMessage message) {
+        super.processMessage(message);
+
+        if (message.getSender() instanceof DataPoint && message.getId() == ChartNode.PROPERTY_CHANGED_MESSAGE) {
+            this.dataVersion++;
+            this.recordModifiedPoint(((DataPoint) message.getSender()).collectionIndex());
+        }
+    }
+
+    @Override
+    protected void unloadCore() {
+        super.unloadCore();
+
+        // The data points do not report their changes while they are unloaded.
+        this.resetData();
+    }
+
+    private void recordModifiedPoint(int index) {
+        if (index < 0) {
+            this.resetData();
+            return;
+        }
+
+        if (this.modifiedPointsCount > 0 && this.modifiedPoints[this.modifiedPointsCount - 1] == index) {
+            return;
+        }
+
+        // Too many modifications make incremental updates pointless, so start over.
+        if (this.modifiedPointsCount == MODIFIED_POINTS_CAPACITY) {
+            this.resetData();
+            return;
+        }
+
+        if (this.modifiedPoints == null) {
+            this.modifiedPoints = new int[MODIFIED_POINTS_CAPACITY];
+        }
+
+        this.modifiedPoints[this.modifiedPointsCount++] = index;
+    }
+
+    private void resetData() {
+        this.dataResetVersion++;
+        this.modifiedPointsCount = 0;
+    }
+
     void onDataPointsModified() {
         if (this.invalidateScheduled || !this.isTreeLoaded()) {
             return;
@@ -15,6 +15,7 @@ public abstract class DataPointSeriesModel<T extends DataPoint> extends ChartSer
     protected DataPointCollection<T> dataPoints;
     protected List<T> visibleDataPoints = new ArrayList<T>();
     private boolean virtualizationEnabled = false;
+    private DataPointVirtualizationMode virtualizationMode = DataPointVirtualizationMode.INDEX;
 
     /**
      * Creates a new instance of the {@link DataPointSeriesModel} class.
@@ -31,6 +32,24 @@ public abstract class DataPointSeriesModel<T extends DataPoint> extends ChartSer
         this.virtualizationEnabled = enabled;
     }
 
+    /**
+     * Gets the {@link DataPointVirtualizationMode} that determines how the visible data points are found when virtualization is enabled.
+     */
+    public DataPointVirtualizationMode getVirtualizationMode() {
+        return this.virtualizationMode;
+    }
+
+    /**
+     * Sets the {@link DataPointVirtualizationMode} that determines how the visible data points are found when virtualization is enabled.
+     */
+    public void setVirtualizationMode(DataPointVirtualizationMode value) {
+        if (value == null) {
+            throw new IllegalArgumentException("value cannot be null");
+        }
+
+        this.virtualizationMode = value;
+    }
+
     @Override
     public DataPointCollection<T> dataPoints() {
         return this.dataPoints;
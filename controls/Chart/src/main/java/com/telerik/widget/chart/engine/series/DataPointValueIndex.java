@@ -0,0 +1,227 @@
+package com.telerik.widget.chart.engine.series;
+
+import com.telerik.widget.chart.engine.axes.AxisModel;
+
+/**
+ * Keeps the data points of a series ordered by their values along an axis so that the points within
+ * a value range can be found with a binary search. When the points are already in order, which is the
+ * usual case for date-time data, the index shares the values array and does not keep a permutation.
+ * Otherwise the points are sorted once and the permutation is used to map the sorted positions back
+ * to point indices.
+ */
+class DataPointValueIndex {
+
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private final AxisModel axis;
+    private final AxisModel crossAxis;
+    private final double[] keys;
+    private final int[] order;
+    private final int count;
+    private final double[] crossValues;
+    private double crossMinimum = Double.NaN;
+    private double crossMaximum = Double.NaN;
+
+    /**
+     * Creates a new index.
+     *
+     * @param axis        the axis the values were taken from.
+     * @param values      the values of the points along the axis, by point index. None of them can be NaN.
+     * @param crossAxis   the axis the cross values were taken from or <code>null</code>.
+     * @param crossValues the values of the points along the cross axis, by point index, or <code>null</code>.
+     *                    Points with a NaN cross value are never filtered out by it.
+     * @param count       the number of points.
+     */
+    DataPointValueIndex(AxisModel axis, double[] values, AxisModel crossAxis, double[] crossValues, int count) {
+        this.axis = axis;
+        this.crossAxis = crossAxis;
+        this.crossValues = crossValues;
+        this.count = count;
+
+        boolean ordered = true;
+        for (int i = 1; i < count; i++) {
+            if (values[i] < values[i - 1]) {
+                ordered = false;
+                break;
+            }
+        }
+
+        if (ordered) {
+            this.keys = values;
+            this.order = null;
+        } else {
+            this.keys = new double[count];
+            this.order = new int[count];
+            System.arraycopy(values, 0, this.keys, 0, count);
+            for (int i = 0; i < count; i++) {
+                this.order[i] = i;
+            }
+
+            sort(this.keys, this.order, 0, count - 1);
+        }
+
+        if (crossValues != null) {
+            for (int i = 0; i < count; i++) {
+                double value = crossValues[i];
+                if (Double.isNaN(value)) {
+                    continue;
+                }
+
+                if (!(value >= this.crossMinimum)) {
+                    this.crossMinimum = value;
+                }
+                if (!(value <= this.crossMaximum)) {
+                    this.crossMaximum = value;
+                }
+            }
+        }
+    }
+
+    AxisModel getAxis() {
+        return this.axis;
+    }
+
+    AxisModel getCrossAxis() {
+        return this.crossAxis;
+    }
+
+    int size() {
+        return this.count;
+    }
+
+    boolean isOrdered() {
+        return this.order == null;
+    }
+
+    double getMinimum() {
+        return this.keys[0];
+    }
+
+    double getMaximum() {
+        return this.keys[this.count - 1];
+    }
+
+    double getCrossMinimum() {
+        return this.crossMinimum;
+    }
+
+    double getCrossMaximum() {
+        return this.crossMaximum;
+    }
+
+    /**
+     * Gets the index of the point at the given position in value order.
+     */
+    int getPointIndex(int position) {
+        return this.order == null ? position : this.order[position];
+    }
+
+    /**
+     * Determines whether the cross value of the point with the given index falls within the given range.
+     */
+    boolean isCrossValueInRange(int pointIndex, double minimum, double maximum) {
+        double value = this.crossValues[pointIndex];
+        return Double.isNaN(value) || (value >= minimum && value <= maximum);
+    }
+
+    /**
+     * Gets the first position whose value is greater than or equal to the given value.
+     */
+    int lowerBound(double value) {
+        int low = 0;
+        int high = this.count;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (this.keys[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Gets the first position whose value is greater than the given value.
+     */
+    int upperBound(double value) {
+        int low = 0;
+        int high = this.count;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (this.keys[middle] <= value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    private static void sort(double[] keys, int[] order, int left, int right) {
+        while (right - left > INSERTION_SORT_THRESHOLD) {
+            int middle = (left + right) >>> 1;
+            if (keys[middle] < keys[left]) {
+                swap(keys, order, left, middle);
+            }
+            if (keys[right] < keys[left]) {
+                swap(keys, order, left, right);
+            }
+            if (keys[right] < keys[middle]) {
+                swap(keys, order, middle, right);
+            }
+
+            double pivot = keys[middle];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (keys[i] < pivot) {
+                    i++;
+                }
+                while (keys[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(keys, order, i, j);
+                    i++;
+                    j--;
+                }
+            }
+
+            // Recurse into the smaller part and loop over the larger one to bound the stack depth.
+            if (j - left < right - i) {
+                sort(keys, order, left, j);
+                left = i;
+            } else {
+                sort(keys, order, i, right);
+                right = j;
+            }
+        }
+
+        for (int i = left + 1; i <= right; i++) {
+            double key = keys[i];
+            int index = order[i];
+            int j = i - 1;
+            while (j >= left && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                order[j + 1] = order[j];
+                j--;
+            }
+
+            keys[j + 1] = key;
+            order[j + 1] = index;
+        }
+    }
+
+    private static void swap(double[] keys, int[] order, int i, int j) {
+        double key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+
+        int index = order[i];
+        order[i] = order[j];
+        order[j] = index;
+    }
+}
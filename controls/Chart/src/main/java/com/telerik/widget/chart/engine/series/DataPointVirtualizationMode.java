@@ -0,0 +1,18 @@
+package com.telerik.widget.chart.engine.series;
+
+/**
+ * Defines how a series with enabled virtualization determines which of its data points are visible.
+ */
+public enum DataPointVirtualizationMode {
+
+    /**
+     * the visible points are derived from their indices, assuming that they are evenly spaced along the axis.
+     */
+    INDEX,
+
+    /**
+     * the visible range is converted to data values and the points are looked up by value. Suitable for
+     * irregularly spaced date-time data and for scatter data.
+     */
+    VALUE
+}
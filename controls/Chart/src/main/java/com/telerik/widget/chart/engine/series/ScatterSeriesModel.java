@@ -9,10 +9,29 @@ import com.telerik.widget.chart.engine.elementTree.ModifyChildrenResult;
  * This model arranges scatter points on the plot area.
  */
 public class ScatterSeriesModel extends SeriesModelWithAxes<ScatterDataPoint> {
+    private boolean virtualizesAlongBothAxes;
+
     public ScatterSeriesModel() {
         super();
 
         this.setVirtualizationEnabled(false);
+        this.setVirtualizationMode(DataPointVirtualizationMode.VALUE);
+    }
+
+    @Override
+    protected boolean virtualizesAlongBothAxes() {
+        return this.virtualizesAlongBothAxes;
+    }
+
+    /**
+     * Sets whether the VALUE virtualization mode also drops the points outside the visible range of the Y axis.
+     * Only series that draw discrete points can enable this, since connected series need the points outside
+     * the plot area to draw the segments crossing its edges.
+     *
+     * @param value <code>true</code> to virtualize the points along both axes, <code>false</code> otherwise.
+     */
+    public void setVirtualizesAlongBothAxes(boolean value) {
+        this.virtualizesAlongBothAxes = value;
     }
 
     @Override
@@ -4,10 +4,19 @@ import com.telerik.android.common.math.RadRect;
 import com.telerik.widget.chart.engine.axes.AxisModel;
 import com.telerik.widget.chart.engine.axes.AxisType;
 import com.telerik.widget.chart.engine.axes.categorical.CategoricalAxisModel;
+import com.telerik.widget.chart.engine.axes.continuous.ContinuousAxisModel;
 import com.telerik.widget.chart.engine.axes.continuous.DateTimeContinuousAxisModel;
+import com.telerik.widget.chart.engine.axes.continuous.NumericalAxisModel;
 import com.telerik.widget.chart.engine.dataPoints.DataPoint;
+import com.telerik.widget.chart.engine.elementTree.ChartMessage;
+import com.telerik.widget.chart.engine.elementTree.ChartNode;
 import com.telerik.widget.chart.engine.view.ChartView;
 
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+
 /**
  * Base class for series that can provide their own axes for the multiple axes feature of {@link com.telerik.widget.chart.visualization.cartesianChart.RadCartesianChartView}.
  *
@@ -18,6 +27,11 @@ public abstract class SeriesModelWithAxes<T extends DataPoint> extends DataPoint
     AxisModel firstAxis;
     AxisModel secondAxis;
 
+    // Index of the point values used by the VALUE virtualization mode, null when it has to be rebuilt.
+    private DataPointValueIndex valueIndex;
+    // Buffer for the indexes of the points found by value, reused by the arrange passes.
+    private int[] visibleIndices;
+
     @Override
     public AxisModel getFirstAxis() {
         return this.firstAxis;
@@ -35,6 +49,8 @@ public abstract class SeriesModelWithAxes<T extends DataPoint> extends DataPoint
         } else {
             this.secondAxis = axis;
         }
+
+        this.valueIndex = null;
     }
 
     @Override
@@ -44,12 +60,52 @@ public abstract class SeriesModelWithAxes<T extends DataPoint> extends DataPoint
         } else if (this.secondAxis == axis) {
             this.secondAxis = null;
         }
+
+        this.valueIndex = null;
+    }
+
+    /**
+     * Determines whether the VALUE virtualization mode also drops the points that fall outside the visible
+     * range of the cross axis. Series that connect their points, such as lines, need the points outside the
+     * plot area to draw the segments crossing its edges, so this is only appropriate for discrete points.
+     *
+     * @return <code>true</code> if the points are virtualized along both axes, <code>false</code> otherwise.
+     */
+    protected boolean virtualizesAlongBothAxes() {
+        return false;
+    }
+
+    @Override
+    protected void onChildInserted(int index, ChartNode child) {
+        this.valueIndex = null;
+
+        super.onChildInserted(index, child);
+    }
+
+    @Override
+    protected void onChildRemoved(int index, ChartNode child) {
+        this.valueIndex = null;
+
+        super.onChildRemoved(index, child);
+    }
+
+    @Override
+    protected void processMessage(ChartMessage message) {
+        super.processMessage(message);
+
+        if (message.getSender() instanceof DataPoint && message.getId() == ChartNode.PROPERTY_CHANGED_MESSAGE) {
+            this.valueIndex = null;
+        }
     }
 
     @Override
     protected void updateVisibleDataPointsCore() {
         super.updateVisibleDataPointsCore();
 
+        if (this.getVirtualizationMode() == DataPointVirtualizationMode.VALUE && this.updateVisibleDataPointsByValue()) {
+            return;
+        }
+
         int pointsCount = this.dataPoints.size();
         ChartView chart = this.chartArea.getView();
         RadRect plotAreaBounds = chart.getPlotAreaClip();
@@ -96,4 +152,185 @@ public abstract class SeriesModelWithAxes<T extends DataPoint> extends DataPoint
             for (int i = this.dataPoints.size() - (1 + startIndex), end = i - (endIndex - startIndex); i > end; i--)
                 this.visibleDataPoints.add(this.dataPoints.get(i));
     }
+
+    /**
+     * Finds the visible points by converting the visible part of the plot area to data values and looking
+     * them up in the value index.
+     *
+     * @return <code>true</code> if the visible points were updated, <code>false</code> if the points cannot be
+     * looked up by value and the index based virtualization should be used instead.
+     */
+    private boolean updateVisibleDataPointsByValue() {
+        ChartView chart = this.chartArea.getView();
+        RadRect plotAreaBounds = chart.getPlotAreaClip();
+        if (plotAreaBounds.getWidth() <= 0 || plotAreaBounds.getHeight() <= 0) {
+            return false;
+        }
+
+        boolean horizontal = this.isHorizontalByValue();
+        AxisModel axis = horizontal ? this.firstAxis : this.secondAxis;
+        AxisModel crossAxis = horizontal ? this.secondAxis : this.firstAxis;
+        if (!(axis instanceof ContinuousAxisModel)) {
+            return false;
+        }
+
+        boolean clipCrossAxis = this.virtualizesAlongBothAxes() && crossAxis instanceof ContinuousAxisModel;
+        if (!clipCrossAxis) {
+            crossAxis = null;
+        }
+
+        DataPointValueIndex index = this.valueIndex;
+        if (index == null || index.getAxis() != axis || index.getCrossAxis() != crossAxis || index.size() != this.dataPoints.size()) {
+            index = this.buildValueIndex(axis, crossAxis);
+            if (index == null) {
+                return false;
+            }
+
+            this.valueIndex = index;
+        }
+
+        this.visibleDataPoints.clear();
+        if (index.size() == 0) {
+            return true;
+        }
+
+        double horizontalStart = -chart.getPanOffsetX() / (plotAreaBounds.getWidth() * chart.getZoomWidth());
+        double horizontalEnd = horizontalStart + (1 / chart.getZoomWidth());
+        // Vertical positions are measured from the bottom of the plot area, while the pan offset is measured from its top.
+        double verticalEnd = 1 + (chart.getPanOffsetY() / (plotAreaBounds.getHeight() * chart.getZoomHeight()));
+        double verticalStart = verticalEnd - (1 / chart.getZoomHeight());
+
+        double start = getValueAtPosition(axis, index.getMinimum(), index.getMaximum(), horizontal ? horizontalStart : verticalStart);
+        double end = getValueAtPosition(axis, index.getMinimum(), index.getMaximum(), horizontal ? horizontalEnd : verticalEnd);
+
+        int startPosition = index.lowerBound(start);
+        int endPosition = index.upperBound(end);
+        if (!clipCrossAxis) {
+            // Take one point on each side so that the segments crossing the edges of the plot area are drawn.
+            startPosition = Math.max(startPosition - 1, 0);
+            endPosition = Math.min(endPosition + 1, index.size());
+        }
+
+        if (index.isOrdered() && !clipCrossAxis) {
+            for (int i = startPosition; i < endPosition; i++) {
+                this.visibleDataPoints.add(this.dataPoints.get(i));
+            }
+
+            return true;
+        }
+
+        double crossMinimum = 0;
+        double crossMaximum = 0;
+        if (clipCrossAxis) {
+            crossMinimum = getValueAtPosition(crossAxis, index.getCrossMinimum(), index.getCrossMaximum(), horizontal ? verticalStart : horizontalStart);
+            crossMaximum = getValueAtPosition(crossAxis, index.getCrossMinimum(), index.getCrossMaximum(), horizontal ? verticalEnd : horizontalEnd);
+        }
+
+        int[] visibleIndices = this.visibleIndices;
+        if (visibleIndices == null || visibleIndices.length < endPosition - startPosition) {
+            visibleIndices = new int[Math.max(endPosition - startPosition, visibleIndices == null ? 0 : visibleIndices.length * 2)];
+            this.visibleIndices = visibleIndices;
+        }
+
+        int visibleCount = 0;
+        for (int i = startPosition; i < endPosition; i++) {
+            int pointIndex = index.getPointIndex(i);
+            if (!clipCrossAxis || index.isCrossValueInRange(pointIndex, crossMinimum, crossMaximum)) {
+                visibleIndices[visibleCount++] = pointIndex;
+            }
+        }
+
+        // Keep the points in their original order.
+        if (!index.isOrdered()) {
+            Arrays.sort(visibleIndices, 0, visibleCount);
+        }
+
+        for (int i = 0; i < visibleCount; i++) {
+            this.visibleDataPoints.add(this.dataPoints.get(visibleIndices[i]));
+        }
+
+        return true;
+    }
+
+    /**
+     * Converts a relative position along an axis to a value. The points are plotted with the actual range of an updated
+     * numerical axis, while the range of the values is used until the axis is updated.
+     */
+    private static double getValueAtPosition(AxisModel axis, double minimum, double maximum, double position) {
+        if (axis instanceof NumericalAxisModel && axis.isUpdated()) {
+            return ((NumericalAxisModel) axis).getValueAtPosition(position);
+        }
+
+        return minimum + (position * (maximum - minimum));
+    }
+
+    @Override
+    public List<T> dataPointsForAxis(AxisModel axis) {
+        if (this.getVirtualizationEnabled() && axis != null && this.isVirtualizedAlong(axis)) {
+            return this.dataPoints;
+        }
+
+        return this.visibleDataPoints();
+    }
+
+    /**
+     * Determines whether the visible points are looked up along the given axis, by their indexes or by their values.
+     */
+    private boolean isVirtualizedAlong(AxisModel axis) {
+        if (this.getVirtualizationMode() == DataPointVirtualizationMode.VALUE) {
+            boolean horizontal = this.isHorizontalByValue();
+            AxisModel valueAxis = horizontal ? this.firstAxis : this.secondAxis;
+            AxisModel crossAxis = horizontal ? this.secondAxis : this.firstAxis;
+            if (valueAxis instanceof ContinuousAxisModel) {
+                return axis == valueAxis ||
+                        (axis == crossAxis && this.virtualizesAlongBothAxes() && crossAxis instanceof ContinuousAxisModel);
+            }
+        }
+
+        boolean horizontal = this.firstAxis instanceof CategoricalAxisModel || this.firstAxis instanceof DateTimeContinuousAxisModel;
+        return axis == (horizontal ? this.firstAxis : this.secondAxis);
+    }
+
+    // The series is laid out vertically only when the first (horizontal) axis holds its values.
+    private boolean isHorizontalByValue() {
+        return !(this.firstAxis instanceof NumericalAxisModel) || this.secondAxis instanceof NumericalAxisModel;
+    }
+
+    private DataPointValueIndex buildValueIndex(AxisModel axis, AxisModel crossAxis) {
+        int count = this.dataPoints.size();
+        double[] values = new double[count];
+        double[] crossValues = crossAxis == null ? null : new double[count];
+
+        for (int i = 0; i < count; i++) {
+            T point = this.dataPoints.get(i);
+            double value = toIndexValue(point.getValueForAxis(axis));
+            if (Double.isNaN(value)) {
+                // Values the index cannot order, such as date strings, cannot be looked up.
+                return null;
+            }
+
+            values[i] = value;
+            if (crossValues != null) {
+                crossValues[i] = toIndexValue(point.getValueForAxis(crossAxis));
+            }
+        }
+
+        return new DataPointValueIndex(axis, values, crossAxis, crossValues, count);
+    }
+
+    private static double toIndexValue(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+
+        if (value instanceof Calendar) {
+            return ((Calendar) value).getTimeInMillis();
+        }
+
+        if (value instanceof Date) {
+            return ((Date) value).getTime();
+        }
+
+        return Double.NaN;
+    }
 }
@@ -10,12 +10,16 @@ import com.telerik.widget.chart.engine.series.ChartSeriesModel;
 
 import java.lang.reflect.Type;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Hashtable;
-import java.util.Map;
+import java.util.IdentityHashMap;
+import java.util.List;
 
 /**
  * Handles combination of widget series that are {@link SupportCombineMode} instances and have their {@link SupportCombineMode#getCombineMode()} member specified.
+ * <p/>
+ * The groups and stacks are kept between updates. While the series, their combine modes and axes stay the same,
+ * the points appended to the series are added to their stacks and only the stacks of the modified points are
+ * summed again, any other change of the data builds the groups again.
  */
 public class ChartSeriesCombineStrategy {
 
@@ -30,6 +34,11 @@ public class ChartSeriesCombineStrategy {
 
     Function<SeriesModelWithAxes, AxisModel> valueAxesExtractor;
 
+    private final ArrayList<ChartSeriesModel> series = new ArrayList<ChartSeriesModel>();
+    private final IdentityHashMap<ChartSeriesModel, SeriesStacks> seriesStacks = new IdentityHashMap<ChartSeriesModel, SeriesStacks>();
+    private AxisType stackAxisType;
+    private boolean stackSumsValid;
+
     /**
      * Creates a new instance of the {@link ChartSeriesCombineStrategy} class.
      */
@@ -48,11 +57,14 @@ public class ChartSeriesCombineStrategy {
      * @param stackAxis The axis of the combine strategy.
      */
     public void update(Iterable<ChartSeriesModel> series, AxisModel stackAxis) {
-        if (this.isUpdated) {
+        if (this.isUpdated && this.canUpdateStacks(series, stackAxis) && this.updateStacks()) {
             return;
         }
 
+        this.reset();
+
         this.stackAxis = stackAxis;
+        this.stackAxisType = stackAxis.getType();
 
         if (stackAxis.getType() == AxisType.FIRST) {
             this.valueAxesExtractor = new Function<SeriesModelWithAxes, AxisModel>() {
@@ -76,6 +88,9 @@ public class ChartSeriesCombineStrategy {
                 this.stackValueAxes.add(stackValueAxis);
             }
 
+            this.series.add(model);
+            this.seriesStacks.put(model, new SeriesStacks(model, stackValueAxis));
+
             SupportCombineMode combinableSeries = null;
             if (model instanceof SupportCombineMode) {
                 combinableSeries = (SupportCombineMode) model;
@@ -87,6 +102,7 @@ public class ChartSeriesCombineStrategy {
             }
 
             CombinedSeries combinedSeries = this.getCombinedSeries(combinableSeries);
+            this.seriesStacks.get(model).rank = combinedSeries.series().size();
             combinedSeries.series().add(model);
 
             this.hasCombination = true;
@@ -142,6 +158,8 @@ public class ChartSeriesCombineStrategy {
         this.maximumStackSums.clear();
         this.minimumStackSums.clear();
         this.stackValueAxes.clear();
+        this.series.clear();
+        this.seriesStacks.clear();
         this.isUpdated = false;
     }
 
@@ -171,57 +189,215 @@ public class ChartSeriesCombineStrategy {
         for (CombinedSeries combinedSeries : this.combinedSeries) {
             this.processSeries(combinedSeries);
         }
+
+        this.stackSumsValid = true;
     }
 
     private void processSeries(CombinedSeries combinedSeries) {
-        Map<Object, CombineGroup> groupsByKey = new HashMap<Object, CombineGroup>(8);
-        CombineStack stack;
-        double min;
-        double max;
-
-        for (ChartSeriesModel series : combinedSeries.series()) {
-            AxisModel stackValueAxis = this.valueAxesExtractor.apply((SeriesModelWithAxes) series);
-            if (!this.minimumStackSums.containsKey(stackValueAxis)) {
-                this.minimumStackSums.put(stackValueAxis, Double.POSITIVE_INFINITY);
-                this.maximumStackSums.put(stackValueAxis, Double.NEGATIVE_INFINITY);
+        List<ChartSeriesModel> series = combinedSeries.series();
+        for (int i = 0, count = series.size(); i < count; i++) {
+            SeriesStacks stacks = this.seriesStacks.get(series.get(i));
+            this.initStackSums(stacks.valueAxis);
+
+            List points = stacks.series.visibleDataPoints();
+            stacks.isIncremental = points == stacks.series.dataPoints();
+            stacks.ensureCapacity(points.size());
+            for (int index = 0, pointsCount = points.size(); index < pointsCount; index++) {
+                this.addPoint(combinedSeries, stacks, (DataPoint) points.get(index), index);
             }
 
-            min = this.minimumStackSums.get(stackValueAxis);
-            max = this.maximumStackSums.get(stackValueAxis);
+            stacks.pointsCount = points.size();
+            stacks.resetVersion = stacks.series.getDataResetVersion();
+            stacks.modifiedCount = stacks.series.getModifiedPointsCount();
+            stacks.removedCount = stacks.series.getRemovedFromStartCount();
+        }
+    }
 
-            for (Object point : series.visibleDataPoints()) {
-                DataPoint dataPoint = (DataPoint) point;
-                Object key = this.stackAxis.getCombineGroupKey(dataPoint);
-                if (key == null) {
-                    continue;
-                }
+    private void addPoint(CombinedSeries combinedSeries, SeriesStacks stacks, DataPoint point, int index) {
+        Object key = this.stackAxis.getCombineGroupKey(point);
+        stacks.groupKeys[index] = key;
+        stacks.pointStacks[index] = null;
+        if (key == null) {
+            return;
+        }
+
+        CombineGroup group = combinedSeries.groupsByKey.get(key);
+        if (group == null) {
+            group = new CombineGroup();
+            combinedSeries.groupsByKey.put(key, group);
+            combinedSeries.groups().add(group);
+        }
+
+        CombineStack stack = group.getStack((SupportCombineMode) stacks.series);
+        stacks.pointStacks[index] = stack;
+
+        // the points are stacked in the order of their series, a point appended to an earlier series goes below the others
+        ArrayList<DataPoint> stackPoints = stack.points();
+        int position = stackPoints.size();
+        while (position > 0 && this.seriesStacks.get(stackPoints.get(position - 1).getParent()).rank > stacks.rank) {
+            position--;
+        }
+        stackPoints.add(position, point);
+
+        if (position == stackPoints.size() - 1) {
+            AxisModel.StackValue value = stacks.valueAxis.getStackValue(point);
+            if (value.positive) {
+                stack.positiveSum += value.value;
+            } else {
+                stack.negativeSum += value.value;
+            }
+        } else {
+            this.sumStack(stack);
+        }
+
+        this.minimumStackSums.put(stacks.valueAxis, Math.min(this.minimumStackSums.get(stacks.valueAxis), stack.negativeSum));
+        this.maximumStackSums.put(stacks.valueAxis, Math.max(this.maximumStackSums.get(stacks.valueAxis), stack.positiveSum));
+    }
+
+    private boolean canUpdateStacks(Iterable<ChartSeriesModel> series, AxisModel stackAxis) {
+        if (this.stackAxis != stackAxis || this.stackAxisType != stackAxis.getType()) {
+            return false;
+        }
 
-                CombineGroup group;
-                if (!groupsByKey.containsKey(key)) {
-                    group = new CombineGroup();
-                    groupsByKey.put(key, group);
-                    combinedSeries.groups().add(group);
-                } else {
-                    group = groupsByKey.get(key);
+        int index = 0;
+        for (ChartSeriesModel model : series) {
+            if (index >= this.series.size() || this.series.get(index) != model) {
+                return false;
+            }
+
+            SeriesStacks stacks = this.seriesStacks.get(model);
+            if (stacks.valueAxis != this.valueAxesExtractor.apply((SeriesModelWithAxes) model) ||
+                    stacks.combineMode != getCombineMode(model) || !isSameKey(stacks.stackGroupKey, getStackGroupKey(model))) {
+                return false;
+            }
+
+            index++;
+        }
+
+        return index == this.series.size();
+    }
+
+    /**
+     * Brings the stacks up to date with the appended and modified points of the combined series.
+     *
+     * @return <code>false</code> if the data changed in a way that requires building the groups again.
+     */
+    private boolean updateStacks() {
+        for (CombinedSeries combinedSeries : this.combinedSeries) {
+            for (ChartSeriesModel model : combinedSeries.series()) {
+                SeriesStacks stacks = this.seriesStacks.get(model);
+                List points = model.dataPoints();
+                if (!stacks.isIncremental || model.visibleDataPoints() != points ||
+                        stacks.resetVersion != model.getDataResetVersion() ||
+                        stacks.removedCount != model.getRemovedFromStartCount() ||
+                        points.size() < stacks.pointsCount) {
+                    return false;
                 }
 
-                stack = group.getStack((SupportCombineMode) series);
-                stack.points().add(dataPoint);
+                int modifiedCount = model.getModifiedPointsCount();
+                for (int i = stacks.modifiedCount; i < modifiedCount; i++) {
+                    int index = model.getModifiedPointIndex(i);
+                    if (index < stacks.pointsCount && !this.updatePoint(stacks, (DataPoint) points.get(index), index)) {
+                        return false;
+                    }
+                }
+                stacks.modifiedCount = modifiedCount;
 
-                AxisModel.StackValue value = stackValueAxis.getStackValue(dataPoint);
-                if (value.positive) {
-                    stack.positiveSum += value.value;
-                } else {
-                    stack.negativeSum += value.value;
+                int pointsCount = points.size();
+                stacks.ensureCapacity(pointsCount);
+                for (int index = stacks.pointsCount; index < pointsCount; index++) {
+                    this.addPoint(combinedSeries, stacks, (DataPoint) points.get(index), index);
                 }
+                stacks.pointsCount = pointsCount;
+            }
+        }
 
-                min = Math.min(min, stack.negativeSum);
-                max = Math.max(max, stack.positiveSum);
+        if (!this.stackSumsValid) {
+            this.updateStackSums();
+        }
+
+        return true;
+    }
+
+    private boolean updatePoint(SeriesStacks stacks, DataPoint point, int index) {
+        // a point that moved to another group changes the order of the groups and stacks
+        if (!isSameKey(stacks.groupKeys[index], this.stackAxis.getCombineGroupKey(point))) {
+            return false;
+        }
+
+        CombineStack stack = stacks.pointStacks[index];
+        if (stack != null) {
+            this.sumStack(stack);
+
+            // the sums of the stack may have shrunk
+            this.stackSumsValid = false;
+        }
+
+        return true;
+    }
+
+    private void sumStack(CombineStack stack) {
+        stack.positiveSum = 0;
+        stack.negativeSum = 0;
+
+        ArrayList<DataPoint> points = stack.points();
+        for (int i = 0, count = points.size(); i < count; i++) {
+            DataPoint point = points.get(i);
+            AxisModel.StackValue value = this.seriesStacks.get(point.getParent()).valueAxis.getStackValue(point);
+            if (value.positive) {
+                stack.positiveSum += value.value;
+            } else {
+                stack.negativeSum += value.value;
             }
+        }
+    }
+
+    private void updateStackSums() {
+        this.minimumStackSums.clear();
+        this.maximumStackSums.clear();
 
-            this.minimumStackSums.put(stackValueAxis, min);
-            this.maximumStackSums.put(stackValueAxis, max);
+        for (CombinedSeries combinedSeries : this.combinedSeries) {
+            for (ChartSeriesModel model : combinedSeries.series()) {
+                this.initStackSums(this.seriesStacks.get(model).valueAxis);
+            }
+
+            for (CombineGroup group : combinedSeries.groups()) {
+                for (CombineStack stack : group.stacks()) {
+                    AxisModel valueAxis = this.seriesStacks.get(stack.points().get(0).getParent()).valueAxis;
+                    this.minimumStackSums.put(valueAxis, Math.min(this.minimumStackSums.get(valueAxis), stack.negativeSum));
+                    this.maximumStackSums.put(valueAxis, Math.max(this.maximumStackSums.get(valueAxis), stack.positiveSum));
+                }
+            }
         }
+
+        this.stackSumsValid = true;
+    }
+
+    private void initStackSums(AxisModel stackValueAxis) {
+        if (!this.minimumStackSums.containsKey(stackValueAxis)) {
+            this.minimumStackSums.put(stackValueAxis, Double.POSITIVE_INFINITY);
+            this.maximumStackSums.put(stackValueAxis, Double.NEGATIVE_INFINITY);
+        }
+    }
+
+    private static ChartSeriesCombineMode getCombineMode(ChartSeriesModel model) {
+        if (model instanceof SupportCombineMode) {
+            return ((SupportCombineMode) model).getCombineMode();
+        }
+
+        return ChartSeriesCombineMode.NONE;
+    }
+
+    private static Object getStackGroupKey(ChartSeriesModel model) {
+        if (model instanceof SupportCombineMode) {
+            return ((SupportCombineMode) model).getStackGroupKey();
+        }
+
+        return null;
+    }
+
+    private static boolean isSameKey(Object key, Object otherKey) {
+        return key == otherKey || (key != null && key.equals(otherKey));
     }
 
     private CombinedSeriesPlotStrategy getPlotStrategy(CombinedSeries series) {
@@ -239,5 +415,46 @@ public class ChartSeriesCombineStrategy {
 
         return null;
     }
+
+    /**
+     * The stacks the points of a series were put into, indexed by the position of the points in the series,
+     * together with the state of the series they were built from.
+     */
+    private static class SeriesStacks {
+        final ChartSeriesModel series;
+        final AxisModel valueAxis;
+        final ChartSeriesCombineMode combineMode;
+        final Object stackGroupKey;
+        int rank;
+        boolean isIncremental;
+        int pointsCount;
+        int resetVersion;
+        int modifiedCount;
+        int removedCount;
+        Object[] groupKeys = new Object[0];
+        CombineStack[] pointStacks = new CombineStack[0];
+
+        SeriesStacks(ChartSeriesModel series, AxisModel valueAxis) {
+            this.series = series;
+            this.valueAxis = valueAxis;
+            this.combineMode = getCombineMode(series);
+            this.stackGroupKey = getStackGroupKey(series);
+        }
+
+        void ensureCapacity(int count) {
+            if (this.pointStacks.length >= count) {
+                return;
+            }
+
+            int capacity = Math.max(count, this.pointStacks.length * 2);
+            Object[] newGroupKeys = new Object[capacity];
+            System.arraycopy(this.groupKeys, 0, newGroupKeys, 0, this.pointsCount);
+            this.groupKeys = newGroupKeys;
+
+            CombineStack[] newPointStacks = new CombineStack[capacity];
+            System.arraycopy(this.pointStacks, 0, newPointStacks, 0, this.pointsCount);
+            this.pointStacks = newPointStacks;
+        }
+    }
 }
 
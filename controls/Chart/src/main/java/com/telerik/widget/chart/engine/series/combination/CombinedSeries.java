@@ -5,6 +5,7 @@ import com.telerik.widget.chart.engine.series.ChartSeriesModel;
 
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.HashMap;
 
 /**
  * Immutable class that stores information for a collection of combined series.
@@ -15,6 +16,7 @@ public class CombinedSeries {
     private ChartSeriesCombineMode combineMode;
     private final ArrayList<ChartSeriesModel> series = new ArrayList<ChartSeriesModel>();
     private final ArrayList<CombineGroup> groups = new ArrayList<CombineGroup>();
+    final HashMap<Object, CombineGroup> groupsByKey = new HashMap<Object, CombineGroup>(8);
     private int combineIndex;
     private AxisModel stackAxis;
     private AxisModel stackValueAxis;
@@ -34,7 +34,7 @@ public class RangeSeriesBaseRoundLayoutContext {
 
         this.series = series;
         this.plotDirection = series.getTypedValue(AxisModel.PLOT_DIRECTION_PROPERTY_KEY, AxisPlotDirection.VERTICAL);
-        this.plotOrigin = series.getTypedValue(AxisModel.PLOT_ORIGIN_PROPERTY_KEY, 0D);
+        this.plotOrigin = series.getDoubleValue(AxisModel.PLOT_ORIGIN_PROPERTY_KEY, 0);
         this.plotArea = cartesianChartArea.getPlotArea().getLayoutSlot();
         double width = ((int) ((this.plotArea.getWidth() * series.chartArea().getView().getZoomWidth()) + .5));
         double height = ((int) ((this.plotArea.getHeight() * series.chartArea().getView().getZoomHeight()) + .5));
@@ -3,7 +3,7 @@ package com.telerik.widget.chart.visualization.cartesianChart.indicators;
 import com.telerik.widget.chart.engine.databinding.datasources.financial.HighLowCloseIndicatorDataSourceBase;
 import com.telerik.widget.chart.engine.series.ChartSeriesModel;
 
-public class StochasticIndicatorDataSourceBase extends HighLowCloseIndicatorDataSourceBase {
+public abstract class StochasticIndicatorDataSourceBase extends HighLowCloseIndicatorDataSourceBase {
 
     private int mainPeriod;
     private int signalPeriod;
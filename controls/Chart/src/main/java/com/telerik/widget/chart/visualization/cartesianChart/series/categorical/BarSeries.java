@@ -336,18 +336,16 @@ public class BarSeries extends CategoricalSeries {
 
     @Override
     public DataPointInfo findClosestPoint(Point location) {
-        for (Object point : this.model().visibleDataPoints()) {
-            DataPoint dataPoint = (DataPoint) point;
-            if (dataPoint.getLayoutSlot().contains(location.x, location.y)) {
-                DataPointInfo info = new DataPointInfo();
-                info.setDataPoint(dataPoint);
-                info.setDistanceToTouchLocation(this.getDistanceToPoint(location, dataPoint.getCenter()));
-                info.setSeriesModel(this.model());
-                return info;
-            }
+        DataPoint dataPoint = this.findContainingDataPoint(location);
+        if (dataPoint == null) {
+            return null;
         }
 
-        return null;
+        DataPointInfo info = new DataPointInfo();
+        info.setDataPoint(dataPoint);
+        info.setDistanceToTouchLocation(this.getDistanceToPoint(location, dataPoint.getCenter()));
+        info.setSeriesModel(this.model());
+        return info;
     }
 
     @Override
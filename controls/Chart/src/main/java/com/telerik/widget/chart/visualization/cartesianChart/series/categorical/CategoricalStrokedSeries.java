@@ -14,6 +14,7 @@ import com.telerik.widget.chart.engine.series.ChartSeriesModel;
 import com.telerik.widget.chart.engine.series.PointSeriesModel;
 import com.telerik.widget.chart.visualization.common.ChartLayoutContext;
 import com.telerik.widget.chart.visualization.common.StrokedSeries;
+import com.telerik.widget.chart.visualization.common.renderers.DataPointDecimator;
 import com.telerik.widget.chart.visualization.common.renderers.LineRenderer;
 import com.telerik.widget.palettes.ChartPalette;
 import com.telerik.widget.palettes.PaletteEntry;
@@ -87,6 +88,11 @@ public abstract class CategoricalStrokedSeries extends CategoricalSeries impleme
         return rect.contains(touchLocation.x, touchLocation.y);
     }
 
+    @Override
+    protected float getHitTestMargin() {
+        return this.dataPointTouchTargetSize;
+    }
+
     @Override
     public int getLegendFillColor() {
         if (!this.getCanApplyPalette()) {
@@ -201,6 +207,28 @@ public abstract class CategoricalStrokedSeries extends CategoricalSeries impleme
         this.requestRender();
     }
 
+    /**
+     * Gets the {@link DataPointDecimator} that reduces the visible data points to the ones that are rendered.
+     *
+     * @return The current decimator or <code>null</code> if all visible points are rendered.
+     */
+    public DataPointDecimator getDecimator() {
+        return this.getRenderer().getDecimator();
+    }
+
+    /**
+     * Sets the {@link DataPointDecimator} that reduces the visible data points to the ones that are rendered.
+     * Use a {@link com.telerik.widget.chart.visualization.common.renderers.MinMaxDataPointDecimator} to keep
+     * every peak or a {@link com.telerik.widget.chart.visualization.common.renderers.LttbDataPointDecimator}
+     * for a visually close shape with fewer points.
+     *
+     * @param value The new decimator or <code>null</code> to render all visible points.
+     */
+    public void setDecimator(DataPointDecimator value) {
+        this.getRenderer().setDecimator(value);
+        this.requestLayout();
+    }
+
     @Override
     protected void applyPaletteCore(ChartPalette palette) {
         super.applyPaletteCore(palette);
@@ -6,11 +6,14 @@ import android.graphics.Rect;
 
 import com.telerik.android.common.math.RadPoint;
 import com.telerik.android.common.math.RadRect;
+import com.telerik.widget.chart.engine.dataPoints.DataPoint;
 import com.telerik.widget.chart.engine.dataPoints.RangeDataPoint;
 import com.telerik.widget.chart.engine.elementTree.ChartNode;
 import com.telerik.widget.chart.visualization.common.ChartSeries;
 import com.telerik.widget.chart.visualization.common.renderers.BaseLabelRenderer;
 
+import java.util.List;
+
 /**
  * Label renderer handling the labels in the {@link RangeBarSeries} instances.
  */
@@ -25,6 +28,11 @@ public class RangeBarSeriesLabelRenderer extends BaseLabelRenderer {
         super(owner);
     }
 
+    @Override
+    public void layoutLabels(List<? extends DataPoint> points) {
+        // each point has a low and a high label, which are laid out while rendering
+    }
+
     @Override
     public void renderLabel(Canvas canvas, ChartNode dataPoint) {
         RangeDataPoint rangePoint = (RangeDataPoint) dataPoint;
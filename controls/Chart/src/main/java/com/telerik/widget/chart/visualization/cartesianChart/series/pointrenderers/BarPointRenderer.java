@@ -11,9 +11,11 @@ import com.telerik.widget.chart.visualization.cartesianChart.series.categorical.
 import com.telerik.widget.palettes.PaletteEntry;
 
 import java.util.HashMap;
+import java.util.List;
 
 public class BarPointRenderer extends ChartDataPointRendererBase<BarSeries> {
-    private HashMap<DataPoint, PaletteEntry> pointColors = new HashMap<DataPoint, PaletteEntry>();
+    private PaletteEntryMap pointColors = new PaletteEntryMap();
+    private final PointBatchCache batchCache = new PointBatchCache();
 
     public BarPointRenderer(BarSeries series) {
         super(series);
@@ -67,4 +69,69 @@ public class BarPointRenderer extends ChartDataPointRendererBase<BarSeries> {
             canvas.drawRect(pointRect, strokePaint);
         }
     }
+
+    @Override
+    protected boolean renderPointsBatched(Canvas canvas, List points) {
+        BarSeries series = this.getSeries();
+        boolean paletteApplied = series.isPaletteApplied();
+        float strokeWidth = series.getStrokeWidth();
+
+        // the bars are inset by half the stroke width, so the geometry depends on it
+        int stamp = paletteApplied ? this.pointColors.getVersion() : -1;
+        stamp = (31 * stamp) + Float.floatToIntBits(strokeWidth);
+        if (!this.batchCache.canReuse(series, points, stamp)) {
+            this.batchCache.beginBuild(series, points, stamp);
+
+            float inset = strokeWidth / 2.0f;
+            for (int i = 0, count = points.size(); i < count; i++) {
+                DataPoint point = (DataPoint) points.get(i);
+                RadRect layoutSlot = point.getLayoutSlot();
+                if (point.isEmpty || layoutSlot.getHeight() == 0 || layoutSlot.getWidth() == 0) {
+                    continue;
+                }
+
+                PaletteEntry entry = paletteApplied ? this.pointColors.get(point) : null;
+                this.batchCache.getBatch(entry, 0).addRect(
+                        (float) layoutSlot.getX() + inset, (float) layoutSlot.getY() + inset,
+                        (float) layoutSlot.getRight() - inset, (float) layoutSlot.getBottom() - inset);
+            }
+
+            this.batchCache.endBuild();
+        }
+
+        float cornerRadius = series.getAreBarsRounded() ? series.getRoundBarsRadius() : 0;
+
+        canvas.save();
+        canvas.translate(this.batchCache.getOffsetX(series), this.batchCache.getOffsetY(series));
+
+        for (PointBatch batch : this.batchCache.batches()) {
+            PaletteEntry entry = batch.getEntry();
+            Paint fillPaint;
+            Paint strokePaint;
+            if (entry != null) {
+                if (batch.entryFillPaint == null) {
+                    batch.entryFillPaint = new Paint();
+                    batch.entryFillPaint.setColor(entry.getFill());
+
+                    batch.entryStrokePaint = new Paint();
+                    batch.entryStrokePaint.setStyle(Paint.Style.STROKE);
+                    batch.entryStrokePaint.setColor(entry.getStroke());
+                }
+
+                fillPaint = batch.entryFillPaint;
+                strokePaint = batch.entryStrokePaint;
+            } else {
+                strokePaint = series.getFillPaint();
+                fillPaint = series.getStrokePaint();
+            }
+
+            strokePaint.setStrokeWidth(strokeWidth);
+
+            batch.drawRects(canvas, fillPaint, cornerRadius);
+            batch.drawRects(canvas, strokePaint, cornerRadius);
+        }
+
+        canvas.restore();
+        return true;
+    }
 }
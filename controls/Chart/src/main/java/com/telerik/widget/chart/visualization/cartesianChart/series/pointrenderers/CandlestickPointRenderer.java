@@ -5,14 +5,22 @@ import android.graphics.Paint;
 import android.graphics.RectF;
 
 import com.telerik.android.common.Util;
+import com.telerik.android.common.math.RadRect;
 import com.telerik.widget.chart.engine.axes.continuous.NumericalAxisOhlcPlotInfo;
 import com.telerik.widget.chart.engine.dataPoints.DataPoint;
 import com.telerik.widget.chart.engine.dataPoints.OhlcDataPoint;
 import com.telerik.widget.chart.visualization.cartesianChart.series.categorical.CandlestickSeries;
+import com.telerik.widget.chart.visualization.cartesianChart.series.categorical.OhlcSeriesBase;
 import com.telerik.widget.palettes.PaletteEntry;
 
+import java.util.List;
+
 public class CandlestickPointRenderer extends OhlcPointRendererBase {
 
+    private static final int WICKS = 0;
+    private static final int RISING_BODIES = 1;
+    private static final int FALLING_BODIES = 2;
+
     private Paint bodyPaint = new Paint();
 
     /**
@@ -87,4 +95,73 @@ public class CandlestickPointRenderer extends OhlcPointRendererBase {
 
         canvas.drawRect(pointSlot.left, stickUpperMiddle, pointSlot.right, stickLowerMiddle, bodyPaint);
     }
+
+    @Override
+    protected boolean renderPointsBatched(Canvas canvas, List points) {
+        OhlcSeriesBase series = this.getSeries();
+        int stamp = this.getPaletteStamp();
+        if (!this.batchCache.canReuse(series, points, stamp)) {
+            this.buildBatches(series, points, stamp);
+        }
+
+        canvas.save();
+        canvas.translate(this.batchCache.getOffsetX(series), this.batchCache.getOffsetY(series));
+
+        for (PointBatch batch : this.batchCache.batches()) {
+            PaletteEntry entry = batch.getEntry();
+            Paint paint;
+            if (entry != null) {
+                if (batch.entryStrokePaint == null) {
+                    batch.entryStrokePaint = new Paint();
+                    batch.entryStrokePaint.setColor(entry.getStroke());
+                    batch.entryStrokePaint.setStrokeWidth(entry.getStrokeWidth());
+                }
+
+                paint = batch.entryStrokePaint;
+            } else {
+                paint = batch.getVariant() == WICKS ? this.upStrokePaint : this.getBodyPaint();
+            }
+
+            if (batch.getVariant() == WICKS) {
+                batch.drawLines(canvas, paint);
+            } else {
+                paint.setStyle(batch.getVariant() == FALLING_BODIES ? Paint.Style.STROKE : Paint.Style.FILL);
+                batch.drawRects(canvas, paint, 0);
+            }
+        }
+
+        canvas.restore();
+        return true;
+    }
+
+    private void buildBatches(OhlcSeriesBase series, List points, int stamp) {
+        this.batchCache.beginBuild(series, points, stamp);
+
+        for (int i = 0, count = points.size(); i < count; i++) {
+            OhlcDataPoint point = (OhlcDataPoint) points.get(i);
+            NumericalAxisOhlcPlotInfo plotInfo = point.getNumericalPlot();
+            if (point.isEmpty || plotInfo == null) {
+                continue;
+            }
+
+            RadRect slot = point.getLayoutSlot();
+            float left = (float) slot.getX();
+            float top = (float) slot.getY();
+            float right = (float) slot.getRight();
+            float bottom = (float) slot.getBottom();
+            float centerX = (left + right) * 0.5f;
+            float stickUpperMiddle = (float) (Math.min(plotInfo.physicalOpen, plotInfo.physicalClose));
+            float stickLowerMiddle = (float) (Math.max(plotInfo.physicalOpen, plotInfo.physicalClose));
+
+            PaletteEntry entry = this.getPaletteEntry(point);
+
+            PointBatch wicks = this.batchCache.getBatch(entry, WICKS);
+            wicks.addLine(centerX, top, centerX, stickUpperMiddle);
+            wicks.addLine(centerX, stickLowerMiddle, centerX, bottom);
+
+            this.batchCache.getBatch(entry, point.isFalling() ? FALLING_BODIES : RISING_BODIES).addRect(left, stickUpperMiddle, right, stickLowerMiddle);
+        }
+
+        this.batchCache.endBuild();
+    }
 }
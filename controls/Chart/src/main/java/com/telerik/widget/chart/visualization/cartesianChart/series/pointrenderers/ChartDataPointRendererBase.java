@@ -4,8 +4,11 @@ import android.graphics.Canvas;
 
 import com.telerik.widget.chart.engine.dataPoints.DataPoint;
 
+import java.util.List;
+
 public abstract class ChartDataPointRendererBase<T> implements ChartDataPointRenderer {
     private T series;
+    private boolean batchingEnabled;
 
     public ChartDataPointRendererBase(T series) {
         if (series == null) {
@@ -19,6 +22,28 @@ public abstract class ChartDataPointRendererBase<T> implements ChartDataPointRen
         return this.series;
     }
 
+    /**
+     * Gets a value indicating whether the renderer draws all points of the series in a few canvas calls
+     * instead of drawing the points one by one.
+     *
+     * @return <code>true</code> if batching is enabled, <code>false</code> otherwise.
+     */
+    public boolean isBatchingEnabled() {
+        return this.batchingEnabled;
+    }
+
+    /**
+     * Sets a value indicating whether the renderer draws all points of the series in a few canvas calls
+     * instead of drawing the points one by one. The points are grouped by the paints they are drawn with,
+     * so overlapping points may be stacked differently than when they are drawn one by one. Renderers that
+     * do not support batching ignore this setting.
+     *
+     * @param value <code>true</code> to enable batching, <code>false</code> otherwise.
+     */
+    public void setBatchingEnabled(boolean value) {
+        this.batchingEnabled = value;
+    }
+
     @Override
     public void renderPoint(Canvas canvas, DataPoint point) {
         if (!point.isEmpty) {
@@ -26,5 +51,32 @@ public abstract class ChartDataPointRendererBase<T> implements ChartDataPointRen
         }
     }
 
+    /**
+     * Renders the given data points, batching them if batching is enabled and supported.
+     *
+     * @param canvas the canvas to render on.
+     * @param points the points to render.
+     */
+    public void renderPoints(Canvas canvas, List points) {
+        if (this.batchingEnabled && this.renderPointsBatched(canvas, points)) {
+            return;
+        }
+
+        for (int i = 0, count = points.size(); i < count; i++) {
+            this.renderPoint(canvas, (DataPoint) points.get(i));
+        }
+    }
+
+    /**
+     * Renders the given data points in a few canvas calls. Renderers that support batching override this method.
+     *
+     * @param canvas the canvas to render on.
+     * @param points the points to render.
+     * @return <code>true</code> if the points were rendered, <code>false</code> if they should be rendered one by one.
+     */
+    protected boolean renderPointsBatched(Canvas canvas, List points) {
+        return false;
+    }
+
     protected abstract void renderPointCore(Canvas canvas, DataPoint point);
 }
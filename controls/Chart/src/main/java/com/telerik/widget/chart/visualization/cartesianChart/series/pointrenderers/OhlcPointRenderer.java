@@ -7,14 +7,21 @@ import android.graphics.RectF;
 import android.util.TypedValue;
 
 import com.telerik.android.common.Util;
+import com.telerik.android.common.math.RadRect;
 import com.telerik.widget.chart.engine.axes.continuous.NumericalAxisOhlcPlotInfo;
 import com.telerik.widget.chart.engine.dataPoints.DataPoint;
 import com.telerik.widget.chart.engine.dataPoints.OhlcDataPoint;
 import com.telerik.widget.chart.visualization.cartesianChart.series.categorical.OhlcSeriesBase;
 import com.telerik.widget.palettes.PaletteEntry;
 
+import java.util.List;
+
 public class OhlcPointRenderer extends OhlcPointRendererBase {
 
+    private static final int UP_STROKE = 0;
+    private static final int DOWN_STROKE = 1;
+    private static final int ENTRY_STROKE = 2;
+
     private float tickLength;
     protected Paint downStrokePaint = new Paint();
 
@@ -71,6 +78,79 @@ public class OhlcPointRenderer extends OhlcPointRendererBase {
         canvas.drawLine(pointSlot.centerX(), pointSlot.top, pointSlot.centerX(), pointSlot.bottom, paint);
     }
 
+    @Override
+    protected boolean renderPointsBatched(Canvas canvas, List points) {
+        OhlcSeriesBase series = this.getSeries();
+
+        // the ticks are offset by half the stroke width, so the geometry depends on it
+        int stamp = this.getPaletteStamp();
+        stamp = (31 * stamp) + Float.floatToIntBits(this.upStrokePaint.getStrokeWidth());
+        stamp = (31 * stamp) + Float.floatToIntBits(this.downStrokePaint.getStrokeWidth());
+        if (!this.batchCache.canReuse(series, points, stamp)) {
+            this.buildBatches(series, points, stamp);
+        }
+
+        canvas.save();
+        canvas.translate(this.batchCache.getOffsetX(series), this.batchCache.getOffsetY(series));
+
+        for (PointBatch batch : this.batchCache.batches()) {
+            batch.drawLines(canvas, this.getBatchPaint(batch));
+        }
+
+        canvas.restore();
+        return true;
+    }
+
+    private Paint getBatchPaint(PointBatch batch) {
+        if (batch.getVariant() == DOWN_STROKE) {
+            return this.downStrokePaint;
+        }
+
+        if (batch.getVariant() == UP_STROKE) {
+            return this.upStrokePaint;
+        }
+
+        if (batch.entryStrokePaint == null) {
+            batch.entryStrokePaint = new Paint();
+            batch.entryStrokePaint.setColor(batch.getEntry().getStroke());
+            batch.entryStrokePaint.setStrokeWidth(batch.getEntry().getStrokeWidth());
+        }
+
+        return batch.entryStrokePaint;
+    }
+
+    private void buildBatches(OhlcSeriesBase series, List points, int stamp) {
+        this.batchCache.beginBuild(series, points, stamp);
+
+        for (int i = 0, count = points.size(); i < count; i++) {
+            OhlcDataPoint point = (OhlcDataPoint) points.get(i);
+            NumericalAxisOhlcPlotInfo plotInfo = point.getNumericalPlot();
+            if (point.isEmpty || plotInfo == null) {
+                continue;
+            }
+
+            PaletteEntry entry = this.getPaletteEntry(point);
+            PointBatch batch;
+            if (entry != null && (point.getIsSelected() || !point.isFalling())) {
+                batch = this.batchCache.getBatch(entry, ENTRY_STROKE);
+            } else {
+                batch = this.batchCache.getBatch(null, point.isFalling() ? DOWN_STROKE : UP_STROKE);
+            }
+
+            RadRect slot = point.getLayoutSlot();
+            float centerX = ((float) slot.getX() + (float) slot.getRight()) * 0.5f;
+            float open = (float) plotInfo.physicalOpen;
+            float close = (float) plotInfo.physicalClose;
+            float halfStrokeWidth = this.getBatchPaint(batch).getStrokeWidth() / 2;
+
+            batch.addLine(centerX - tickLength, open, centerX + halfStrokeWidth, open);
+            batch.addLine(centerX + tickLength, close, centerX - halfStrokeWidth, close);
+            batch.addLine(centerX, (float) slot.getY(), centerX, (float) slot.getBottom());
+        }
+
+        this.batchCache.endBuild();
+    }
+
     private void renderTicks(Canvas canvas, RectF pointSlot, NumericalAxisOhlcPlotInfo plotInfo, Paint strokePaint) {
         float halfStrokeWidth = this.strokePaint.getStrokeWidth() / 2;
         canvas.drawLine(pointSlot.centerX() - tickLength, (float)plotInfo.physicalOpen, pointSlot.centerX() + halfStrokeWidth, (float)plotInfo.physicalOpen, strokePaint);
@@ -12,7 +12,8 @@ public abstract class OhlcPointRendererBase extends ChartDataPointRendererBase<O
 
     protected Paint upStrokePaint = new Paint();
     protected Paint strokePaint;
-    private HashMap<DataPoint, PaletteEntry> pointColors = new HashMap<DataPoint, PaletteEntry>();
+    private PaletteEntryMap pointColors = new PaletteEntryMap();
+    final PointBatchCache batchCache = new PointBatchCache();
 
     public OhlcPointRendererBase(OhlcSeriesBase series) {
         super(series);
@@ -25,4 +26,19 @@ public abstract class OhlcPointRendererBase extends ChartDataPointRendererBase<O
     public Paint upStrokePaint() {
         return this.upStrokePaint;
     }
+
+    /**
+     * Gets a value that changes whenever the palette entries of the points change, so that batched geometry
+     * grouped by palette entry is rebuilt.
+     */
+    int getPaletteStamp() {
+        return this.getSeries().isPaletteApplied() ? this.pointColors.getVersion() : -1;
+    }
+
+    /**
+     * Gets the palette entry of the given point or <code>null</code> if it is drawn with the default paints.
+     */
+    PaletteEntry getPaletteEntry(DataPoint point) {
+        return this.getSeries().isPaletteApplied() ? this.pointColors.get(point) : null;
+    }
 }
@@ -0,0 +1,47 @@
+package com.telerik.widget.chart.visualization.cartesianChart.series.pointrenderers;
+
+import com.telerik.widget.chart.engine.dataPoints.DataPoint;
+import com.telerik.widget.palettes.PaletteEntry;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The palette entries of the data points of a series. Counts its modifications so that the batched renderers
+ * know when the paints of the points have changed without looking them up for every frame.
+ */
+class PaletteEntryMap extends HashMap<DataPoint, PaletteEntry> {
+
+    private int version;
+
+    /**
+     * Gets a number that changes whenever the map is modified.
+     */
+    int getVersion() {
+        return this.version;
+    }
+
+    @Override
+    public PaletteEntry put(DataPoint key, PaletteEntry value) {
+        this.version++;
+        return super.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends DataPoint, ? extends PaletteEntry> map) {
+        this.version++;
+        super.putAll(map);
+    }
+
+    @Override
+    public PaletteEntry remove(Object key) {
+        this.version++;
+        return super.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        this.version++;
+        super.clear();
+    }
+}
@@ -0,0 +1,125 @@
+package com.telerik.widget.chart.visualization.cartesianChart.series.pointrenderers;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.graphics.RectF;
+
+import com.telerik.widget.palettes.PaletteEntry;
+
+/**
+ * Holds the geometry of the data points of a series that are drawn with the same paints, packed in a float
+ * buffer so that it is emitted with a single canvas call. Lines are stored as four coordinates and are drawn
+ * with {@link Canvas#drawLines(float[], int, int, Paint)}, rectangles are stored as their four edges and circles
+ * as their center and are drawn as a single path, which is kept until the geometry changes.
+ */
+class PointBatch {
+
+    private final PaletteEntry entry;
+    private final int variant;
+
+    private float[] values = new float[64];
+    private int count;
+
+    private final Path path = new Path();
+    private final RectF pathRect = new RectF();
+    private boolean pathValid;
+    private float pathRadius;
+
+    // The paints of the palette entry of the batch, created on demand.
+    Paint entryFillPaint;
+    Paint entryStrokePaint;
+
+    PointBatch(PaletteEntry entry, int variant) {
+        this.entry = entry;
+        this.variant = variant;
+    }
+
+    /**
+     * Gets the palette entry of the points in the batch or <code>null</code> if they are drawn with the default paints.
+     */
+    PaletteEntry getEntry() {
+        return this.entry;
+    }
+
+    /**
+     * Gets a renderer specific value that distinguishes the batches of points with the same palette entry.
+     */
+    int getVariant() {
+        return this.variant;
+    }
+
+    boolean isEmpty() {
+        return this.count == 0;
+    }
+
+    void reset() {
+        this.count = 0;
+        this.pathValid = false;
+    }
+
+    void addLine(float x1, float y1, float x2, float y2) {
+        this.ensureCapacity(4);
+        this.values[this.count++] = x1;
+        this.values[this.count++] = y1;
+        this.values[this.count++] = x2;
+        this.values[this.count++] = y2;
+    }
+
+    void addRect(float left, float top, float right, float bottom) {
+        this.addLine(left, top, right, bottom);
+    }
+
+    void addCircle(float centerX, float centerY) {
+        this.ensureCapacity(2);
+        this.values[this.count++] = centerX;
+        this.values[this.count++] = centerY;
+    }
+
+    void drawLines(Canvas canvas, Paint paint) {
+        canvas.drawLines(this.values, 0, this.count, paint);
+    }
+
+    void drawRects(Canvas canvas, Paint paint, float cornerRadius) {
+        if (!this.pathValid || this.pathRadius != cornerRadius) {
+            this.path.rewind();
+            for (int i = 0; i < this.count; i += 4) {
+                if (cornerRadius > 0) {
+                    this.pathRect.set(this.values[i], this.values[i + 1], this.values[i + 2], this.values[i + 3]);
+                    this.path.addRoundRect(this.pathRect, cornerRadius, cornerRadius, Path.Direction.CW);
+                } else {
+                    this.path.addRect(this.values[i], this.values[i + 1], this.values[i + 2], this.values[i + 3], Path.Direction.CW);
+                }
+            }
+
+            this.pathValid = true;
+            this.pathRadius = cornerRadius;
+        }
+
+        canvas.drawPath(this.path, paint);
+    }
+
+    void drawCircles(Canvas canvas, Paint paint, float radius) {
+        if (!this.pathValid || this.pathRadius != radius) {
+            this.path.rewind();
+            for (int i = 0; i < this.count; i += 2) {
+                this.path.addCircle(this.values[i], this.values[i + 1], radius, Path.Direction.CW);
+            }
+
+            this.pathValid = true;
+            this.pathRadius = radius;
+        }
+
+        canvas.drawPath(this.path, paint);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (this.count + extra <= this.values.length) {
+            return;
+        }
+
+        float[] newValues = new float[Math.max(this.values.length * 2, this.count + extra)];
+        System.arraycopy(this.values, 0, newValues, 0, this.count);
+        this.values = newValues;
+    }
+}
@@ -0,0 +1,158 @@
+package com.telerik.widget.chart.visualization.cartesianChart.series.pointrenderers;
+
+import com.telerik.android.common.math.RadRect;
+import com.telerik.widget.chart.engine.dataPoints.DataPoint;
+import com.telerik.widget.chart.visualization.common.ChartSeries;
+import com.telerik.widget.chart.visualization.common.RadChartViewBase;
+import com.telerik.widget.palettes.PaletteEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the batches of a renderer together with the layout they were built for. Panning only translates the
+ * layout slots of the points, so while the points, their data, the zoom and the renderer specific state stay
+ * the same the batches are drawn again, translated by the change of the pan offset, instead of being rebuilt.
+ */
+class PointBatchCache {
+
+    // Adding and subtracting the pan offset is not exact, so the recorded coordinates are compared with a tolerance.
+    private static final double LAYOUT_TOLERANCE = 0.01;
+
+    private final ArrayList<PointBatch> batches = new ArrayList<PointBatch>();
+
+    private boolean valid;
+    private int stamp;
+    private int dataVersion;
+    private int pointsCount;
+    private DataPoint firstPoint;
+    private DataPoint lastPoint;
+    private double firstX;
+    private double firstY;
+    private double lastX;
+    private double lastY;
+    private double zoomWidth;
+    private double zoomHeight;
+    private double plotAreaWidth;
+    private double plotAreaHeight;
+    private double panOffsetX;
+    private double panOffsetY;
+
+    /**
+     * Gets the batches built by the last {@link #beginBuild(ChartSeries, List, int)} call.
+     */
+    List<PointBatch> batches() {
+        return this.batches;
+    }
+
+    /**
+     * Determines whether the batches can be drawn for the given points.
+     *
+     * @param series the series the points belong to.
+     * @param points the points to draw.
+     * @param stamp  a value that changes whenever the renderer specific state the geometry depends on changes.
+     */
+    boolean canReuse(ChartSeries series, List points, int stamp) {
+        RadChartViewBase chart = series.getChart();
+        int count = points.size();
+        if (!this.valid || chart == null || count == 0 ||
+                this.stamp != stamp ||
+                this.dataVersion != series.model().getDataVersion() ||
+                this.pointsCount != count ||
+                this.firstPoint != points.get(0) ||
+                this.lastPoint != points.get(count - 1) ||
+                this.zoomWidth != chart.getZoomWidth() ||
+                this.zoomHeight != chart.getZoomHeight() ||
+                this.plotAreaWidth != chart.getPlotAreaClip().getWidth() ||
+                this.plotAreaHeight != chart.getPlotAreaClip().getHeight()) {
+            return false;
+        }
+
+        // The axes may have changed their ranges without a change of the data, so check that the points were only translated.
+        double offsetX = chart.getPanOffsetX() - this.panOffsetX;
+        double offsetY = chart.getPanOffsetY() - this.panOffsetY;
+        RadRect firstSlot = this.firstPoint.getLayoutSlot();
+        RadRect lastSlot = this.lastPoint.getLayoutSlot();
+        return isSame(firstSlot.getX() - offsetX, this.firstX) && isSame(firstSlot.getY() - offsetY, this.firstY) &&
+                isSame(lastSlot.getX() - offsetX, this.lastX) && isSame(lastSlot.getY() - offsetY, this.lastY);
+    }
+
+    private static boolean isSame(double coordinate, double recordedCoordinate) {
+        return Math.abs(coordinate - recordedCoordinate) < LAYOUT_TOLERANCE;
+    }
+
+    /**
+     * Clears the batches and records the layout of the given points, which are about to be batched.
+     */
+    void beginBuild(ChartSeries series, List points, int stamp) {
+        for (int i = 0, count = this.batches.size(); i < count; i++) {
+            this.batches.get(i).reset();
+        }
+
+        RadChartViewBase chart = series.getChart();
+        int count = points.size();
+        this.valid = chart != null && count > 0;
+        if (!this.valid) {
+            this.firstPoint = null;
+            this.lastPoint = null;
+            return;
+        }
+
+        this.stamp = stamp;
+        this.dataVersion = series.model().getDataVersion();
+        this.pointsCount = count;
+        this.firstPoint = (DataPoint) points.get(0);
+        this.lastPoint = (DataPoint) points.get(count - 1);
+        this.firstX = this.firstPoint.getLayoutSlot().getX();
+        this.firstY = this.firstPoint.getLayoutSlot().getY();
+        this.lastX = this.lastPoint.getLayoutSlot().getX();
+        this.lastY = this.lastPoint.getLayoutSlot().getY();
+        this.zoomWidth = chart.getZoomWidth();
+        this.zoomHeight = chart.getZoomHeight();
+        this.plotAreaWidth = chart.getPlotAreaClip().getWidth();
+        this.plotAreaHeight = chart.getPlotAreaClip().getHeight();
+        this.panOffsetX = chart.getPanOffsetX();
+        this.panOffsetY = chart.getPanOffsetY();
+    }
+
+    /**
+     * Gets the batch for the points with the given palette entry and variant, creating it if needed.
+     */
+    PointBatch getBatch(PaletteEntry entry, int variant) {
+        for (int i = 0, count = this.batches.size(); i < count; i++) {
+            PointBatch batch = this.batches.get(i);
+            if (batch.getEntry() == entry && batch.getVariant() == variant) {
+                return batch;
+            }
+        }
+
+        PointBatch batch = new PointBatch(entry, variant);
+        this.batches.add(batch);
+        return batch;
+    }
+
+    /**
+     * Drops the batches that did not receive any points, such as the ones of palette entries that are no longer used.
+     */
+    void endBuild() {
+        for (int i = this.batches.size() - 1; i >= 0; i--) {
+            if (this.batches.get(i).isEmpty()) {
+                this.batches.remove(i);
+            }
+        }
+    }
+
+    /**
+     * Gets the horizontal distance the points moved by since the batches were built.
+     */
+    float getOffsetX(ChartSeries series) {
+        return (float) (series.getChart().getPanOffsetX() - this.panOffsetX);
+    }
+
+    /**
+     * Gets the vertical distance the points moved by since the batches were built.
+     */
+    float getOffsetY(ChartSeries series) {
+        return (float) (series.getChart().getPanOffsetY() - this.panOffsetY);
+    }
+}
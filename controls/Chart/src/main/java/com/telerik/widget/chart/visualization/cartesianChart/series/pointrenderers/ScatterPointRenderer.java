@@ -8,12 +8,14 @@ import com.telerik.widget.chart.visualization.cartesianChart.series.scatter.Scat
 import com.telerik.widget.palettes.PaletteEntry;
 
 import java.util.HashMap;
+import java.util.List;
 
 /**
  * Renders the data points for {@link ScatterPointSeries}.
  */
 public class ScatterPointRenderer extends ChartDataPointRendererBase<ScatterPointSeries> {
-    private HashMap<DataPoint, PaletteEntry> pointColors = new HashMap<DataPoint, PaletteEntry>();
+    private PaletteEntryMap pointColors = new PaletteEntryMap();
+    private final PointBatchCache batchCache = new PointBatchCache();
 
     /**
      * Creates a new instance of the ScatterPointRenderer class.
@@ -58,4 +60,62 @@ public class ScatterPointRenderer extends ChartDataPointRendererBase<ScatterPoin
         canvas.drawCircle((float) point.getCenterX(), (float) point.getCenterY(), pointSize, fillPaint);
         canvas.drawCircle((float) point.getCenterX(), (float) point.getCenterY(), pointSize, strokePaint);
     }
+
+    @Override
+    protected boolean renderPointsBatched(Canvas canvas, List points) {
+        ScatterPointSeries series = this.getSeries();
+        boolean paletteApplied = series.isPaletteApplied();
+        int stamp = paletteApplied ? this.pointColors.getVersion() : -1;
+        if (!this.batchCache.canReuse(series, points, stamp)) {
+            this.batchCache.beginBuild(series, points, stamp);
+
+            for (int i = 0, count = points.size(); i < count; i++) {
+                DataPoint point = (DataPoint) points.get(i);
+                if (point.isEmpty) {
+                    continue;
+                }
+
+                PaletteEntry entry = paletteApplied ? this.pointColors.get(point) : null;
+                this.batchCache.getBatch(entry, 0).addCircle((float) point.getCenterX(), (float) point.getCenterY());
+            }
+
+            this.batchCache.endBuild();
+        }
+
+        float pointSize = series.getPointSize();
+
+        canvas.save();
+        canvas.translate(this.batchCache.getOffsetX(series), this.batchCache.getOffsetY(series));
+
+        for (PointBatch batch : this.batchCache.batches()) {
+            PaletteEntry entry = batch.getEntry();
+            Paint fillPaint;
+            Paint strokePaint;
+            if (entry != null) {
+                if (batch.entryFillPaint == null) {
+                    batch.entryFillPaint = new Paint();
+                    batch.entryFillPaint.setAntiAlias(true);
+                    batch.entryFillPaint.setColor(entry.getFill());
+
+                    batch.entryStrokePaint = new Paint();
+                    batch.entryStrokePaint.setAntiAlias(true);
+                    batch.entryStrokePaint.setStyle(Paint.Style.STROKE);
+                    batch.entryStrokePaint.setColor(entry.getStroke());
+                    batch.entryStrokePaint.setStrokeWidth(entry.getStrokeWidth());
+                }
+
+                fillPaint = batch.entryFillPaint;
+                strokePaint = batch.entryStrokePaint;
+            } else {
+                strokePaint = series.getStrokePaint();
+                fillPaint = series.getFillPaint();
+            }
+
+            batch.drawCircles(canvas, fillPaint, pointSize);
+            batch.drawCircles(canvas, strokePaint, pointSize);
+        }
+
+        canvas.restore();
+        return true;
+    }
 }
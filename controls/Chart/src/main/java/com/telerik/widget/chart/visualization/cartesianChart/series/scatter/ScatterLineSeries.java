@@ -4,9 +4,12 @@ import android.graphics.Canvas;
 import android.graphics.Paint;
 import android.graphics.PointF;
 
+import com.telerik.widget.chart.engine.series.ChartSeriesModel;
+import com.telerik.widget.chart.engine.series.ScatterSeriesModel;
 import com.telerik.widget.chart.visualization.cartesianChart.series.pointrenderers.ChartDataPointRenderer;
 import com.telerik.widget.chart.visualization.common.ChartLayoutContext;
 import com.telerik.widget.chart.visualization.common.StrokedSeries;
+import com.telerik.widget.chart.visualization.common.renderers.DataPointDecimator;
 import com.telerik.widget.chart.visualization.common.renderers.LineRenderer;
 import com.telerik.widget.chart.visualization.common.renderers.ScatterLineRenderer;
 import com.telerik.widget.palettes.ChartPalette;
@@ -30,6 +33,14 @@ public class ScatterLineSeries extends ScatterPointSeries implements StrokedSeri
         return null;
     }
 
+    @Override
+    protected ChartSeriesModel createModel() {
+        ScatterSeriesModel model = (ScatterSeriesModel) super.createModel();
+        // The segments crossing the edges of the plot area need the points outside it.
+        model.setVirtualizesAlongBothAxes(false);
+        return model;
+    }
+
     @Override
     protected void initFields() {
         super.initFields();
@@ -59,6 +70,28 @@ public class ScatterLineSeries extends ScatterPointSeries implements StrokedSeri
         super.setStrokePaint(value);
     }
 
+    /**
+     * Gets the {@link DataPointDecimator} that reduces the visible data points to the ones that are rendered.
+     *
+     * @return The current decimator or <code>null</code> if all visible points are rendered.
+     */
+    public DataPointDecimator getDecimator() {
+        return this.getRenderer().getDecimator();
+    }
+
+    /**
+     * Sets the {@link DataPointDecimator} that reduces the visible data points to the ones that are rendered.
+     * Use a {@link com.telerik.widget.chart.visualization.common.renderers.MinMaxDataPointDecimator} to keep
+     * every peak or a {@link com.telerik.widget.chart.visualization.common.renderers.LttbDataPointDecimator}
+     * for a visually close shape with fewer points.
+     *
+     * @param value The new decimator or <code>null</code> to render all visible points.
+     */
+    public void setDecimator(DataPointDecimator value) {
+        this.getRenderer().setDecimator(value);
+        this.requestLayout();
+    }
+
     @Override
     protected void updateUICore(ChartLayoutContext context) {
         super.updateUICore(context);
@@ -2,7 +2,6 @@ package com.telerik.widget.chart.visualization.cartesianChart.series.scatter;
 
 import android.graphics.Color;
 import android.graphics.Paint;
-import android.graphics.Point;
 import android.graphics.PointF;
 import android.graphics.RectF;
 import android.util.TypedValue;
@@ -10,7 +9,6 @@ import android.util.TypedValue;
 import com.telerik.android.common.DependencyPropertyChangedListener;
 import com.telerik.android.common.Function;
 import com.telerik.android.common.Util;
-import com.telerik.android.common.math.RadMath;
 import com.telerik.widget.chart.engine.dataPoints.DataPoint;
 import com.telerik.widget.chart.engine.dataPoints.DataPointCollection;
 import com.telerik.widget.chart.engine.dataPoints.ScatterDataPoint;
@@ -214,6 +212,11 @@ public class ScatterPointSeries extends CartesianSeries {
         return rect.contains(touchLocation.x, touchLocation.y);
     }
 
+    @Override
+    protected float getHitTestMargin() {
+        return this.getTouchTargetSize() / 2.0f;
+    }
+
     @Override
     public int getLegendFillColor() {
         int modelIndex = this.model().collectionIndex();
@@ -369,11 +372,6 @@ public class ScatterPointSeries extends CartesianSeries {
         return ChartPalette.POINT_FAMILY;
     }
 
-    @Override
-    public double getDistanceToPoint(Point dataPointLocation, Point tapLocation) {
-        return RadMath.getPointDistance(dataPointLocation.x, tapLocation.x, dataPointLocation.y, tapLocation.y);
-    }
-
     @Override
     protected ChartSeriesDataSource createDataSourceInstance() {
         return new ScatterSeriesDataSource(this.model());
@@ -396,6 +394,7 @@ public class ScatterPointSeries extends CartesianSeries {
     @Override
     protected ChartSeriesModel createModel() {
         this.model = new ScatterSeriesModel();
+        this.model.setVirtualizesAlongBothAxes(true);
         return this.model;
     }
 
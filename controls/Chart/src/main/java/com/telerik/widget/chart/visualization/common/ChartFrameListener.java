@@ -0,0 +1,19 @@
+package com.telerik.widget.chart.visualization.common;
+
+import com.telerik.widget.chart.engine.chartAreas.ChartFrameTimings;
+
+/**
+ * Receives the time spent in each stage of the frames of a chart. Setting a listener to a chart with
+ * {@link RadChartViewBase#setFrameListener(ChartFrameListener)} enables the timings.
+ */
+public interface ChartFrameListener {
+
+    /**
+     * Called after the chart drew a frame. The timings cover the work done since the previous frame and are reset
+     * after this call, so they should be copied if they are needed later.
+     *
+     * @param chart   the chart that drew the frame.
+     * @param timings the timings of the frame.
+     */
+    void onFrameRendered(RadChartViewBase chart, ChartFrameTimings timings);
+}
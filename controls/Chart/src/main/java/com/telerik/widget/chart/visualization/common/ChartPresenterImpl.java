@@ -1,5 +1,8 @@
 package com.telerik.widget.chart.visualization.common;
 
+import com.telerik.widget.chart.engine.chartAreas.ChartAreaModel;
+import com.telerik.widget.chart.engine.chartAreas.ChartArrangeCounters;
+import com.telerik.widget.chart.engine.elementTree.ChartAreaInvalidateFlags;
 import com.telerik.widget.chart.engine.elementTree.ChartElement;
 import com.telerik.widget.chart.engine.elementTree.ChartNode;
 
@@ -50,14 +53,25 @@ public class ChartPresenterImpl extends ChartElementPresenter {
 
     @Override
     protected void refreshNodeCore(ChartNode node) {
-        this.chart.requestInvalidateArrange();
+        // The chart area records the parts it invalidated itself, the other nodes may affect the whole layout.
+        this.chart.requestInvalidateArrange(node == this.chart.chartAreaModel() ? ChartAreaInvalidateFlags.NONE : ChartAreaInvalidateFlags.ALL);
     }
 
     @Override
     protected void updateUICore(ChartLayoutContext context) {
+        ChartAreaModel chartArea = this.chart.chartAreaModel();
+        ChartArrangeCounters counters = chartArea.getArrangeCounters();
         List<? extends ChartElementPresenter> presenters = this.chart.presenters();
         for (ChartElementPresenter presenter : presenters) {
+            // the presenters of the elements that kept their layout keep their visuals as well
+            ChartElement element = presenter.getElement();
+            if (element instanceof ChartNode && chartArea.isArrangeSkipped((ChartNode) element)) {
+                counters.recordPresenterUpdate(false);
+                continue;
+            }
+
             presenter.updateUI(context);
+            counters.recordPresenterUpdate(true);
         }
 
         this.chart.stackedSeriesContext().clear();
@@ -12,9 +12,9 @@ import com.telerik.android.common.math.RadMath;
 import com.telerik.android.common.math.RadSize;
 import com.telerik.widget.chart.engine.chartAreas.ChartPlotAreaModel;
 import com.telerik.widget.chart.engine.dataPoints.DataPoint;
-import com.telerik.widget.chart.engine.dataPoints.DataPointCollection;
 import com.telerik.widget.chart.engine.databinding.DataPointBindingEntry;
 import com.telerik.widget.chart.engine.databinding.datasources.ChartSeriesDataSource;
+import com.telerik.widget.chart.engine.databinding.datasources.ColumnarItemsSource;
 import com.telerik.widget.chart.engine.databinding.datasources.DataBindingListener;
 import com.telerik.widget.chart.engine.elementTree.ChartElement;
 import com.telerik.widget.chart.engine.series.ChartSeriesModel;
@@ -23,6 +23,7 @@ import com.telerik.widget.chart.visualization.common.renderers.BaseLabelRenderer
 import com.telerik.widget.palettes.ChartPalette;
 
 import java.beans.PropertyChangeEvent;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -43,6 +44,9 @@ public abstract class ChartSeries extends ChartElementPresenter implements com.t
     private ChartSeriesModel model;
     private boolean isSelected;
     private ArrayList<PropertyChangedListener> propertyChangedListeners = new ArrayList<>();
+    private DataPointSpatialIndex spatialIndex = new DataPointSpatialIndex();
+    // Whether the class of the series overrides getDistanceToPoint, determined on the first findClosestPoint call.
+    private Boolean distanceToPointOverridden;
 
     /**
      * Creates a new instance of the {@link ChartSeries} class.
@@ -176,8 +180,9 @@ public abstract class ChartSeries extends ChartElementPresenter implements com.t
      * @return The data point that contains the provided point.
      */
     public DataPoint hitTestDataPoint(PointF touchLocation) {
-        DataPointCollection<DataPoint> points = this.model().dataPoints();
-        for (DataPoint point : points) {
+        DataPointSpatialIndex index = this.getSpatialIndex();
+        for (int i = 0, count = index.findCandidates(touchLocation.x, touchLocation.y, this.getHitTestMargin()); i < count; i++) {
+            DataPoint point = index.getCandidate(i);
             if (this.hitTestDataPoint(touchLocation, point)) {
                 return point;
             }
@@ -191,6 +196,48 @@ public abstract class ChartSeries extends ChartElementPresenter implements com.t
         return rect.contains(touchLocation.x, touchLocation.y);
     }
 
+    /**
+     * Gets the distance in pixels by which {@link #hitTestDataPoint(PointF, DataPoint)} extends the layout slots
+     * of the data points. Only the points whose slots, extended by this margin, contain the touch location are
+     * tested, so series that enlarge their touch targets should override it as well.
+     *
+     * @return the hit test margin.
+     */
+    protected float getHitTestMargin() {
+        return 0;
+    }
+
+    /**
+     * Gets the spatial index of the arranged data points, building it if the points were arranged or
+     * changed since it was last built.
+     */
+    DataPointSpatialIndex getSpatialIndex() {
+        ChartSeriesModel model = this.model();
+        if (!this.spatialIndex.isValid(model.getDataVersion())) {
+            this.spatialIndex.build(model.visibleDataPoints(), model.getDataVersion());
+        }
+
+        return this.spatialIndex;
+    }
+
+    /**
+     * Finds the first arranged data point whose layout slot contains the given location.
+     *
+     * @param location the location.
+     * @return the data point or <code>null</code> if there is no such point.
+     */
+    protected DataPoint findContainingDataPoint(Point location) {
+        DataPointSpatialIndex index = this.getSpatialIndex();
+        for (int i = 0, count = index.findCandidates(location.x, location.y, 0); i < count; i++) {
+            DataPoint point = index.getCandidate(i);
+            if (point.getLayoutSlot().contains(location.x, location.y)) {
+                return point;
+            }
+        }
+
+        return null;
+    }
+
     /**
      * Gets the format in which the labels' text will be rendered.
      *
@@ -397,11 +444,17 @@ public abstract class ChartSeries extends ChartElementPresenter implements com.t
     }
 
     /**
-     * Sets the items source of the series.
+     * Sets the items source of the series. Categorical, OHLC and scatter series other than bubble series also
+     * accept a {@link ColumnarItemsSource}.
      *
      * @param value The new items source of the series.
+     * @throws IllegalArgumentException if the value is a columnar items source and the series does not support it.
      */
     public void setData(Iterable value) {
+        if (value instanceof ColumnarItemsSource && !this.dataSource.supportsColumnarData()) {
+            throw new IllegalArgumentException(String.format("%s does not support columnar items sources.", this.getClass().getSimpleName()));
+        }
+
         this.itemsSource = value;
         this.initDataBinding();
 
@@ -469,29 +522,20 @@ public abstract class ChartSeries extends ChartElementPresenter implements com.t
      * @return The closest {@link com.telerik.widget.chart.engine.dataPoints.DataPoint} to the given location.
      */
     public DataPointInfo findClosestPoint(Point location) {
-        double minDistance = Double.POSITIVE_INFINITY;
-        DataPointInfo closestDataPoint = null;
-
-        for (Object dataPointObj : this.model().visibleDataPoints()) {
-            DataPoint dataPoint = (DataPoint) dataPointObj;
-            if (dataPoint.isEmpty) {
-                continue;
-            }
-
-            double distance = this.getDistanceToPoint(dataPoint.getCenter(), location);
-
-            if (distance < minDistance) {
-                minDistance = distance;
-                if (closestDataPoint == null) {
-                    closestDataPoint = new DataPointInfo();
-                }
-
-                closestDataPoint.setDataPoint(dataPoint);
-                closestDataPoint.setSeriesModel(this.model());
-                closestDataPoint.setDistanceToTouchLocation(distance);
-            }
+        DataPointSpatialIndex index = this.getSpatialIndex();
+        int closestIndex = this.isDistanceToPointOverridden() ?
+                index.findClosest(this, location) :
+                index.findClosest(location.x, location.y);
+        if (closestIndex < 0) {
+            return null;
         }
 
+        DataPoint dataPoint = index.getPoint(closestIndex);
+        DataPointInfo closestDataPoint = new DataPointInfo();
+        closestDataPoint.setDataPoint(dataPoint);
+        closestDataPoint.setSeriesModel(this.model());
+        closestDataPoint.setDistanceToTouchLocation(this.getDistanceToPoint(dataPoint.getCenter(), location));
+
         return closestDataPoint;
     }
 
@@ -516,7 +560,9 @@ public abstract class ChartSeries extends ChartElementPresenter implements com.t
     }
 
     /**
-     * Returns the distance between a data point and a tap location.
+     * Returns the distance between a data point and a tap location. {@link #findClosestPoint(Point)} compares the
+     * points by this distance. It only visits the points around the location when the distance is the straight-line
+     * distance returned here, so series that override this method have all their points measured.
      *
      * @param dataPointLocation the data point.
      * @param tapLocation       the tap location.
@@ -526,6 +572,19 @@ public abstract class ChartSeries extends ChartElementPresenter implements com.t
         return RadMath.getPointDistance(dataPointLocation.x, tapLocation.x, dataPointLocation.y, tapLocation.y);
     }
 
+    private boolean isDistanceToPointOverridden() {
+        if (this.distanceToPointOverridden == null) {
+            try {
+                Method method = this.getClass().getMethod("getDistanceToPoint", Point.class, Point.class);
+                this.distanceToPointOverridden = method.getDeclaringClass() != ChartSeries.class;
+            } catch (NoSuchMethodException e) {
+                this.distanceToPointOverridden = true;
+            }
+        }
+
+        return this.distanceToPointOverridden;
+    }
+
     /**
      * Inheritors should override this method and create their specific {@link ChartSeriesDataSource}.
      *
@@ -542,6 +601,17 @@ public abstract class ChartSeries extends ChartElementPresenter implements com.t
         return this.dataSource;
     }
 
+    @Override
+    protected void onUIUpdated() {
+        super.onUIUpdated();
+
+        // the points were arranged, so their layout slots have changed
+        this.spatialIndex.invalidate();
+        if (this.labelRenderer != null) {
+            this.labelRenderer.invalidateLabelLayout();
+        }
+    }
+
     @Override
     public void render(Canvas canvas) {
         super.render(canvas);
@@ -630,6 +700,7 @@ public abstract class ChartSeries extends ChartElementPresenter implements com.t
 
     private void drawLabels(final Canvas canvas) {
         List<DataPoint> points = this.model().visibleDataPoints();
+        getLabelRenderer().layoutLabels(points);
         for (DataPoint point : points) {
             if (point.isEmpty) {
                 continue;
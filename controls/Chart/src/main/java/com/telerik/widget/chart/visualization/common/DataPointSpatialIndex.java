@@ -0,0 +1,337 @@
+package com.telerik.widget.chart.visualization.common;
+
+import android.graphics.Point;
+
+import com.telerik.android.common.math.RadRect;
+import com.telerik.widget.chart.engine.dataPoints.DataPoint;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Buckets the arranged data points of a series in a uniform grid by the centers of their layout slots, so that
+ * the point closest to a touch location and the points whose slots may contain it are found by visiting only
+ * the grid cells around the location instead of all points. The grid is sized to hold about two points per cell,
+ * which suits both the evenly spread points of the categorical series and the scattered points of the scatter
+ * and bubble series.
+ * <p/>
+ * The index is a snapshot of the layout slots and is rebuilt lazily after each arrange pass.
+ */
+class DataPointSpatialIndex {
+
+    private static final int POINTS_PER_CELL = 2;
+
+    private DataPoint[] points = new DataPoint[0];
+    private int[] centersX = new int[0];
+    private int[] centersY = new int[0];
+    private int count;
+
+    // The points of each cell are stored in cellPoints between cellStarts[cell] and cellStarts[cell + 1].
+    private int[] cellStarts = new int[0];
+    private int[] cellPoints = new int[0];
+    private int columns;
+    private int rows;
+    private double left;
+    private double top;
+    private double cellWidth;
+    private double cellHeight;
+
+    // The largest distance from the center of a point to the edges of its layout slot.
+    private double maxHalfWidth;
+    private double maxHalfHeight;
+
+    private int[] candidates = new int[16];
+    private int candidatesCount;
+
+    private boolean valid;
+    private int dataVersion;
+
+    /**
+     * Marks the index as outdated so that it is rebuilt before the next query.
+     */
+    void invalidate() {
+        this.valid = false;
+    }
+
+    /**
+     * Determines whether the index reflects the current layout of the points of a series with the given data version.
+     */
+    boolean isValid(int dataVersion) {
+        return this.valid && this.dataVersion == dataVersion;
+    }
+
+    /**
+     * Indexes the given points by their current layout slots.
+     *
+     * @param points      the arranged points.
+     * @param dataVersion the data version of the series the points belong to.
+     */
+    void build(List<? extends DataPoint> points, int dataVersion) {
+        int count = points.size();
+        if (this.points.length < count) {
+            this.points = new DataPoint[count];
+            this.centersX = new int[count];
+            this.centersY = new int[count];
+            this.cellPoints = new int[count];
+        }
+
+        if (this.count > count) {
+            Arrays.fill(this.points, count, this.count, null);
+        }
+
+        this.count = count;
+        this.valid = true;
+        this.dataVersion = dataVersion;
+        this.maxHalfWidth = 0;
+        this.maxHalfHeight = 0;
+
+        double right = Double.NEGATIVE_INFINITY;
+        double bottom = Double.NEGATIVE_INFINITY;
+        this.left = Double.POSITIVE_INFINITY;
+        this.top = Double.POSITIVE_INFINITY;
+
+        for (int i = 0; i < count; i++) {
+            DataPoint point = points.get(i);
+            RadRect slot = point.getLayoutSlot();
+            int centerX = (int) point.getCenterX();
+            int centerY = (int) point.getCenterY();
+
+            this.points[i] = point;
+            this.centersX[i] = centerX;
+            this.centersY[i] = centerY;
+
+            this.maxHalfWidth = Math.max(this.maxHalfWidth, Math.max(centerX - slot.getX(), slot.getRight() - centerX));
+            this.maxHalfHeight = Math.max(this.maxHalfHeight, Math.max(centerY - slot.getY(), slot.getBottom() - centerY));
+
+            this.left = Math.min(this.left, centerX);
+            this.top = Math.min(this.top, centerY);
+            right = Math.max(right, centerX);
+            bottom = Math.max(bottom, centerY);
+        }
+
+        if (count == 0) {
+            this.columns = 0;
+            this.rows = 0;
+            return;
+        }
+
+        // Keep the cells roughly square and make sure that a point on the right or bottom edge still falls in the grid.
+        double width = Math.max(right - this.left, 1);
+        double height = Math.max(bottom - this.top, 1);
+        int cellsCount = Math.max(1, count / POINTS_PER_CELL);
+        this.columns = (int) Math.max(1, Math.min(cellsCount, Math.round(Math.sqrt(cellsCount * width / height))));
+        this.rows = Math.max(1, Math.min(cellsCount, cellsCount / this.columns));
+        this.cellWidth = (width + 1) / this.columns;
+        this.cellHeight = (height + 1) / this.rows;
+
+        int cells = this.columns * this.rows;
+        if (this.cellStarts.length < cells + 1) {
+            this.cellStarts = new int[cells + 1];
+        } else {
+            Arrays.fill(this.cellStarts, 0, cells + 1, 0);
+        }
+
+        // counting sort of the points by cell
+        for (int i = 0; i < count; i++) {
+            this.cellStarts[this.cellOf(i) + 1]++;
+        }
+        for (int cell = 0; cell < cells; cell++) {
+            this.cellStarts[cell + 1] += this.cellStarts[cell];
+        }
+        for (int i = 0; i < count; i++) {
+            int cell = this.cellOf(i);
+            this.cellPoints[this.cellStarts[cell]++] = i;
+        }
+        for (int cell = cells; cell > 0; cell--) {
+            this.cellStarts[cell] = this.cellStarts[cell - 1];
+        }
+        this.cellStarts[0] = 0;
+    }
+
+    /**
+     * Gets the point with the given index.
+     */
+    DataPoint getPoint(int index) {
+        return this.points[index];
+    }
+
+    /**
+     * Finds the non-empty point whose center is closest to the given location by the straight-line distance of
+     * {@link ChartSeries#getDistanceToPoint(Point, Point)}. Of several points at the same distance the one that comes
+     * first in the series wins.
+     *
+     * @return the index of the closest point or -1 if there are no non-empty points.
+     */
+    int findClosest(int x, int y) {
+        if (this.count == 0) {
+            return -1;
+        }
+
+        int column = this.clampColumn(x);
+        int row = this.clampRow(y);
+
+        int closest = -1;
+        long closestDistance = Long.MAX_VALUE;
+        for (int ring = 0; ; ring++) {
+            int firstColumn = column - ring;
+            int lastColumn = column + ring;
+            int firstRow = row - ring;
+            int lastRow = row + ring;
+
+            for (int currentRow = Math.max(firstRow, 0), endRow = Math.min(lastRow, this.rows - 1); currentRow <= endRow; currentRow++) {
+                boolean edgeRow = currentRow == firstRow || currentRow == lastRow;
+                int step = edgeRow ? 1 : lastColumn - firstColumn;
+                for (int currentColumn = firstColumn; currentColumn <= lastColumn; currentColumn += Math.max(step, 1)) {
+                    if (currentColumn < 0 || currentColumn >= this.columns) {
+                        continue;
+                    }
+
+                    int cell = currentRow * this.columns + currentColumn;
+                    for (int i = this.cellStarts[cell], end = this.cellStarts[cell + 1]; i < end; i++) {
+                        int index = this.cellPoints[i];
+                        if (this.points[index].isEmpty) {
+                            continue;
+                        }
+
+                        long dx = this.centersX[index] - x;
+                        long dy = this.centersY[index] - y;
+                        long distance = (dx * dx) + (dy * dy);
+                        if (distance < closestDistance || (distance == closestDistance && index < closest)) {
+                            closestDistance = distance;
+                            closest = index;
+                        }
+                    }
+                }
+            }
+
+            boolean coversLeft = firstColumn <= 0;
+            boolean coversRight = lastColumn >= this.columns - 1;
+            boolean coversTop = firstRow <= 0;
+            boolean coversBottom = lastRow >= this.rows - 1;
+            if (coversLeft && coversRight && coversTop && coversBottom) {
+                return closest;
+            }
+
+            if (closest < 0) {
+                continue;
+            }
+
+            // The points in the cells that are not visited yet are at least this far from the location.
+            double bound = Double.POSITIVE_INFINITY;
+            if (!coversLeft) {
+                bound = Math.min(bound, x - (this.left + (firstColumn * this.cellWidth)));
+            }
+            if (!coversRight) {
+                bound = Math.min(bound, (this.left + ((lastColumn + 1) * this.cellWidth)) - x);
+            }
+            if (!coversTop) {
+                bound = Math.min(bound, y - (this.top + (firstRow * this.cellHeight)));
+            }
+            if (!coversBottom) {
+                bound = Math.min(bound, (this.top + ((lastRow + 1) * this.cellHeight)) - y);
+            }
+
+            if (bound > 0 && bound * bound > closestDistance) {
+                return closest;
+            }
+        }
+    }
+
+    /**
+     * Finds the non-empty point whose center is closest to the given location by the distance of the given series.
+     * The grid cannot bound a distance the series measures in its own way, so all points are visited.
+     *
+     * @return the index of the closest point or -1 if there are no non-empty points.
+     */
+    int findClosest(ChartSeries series, Point location) {
+        int closest = -1;
+        double closestDistance = Double.POSITIVE_INFINITY;
+        for (int index = 0; index < this.count; index++) {
+            DataPoint point = this.points[index];
+            if (point.isEmpty) {
+                continue;
+            }
+
+            double distance = series.getDistanceToPoint(point.getCenter(), location);
+            if (distance < closestDistance) {
+                closestDistance = distance;
+                closest = index;
+            }
+        }
+
+        return closest;
+    }
+
+    /**
+     * Collects the points whose layout slots, inflated by the given margin, may contain the given location.
+     * The candidates are ordered as in the series and are read with {@link #getCandidate(int)}.
+     *
+     * @return the number of candidates.
+     */
+    int findCandidates(float x, float y, float margin) {
+        this.candidatesCount = 0;
+        if (this.count == 0) {
+            return 0;
+        }
+
+        // One extra pixel covers the rounding of the centers.
+        double horizontalReach = this.maxHalfWidth + margin + 1;
+        double verticalReach = this.maxHalfHeight + margin + 1;
+        int firstColumn = this.clampColumn(x - horizontalReach);
+        int lastColumn = this.clampColumn(x + horizontalReach);
+        int firstRow = this.clampRow(y - verticalReach);
+        int lastRow = this.clampRow(y + verticalReach);
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                int cell = row * this.columns + column;
+                for (int i = this.cellStarts[cell], end = this.cellStarts[cell + 1]; i < end; i++) {
+                    int index = this.cellPoints[i];
+                    if (Math.abs(this.centersX[index] - x) <= horizontalReach && Math.abs(this.centersY[index] - y) <= verticalReach) {
+                        this.addCandidate(index);
+                    }
+                }
+            }
+        }
+
+        return this.candidatesCount;
+    }
+
+    /**
+     * Gets the candidate at the given position from the last {@link #findCandidates(float, float, float)} query.
+     */
+    DataPoint getCandidate(int position) {
+        return this.points[this.candidates[position]];
+    }
+
+    private void addCandidate(int index) {
+        if (this.candidatesCount == this.candidates.length) {
+            int[] newCandidates = new int[this.candidatesCount * 2];
+            System.arraycopy(this.candidates, 0, newCandidates, 0, this.candidatesCount);
+            this.candidates = newCandidates;
+        }
+
+        // Few points overlap a touch location, so an insertion keeps the candidates in series order cheaply.
+        int position = this.candidatesCount++;
+        while (position > 0 && this.candidates[position - 1] > index) {
+            this.candidates[position] = this.candidates[position - 1];
+            position--;
+        }
+
+        this.candidates[position] = index;
+    }
+
+    private int cellOf(int index) {
+        return this.clampRow(this.centersY[index]) * this.columns + this.clampColumn(this.centersX[index]);
+    }
+
+    private int clampColumn(double x) {
+        int column = (int) Math.floor((x - this.left) / this.cellWidth);
+        return Math.max(0, Math.min(this.columns - 1, column));
+    }
+
+    private int clampRow(double y) {
+        int row = (int) Math.floor((y - this.top) / this.cellHeight);
+        return Math.max(0, Math.min(this.rows - 1, row));
+    }
+}
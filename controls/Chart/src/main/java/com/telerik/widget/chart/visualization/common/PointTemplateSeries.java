@@ -6,6 +6,7 @@ import com.telerik.android.common.math.RadSize;
 import com.telerik.widget.chart.engine.dataPoints.DataPoint;
 import com.telerik.widget.chart.engine.elementTree.ChartNode;
 import com.telerik.widget.chart.visualization.cartesianChart.series.pointrenderers.ChartDataPointRenderer;
+import com.telerik.widget.chart.visualization.cartesianChart.series.pointrenderers.ChartDataPointRendererBase;
 import com.telerik.widget.palettes.ChartPalette;
 import com.telerik.widget.palettes.PaletteEntry;
 import com.telerik.widget.primitives.legend.LegendItem;
@@ -69,6 +70,11 @@ public abstract class PointTemplateSeries extends ChartSeries {
             return;
         }
 
+        if (renderer instanceof ChartDataPointRendererBase) {
+            ((ChartDataPointRendererBase) renderer).renderPoints(canvas, this.model().visibleDataPoints());
+            return;
+        }
+
         for (Object point : this.model().visibleDataPoints()) {
             renderer.renderPoint(canvas, (DataPoint) point);
         }
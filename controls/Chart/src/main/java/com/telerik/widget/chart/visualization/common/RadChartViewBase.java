@@ -26,7 +26,10 @@ import com.telerik.android.common.math.RadSize;
 import com.telerik.android.primitives.widget.tooltip.contracts.DrawListener;
 import com.telerik.widget.chart.R;
 import com.telerik.widget.chart.engine.chartAreas.ChartAreaModel;
+import com.telerik.widget.chart.engine.chartAreas.ChartArrangeCounters;
+import com.telerik.widget.chart.engine.chartAreas.ChartFrameTimings;
 import com.telerik.widget.chart.engine.dataPoints.DataPoint;
+import com.telerik.widget.chart.engine.elementTree.ChartAreaInvalidateFlags;
 import com.telerik.widget.chart.engine.elementTree.ChartNode;
 import com.telerik.widget.chart.engine.series.ChartSeriesModel;
 import com.telerik.widget.chart.engine.view.ChartView;
@@ -70,6 +73,8 @@ public abstract class RadChartViewBase<T extends ChartSeries> extends View imple
     private ChartPalette palette;
     private TextView emptyContentPresenter;
     private boolean arrangeRequested = false;
+    private boolean asyncDataBinding = false;
+    private ChartFrameListener frameListener;
 
     protected boolean updateSuspended;
     protected boolean renderSuspended;
@@ -274,6 +279,8 @@ public abstract class RadChartViewBase<T extends ChartSeries> extends View imple
         this.emptyContentPresenter.draw(canvas);
         canvas.restore();
 
+        long start = this.frameListener != null ? System.nanoTime() : 0;
+
         for (ChartElementPresenter presenter : this.presenters) {
             if (presenter.isVisible()) {
                 presenter.render(canvas);
@@ -286,11 +293,29 @@ public abstract class RadChartViewBase<T extends ChartSeries> extends View imple
             }
         }
 
+        if (this.frameListener != null) {
+            this.notifyFrameRendered(System.nanoTime() - start);
+        }
+
         for (DrawListener listener : this.onDrawListeners) {
             listener.notifyDraw(canvas);
         }
     }
 
+    private void notifyFrameRendered(long drawTime) {
+        int pointsCount = 0;
+        int visiblePointsCount = 0;
+        for (ChartSeriesModel series : this.chartArea.getSeries()) {
+            pointsCount += series.dataPoints().size();
+            visiblePointsCount += series.visibleDataPoints().size();
+        }
+
+        ChartFrameTimings timings = this.chartArea.getFrameTimings();
+        timings.recordDraw(drawTime, this.chartArea.getSeries().size(), pointsCount, visiblePointsCount);
+        this.frameListener.onFrameRendered(this, timings);
+        timings.reset();
+    }
+
     private RadSize getZoomValue(String attribute) {
         String[] value = attribute.split(",");
 
@@ -446,6 +471,20 @@ public abstract class RadChartViewBase<T extends ChartSeries> extends View imple
      * Makes arrangements that precede an invalidation.
      */
     public void requestInvalidateArrange() {
+        this.requestInvalidateArrange(ChartAreaInvalidateFlags.ALL);
+    }
+
+    /**
+     * Makes arrangements that precede an invalidation, arranging only the parts of the chart described by
+     * the provided flags together with the ones that depend on the changed series and axes.
+     *
+     * @param flags a combination of the {@link ChartAreaInvalidateFlags} values.
+     */
+    public void requestInvalidateArrange(int flags) {
+        if (this.chartArea != null) {
+            this.chartArea.requestArrange(flags);
+        }
+
         if (this.updateSuspended || this.arrangeRequested) {
             return;
         }
@@ -484,6 +523,7 @@ public abstract class RadChartViewBase<T extends ChartSeries> extends View imple
         }
 
         this.setMeasuredDimension(w, h);
+        this.chartArea.requestArrange(ChartAreaInvalidateFlags.ALL);
         this.arrangeOverride(w, h);
 
         this.arrangeRequested = false;
@@ -558,11 +598,22 @@ public abstract class RadChartViewBase<T extends ChartSeries> extends View imple
         this.updateEmptyContent(width, height);
         RadSize finalSize = new RadSize(width, height);
         this.availableSize = this.normalizeAvailableSize(finalSize);
+
+        ChartFrameTimings timings = this.chartArea.getFrameTimings();
+        long start = timings.isEnabled() ? System.nanoTime() : 0;
         this.updateChartArea();
+        if (timings.isEnabled()) {
+            timings.recordArrange(System.nanoTime() - start);
+        }
+
         ChartLayoutContext context = new ChartLayoutContext(this.availableSize,
                 this.zoom, new RadPoint(this.panOffset.getX(), this.panOffset.getY()), this.getPlotAreaClip());
 
+        start = timings.isEnabled() ? System.nanoTime() : 0;
         this.presenterImpl.updateUI(context);
+        if (timings.isEnabled()) {
+            timings.recordUIUpdate(System.nanoTime() - start);
+        }
 
         this.applyDeferredPanZoomActions();
 
@@ -599,6 +650,16 @@ public abstract class RadChartViewBase<T extends ChartSeries> extends View imple
         return this.chartArea;
     }
 
+    /**
+     * Gets the counters of the arrange passes of the chart, which tell how many of the axes, series, grid and
+     * annotation layouts were computed again and how many were reused.
+     *
+     * @return the counters of the current chart area.
+     */
+    public ChartArrangeCounters getArrangeCounters() {
+        return this.chartArea.getArrangeCounters();
+    }
+
     /**
      * Initializes from xml using the styleable resources of the chart.
      *
@@ -722,6 +783,49 @@ public abstract class RadChartViewBase<T extends ChartSeries> extends View imple
         this.onClipToBoundsPropertyChanged(value);
     }
 
+    /**
+     * Gets a value indicating whether the series of the chart create their data points on a background thread
+     * when their items source changes.
+     */
+    public boolean isAsyncDataBinding() {
+        return this.asyncDataBinding;
+    }
+
+    /**
+     * Sets a value indicating whether the series of the chart create their data points on a background thread
+     * when their items source changes. The chart keeps showing the previous data points until the new ones are
+     * created and then replaces them at once. A newer items source or a change of the items cancels the pending
+     * binding. The data point bindings of the series are evaluated on the background thread, so they should only
+     * read the data items.
+     * <p/>
+     * Only the creation of the data points leaves the UI thread. The axes update, the arrange of the chart area
+     * and the drawing of the new data points still run on the UI thread once the points are swapped in.
+     *
+     * @param value <code>true</code> to bind asynchronously, <code>false</code> otherwise.
+     */
+    public void setAsyncDataBinding(boolean value) {
+        this.asyncDataBinding = value;
+    }
+
+    /**
+     * Gets the listener that receives the timings of the frames of the chart.
+     */
+    public ChartFrameListener getFrameListener() {
+        return this.frameListener;
+    }
+
+    /**
+     * Sets a listener that receives the time spent binding the data, updating the axes, arranging the series,
+     * updating the visuals and drawing, together with the number of points, after each frame of the chart.
+     * The timings are only recorded while a listener is set.
+     *
+     * @param listener the listener or <code>null</code> to stop recording the timings.
+     */
+    public void setFrameListener(ChartFrameListener listener) {
+        this.frameListener = listener;
+        this.chartArea.getFrameTimings().setEnabled(listener != null);
+    }
+
     /**
      * Begins an update block during which the chart will not automatically update itself. The {@link #endUpdate()} method is
      * used to end this update block and causes the chart to redraw itself once to reflect the changes made during the update block.
@@ -740,6 +844,7 @@ public abstract class RadChartViewBase<T extends ChartSeries> extends View imple
         if(asynchronous) {
             this.requestInvalidateArrange();
         } else {
+            this.chartArea.requestArrange(ChartAreaInvalidateFlags.ALL);
             this.updateEngine();
         }
     }
@@ -920,7 +1025,7 @@ public abstract class RadChartViewBase<T extends ChartSeries> extends View imple
         this.panOffset = newOffset;
         this.onPanOffsetChanged();
 
-        requestInvalidateArrange();
+        requestInvalidateArrange(ChartAreaInvalidateFlags.NONE);
     }
 
     /**
@@ -998,7 +1103,7 @@ public abstract class RadChartViewBase<T extends ChartSeries> extends View imple
         this.zoom = clampedZoom;
 
         this.onZoomChanged();
-        requestInvalidateArrange();
+        requestInvalidateArrange(ChartAreaInvalidateFlags.NONE);
     }
 
     public RadSize clampZoom(double width, double height) {
@@ -56,7 +56,7 @@ class AreaRenderContext {
         this.plotArea = new RadRect(this.plotArea.getX(), this.plotArea.getY(), width, height);
 
         // calculate the plot line - consider plot origin
-        double plotOrigin = renderer.model.getTypedValue(AxisModel.PLOT_ORIGIN_PROPERTY_KEY, 0.0);
+        double plotOrigin = renderer.model.getDoubleValue(AxisModel.PLOT_ORIGIN_PROPERTY_KEY, 0);
         if (plotDirection == AxisPlotDirection.VERTICAL)
             this.plotLine = this.plotArea.getBottom() - (int) ((plotOrigin * this.plotArea.getHeight()) - renderer.layoutContext.panOffset().getY() + 0.5);
         else
@@ -145,10 +145,10 @@ public class AreaRendererBase extends LineRenderer {
     @Override
     protected void preparePaths() {
         if (indicateDataPoints()) {
-            prepareDataPointIndicators(this.model.visibleDataPoints());
+            prepareDataPointIndicators(this.renderPoints());
         }
 
-        if (this.model.visibleDataPoints().size() < 2) {
+        if (this.renderPoints().size() < 2) {
             return;
         }
 
@@ -175,9 +175,9 @@ public class AreaRendererBase extends LineRenderer {
         }
 
         // Fill in top points
-        if (this.model.visibleDataPoints().size() > 0)
-            this.fillEmptyPointsToTopSurface(context, this.model.visibleDataPoints().size() - 1,
-                    ((DataPoint) this.model.visibleDataPoints().get(this.model.visibleDataPoints().size() - 1)).getCenterX());
+        List<DataPoint> points = this.renderPoints();
+        if (points.size() > 0)
+            this.fillEmptyPointsToTopSurface(context, points.size() - 1, points.get(points.size() - 1).getCenterX());
 
     }
 
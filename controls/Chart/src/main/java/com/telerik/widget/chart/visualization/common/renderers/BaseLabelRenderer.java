@@ -17,10 +17,18 @@ import com.telerik.android.common.math.RadRect;
 import com.telerik.android.common.math.RadSize;
 import com.telerik.widget.chart.engine.dataPoints.DataPoint;
 import com.telerik.widget.chart.engine.elementTree.ChartNode;
+import com.telerik.widget.chart.engine.series.ChartSeriesModel;
 import com.telerik.widget.chart.visualization.common.ChartSeries;
 import com.telerik.widget.palettes.ChartPalette;
 import com.telerik.widget.palettes.PaletteEntry;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+
 /**
  * Base class for all chart series renderer classes.
  */
@@ -69,6 +77,18 @@ public abstract class BaseLabelRenderer extends PropertyManager implements Chart
         }
     });
 
+    private static final Comparator<LabelLayout> PRIORITY_COMPARATOR = new Comparator<LabelLayout>() {
+        @Override
+        public int compare(LabelLayout first, LabelLayout second) {
+            int result = Double.compare(second.priority, first.priority);
+            if (result != 0) {
+                return result;
+            }
+
+            return first.order < second.order ? -1 : (first.order == second.order ? 0 : 1);
+        }
+    };
+
     /**
      * The name of the palette family that will be associated when applying palettes to the current renderer instance.
      */
@@ -159,6 +179,28 @@ public abstract class BaseLabelRenderer extends PropertyManager implements Chart
      */
     protected final ChartSeries owner;
 
+    private final HashMap<DataPoint, LabelLayout> labelLayouts = new HashMap<DataPoint, LabelLayout>();
+    private final ArrayList<LabelLayout> laidOutLabels = new ArrayList<LabelLayout>();
+    private boolean collisionCullingEnabled = true;
+
+    private boolean labelTextsValid;
+    private int labelTextsResetVersion;
+    private int labelTextsDataVersion;
+    private int labelTextsModifiedCount;
+    private int labelTextsRemovedCount;
+
+    private boolean labelLayoutValid;
+    private int labelLayoutStamp;
+    private int labelLayoutDataVersion;
+
+    // The bounds of the labels placed by the collision culling, sorted by their left edge.
+    private int[] placedLefts = new int[16];
+    private int[] placedTops = new int[16];
+    private int[] placedRights = new int[16];
+    private int[] placedBottoms = new int[16];
+    private int placedCount;
+    private int placedMaxWidth;
+
     /**
      * Creates a new instance of the {@link BaseLabelRenderer} class used for rendering series labels.
      *
@@ -215,6 +257,7 @@ public abstract class BaseLabelRenderer extends PropertyManager implements Chart
 
         this.labelTypeface = value;
         this.labelTextPaint.setTypeface(value);
+        this.invalidateLabelCache();
     }
 
     /**
@@ -233,6 +276,7 @@ public abstract class BaseLabelRenderer extends PropertyManager implements Chart
         this.labelPaddingTop = top;
         this.labelPaddingRight = right;
         this.labelPaddingBottom = bottom;
+        this.invalidateLabelLayout();
     }
 
     @Override
@@ -248,6 +292,7 @@ public abstract class BaseLabelRenderer extends PropertyManager implements Chart
 
         this.fontStyle = value;
         this.labelTextPaint.setTypeface(Typeface.create(this.labelTypeface, this.fontStyle));
+        this.invalidateLabelCache();
     }
 
     @Override
@@ -261,6 +306,7 @@ public abstract class BaseLabelRenderer extends PropertyManager implements Chart
             throw new NullPointerException("format");
 
         this.labelFormat = format;
+        this.invalidateLabelCache();
     }
 
     @Override
@@ -271,6 +317,7 @@ public abstract class BaseLabelRenderer extends PropertyManager implements Chart
     @Override
     public void setLabelMargin(float offset) {
         this.labelMargin = offset;
+        this.invalidateLabelLayout();
     }
 
     @Override
@@ -284,6 +331,7 @@ public abstract class BaseLabelRenderer extends PropertyManager implements Chart
             throw new IllegalArgumentException("value cannot be negative");
 
         this.labelTextPaint.setTextSize(value);
+        this.invalidateLabelCache();
     }
 
     /**
@@ -332,6 +380,7 @@ public abstract class BaseLabelRenderer extends PropertyManager implements Chart
         if (converter == null)
             throw new NullPointerException("converter");
         this.labelToStringConverter = converter;
+        this.invalidateLabelCache();
     }
 
     /**
@@ -363,9 +412,184 @@ public abstract class BaseLabelRenderer extends PropertyManager implements Chart
         applyPalette(this.owner.getPalette());
     }
 
+    /**
+     * Gets a value indicating whether the labels that overlap labels with a higher priority are hidden.
+     *
+     * @return <code>true</code> if overlapping labels are hidden, <code>false</code> otherwise.
+     * @see #getLabelPriority(DataPoint)
+     */
+    public boolean isCollisionCullingEnabled() {
+        return this.collisionCullingEnabled;
+    }
+
+    /**
+     * Sets a value indicating whether the labels that overlap labels with a higher priority are hidden.
+     * When disabled all labels are drawn, which may leave dense series unreadable.
+     *
+     * @param value <code>true</code> to hide the overlapping labels, <code>false</code> to draw all labels.
+     */
+    public void setCollisionCullingEnabled(boolean value) {
+        if (this.collisionCullingEnabled == value) {
+            return;
+        }
+
+        this.collisionCullingEnabled = value;
+        this.invalidateLabelLayout();
+    }
+
+    /**
+     * Marks the positions of the labels as outdated, so that they are computed again by the next
+     * {@link #layoutLabels(List)} call. The owner series calls this method after each arrange pass.
+     */
+    public void invalidateLabelLayout() {
+        this.labelLayoutValid = false;
+    }
+
+    /**
+     * Discards the cached label texts and their sizes. Inheritors whose label text depends on state other than
+     * the values of the data points and the label settings of the renderer should call this method when that
+     * state changes.
+     */
+    public void invalidateLabelCache() {
+        this.labelTextsValid = false;
+        this.labelLayoutValid = false;
+    }
+
+    /**
+     * Computes the positions of the labels of the given points and hides the ones that overlap labels with a higher
+     * priority if collision culling is enabled. The texts and their sizes are reused until the values of the points
+     * or the label settings change and the positions are reused until the points are arranged again, so calling this
+     * method before each frame only costs a layout pass after the layout has actually changed.
+     *
+     * @param points the points whose labels will be rendered.
+     */
+    public void layoutLabels(List<? extends DataPoint> points) {
+        ChartSeriesModel model = this.owner.model();
+        if (this.labelLayoutValid && this.labelLayoutDataVersion == model.getDataVersion()) {
+            return;
+        }
+
+        this.syncLabelTexts(model);
+
+        this.labelLayoutValid = true;
+        this.labelLayoutStamp++;
+        this.labelLayoutDataVersion = model.getDataVersion();
+
+        boolean isChartZoomedHorizontally = isChartZoomedHorizontally();
+        boolean isChartZoomedVertically = isChartZoomedVertically();
+
+        this.laidOutLabels.clear();
+        for (int i = 0, count = points.size(); i < count; i++) {
+            DataPoint point = points.get(i);
+            if (point.isEmpty) {
+                continue;
+            }
+
+            LabelLayout layout = this.labelLayouts.get(point);
+            if (layout == null) {
+                layout = new LabelLayout();
+                this.labelLayouts.put(point, layout);
+            }
+
+            if (!layout.textValid) {
+                this.measureLabel(point, layout);
+            }
+
+            this.arrangeLabel(point, layout, isChartZoomedHorizontally, isChartZoomedVertically);
+            layout.layoutStamp = this.labelLayoutStamp;
+            layout.order = this.laidOutLabels.size();
+            layout.priority = this.getLabelPriority(point);
+            layout.visible = true;
+            this.laidOutLabels.add(layout);
+        }
+
+        if (this.collisionCullingEnabled) {
+            this.cullOverlappingLabels();
+        }
+
+        this.laidOutLabels.clear();
+    }
+
     @Override
     public void renderLabel(Canvas canvas, ChartNode dataPoint) {
         DataPoint point = (DataPoint) dataPoint;
+        if (this.labelLayoutValid) {
+            LabelLayout layout = this.labelLayouts.get(point);
+            if (layout != null && layout.layoutStamp == this.labelLayoutStamp) {
+                if (layout.visible) {
+                    this.drawLabelLayout(canvas, point, layout);
+                }
+
+                return;
+            }
+        }
+
+        // The point was not part of the last layout pass, so lay out its label on the spot.
+        LabelLayout layout = new LabelLayout();
+        this.measureLabel(point, layout);
+        this.arrangeLabel(point, layout, isChartZoomedHorizontally(), isChartZoomedVertically());
+        this.drawLabelLayout(canvas, point, layout);
+    }
+
+    /**
+     * Gets the priority of the label of the given data point. When labels overlap, the label with the higher
+     * priority is drawn and labels with equal priorities are drawn in the order of their points. By default the
+     * labels of the selected points take precedence.
+     *
+     * @param point the data point whose label priority is requested.
+     * @return the priority of the label.
+     */
+    protected double getLabelPriority(DataPoint point) {
+        return point.getIsSelected() ? 1 : 0;
+    }
+
+    /**
+     * Determines whether the label text of a data point depends on the other data points of the series, such as a
+     * percentage of the total, in which case any change of the data discards all cached texts.
+     *
+     * @return <code>true</code> if the label texts depend on the whole series, <code>false</code> otherwise.
+     */
+    protected boolean isLabelTextRelativeToSeries() {
+        return false;
+    }
+
+    private void syncLabelTexts(ChartSeriesModel model) {
+        if (!this.labelTextsValid || this.labelTextsResetVersion != model.getDataResetVersion() ||
+                (this.isLabelTextRelativeToSeries() && this.labelTextsDataVersion != model.getDataVersion())) {
+            this.labelLayouts.clear();
+        } else {
+            List dataPoints = model.dataPoints();
+            if (this.labelTextsRemovedCount != model.getRemovedFromStartCount() &&
+                    this.labelLayouts.size() > 2 * dataPoints.size()) {
+                // forget the points removed from the start of the series once they are the most of the cached
+                // ones, so that the cost of the pass is spread over at least as many removed points
+                Iterator<DataPoint> cachedPoints = this.labelLayouts.keySet().iterator();
+                while (cachedPoints.hasNext()) {
+                    if (cachedPoints.next().getParent() != model) {
+                        cachedPoints.remove();
+                    }
+                }
+            }
+
+            for (int i = this.labelTextsModifiedCount, count = model.getModifiedPointsCount(); i < count; i++) {
+                int index = model.getModifiedPointIndex(i);
+                if (index < dataPoints.size()) {
+                    LabelLayout layout = this.labelLayouts.get(dataPoints.get(index));
+                    if (layout != null) {
+                        layout.textValid = false;
+                    }
+                }
+            }
+        }
+
+        this.labelTextsValid = true;
+        this.labelTextsResetVersion = model.getDataResetVersion();
+        this.labelTextsDataVersion = model.getDataVersion();
+        this.labelTextsModifiedCount = model.getModifiedPointsCount();
+        this.labelTextsRemovedCount = model.getRemovedFromStartCount();
+    }
+
+    private void measureLabel(DataPoint point, LabelLayout layout) {
         String[] labelTextLines = getLabelText(point).split("\n");
         int longest = 0, current = 0;
         for (int i = 0, len = labelTextLines.length; i < len; i++)
@@ -378,14 +602,19 @@ public abstract class BaseLabelRenderer extends PropertyManager implements Chart
         if (labelTextLines.length > 1)
             textSize.bottom += textSize.height() * labelTextLines.length;
 
+        layout.lines = labelTextLines;
+        layout.textSize = textSize;
+        layout.textValid = true;
+    }
+
+    private void arrangeLabel(DataPoint point, LabelLayout layout, boolean isChartZoomedHorizontally, boolean isChartZoomedVertically) {
+        Rect textSize = layout.textSize;
         RadPoint textPosition = calculateLabelPoint(point, textSize);
         double x = textPosition.getX();
         double y = textPosition.getY();
 
         // Makes sure that the labels don't get clipped if the chart is not zoomed.
-        RadRect parentSlot = dataPoint.getParent().getLayoutSlot();
-        boolean isChartZoomedHorizontally = isChartZoomedHorizontally();
-        boolean isChartZoomedVertically = isChartZoomedVertically();
+        RadRect parentSlot = point.getParent().getLayoutSlot();
         if (!isChartZoomedHorizontally) {
             x = preventClippingLeft((float) x, parentSlot);
             x = preventClippingRight((float) x, parentSlot, textSize);
@@ -396,17 +625,11 @@ public abstract class BaseLabelRenderer extends PropertyManager implements Chart
             y = preventClippingBottom((float) y, parentSlot);
         }
 
-        textPosition = new RadPoint(x, y);
-
-        Path path = new Path();
-        Rect labelBackground = getLabelBackgroundBounds(textPosition, textSize);
-        RadRect slot = point.getLayoutSlot();
-        prepareLabel(path, labelBackground, slot);
-        path.close();
-
-        drawLabelBackground(canvas, path, dataPoint.index());
+        Rect labelBackground = getLabelBackgroundBounds(new RadPoint(x, y), textSize);
+        layout.background.set(labelBackground);
 
         // Prevent too large padding from causing non consistent behaviours.
+        RadRect slot = point.getLayoutSlot();
         if (!isChartZoomedHorizontally && labelBackground.left < parentSlot.getX() || labelBackground.left > parentSlot.getRight()) {
             x = slot.getX() - (textSize.width() / 2.0);
         }
@@ -415,9 +638,103 @@ public abstract class BaseLabelRenderer extends PropertyManager implements Chart
             y = slot.getY() - (textSize.height());
         }
 
-        float lineHeight = textSize.height() / labelTextLines.length;
+        layout.textX = (float) x;
+        layout.textY = (float) y;
+        layout.lineHeight = textSize.height() / layout.lines.length;
+    }
+
+    private void drawLabelLayout(Canvas canvas, DataPoint point, LabelLayout layout) {
+        // The shape is only needed for the labels that are drawn, so it is prepared on first use after each layout pass.
+        if (layout.path == null || layout.pathStamp != layout.layoutStamp) {
+            if (layout.path == null) {
+                layout.path = new Path();
+            } else {
+                layout.path.rewind();
+            }
+
+            prepareLabel(layout.path, layout.background, point.getLayoutSlot());
+            layout.path.close();
+            layout.pathStamp = layout.layoutStamp;
+        }
+
+        drawLabelBackground(canvas, layout.path, point.index());
+
+        String[] labelTextLines = layout.lines;
         for (int i = 0, len = labelTextLines.length; i < len; i++)
-            drawLabelText(canvas, labelTextLines[i], (float) x, (float) (y - ((len - i - 1) * lineHeight)));
+            drawLabelText(canvas, labelTextLines[i], layout.textX, layout.textY - ((len - i - 1) * layout.lineHeight));
+    }
+
+    private void cullOverlappingLabels() {
+        Collections.sort(this.laidOutLabels, PRIORITY_COMPARATOR);
+
+        this.placedCount = 0;
+        this.placedMaxWidth = 0;
+        for (int i = 0, count = this.laidOutLabels.size(); i < count; i++) {
+            LabelLayout layout = this.laidOutLabels.get(i);
+            Rect bounds = layout.background;
+
+            // Only the placed labels that start before the right edge of the label and no further to the left
+            // than the widest placed label can overlap it.
+            int position = this.findPlacedPosition(bounds.right);
+            boolean overlaps = false;
+            for (int j = position - 1; j >= 0 && this.placedLefts[j] > bounds.left - this.placedMaxWidth; j--) {
+                if (this.placedRights[j] > bounds.left && this.placedTops[j] < bounds.bottom && this.placedBottoms[j] > bounds.top) {
+                    overlaps = true;
+                    break;
+                }
+            }
+
+            if (overlaps) {
+                layout.visible = false;
+            } else {
+                this.placeLabel(bounds);
+            }
+        }
+    }
+
+    private int findPlacedPosition(int left) {
+        int low = 0;
+        int high = this.placedCount;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (this.placedLefts[middle] < left) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    private void placeLabel(Rect bounds) {
+        if (this.placedCount == this.placedLefts.length) {
+            int capacity = this.placedCount * 2;
+            this.placedLefts = copyOf(this.placedLefts, capacity);
+            this.placedTops = copyOf(this.placedTops, capacity);
+            this.placedRights = copyOf(this.placedRights, capacity);
+            this.placedBottoms = copyOf(this.placedBottoms, capacity);
+        }
+
+        int position = this.findPlacedPosition(bounds.left);
+        int moved = this.placedCount - position;
+        System.arraycopy(this.placedLefts, position, this.placedLefts, position + 1, moved);
+        System.arraycopy(this.placedTops, position, this.placedTops, position + 1, moved);
+        System.arraycopy(this.placedRights, position, this.placedRights, position + 1, moved);
+        System.arraycopy(this.placedBottoms, position, this.placedBottoms, position + 1, moved);
+
+        this.placedLefts[position] = bounds.left;
+        this.placedTops[position] = bounds.top;
+        this.placedRights[position] = bounds.right;
+        this.placedBottoms[position] = bounds.bottom;
+        this.placedCount++;
+        this.placedMaxWidth = Math.max(this.placedMaxWidth, bounds.width());
+    }
+
+    private static int[] copyOf(int[] values, int capacity) {
+        int[] result = new int[capacity];
+        System.arraycopy(values, 0, result, 0, values.length);
+        return result;
     }
 
     /**
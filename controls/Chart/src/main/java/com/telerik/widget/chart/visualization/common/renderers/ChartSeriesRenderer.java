@@ -3,8 +3,12 @@ package com.telerik.widget.chart.visualization.common.renderers;
 import android.graphics.Canvas;
 
 import com.telerik.android.common.PropertyManager;
+import com.telerik.widget.chart.engine.axes.AxisModel;
+import com.telerik.widget.chart.engine.axes.common.AxisPlotDirection;
 import com.telerik.widget.chart.engine.dataPoints.DataPoint;
 import com.telerik.widget.chart.engine.series.ChartSeriesModel;
+import com.telerik.widget.chart.engine.series.combination.ChartSeriesCombineMode;
+import com.telerik.widget.chart.engine.series.combination.SupportCombineMode;
 import com.telerik.widget.palettes.ChartPalette;
 
 import java.util.ArrayList;
@@ -22,6 +26,20 @@ public abstract class ChartSeriesRenderer extends PropertyManager {
      */
     protected ChartSeriesModel model;
 
+    private DataPointDecimator decimator;
+    private List<DataPoint> renderPoints;
+    private final ArrayList<DataPoint> decimatedPoints = new ArrayList<DataPoint>();
+
+    // The state the decimated points were computed for. Panning only translates the points, so the
+    // decimated points are reused as long as the data, the visible points and their extent stay the same.
+    private DataPointDecimator cachedDecimator;
+    private int cachedDataVersion;
+    private int cachedPointsCount;
+    private DataPoint cachedFirstPoint;
+    private DataPoint cachedLastPoint;
+    private double cachedWidth;
+    private double cachedHeight;
+
     /**
      * Creates a new instance of the {@link ChartSeriesRenderer} class.
      */
@@ -35,12 +53,98 @@ public abstract class ChartSeriesRenderer extends PropertyManager {
         this.reset();
 
         if (this.model.visibleDataPoints().size() == 0) {
+            this.renderPoints = null;
             return;
         }
 
+        this.renderPoints = this.decimate();
         this.preparePaths();
     }
 
+    /**
+     * Gets the {@link DataPointDecimator} that reduces the visible data points to the ones that are rendered.
+     *
+     * @return the current decimator or <code>null</code> if all visible points are rendered.
+     */
+    public DataPointDecimator getDecimator() {
+        return this.decimator;
+    }
+
+    /**
+     * Sets the {@link DataPointDecimator} that reduces the visible data points to the ones that are rendered.
+     *
+     * @param value the new decimator or <code>null</code> to render all visible points.
+     */
+    public void setDecimator(DataPointDecimator value) {
+        this.decimator = value;
+        this.cachedDecimator = null;
+        this.cachedFirstPoint = null;
+        this.cachedLastPoint = null;
+        this.decimatedPoints.clear();
+    }
+
+    /**
+     * Gets the data points the paths are built from. These are the visible data points of the model,
+     * reduced by the decimator if one is set.
+     *
+     * @return the points to render.
+     */
+    protected List<DataPoint> renderPoints() {
+        if (this.renderPoints != null) {
+            return this.renderPoints;
+        }
+
+        return this.model.visibleDataPoints();
+    }
+
+    /**
+     * Determines whether the visible data points can be decimated. Points of combined series are not
+     * decimated since their geometry depends on the points of the other series in the combination.
+     *
+     * @return <code>true</code> if the points can be decimated, <code>false</code> otherwise.
+     */
+    protected boolean canDecimate() {
+        return !(this.model instanceof SupportCombineMode) ||
+                ((SupportCombineMode) this.model).getCombineMode() == ChartSeriesCombineMode.NONE;
+    }
+
+    private List<DataPoint> decimate() {
+        if (this.decimator == null || !this.canDecimate()) {
+            return null;
+        }
+
+        List<DataPoint> points = this.model.visibleDataPoints();
+        DataPoint firstPoint = points.get(0);
+        DataPoint lastPoint = points.get(points.size() - 1);
+        double width = lastPoint.getCenterX() - firstPoint.getCenterX();
+        double height = lastPoint.getCenterY() - firstPoint.getCenterY();
+
+        if (this.cachedDecimator == this.decimator &&
+                this.cachedDataVersion == this.model.getDataVersion() &&
+                this.cachedPointsCount == points.size() &&
+                this.cachedFirstPoint == firstPoint &&
+                this.cachedLastPoint == lastPoint &&
+                this.cachedWidth == width &&
+                this.cachedHeight == height) {
+            return this.decimatedPoints;
+        }
+
+        AxisPlotDirection plotDirection = (AxisPlotDirection) this.model.getTypedValue(AxisModel.PLOT_DIRECTION_PROPERTY_KEY, AxisPlotDirection.VERTICAL);
+
+        this.decimatedPoints.clear();
+        this.decimator.decimate(points, plotDirection == AxisPlotDirection.VERTICAL, this.decimatedPoints);
+
+        this.cachedDecimator = this.decimator;
+        this.cachedDataVersion = this.model.getDataVersion();
+        this.cachedPointsCount = points.size();
+        this.cachedFirstPoint = firstPoint;
+        this.cachedLastPoint = lastPoint;
+        this.cachedWidth = width;
+        this.cachedHeight = height;
+
+        return this.decimatedPoints;
+    }
+
     /**
      * Used to invoke the {@link #renderCore(android.graphics.Canvas)} method of the corresponding
      * renderer implementation.
@@ -69,7 +173,7 @@ public abstract class ChartSeriesRenderer extends PropertyManager {
      * @return the current data point segments.
      */
     public LinkedList<DataPointSegment> dataPointSegments() { // TODO: Check this for possible optimization
-        List<DataPoint> allDataPoints = this.model.visibleDataPoints();
+        List<DataPoint> allDataPoints = this.renderPoints();
         LinkedList<DataPointSegment> segments = new LinkedList();
         DataPointSegment currentSegment = null;
 
@@ -127,7 +231,7 @@ public abstract class ChartSeriesRenderer extends PropertyManager {
      * @see DataPoint
      */
     protected DataPoint findPreviousNonEmptyPoint(DataPointSegment currentSegment, ListIterator<DataPointSegment> segmentListIterator) {
-        List<DataPoint> points = this.model.visibleDataPoints();
+        List<DataPoint> points = this.renderPoints();
         DataPoint previousPoint = null;
         if (segmentListIterator.hasPrevious()) {
             DataPointSegment previousSegment = segmentListIterator.previous();
@@ -161,7 +265,7 @@ public abstract class ChartSeriesRenderer extends PropertyManager {
      */
     protected DataPoint findNextNonEmptyPoint(DataPointSegment currentSegment, ListIterator<DataPointSegment> segmentListIterator) {
         DataPoint nextPoint = null;
-        List<DataPoint> points = this.model.visibleDataPoints();
+        List<DataPoint> points = this.renderPoints();
         if (segmentListIterator.hasNext()) {
             DataPointSegment nextSegment = segmentListIterator.next();
             for (int i = currentSegment.startIndex + currentSegment.dataPoints.size(); i <= nextSegment.startIndex; i++) {
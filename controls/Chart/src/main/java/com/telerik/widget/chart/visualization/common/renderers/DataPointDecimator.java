@@ -0,0 +1,70 @@
+package com.telerik.widget.chart.visualization.common.renderers;
+
+import com.telerik.widget.chart.engine.dataPoints.DataPoint;
+
+import java.util.List;
+
+/**
+ * Base class for the strategies that reduce the arranged data points of a series to the ones that are
+ * worth rendering. A series with thousands of points per pixel column looks the same when only the
+ * points that define its shape are drawn, and the renderers then issue a fraction of the path operations.
+ * <p/>
+ * Empty points separate the lines of a series, so they are always preserved and each run of non-empty
+ * points between them is decimated on its own.
+ */
+public abstract class DataPointDecimator {
+
+    /**
+     * Fills the result list with the points that should be rendered, in their original order.
+     *
+     * @param points     the arranged points of the series.
+     * @param horizontal <code>true</code> if the points are laid out along the x axis,
+     *                   <code>false</code> if they are laid out along the y axis.
+     * @param result     the list to add the selected points to.
+     */
+    public void decimate(List<DataPoint> points, boolean horizontal, List<DataPoint> result) {
+        int runStart = 0;
+        for (int i = 0, count = points.size(); i < count; i++) {
+            DataPoint point = points.get(i);
+            if (!point.isEmpty) {
+                continue;
+            }
+
+            if (i > runStart) {
+                this.decimateRun(points, runStart, i, horizontal, result);
+            }
+
+            result.add(point);
+            runStart = i + 1;
+        }
+
+        if (points.size() > runStart) {
+            this.decimateRun(points, runStart, points.size(), horizontal, result);
+        }
+    }
+
+    /**
+     * Adds the points to render from a run of non-empty points to the result list.
+     *
+     * @param points     the arranged points of the series.
+     * @param start      the index of the first point of the run.
+     * @param end        the index after the last point of the run.
+     * @param horizontal <code>true</code> if the points are laid out along the x axis.
+     * @param result     the list to add the selected points to.
+     */
+    protected abstract void decimateRun(List<DataPoint> points, int start, int end, boolean horizontal, List<DataPoint> result);
+
+    /**
+     * Gets the coordinate of a point along the axis the series is laid out on.
+     */
+    protected static double position(DataPoint point, boolean horizontal) {
+        return horizontal ? point.getCenterX() : point.getCenterY();
+    }
+
+    /**
+     * Gets the coordinate of a point along the value axis of the series.
+     */
+    protected static double value(DataPoint point, boolean horizontal) {
+        return horizontal ? point.getCenterY() : point.getCenterX();
+    }
+}
@@ -0,0 +1,29 @@
+package com.telerik.widget.chart.visualization.common.renderers;
+
+import android.graphics.Path;
+import android.graphics.Rect;
+
+/**
+ * Holds the formatted text of the label of a data point together with its measured size, which are kept while
+ * the value of the point and the label format stay the same, and the position of the label computed by the last
+ * layout pass of a {@link BaseLabelRenderer}.
+ */
+class LabelLayout {
+
+    // text, valid until the value of the point or the format of the labels changes
+    boolean textValid;
+    String[] lines;
+    Rect textSize;
+
+    // layout, valid for the layout pass with the same stamp
+    int layoutStamp;
+    int order;
+    double priority;
+    boolean visible;
+    float textX;
+    float textY;
+    float lineHeight;
+    final Rect background = new Rect();
+    Path path;
+    int pathStamp;
+}
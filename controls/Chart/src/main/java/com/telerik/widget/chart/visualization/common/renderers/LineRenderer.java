@@ -307,7 +307,7 @@ public class LineRenderer extends ChartSeriesRenderer {
     @Override
     protected void preparePaths() {
         // we need at least two points to calculate the line
-        List<DataPoint> points = this.model.visibleDataPoints();
+        List<DataPoint> points = this.renderPoints();
 
         if (indicateDataPoints()) {
             prepareDataPointIndicators(points);
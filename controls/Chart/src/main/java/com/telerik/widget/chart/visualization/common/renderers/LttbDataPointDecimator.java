@@ -0,0 +1,103 @@
+package com.telerik.widget.chart.visualization.common.renderers;
+
+import com.telerik.widget.chart.engine.dataPoints.DataPoint;
+
+import java.util.List;
+
+/**
+ * Decimates the data points with the largest-triangle-three-buckets algorithm. The points are split
+ * into buckets of equal size and from each bucket the point that forms the largest triangle with the
+ * point selected from the previous bucket and the average of the next bucket is kept. The number of
+ * buckets follows the length of the run on screen, so the result has about one point per bucket width.
+ * The first and the last point are always kept.
+ */
+public class LttbDataPointDecimator extends DataPointDecimator {
+
+    private float bucketWidth = 1;
+
+    /**
+     * Gets the length in pixels that a single selected point represents.
+     *
+     * @return the bucket width.
+     */
+    public float getBucketWidth() {
+        return this.bucketWidth;
+    }
+
+    /**
+     * Sets the length in pixels that a single selected point represents.
+     *
+     * @param value the new bucket width.
+     */
+    public void setBucketWidth(float value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("value cannot be negative or zero");
+        }
+
+        this.bucketWidth = value;
+    }
+
+    @Override
+    protected void decimateRun(List<DataPoint> points, int start, int end, boolean horizontal, List<DataPoint> result) {
+        int count = end - start;
+        double length = Math.abs(position(points.get(end - 1), horizontal) - position(points.get(start), horizontal));
+        int threshold = Math.max(3, (int) Math.ceil(length / this.bucketWidth) + 1);
+
+        if (count <= threshold) {
+            for (int i = start; i < end; i++) {
+                result.add(points.get(i));
+            }
+
+            return;
+        }
+
+        // The first and the last point form buckets of their own.
+        double bucketSize = (double) (count - 2) / (threshold - 2);
+
+        int selected = start;
+        result.add(points.get(selected));
+
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            int bucketStart = start + 1 + (int) (bucket * bucketSize);
+            int bucketEnd = Math.min(start + 1 + (int) ((bucket + 1) * bucketSize), end - 1);
+
+            int nextStart = bucketEnd;
+            int nextEnd = Math.min(start + 1 + (int) ((bucket + 2) * bucketSize), end - 1);
+            if (nextEnd <= nextStart) {
+                nextEnd = nextStart + 1;
+            }
+
+            double averagePosition = 0;
+            double averageValue = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                DataPoint point = points.get(i);
+                averagePosition += position(point, horizontal);
+                averageValue += value(point, horizontal);
+            }
+
+            averagePosition /= nextEnd - nextStart;
+            averageValue /= nextEnd - nextStart;
+
+            DataPoint selectedPoint = points.get(selected);
+            double selectedPosition = position(selectedPoint, horizontal);
+            double selectedValue = value(selectedPoint, horizontal);
+
+            double maxArea = -1;
+            int candidate = bucketStart;
+            for (int i = bucketStart; i < bucketEnd; i++) {
+                DataPoint point = points.get(i);
+                double area = Math.abs(((selectedPosition - averagePosition) * (value(point, horizontal) - selectedValue)) -
+                        ((selectedPosition - position(point, horizontal)) * (averageValue - selectedValue)));
+                if (area > maxArea) {
+                    maxArea = area;
+                    candidate = i;
+                }
+            }
+
+            selected = candidate;
+            result.add(points.get(selected));
+        }
+
+        result.add(points.get(end - 1));
+    }
+}
@@ -0,0 +1,95 @@
+package com.telerik.widget.chart.visualization.common.renderers;
+
+import com.telerik.widget.chart.engine.dataPoints.DataPoint;
+
+import java.util.List;
+
+/**
+ * Decimates the data points by splitting the plot into pixel columns and keeping the first, the
+ * lowest, the highest and the last point of each column. The rendered line covers exactly the same
+ * pixels as the full one, so peaks are never lost. With the default column width of two pixels the
+ * result has at most two points per pixel.
+ */
+public class MinMaxDataPointDecimator extends DataPointDecimator {
+
+    private float columnWidth = 2;
+
+    /**
+     * Gets the width in pixels of the columns the points are grouped in.
+     *
+     * @return the column width.
+     */
+    public float getColumnWidth() {
+        return this.columnWidth;
+    }
+
+    /**
+     * Sets the width in pixels of the columns the points are grouped in.
+     *
+     * @param value the new column width.
+     */
+    public void setColumnWidth(float value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("value cannot be negative or zero");
+        }
+
+        this.columnWidth = value;
+    }
+
+    @Override
+    protected void decimateRun(List<DataPoint> points, int start, int end, boolean horizontal, List<DataPoint> result) {
+        // Columns are measured from the first point so that panning, which translates all points, keeps the same columns.
+        double origin = position(points.get(start), horizontal);
+
+        long column = 0;
+        int first = start;
+        int last = start;
+        int min = start;
+        int max = start;
+        double minValue = value(points.get(start), horizontal);
+        double maxValue = minValue;
+
+        for (int i = start + 1; i < end; i++) {
+            DataPoint point = points.get(i);
+            long pointColumn = (long) Math.floor((position(point, horizontal) - origin) / this.columnWidth);
+            double pointValue = value(point, horizontal);
+
+            if (pointColumn != column) {
+                addColumn(points, first, min, max, last, result);
+
+                column = pointColumn;
+                first = i;
+                min = i;
+                max = i;
+                minValue = pointValue;
+                maxValue = pointValue;
+            } else if (pointValue < minValue) {
+                min = i;
+                minValue = pointValue;
+            } else if (pointValue > maxValue) {
+                max = i;
+                maxValue = pointValue;
+            }
+
+            last = i;
+        }
+
+        addColumn(points, first, min, max, last, result);
+    }
+
+    private static void addColumn(List<DataPoint> points, int first, int min, int max, int last, List<DataPoint> result) {
+        result.add(points.get(first));
+
+        int lower = Math.min(min, max);
+        int upper = Math.max(min, max);
+        if (lower != first) {
+            result.add(points.get(lower));
+        }
+        if (upper != lower && upper != first) {
+            result.add(points.get(upper));
+        }
+        if (last != upper && last != first) {
+            result.add(points.get(last));
+        }
+    }
+}
@@ -66,6 +66,7 @@ public class PointingLabelRenderer extends BaseLabelRenderer {
             throw new IllegalArgumentException("pointerLength cannot be a negative value");
 
         this.pointerLength = pointerLength;
+        this.invalidateLabelLayout();
     }
 
     /**
@@ -86,6 +87,7 @@ public class PointingLabelRenderer extends BaseLabelRenderer {
         if (pointerWidth < 0)
             throw new IllegalArgumentException("pointerWidth cannot be a negative value");
         this.pointerWidth = pointerWidth;
+        this.invalidateLabelLayout();
     }
 
     @Override
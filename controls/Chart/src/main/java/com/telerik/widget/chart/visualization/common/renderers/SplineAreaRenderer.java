@@ -3,8 +3,6 @@ package com.telerik.widget.chart.visualization.common.renderers;
 import android.graphics.Point;
 
 import com.telerik.widget.chart.engine.dataPoints.DataPoint;
-import com.telerik.widget.chart.visualization.common.ChartSeries;
-import com.telerik.widget.chart.visualization.common.RadChartViewBase;
 
 import java.util.ArrayList;
 import java.util.LinkedList;
@@ -17,16 +15,23 @@ import java.util.ListIterator;
  */
 public class SplineAreaRenderer extends AreaRendererBase {
 
+    private final SplineHelper splineHelper = new SplineHelper();
+
     /**
      * Creates a new instance of the {@link SplineAreaRenderer} class.
      */
     public SplineAreaRenderer() {
     }
 
+    @Override
+    protected void preparePaths() {
+        this.splineHelper.beginPass();
+        super.preparePaths();
+    }
+
     @Override
     protected List<Point> topPoints(AreaRenderContext context) {
         List<Point> points = new ArrayList<Point>();
-        RadChartViewBase chart = ((ChartSeries) this.model.getPresenter()).getChart();
         DataPointSegment currentSegmentNode = context.currentSegmentNode;
         LinkedList<DataPointSegment> dataPointSegments = this.dataPointSegments();
         ListIterator<DataPointSegment> segmentListIterator = dataPointSegments.listIterator();
@@ -46,14 +51,16 @@ public class SplineAreaRenderer extends AreaRendererBase {
             meaningfulDataPoints.add(point);
         }
 
+        // The area figure is built from whole pixel points, like the other area renderers do.
         Point startPoint = null;
-        SplineHelper<DataPoint> splineHelper = new SplineHelper<DataPoint>();
-        if (meaningfulDataPoints.size() > 0) {
+        int count = this.splineHelper.computeSpline(meaningfulDataPoints, previousPoint, nextPoint);
+        if (count > 0) {
             startPoint = meaningfulDataPoints.get(0).getCenter();
             context.areaFigure.moveTo(startPoint.x, startPoint.y);
-            for (Point item : splineHelper.getSplinePoints(
-                    meaningfulDataPoints, chart.getZoom(), previousPoint, nextPoint)) {
-                points.add(item);
+
+            float[] coordinates = this.splineHelper.getCoordinates();
+            for (int i = 0; i < count; i += 2) {
+                points.add(new Point((int) coordinates[i], (int) coordinates[i + 1]));
             }
         }
 
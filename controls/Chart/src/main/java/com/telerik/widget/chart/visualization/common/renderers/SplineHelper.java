@@ -1,112 +1,209 @@
 package com.telerik.widget.chart.visualization.common.renderers;
 
-import android.graphics.Point;
-
-import com.telerik.android.common.math.RadSize;
 import com.telerik.widget.chart.engine.dataPoints.DataPoint;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
 
-class SplineHelper<T extends DataPoint> {
+/**
+ * Computes the samples of the cardinal spline through the centers of a list of data points and writes their
+ * coordinates to a reusable buffer. The samples of each segment are kept relative to the start of the segment
+ * together with the control points they were computed from, so panning and appending points only recompute the
+ * segments whose shape changed. The number of samples of a segment depends on its on-screen curvature, so that
+ * the polyline never deviates from the curve by more than {@link #TOLERANCE} pixels.
+ */
+class SplineHelper {
     private static final float DEFAULT_TENSION = 0.5F;
-    //private static final float DEFAULT_TOLERANCE = 5F;
-    private static final float MIN_TOLERANCE = 1F;
-    private static final float POINT_DISTANCE_FACTOR = 0.03F;
+    private static final float TOLERANCE = 0.25F;
+    private static final int MAX_SEGMENT_SAMPLES = 64;
+
+    // Adding and subtracting the pan offset is not exact, so the control points are compared with a tolerance.
+    private static final float CONTROL_POINT_TOLERANCE = 0.01F;
+
+    private float[] coordinates = new float[64];
+    private int coordinatesCount;
+
+    private IdentityHashMap<DataPoint, SegmentGeometry> segments = new IdentityHashMap<DataPoint, SegmentGeometry>();
+    private IdentityHashMap<DataPoint, SegmentGeometry> previousSegments = new IdentityHashMap<DataPoint, SegmentGeometry>();
+    private final ArrayList<SegmentGeometry> recycledSegments = new ArrayList<SegmentGeometry>();
+
+    /**
+     * Starts a new layout pass. The segments computed during the previous pass are available for reuse
+     * until the next call and the ones that were not reused are released.
+     */
+    void beginPass() {
+        IdentityHashMap<DataPoint, SegmentGeometry> unusedSegments = this.previousSegments;
+        this.recycledSegments.addAll(unusedSegments.values());
+        unusedSegments.clear();
+
+        this.previousSegments = this.segments;
+        this.segments = unusedSegments;
+    }
+
+    /**
+     * Gets the coordinates computed by the last {@link #computeSpline(List, DataPoint, DataPoint)} call as x and y pairs.
+     */
+    float[] getCoordinates() {
+        return this.coordinates;
+    }
 
-    public List<Point> getSplinePoints(List<T> dataPoints, RadSize scale, T startPoint, T endPoint) {
+    /**
+     * Gets the number of valid values in {@link #getCoordinates()}, which is twice the number of samples.
+     */
+    int getCoordinatesCount() {
+        return this.coordinatesCount;
+    }
 
-        List<Point> list = new ArrayList<Point>();
+    /**
+     * Computes the samples of the spline through the given points. The first sample is the center of the first point.
+     *
+     * @param dataPoints the points the spline passes through.
+     * @param startPoint the point before the first one that determines the starting tangent or <code>null</code>.
+     * @param endPoint   the point after the last one that determines the ending tangent or <code>null</code>.
+     * @return the number of computed coordinates.
+     */
+    int computeSpline(List<? extends DataPoint> dataPoints, DataPoint startPoint, DataPoint endPoint) {
+        this.coordinatesCount = 0;
 
         int count = dataPoints.size();
         if (count == 0) {
-            return list;
+            return 0;
         }
 
+        DataPoint first = dataPoints.get(0);
+        this.addCoordinates((float) first.getCenterX(), (float) first.getCenterY());
         if (count == 1) {
-            list.add(dataPoints.get(0).getCenter());
-            return list;
+            return this.coordinatesCount;
+        }
+
+        if (count == 2) {
+            DataPoint second = dataPoints.get(1);
+            this.addSegment(first, first, second, second);
+            return this.coordinatesCount;
         }
 
         if (startPoint == null) {
-            startPoint = dataPoints.get(0);
+            startPoint = first;
         }
         if (endPoint == null) {
-            endPoint = dataPoints.get(dataPoints.size() - 1);
+            endPoint = dataPoints.get(count - 1);
         }
 
-        //float tolerance = DEFAULT_TOLERANCE;
-        //float zoomFactor = Math.abs(scale.width - scale.height) / 2;
+        for (int i = 0; i < count - 1; i++) {
+            DataPoint previous = i == 0 ? startPoint : dataPoints.get(i - 1);
+            DataPoint next = i == count - 2 ? endPoint : dataPoints.get(i + 2);
+            this.addSegment(previous, dataPoints.get(i), dataPoints.get(i + 1), next);
+        }
 
-        /*if (zoomFactor > 2) {
-            tolerance *= (int) zoomFactor / 2;
-        }*/
+        return this.coordinatesCount;
+    }
 
-        if (count == 2) {
-            Point firstPoint = dataPoints.get(0).getCenter();
-            Point secondPoint = dataPoints.get(1).getCenter();
-            for (Point segmentedPoint : segment(firstPoint, firstPoint, secondPoint, secondPoint)) {
-                list.add(segmentedPoint);
+    private void addSegment(DataPoint point0, DataPoint point1, DataPoint point2, DataPoint point3) {
+        double originX = point1.getCenterX();
+        double originY = point1.getCenterY();
+        float x0 = (float) (point0.getCenterX() - originX);
+        float y0 = (float) (point0.getCenterY() - originY);
+        float x2 = (float) (point2.getCenterX() - originX);
+        float y2 = (float) (point2.getCenterY() - originY);
+        float x3 = (float) (point3.getCenterX() - originX);
+        float y3 = (float) (point3.getCenterY() - originY);
+
+        SegmentGeometry segment = this.previousSegments.remove(point1);
+        if (segment == null || !segment.matches(x0, y0, x2, y2, x3, y3)) {
+            if (segment == null) {
+                int recycledCount = this.recycledSegments.size();
+                segment = recycledCount > 0 ? this.recycledSegments.remove(recycledCount - 1) : new SegmentGeometry();
             }
-            return list;
+
+            segment.compute(x0, y0, x2, y2, x3, y3);
         }
+        this.segments.put(point1, segment);
 
-        List<Point> segmentedPoints;
-        for (int i = 0; i < count - 1; i++) {
-            if (i == 0) {
-                segmentedPoints = segment(
-                        startPoint.getCenter(),
-                        dataPoints.get(0).getCenter(),
-                        dataPoints.get(1).getCenter(),
-                        dataPoints.get(2).getCenter());
-            } else if (i == count - 2) {
-                segmentedPoints = segment(
-                        dataPoints.get(i - 1).getCenter(),
-                        dataPoints.get(i).getCenter(),
-                        dataPoints.get(i + 1).getCenter(),
-                        endPoint.getCenter());
-            } else {
-                segmentedPoints = segment(
-                        dataPoints.get(i - 1).getCenter(),
-                        dataPoints.get(i).getCenter(),
-                        dataPoints.get(i + 1).getCenter(),
-                        dataPoints.get(i + 2).getCenter());
-            }
+        float offsetX = (float) originX;
+        float offsetY = (float) originY;
+        float[] samples = segment.samples;
+        for (int i = 0; i < segment.samplesCount; i += 2) {
+            this.addCoordinates(samples[i] + offsetX, samples[i + 1] + offsetY);
+        }
+    }
 
-            for (Point point : segmentedPoints) {
-                list.add(point);
-            }
+    private void addCoordinates(float x, float y) {
+        if (this.coordinatesCount + 2 > this.coordinates.length) {
+            float[] newCoordinates = new float[this.coordinates.length * 2];
+            System.arraycopy(this.coordinates, 0, newCoordinates, 0, this.coordinatesCount);
+            this.coordinates = newCoordinates;
         }
 
-        return list;
+        this.coordinates[this.coordinatesCount++] = x;
+        this.coordinates[this.coordinatesCount++] = y;
     }
 
-    private static List<Point> segment(Point pt0, Point pt1, Point pt2, Point pt3) { // TODO: tolerance not used
-        List<Point> list = new ArrayList<Point>();
-
-        float sX1 = DEFAULT_TENSION * (pt2.x - pt0.x);
-        float sY1 = DEFAULT_TENSION * (pt2.y - pt0.y);
-        float sX2 = DEFAULT_TENSION * (pt3.x - pt1.x);
-        float sY2 = DEFAULT_TENSION * (pt3.y - pt1.y);
+    /**
+     * The samples of a segment after its start, relative to the start, and the control points relative to the start.
+     */
+    private static class SegmentGeometry {
+        float x0;
+        float y0;
+        float x2;
+        float y2;
+        float x3;
+        float y3;
+        float[] samples = new float[16];
+        int samplesCount;
+
+        boolean matches(float x0, float y0, float x2, float y2, float x3, float y3) {
+            return isSame(this.x0, x0) && isSame(this.y0, y0) && isSame(this.x2, x2) &&
+                    isSame(this.y2, y2) && isSame(this.x3, x3) && isSame(this.y3, y3);
+        }
 
-        float ax = sX1 + sX2 + (2 * pt1.x) - (2 * pt2.x);
-        float ay = sY1 + sY2 + (2 * pt1.y) - (2 * pt2.y);
-        float bx = (-2 * sX1) - sX2 - (3 * pt1.x) + (3 * pt2.x);
-        float by = (-2 * sY1) - sY2 - (3 * pt1.y) + (3 * pt2.y);
+        void compute(float x0, float y0, float x2, float y2, float x3, float y3) {
+            this.x0 = x0;
+            this.y0 = y0;
+            this.x2 = x2;
+            this.y2 = y2;
+            this.x3 = x3;
+            this.y3 = y3;
+
+            // the tangents at the start and at the end of the segment
+            float sX1 = DEFAULT_TENSION * (x2 - x0);
+            float sY1 = DEFAULT_TENSION * (y2 - y0);
+            float sX2 = DEFAULT_TENSION * x3;
+            float sY2 = DEFAULT_TENSION * y3;
+
+            float ax = sX1 + sX2 - (2 * x2);
+            float ay = sY1 + sY2 - (2 * y2);
+            float bx = (-2 * sX1) - sX2 + (3 * x2);
+            float by = (-2 * sY1) - sY2 + (3 * y2);
+
+            // The second differences of the equivalent Bezier control points bound the deviation of a polyline
+            // with n samples from the curve by 3/4 * L / n^2 (Wang's formula).
+            float ddX1 = x2 - (2 * sX1 + sX2) / 3;
+            float ddY1 = y2 - (2 * sY1 + sY2) / 3;
+            float ddX2 = (sX1 + 2 * sX2) / 3 - x2;
+            float ddY2 = (sY1 + 2 * sY2) / 3 - y2;
+            double length = Math.max(Math.hypot(ddX1, ddY1), Math.hypot(ddX2, ddY2));
+            int count = (int) Math.ceil(Math.sqrt(0.75 * length / TOLERANCE));
+            count = Math.max(1, Math.min(MAX_SEGMENT_SAMPLES, count));
+
+            if (this.samples.length < count * 2) {
+                this.samples = new float[count * 2];
+            }
 
-        float dx = pt1.x;
-        float dy = pt1.y;
+            for (int i = 1; i < count; i++) {
+                float t = (float) i / count;
+                this.samples[(i - 1) * 2] = (ax * t * t * t) + (bx * t * t) + (sX1 * t);
+                this.samples[(i - 1) * 2 + 1] = (ay * t * t * t) + (by * t * t) + (sY1 * t);
+            }
 
-        float distance = (float) Math.sqrt(Math.pow(pt1.x - pt2.x, 2) + Math.pow(pt1.y - pt2.y, 2));
-        float tolerance = (POINT_DISTANCE_FACTOR * distance) + MIN_TOLERANCE;
-        int num = (int) (distance / tolerance);
+            // end exactly at the next point
+            this.samples[(count - 1) * 2] = x2;
+            this.samples[(count - 1) * 2 + 1] = y2;
+            this.samplesCount = count * 2;
+        }
 
-        for (int i = 0; i < num; i++) {
-            float t = (num == 1) ? 0 : (float) i / (num - 1);
-            list.add(new Point((int) ((ax * t * t * t) + (bx * t * t) + (sX1 * t) + dx),
-                    (int) ((ay * t * t * t) + (by * t * t) + (sY1 * t) + dy)));
+        private static boolean isSame(float value, float cachedValue) {
+            return Math.abs(value - cachedValue) < CONTROL_POINT_TOLERANCE;
         }
-        return list;
     }
 }
-
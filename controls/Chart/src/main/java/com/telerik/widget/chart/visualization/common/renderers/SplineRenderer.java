@@ -1,10 +1,6 @@
 package com.telerik.widget.chart.visualization.common.renderers;
 
-import android.graphics.Point;
-
 import com.telerik.widget.chart.engine.dataPoints.DataPoint;
-import com.telerik.widget.chart.visualization.common.ChartSeries;
-import com.telerik.widget.chart.visualization.common.RadChartViewBase;
 
 import java.util.ArrayList;
 import java.util.LinkedList;
@@ -17,6 +13,8 @@ import java.util.ListIterator;
  */
 public class SplineRenderer extends LineRenderer {
 
+    private final SplineHelper splineHelper = new SplineHelper();
+
     /**
      * Creates a new instance of the {@link SplineRenderer} class.
      */
@@ -26,12 +24,12 @@ public class SplineRenderer extends LineRenderer {
 
     @Override
     protected void preparePaths() {
-        RadChartViewBase chart = ((ChartSeries) this.model.getPresenter()).getChart();
+        this.splineHelper.beginPass();
         LinkedList<DataPointSegment> dataPointSegments = this.dataPointSegments();
         ListIterator<DataPointSegment> segmentListIterator = dataPointSegments.listIterator();
 
         if (indicateDataPoints())
-            prepareDataPointIndicators(model.visibleDataPoints());
+            prepareDataPointIndicators(this.renderPoints());
 
         while (segmentListIterator.hasNext()) {
             DataPointSegment currentSegmentNode = segmentListIterator.next();
@@ -54,13 +52,12 @@ public class SplineRenderer extends LineRenderer {
                 meaningfulDataPoints.add(point);
             }
 
-            SplineHelper<DataPoint> splineHelper = new SplineHelper<DataPoint>();
-            if (meaningfulDataPoints.size() > 0) {
-                Point startPoint = meaningfulDataPoints.get(0).getCenter();
-                this.linePath.moveTo(startPoint.x, startPoint.y);
-                for (Point item : splineHelper.getSplinePoints(
-                        meaningfulDataPoints, chart.getZoom(), previousPoint, nextPoint)) {
-                    this.linePath.lineTo(item.x, item.y);
+            int count = this.splineHelper.computeSpline(meaningfulDataPoints, previousPoint, nextPoint);
+            if (count > 0) {
+                float[] coordinates = this.splineHelper.getCoordinates();
+                this.linePath.moveTo(coordinates[0], coordinates[1]);
+                for (int i = 0; i < count; i += 2) {
+                    this.linePath.lineTo(coordinates[i], coordinates[i + 1]);
                 }
             }
         }
@@ -65,8 +65,9 @@ public class DoughnutSeries extends PieSeries {
         super.setupUpdateContext(availableSize);
 
         DoughnutUpdateContext doughnutUpdateContext = (DoughnutUpdateContext) this.updateContext;
-        if (doughnutUpdateContext != null) {
+        if (doughnutUpdateContext != null && doughnutUpdateContext.innerRadiusFactor != this.getInnerRadiusFactor()) {
             doughnutUpdateContext.innerRadiusFactor = this.getInnerRadiusFactor();
+            doughnutUpdateContext.version++;
         }
     }
 
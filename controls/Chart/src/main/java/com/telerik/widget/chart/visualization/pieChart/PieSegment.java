@@ -84,6 +84,21 @@ class PieSegment extends PropertyManager {
     private int visibility;
     private boolean isVisibleInLegend;
 
+    // the values the paths were computed from, the paths are kept while they stay the same
+    private boolean pathsValid;
+    private int contextVersion;
+    private double pathsStartAngle;
+    private double pathsSweepAngle;
+    private double pathsNormalizedValue;
+    private double pathsOffsetFromCenter;
+    private double pathsSliceOffset;
+    private float pathsStrokeWidth;
+    private float pathsArcWidth;
+
+    private Region hitTestRegion;
+    private Region hitTestClip;
+    private RectF hitTestBounds;
+
     PieSegment(PieSeries series) {
         this.series = series;
         if (series == null) {
@@ -164,14 +179,23 @@ class PieSegment extends PropertyManager {
     }
 
     public boolean hitTest(PointF touchLocation) {
+        if (this.hitTestRegion == null) {
+            this.hitTestRegion = new Region();
+            this.hitTestClip = new Region();
+            this.hitTestBounds = new RectF();
+        }
 
-        RectF rect = new RectF();
-        this.fillPath.computeBounds(rect, true);
+        if (this.hitTestRegion.isEmpty()) {
+            RectF rect = this.hitTestBounds;
+            this.fillPath.computeBounds(rect, true);
 
-        Region region = new Region();
-        region.setPath(this.fillPath, new Region(Math.round(rect.left), Math.round(rect.top), Math.round(rect.right), Math.round(rect.bottom)));
+            this.hitTestClip.set(Math.round(rect.left), Math.round(rect.top), Math.round(rect.right), Math.round(rect.bottom));
+            if (!this.hitTestRegion.setPath(this.fillPath, this.hitTestClip)) {
+                return false;
+            }
+        }
 
-        return region.contains(Math.round(touchLocation.x), Math.round(touchLocation.y));
+        return this.hitTestRegion.contains(Math.round(touchLocation.x), Math.round(touchLocation.y));
     }
 
     void setIsVisibleInLegend(boolean value) {
@@ -203,11 +227,57 @@ class PieSegment extends PropertyManager {
         this.updateArcWidth(style.getArcWidth());
     }
 
+    /**
+     * Updates the paths of the segment for the given point, unless they were computed from the same angles, offsets,
+     * stroke widths and update context.
+     */
+    void update(PieDataPoint point, PieUpdateContext context) {
+        double sliceOffset = this.series.getSliceOffset();
+        float strokeWidth = this.strokePaint.getStrokeWidth();
+        float arcWidth = this.arcPaint.getStrokeWidth();
+
+        if (this.pathsValid &&
+                this.contextVersion == context.version &&
+                this.pathsStartAngle == point.startAngle() &&
+                this.pathsSweepAngle == point.sweepAngle() &&
+                this.pathsNormalizedValue == point.normalizedValue() &&
+                this.pathsOffsetFromCenter == point.getRelativeOffsetFromCenter() &&
+                this.pathsSliceOffset == sliceOffset &&
+                this.pathsStrokeWidth == strokeWidth &&
+                this.pathsArcWidth == arcWidth) {
+            return;
+        }
+
+        this.updatePaths(point, context);
+
+        if (this.hitTestRegion != null) {
+            this.hitTestRegion.setEmpty();
+        }
+
+        this.pathsValid = true;
+        this.contextVersion = context.version;
+        this.pathsStartAngle = point.startAngle();
+        this.pathsSweepAngle = point.sweepAngle();
+        this.pathsNormalizedValue = point.normalizedValue();
+        this.pathsOffsetFromCenter = point.getRelativeOffsetFromCenter();
+        this.pathsSliceOffset = sliceOffset;
+        this.pathsStrokeWidth = strokeWidth;
+        this.pathsArcWidth = arcWidth;
+    }
+
+    /**
+     * Removes the legend item of the segment from the chart when the segment is no longer used.
+     */
+    void release() {
+        this.setIsVisibleInLegend(false);
+    }
+
     void updatePaths(PieDataPoint point, PieUpdateContext context) {
         RadPoint centerPoint = context.center;
 
-        if (point.getRelativeOffsetFromCenter() > 0) {
-
+        if (point.getRelativeOffsetFromCenter() == 0) {
+            this.centerOffset = new RadPoint();
+        } else {
             double offsetInPixels = (int) (context.radius * point.getRelativeOffsetFromCenter());
             double middleAngle = point.startAngle() + (point.sweepAngle() / 2);
 
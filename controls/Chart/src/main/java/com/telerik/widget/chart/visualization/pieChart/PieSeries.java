@@ -4,10 +4,8 @@ import android.graphics.Canvas;
 import android.graphics.Point;
 import android.graphics.PointF;
 
-import com.telerik.android.common.ObservableCollection;
 import com.telerik.android.common.math.RadMath;
 import com.telerik.android.common.math.RadPoint;
-import com.telerik.android.common.math.RadPolarCoordinates;
 import com.telerik.android.common.math.RadRect;
 import com.telerik.android.common.math.RadSize;
 import com.telerik.widget.chart.engine.chartAreas.AngleRange;
@@ -29,6 +27,7 @@ import com.telerik.widget.palettes.PaletteEntry;
 import com.telerik.widget.primitives.legend.LegendItem;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
 
 /**
@@ -53,6 +52,14 @@ public class PieSeries extends ChartSeries {
 
     private List<SliceStyle> sliceStyles;
     private ArrayList<PieSegment> segments = new ArrayList<PieSegment>();
+    private IdentityHashMap<PieDataPoint, PieSegment> segmentsByPoint = new IdentityHashMap<PieDataPoint, PieSegment>();
+    private IdentityHashMap<PieDataPoint, PieSegment> previousSegments = new IdentityHashMap<PieDataPoint, PieSegment>();
+
+    // The angles of the visible slices in the order they are drawn, growing from the start angle of the first one.
+    private int slicesCount;
+    private int[] sliceSegmentIndexes = new int[0];
+    private double[] sliceStartAngles = new double[0];
+    private double[] sliceEndAngles = new double[0];
 
     private DataPointBinding valueBinding;
     private double radiusFactor = DEFAULT_RADIUS_FACTOR;
@@ -203,6 +210,7 @@ public class PieSeries extends ChartSeries {
      */
     public void setLabelFormat(String value) {
         this.model.setLabelFormat(value);
+        this.getLabelRenderer().invalidateLabelCache();
     }
 
     /**
@@ -345,31 +353,18 @@ public class PieSeries extends ChartSeries {
         }
 
         RadPoint center = this.getChart().chartAreaModel().getPlotArea().getLayoutSlot().getCenter();
-        RadPolarCoordinates polarCoordinates = RadMath.getPolarCoordinates(new RadPoint(location.x, location.y), center);
-
-        double tapLocationAngle = polarCoordinates.angle;
-        tapLocationAngle = PieSegment.SEGMENT_MAX_ANGLE - tapLocationAngle;
-
-        for (PieDataPoint dataPoint : this.dataPoints()) {
-            if (dataPoint.isEmpty) {
-                continue;
-            }
-
-            double sliceStartAngle = dataPoint.startAngle();
-            double sliceEndAnge = sliceStartAngle + dataPoint.sweepAngle();
-
-            if ((sliceStartAngle <= tapLocationAngle) && (tapLocationAngle < sliceEndAnge)) {
-                DataPointInfo closestDataPoint = new DataPointInfo();
-                closestDataPoint.setDataPoint(dataPoint);
-                closestDataPoint.setSeriesModel(this.model());
-                Point dataPointLocation = new Point((int) dataPoint.getCenterX(), (int) dataPoint.getCenterY());
-                closestDataPoint.setDistanceToTouchLocation(RadMath.getPointDistance(dataPointLocation.x, location.x, dataPointLocation.y, location.y));
-
-                return closestDataPoint;
-            }
+        int segmentIndex = this.findSliceSegment(getSliceAngle(location.x, location.y, center));
+        if (segmentIndex < 0) {
+            return null;
         }
 
-        return null;
+        PieDataPoint dataPoint = this.segments.get(segmentIndex).point;
+        DataPointInfo closestDataPoint = new DataPointInfo();
+        closestDataPoint.setDataPoint(dataPoint);
+        closestDataPoint.setSeriesModel(this.model());
+        closestDataPoint.setDistanceToTouchLocation(RadMath.getPointDistance((int) dataPoint.getCenterX(), location.x, (int) dataPoint.getCenterY(), location.y));
+
+        return closestDataPoint;
     }
 
     public int getDataPointColor(int dataPointIndex) {
@@ -395,10 +390,22 @@ public class PieSeries extends ChartSeries {
         }
 
         RadSize updatedAvailableSize = this.getUpdatedSize(new RadSize(availableSize.getWidth(), availableSize.getHeight()));
-        this.updateContext.diameter = Math.min(updatedAvailableSize.getWidth(), updatedAvailableSize.getHeight()) * this.getRadiusFactor();
-        this.updateContext.radius = this.updateContext.diameter / 2;
-        this.updateContext.center = new RadPoint(availableSize.getX() + (availableSize.getWidth() / 2), availableSize.getY() + (availableSize.getHeight() / 2));
-        this.updateContext.startAngle = this.model.getRange().getStartAngle();
+        double diameter = Math.min(updatedAvailableSize.getWidth(), updatedAvailableSize.getHeight()) * this.getRadiusFactor();
+        double centerX = availableSize.getX() + (availableSize.getWidth() / 2);
+        double centerY = availableSize.getY() + (availableSize.getHeight() / 2);
+        double startAngle = this.model.getRange().getStartAngle();
+
+        PieUpdateContext context = this.updateContext;
+        if (context.center != null && context.center.getX() == centerX && context.center.getY() == centerY &&
+                context.diameter == diameter && context.startAngle == startAngle) {
+            return;
+        }
+
+        context.diameter = diameter;
+        context.radius = diameter / 2;
+        context.center = new RadPoint(centerX, centerY);
+        context.startAngle = startAngle;
+        context.version++;
     }
 
     /**
@@ -462,12 +469,28 @@ public class PieSeries extends ChartSeries {
 
     @Override
     public DataPoint hitTestDataPoint(PointF touchLocation) {
-        for (PieSegment segment : this.segments) {
+        if (this.updateContext == null || this.segments.size() == 0) {
+            return null;
+        }
+
+        int segmentIndex = this.findSliceSegment(getSliceAngle(touchLocation.x, touchLocation.y, this.updateContext.center));
+        if (segmentIndex >= 0) {
+            PieSegment segment = this.segments.get(segmentIndex);
             if (segment.hitTest(touchLocation)) {
                 return segment.point;
             }
         }
 
+        // The slices that are pulled away from the center may cover the angles of their neighbours.
+        if (this.model.maxRelativeOffsetFromCenter() > 0) {
+            for (int i = 0, count = this.segments.size(); i < count; i++) {
+                PieSegment segment = this.segments.get(i);
+                if (i != segmentIndex && segment.hitTest(touchLocation)) {
+                    return segment.point;
+                }
+            }
+        }
+
         return null;
     }
 
@@ -518,24 +541,96 @@ public class PieSeries extends ChartSeries {
     }
 
     private void updateSegments() {
+        IdentityHashMap<PieDataPoint, PieSegment> unusedSegments = this.previousSegments;
+        this.previousSegments = this.segmentsByPoint;
+        this.segmentsByPoint = unusedSegments;
+
         this.segments.clear();
         int index = 0;
 
         for (PieDataPoint point : this.dataPoints()) {
             PieSegment segment = this.getSegment(point);
             this.updateSegmentStyles(segment, index);
-            segment.updatePaths(point, this.updateContext);
+            segment.update(point, this.updateContext);
 
             index++;
+        }
+
+        for (PieSegment segment : this.previousSegments.values()) {
+            segment.release();
+        }
+        this.previousSegments.clear();
+
+        this.updateSliceAngles();
+    }
+
+    private void updateSliceAngles() {
+        int count = this.segments.size();
+        if (this.sliceStartAngles.length < count) {
+            this.sliceSegmentIndexes = new int[count];
+            this.sliceStartAngles = new double[count];
+            this.sliceEndAngles = new double[count];
+        }
+
+        this.slicesCount = 0;
+        for (int i = 0; i < count; i++) {
+            PieDataPoint point = this.segments.get(i).point;
+            if (point.isEmpty || point.sweepAngle() == 0) {
+                continue;
+            }
+
+            // the start angles are kept in the [0, 360) interval, so the ones after the 0 angle are unwrapped
+            double startAngle = point.startAngle();
+            if (this.slicesCount > 0) {
+                while (startAngle < this.sliceStartAngles[this.slicesCount - 1]) {
+                    startAngle += PieSegment.SEGMENT_MAX_ANGLE;
+                }
+            }
+
+            this.sliceSegmentIndexes[this.slicesCount] = i;
+            this.sliceStartAngles[this.slicesCount] = startAngle;
+            this.sliceEndAngles[this.slicesCount] = startAngle + point.sweepAngle();
+            this.slicesCount++;
+        }
+    }
 
-            LegendItem segmentLegendItem = segment.getLegendItem();
-            ObservableCollection<LegendItem> legendInfos = this.getChart().getLegendInfos();
-            if (segment.getIsVisibleInLegend() && !legendInfos.contains(segmentLegendItem)) {
-                legendInfos.add(segmentLegendItem);
-            } else if (legendInfos.contains(segmentLegendItem)) {
-                legendInfos.remove(segmentLegendItem);
+    /**
+     * Finds the slice that contains the given angle with a binary search over the start angles of the slices.
+     *
+     * @param angle the angle in the [0, 360) interval
+     * @return the index of the segment of the slice or <code>-1</code> if the angle is not covered by a slice
+     */
+    private int findSliceSegment(double angle) {
+        if (this.slicesCount == 0) {
+            return -1;
+        }
+
+        if (angle < this.sliceStartAngles[0]) {
+            angle += PieSegment.SEGMENT_MAX_ANGLE;
+        }
+
+        int low = 0;
+        int high = this.slicesCount - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (this.sliceStartAngles[middle] <= angle) {
+                low = middle;
+            } else {
+                high = middle - 1;
             }
         }
+
+        if (this.sliceStartAngles[low] <= angle && angle < this.sliceEndAngles[low]) {
+            return this.sliceSegmentIndexes[low];
+        }
+
+        return -1;
+    }
+
+    private static double getSliceAngle(double x, double y, RadPoint center) {
+        // the slices are drawn clockwise, the same way the y axis of the canvas grows
+        double angle = Math.toDegrees(Math.atan2(y - center.getY(), x - center.getX()));
+        return angle < 0 ? angle + PieSegment.SEGMENT_MAX_ANGLE : angle;
     }
 
     private void updateSegmentStyles(PieSegment segment, int index) {
@@ -571,24 +666,19 @@ public class PieSeries extends ChartSeries {
     }
 
     private PieSegment getSegment(PieDataPoint point) {
-        PieSegment segment = this.createSegment();
+        PieSegment segment = this.previousSegments.remove(point);
+        if (segment == null) {
+            segment = this.createSegment();
+            segment.point = point;
+        }
+
         this.segments.add(segment);
-        segment.point = point;
+        this.segmentsByPoint.put(point, segment);
 
         return segment;
     }
 
     private PieSegment findSegment(DataPoint point) {
-        if (this.segments.size() == 0) {
-            return null;
-        }
-
-        for (PieSegment segment : this.segments) {
-            if (segment.point == point) {
-                return segment;
-            }
-        }
-
-        return null;
+        return this.segmentsByPoint.get(point);
     }
 }
\ No newline at end of file
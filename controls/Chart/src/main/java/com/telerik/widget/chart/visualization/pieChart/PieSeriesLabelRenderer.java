@@ -59,6 +59,12 @@ public class PieSeriesLabelRenderer extends BaseLabelRenderer {
         return super.getLabelFillPaint(dataPointIndex);
     }
 
+    @Override
+    protected boolean isLabelTextRelativeToSeries() {
+        // the labels show the percentage of each point from the total
+        return true;
+    }
+
     @Override
     protected String getLabelText(DataPoint dataPoint) {
         final PieDataPoint point = (PieDataPoint) dataPoint;
@@ -10,6 +10,9 @@ class PieUpdateContext {
     double diameter;
     double startAngle;
 
+    // changes whenever a value the geometry of the segments depends on changes
+    int version;
+
     RadPoint getCenterWithOffset(double offsetInPixels, double angle) {
         if (offsetInPixels == 0) {
             return this.center;
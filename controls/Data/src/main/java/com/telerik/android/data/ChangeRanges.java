@@ -0,0 +1,47 @@
+package com.telerik.android.data;
+
+import java.util.Arrays;
+
+/**
+ * Collects ascending ranges of positions in the flat view of a {@link RadDataSource}, merging adjacent ones.
+ */
+class ChangeRanges {
+    private int[] values = new int[8];
+    private int count;
+
+    boolean isEmpty() {
+        return this.count == 0;
+    }
+
+    /**
+     * Adds a range that starts at or after the end of the last one.
+     */
+    void add(int start, int length) {
+        if (this.count > 0 && this.values[this.count - 2] + this.values[this.count - 1] == start) {
+            this.values[this.count - 1] += length;
+            return;
+        }
+
+        if (this.count + 2 > this.values.length) {
+            this.values = Arrays.copyOf(this.values, this.values.length * 2);
+        }
+
+        this.values[this.count++] = start;
+        this.values[this.count++] = length;
+    }
+
+    /**
+     * Replaces the ranges that start at or after the given position with a single range from that position.
+     */
+    void replaceFrom(int start, int length) {
+        while (this.count > 0 && this.values[this.count - 2] >= start) {
+            this.count -= 2;
+        }
+
+        this.add(start, length);
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(this.values, this.count);
+    }
+}
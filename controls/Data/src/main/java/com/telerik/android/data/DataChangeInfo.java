@@ -1,4 +1,106 @@
 package com.telerik.android.data;
 
+import com.telerik.android.common.CollectionChangeAction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Describes a change of the view of a {@link com.telerik.android.data.RadDataSource}. Added and removed rows
+ * are given as ranges of positions in the flat view, in which each group is followed by its items. The ranges of
+ * removed rows are positions before the change and the ranges of added rows are positions after it, both in
+ * ascending order, so removing the ranges from the last one and adding them from the first one updates a copy of
+ * the flat view. A {@link CollectionChangeAction#RESET} change has no ranges and means that the whole view was rebuilt,
+ * in which case the rows of the flat view before the change can be given to compare them with the new ones.
+ */
 public class DataChangeInfo<E> {
+    private CollectionChangeAction action;
+    private int[] ranges;
+    private List<DataItem<E>> items;
+    private List<DataItem<E>> previousItems;
+    private List<DataItem<E>> previousView;
+
+    /**
+     * Creates an instance of the {@link com.telerik.android.data.DataChangeInfo} class describing a rebuilt view.
+     */
+    public DataChangeInfo() {
+        this(CollectionChangeAction.RESET, new int[0], Collections.<DataItem<E>>emptyList());
+    }
+
+    DataChangeInfo(List<DataItem<E>> previousItems) {
+        this();
+        this.previousItems = previousItems;
+    }
+
+    /**
+     * Creates a reset change from the view before it was rebuilt, which is flattened only when the previous rows are
+     * requested. The previous view must not change after it was replaced.
+     */
+    static <E> DataChangeInfo<E> fromPreviousView(List<DataItem<E>> previousView) {
+        DataChangeInfo<E> info = new DataChangeInfo<>();
+        info.previousView = previousView;
+        return info;
+    }
+
+    DataChangeInfo(CollectionChangeAction action, int[] ranges, List<DataItem<E>> items) {
+        this.action = action;
+        this.ranges = ranges;
+        this.items = items;
+    }
+
+    /**
+     * Gets the kind of the change, which is {@link CollectionChangeAction#ADD}, {@link CollectionChangeAction#REMOVE}
+     * or {@link CollectionChangeAction#RESET}.
+     */
+    public CollectionChangeAction action() {
+        return this.action;
+    }
+
+    /**
+     * Gets the number of ranges of changed rows.
+     */
+    public int getRangesCount() {
+        return this.ranges.length / 2;
+    }
+
+    /**
+     * Gets the position of the first row of a range in the flat view.
+     *
+     * @param rangeIndex the index of the range.
+     */
+    public int getRangeStart(int rangeIndex) {
+        return this.ranges[rangeIndex * 2];
+    }
+
+    /**
+     * Gets the number of rows in a range.
+     *
+     * @param rangeIndex the index of the range.
+     */
+    public int getRangeLength(int rangeIndex) {
+        return this.ranges[rangeIndex * 2 + 1];
+    }
+
+    /**
+     * Gets the added rows of all ranges in the order of the flat view. The list is empty for the other changes.
+     */
+    public List<DataItem<E>> getItems() {
+        return this.items;
+    }
+
+    /**
+     * Gets the rows of the flat view before a {@link CollectionChangeAction#RESET} change.
+     *
+     * @return the previous rows or <code>null</code> if they are not known or the change is not a reset.
+     */
+    public List<DataItem<E>> getPreviousItems() {
+        if (this.previousItems == null && this.previousView != null) {
+            this.previousItems = new ArrayList<>();
+            RadDataSource.flattenView(this.previousItems, this.previousView);
+            this.previousView = null;
+        }
+
+        return this.previousItems;
+    }
 }
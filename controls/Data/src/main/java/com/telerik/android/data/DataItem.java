@@ -1,6 +1,8 @@
 package com.telerik.android.data;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 
 /**
@@ -12,9 +14,20 @@ import java.util.List;
 public class DataItem<E> {
 
     private E sourceObject;
-    private ArrayList<DataItem<E>> items = new ArrayList<DataItem<E>>();
+    // only groups have a list of items
+    private List<DataItem<E>> items;
     private Object groupKey;
 
+    // the flat positions of the items of a group relative to its first item, valid for the first validOffsetsCount
+    // items and maintained by the owning RadDataSource
+    int[] offsets;
+    int validOffsetsCount;
+
+    // the group or the root that holds a group and the groups of a group by their keys, maintained by the owning
+    // RadDataSource so that the groups can be found without searching the view
+    DataItem<E> parent;
+    HashMap<Object, DataItem<E>> groupsByKey;
+
     /**
      * Creates an instance of the {@link com.telerik.android.data.DataItem}
      * class with a provided source object.
@@ -23,12 +36,13 @@ public class DataItem<E> {
     public DataItem(E fromObject, Object groupKey){
         this.sourceObject = fromObject;
         this.groupKey = groupKey;
+        this.items = new ArrayList<DataItem<E>>();
     }
 
     /**
      * Creates an instance of the {@link com.telerik.android.data.DataItem} class
      * with the provided source entity from the original data used to populate the associated
-     * {@link com.telerik.android.data.RadDataSource} object.
+     * {@link com.telerik.android.data.RadDataSource} object. The item has no list of child items.
      *
      * @param forObject the raw entity object.
      */
@@ -55,14 +69,83 @@ public class DataItem<E> {
     /**
      * Returns the child items containing within this {@link com.telerik.android.data.DataItem}
      * instance. These might either be further {@link com.telerik.android.data.DataItem} instances
-     * or plain {@link com.telerik.android.data.DataItem} instances.
+     * or plain {@link com.telerik.android.data.DataItem} instances. Items that wrap an entity have no child items
+     * and return an immutable empty list, so only the items of groups can be modified.
      *
      * @return an {@link java.lang.Iterable} implementation containing the child items.
      */
     public List<DataItem<E>> getItems(){
+        if(this.items == null) {
+            return Collections.emptyList();
+        }
+
         return this.items;
     }
 
+    /**
+     * Creates a group that holds the top level items of a view.
+     */
+    static <E> DataItem<E> createRoot(List<DataItem<E>> items) {
+        DataItem<E> root = new DataItem<E>(null, null);
+        root.items = items;
+        return root;
+    }
+
+    boolean isGroup() {
+        return this.items != null;
+    }
+
+    /**
+     * Replaces the items of a group with the given groups, which are in the order of their keys.
+     */
+    void setGroups(HashMap<Object, DataItem<E>> groups) {
+        this.validOffsetsCount = 0;
+        this.items = new ArrayList<>(groups.values());
+        this.groupsByKey = groups;
+        for (DataItem<E> group : this.items) {
+            group.parent = this;
+        }
+    }
+
+    /**
+     * Gets the group of this group with the given key or <code>null</code> if there is no such group.
+     */
+    DataItem<E> findGroup(Object key) {
+        return this.groupsByKey == null ? null : this.groupsByKey.get(key);
+    }
+
+    /**
+     * Adds a group to the groups of this group by key. The group is not added to the items.
+     */
+    void addGroup(DataItem<E> group) {
+        if (this.groupsByKey == null) {
+            this.groupsByKey = new HashMap<>();
+        }
+
+        this.groupsByKey.put(group.groupKey, group);
+        group.parent = this;
+    }
+
+    /**
+     * Removes a group from the groups of this group by key. The group is not removed from the items.
+     */
+    void removeGroup(DataItem<E> group) {
+        if (this.groupsByKey != null && this.groupsByKey.get(group.groupKey) == group) {
+            this.groupsByKey.remove(group.groupKey);
+        }
+
+        group.parent = null;
+    }
+
+    /**
+     * Invalidates the flat positions of the items of a group that follow an item which changed.
+     */
+    void invalidateOffsets(int index) {
+        if(this.validOffsetsCount > index + 1) {
+            this.validOffsetsCount = index + 1;
+        }
+    }
+
     void setItems(Iterable<DataItem<E>> items) {
         if(items == null) {
             throw new IllegalArgumentException("items cannot be null.");
@@ -72,6 +155,11 @@ public class DataItem<E> {
             return;
         }
 
+        if(this.items == null) {
+            this.items = new ArrayList<DataItem<E>>();
+        }
+
+        this.validOffsetsCount = 0;
         this.items.clear();
         for(DataItem<E> item : items) {
             this.items.add(item);
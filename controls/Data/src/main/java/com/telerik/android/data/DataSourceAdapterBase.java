@@ -8,6 +8,8 @@ import android.widget.AdapterView;
 import android.widget.BaseAdapter;
 import android.widget.TextView;
 
+import com.telerik.android.common.CollectionChangeAction;
+
 import java.util.List;
 
 public class DataSourceAdapterBase<E> extends BaseAdapter implements DataChangedListener<E>, SelectionChangeListener<DataItem<E>>, CurrentItemChangedListener<E> {
@@ -106,7 +108,11 @@ public class DataSourceAdapterBase<E> extends BaseAdapter implements DataChanged
 
     @Override
     public void dataChanged(DataChangeInfo<E> info) {
-        this.notifyDataSetInvalidated();
+        if(info.action() == CollectionChangeAction.RESET) {
+            this.notifyDataSetInvalidated();
+        } else {
+            this.notifyDataSetChanged();
+        }
     }
 
     @Override
@@ -0,0 +1,157 @@
+package com.telerik.android.data;
+
+import com.telerik.android.common.Function;
+import com.telerik.android.common.Function2;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Filters, sorts and groups the items of a {@link RadDataSource} with copies of its descriptors, so that the view
+ * can be built on a background thread while the descriptors of the data source change. A builder that is cancelled
+ * stops between the items it filters and between the operations.
+ */
+class DataViewBuilder<E> {
+    private final ArrayList<Function<E, Boolean>> filterDescriptors;
+    private final ArrayList<Function<E, Object>> groupDescriptors;
+    private final ArrayList<Function2<E, E, Integer>> sortDescriptors;
+    // the groups of the innermost level that hold the items of the built view
+    private final IdentityHashMap<DataItem<E>, DataItem<E>> itemGroups = new IdentityHashMap<>();
+    private volatile boolean cancelled;
+
+    private final Comparator<DataItem<E>> itemComparator = new Comparator<DataItem<E>>() {
+        @Override
+        public int compare(DataItem<E> item1, DataItem<E> item2) {
+            int result = 0;
+            for(Function2<E, E, Integer> sortDescriptor : sortDescriptors) {
+                result = sortDescriptor.apply(item1.entity(), item2.entity());
+                if(result != 0) {
+                    break;
+                }
+            }
+
+            return result;
+        }};
+
+    DataViewBuilder(List<Function<E, Boolean>> filterDescriptors, List<Function<E, Object>> groupDescriptors, List<Function2<E, E, Integer>> sortDescriptors) {
+        this.filterDescriptors = new ArrayList<>(filterDescriptors);
+        this.groupDescriptors = new ArrayList<>(groupDescriptors);
+        this.sortDescriptors = new ArrayList<>(sortDescriptors);
+    }
+
+    /**
+     * Gets the copies of the group descriptors the views of this builder are grouped by.
+     */
+    List<Function<E, Object>> getGroupDescriptors() {
+        return this.groupDescriptors;
+    }
+
+    /**
+     * Gets the groups of the innermost level that hold the items of the built view by the items.
+     */
+    IdentityHashMap<DataItem<E>, DataItem<E>> getItemGroups() {
+        return this.itemGroups;
+    }
+
+    void cancel() {
+        this.cancelled = true;
+    }
+
+    boolean isCancelled() {
+        return this.cancelled;
+    }
+
+    /**
+     * Builds the view of the given items.
+     *
+     * @return the group that holds the filtered, sorted and grouped items or <code>null</code> if the builder was
+     * cancelled.
+     */
+    DataItem<E> build(List<DataItem<E>> items) {
+        List<DataItem<E>> view = this.filterItems(items);
+        if (this.cancelled) {
+            return null;
+        }
+
+        view = this.sortItems(view);
+        if (this.cancelled) {
+            return null;
+        }
+
+        DataItem<E> root = DataItem.createRoot(view);
+        this.groupItems(root, 0);
+        return this.cancelled ? null : root;
+    }
+
+    List<DataItem<E>> filterItems(List<DataItem<E>> view) {
+        ArrayList<DataItem<E>> result = new ArrayList<>();
+
+        for(DataItem<E> item : view) {
+            if (this.cancelled) {
+                break;
+            }
+
+            if(RadDataSource.passesFilters(item.entity(), this.filterDescriptors)) {
+                result.add(item);
+            }
+        }
+
+        return result;
+    }
+
+    void groupItems(DataItem<E> parent, int descriptorIndex) {
+        if(descriptorIndex >= this.groupDescriptors.size()) {
+            return;
+        }
+
+        Function<E, Object> groupDescriptor = this.groupDescriptors.get(descriptorIndex);
+        parent.setGroups(this.groupBy(parent.getItems(), groupDescriptor));
+
+        boolean isInnermost = descriptorIndex == this.groupDescriptors.size() - 1;
+        for(DataItem<E> group : parent.getItems()) {
+            if (isInnermost) {
+                for (DataItem<E> item : group.getItems()) {
+                    this.itemGroups.put(item, group);
+                }
+            } else {
+                this.groupItems(group, descriptorIndex + 1);
+            }
+        }
+    }
+
+    LinkedHashMap<Object, DataItem<E>> groupBy(List<DataItem<E>> view, Function<E, Object> groupDescriptor) {
+        LinkedHashMap<Object, DataItem<E>> groupsMap = new LinkedHashMap<>();
+        for (DataItem<E> sourceItem : view) {
+            Object groupKey = groupDescriptor.apply(sourceItem.entity());
+            if (!groupsMap.containsKey(groupKey)) {
+                DataItem<E> newGroup = new DataItem<>(null, groupKey);
+                newGroup.getItems().add(sourceItem);
+                groupsMap.put(groupKey, newGroup);
+            } else {
+                DataItem<E> existingGroup = groupsMap.get(groupKey);
+                existingGroup.getItems().add(sourceItem);
+            }
+        }
+
+        return groupsMap;
+    }
+
+    List<DataItem<E>> sortItems(List<DataItem<E>> view) {
+        if(this.sortDescriptors.isEmpty()) {
+            return view;
+        }
+
+        List<DataItem<E>> list = new ArrayList<>(view.size());
+        for(DataItem<E> item : view) {
+            list.add(item);
+        }
+
+        Collections.sort(list, this.itemComparator);
+
+        return list;
+    }
+}
@@ -1,5 +1,7 @@
 package com.telerik.android.data;
 
+import android.os.AsyncTask;
+
 import com.telerik.android.common.CollectionChangeAction;
 import com.telerik.android.common.CollectionChangeListener;
 import com.telerik.android.common.CollectionChangedEvent;
@@ -13,22 +15,40 @@ import org.json.JSONException;
 import org.json.JSONObject;
 
 import java.net.URL;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.RandomAccess;
 
 /**
  * RadDataSource can filter group and sort any {@link java.lang.Iterable} implementation.
  */
 public class RadDataSource<E> implements CollectionChangeListener<E>, Iterable<DataItem<E>> {
+    // Changes of more than one in this many items of the source rebuild the view instead of updating it item by item.
+    private static final int INCREMENTAL_CHANGE_RATIO = 8;
+
     Iterable<E> rawSource;
     ArrayList<DataItem<E>> sourceCollection = new ArrayList<>();
     List<DataItem<E>> view;
+    // the group that holds the items of the view
+    DataItem<E> root;
+    // the group descriptors the view was built with and their number, which is the depth of the groups of the view
+    // and can differ from the current descriptors while the view is rebuilt or the updates are suspended
+    List<Function<E, Object>> viewGroupDescriptors = Collections.emptyList();
+    int viewDepth;
+    final FlatView flatView = new FlatView();
+
+    // the items of the source by their entities, which are compared by identity so that they can change
+    IdentityHashMap<E, DataItem<E>> entityIndex = new IdentityHashMap<>();
+    // the groups of the innermost level that hold the items of the view by the items, empty if the view has no groups
+    IdentityHashMap<DataItem<E>, DataItem<E>> itemGroups = new IdentityHashMap<>();
 
     ObservableCollection<Function<E, Boolean>> filterDescriptors = new ObservableCollection<>();
     ObservableCollection<Function<E, Object>> groupDescriptors = new ObservableCollection<>();
@@ -50,6 +70,8 @@ public class RadDataSource<E> implements CollectionChangeListener<E>, Iterable<D
         }};
 
     boolean suspend = false;
+    boolean asyncDataOperations = false;
+    ViewUpdateTask pendingUpdateTask;
 
     public void addDataChangeListener(DataChangedListener<E> listener) {
         this.changedListeners.add(listener);
@@ -169,18 +191,42 @@ public class RadDataSource<E> implements CollectionChangeListener<E>, Iterable<D
 
     /**
      * Returns a List that is filtered, sorted and grouped according to the current descriptors. All groups
-     * are expanded and the hierarchy is returned as flat view.
+     * are expanded and the hierarchy is returned as flat view. The list cannot be modified and follows the changes
+     * of the view, so it is the same instance for the lifetime of this data source.
      */
     public List<DataItem<E>> flatView() {
-        ArrayList<DataItem<E>> result = new ArrayList<>();
-        this.flattenView(result, this.view);
-        return result;
+        return this.flatView;
     }
 
-    private void flattenView(List<DataItem<E>> result, List<DataItem<E>> view) {
+    static <E> void flattenView(List<DataItem<E>> result, List<DataItem<E>> view) {
         for(DataItem<E> item : view) {
             result.add(item);
-            this.flattenView(result, item.getItems());
+            flattenView(result, item.getItems());
+        }
+    }
+
+    /**
+     * Determines whether the view is rebuilt on a background thread when the descriptors or the source change.
+     */
+    public boolean isAsyncDataOperations() {
+        return this.asyncDataOperations;
+    }
+
+    /**
+     * Sets whether the view is rebuilt on a background thread when the descriptors or the source change. The
+     * descriptors are then called on that thread and should only read the items, and the previous view is kept until
+     * the new one is built. The first view is always built on the calling thread.
+     *
+     * @param value {@code true} to rebuild the view on a background thread.
+     */
+    public void setAsyncDataOperations(boolean value) {
+        if (this.asyncDataOperations == value) {
+            return;
+        }
+
+        this.asyncDataOperations = value;
+        if (!value && this.pendingUpdateTask != null) {
+            this.invalidateDescriptors();
         }
     }
 
@@ -235,10 +281,15 @@ public class RadDataSource<E> implements CollectionChangeListener<E>, Iterable<D
 
     void refresh(Iterable<E> newSource) {
         this.sourceCollection.clear();
+        this.entityIndex.clear();
 
         this.rawSource = newSource;
 
-        this.view = null;
+        // the previous view is kept until the view of the new source is built, so that the listeners can compare them
+        if (this.suspend || newSource == null) {
+            this.cancelPendingUpdate();
+            this.setView(null, null);
+        }
 
         if (this.rawSource == null) {
             return;
@@ -247,6 +298,7 @@ public class RadDataSource<E> implements CollectionChangeListener<E>, Iterable<D
         for (E rawEntity : this.rawSource) {
             DataItem<E> dataItem = new DataItem<>(rawEntity);
             this.sourceCollection.add(dataItem);
+            this.entityIndex.put(rawEntity, dataItem);
         }
 
         this.invalidateDescriptors();
@@ -274,7 +326,12 @@ public class RadDataSource<E> implements CollectionChangeListener<E>, Iterable<D
         this.filterDescriptors.addCollectionChangeListener(new CollectionChangeListener<Function<E, Boolean>>() {
             @Override
             public void collectionChanged(CollectionChangedEvent<Function<E, Boolean>> info) {
-                RadDataSource.this.invalidateDescriptors();
+                // an added filter can only hide items, so it is applied to the current view
+                if (info.action() == CollectionChangeAction.ADD && RadDataSource.this.canUpdateView()) {
+                    RadDataSource.this.applyAddedFilters(info.getNewItems());
+                } else {
+                    RadDataSource.this.invalidateDescriptors();
+                }
             }
         });
 
@@ -293,150 +350,537 @@ public class RadDataSource<E> implements CollectionChangeListener<E>, Iterable<D
         });
     }
 
+    /**
+     * Rebuilds the view with the current descriptors. In async mode the view, once built, is rebuilt on a background
+     * thread from a snapshot of the source while the previous view is kept, and a rebuild that is still running is
+     * cancelled by the next one.
+     */
     public void invalidateDescriptors() {
         if (this.suspend) {
             return;
         }
 
-        List<DataItem<E>> view = this.filterItems(this.sourceCollection);
-        view = this.sortItems(view);
-        view = this.groupItems(view, 0);
+        this.cancelPendingUpdate();
+
+        DataViewBuilder<E> builder = new DataViewBuilder<>(this.filterDescriptors, this.groupDescriptors, this.sortDescriptors);
+        if (this.asyncDataOperations && this.view != null) {
+            this.pendingUpdateTask = new ViewUpdateTask(builder, new ArrayList<>(this.sourceCollection));
+            this.pendingUpdateTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+            return;
+        }
 
-        this.view = view;
+        List<DataItem<E>> previousView = this.view;
+        this.setView(builder.build(this.sourceCollection), builder);
 
-        this.onDataChanged();
+        this.onDataChanged(DataChangeInfo.fromPreviousView(previousView));
     }
 
-    List<DataItem<E>> filterItems(Iterable<DataItem<E>> view) {
-        LinkedList<DataItem<E>> result = new LinkedList<>();
+    /**
+     * Determines whether the view is being rebuilt on a background thread.
+     */
+    public boolean isViewUpdatePending() {
+        return this.pendingUpdateTask != null;
+    }
 
-        for(DataItem<E> item : view) {
-            boolean passesFilters = true;
+    void cancelPendingUpdate() {
+        if (this.pendingUpdateTask != null) {
+            this.pendingUpdateTask.builder.cancel();
+            this.pendingUpdateTask.cancel(false);
+            this.pendingUpdateTask = null;
+        }
+    }
 
-            for (Function<E, Boolean> filter : this.filterDescriptors) {
-                passesFilters = passesFilters && filter.apply(item.entity());
-            }
+    void completeUpdate(ViewUpdateTask task, DataItem<E> root) {
+        if (this.pendingUpdateTask != task) {
+            return;
+        }
+
+        this.pendingUpdateTask = null;
+        if (root == null) {
+            return;
+        }
+
+        List<DataItem<E>> previousView = this.view;
+        this.setView(root, task.builder);
 
-            if(passesFilters) {
-                result.add(item);
+        this.onDataChanged(DataChangeInfo.fromPreviousView(previousView));
+    }
+
+    /**
+     * Gets a copy of the rows of the flat view or <code>null</code> if there is no view.
+     */
+    List<DataItem<E>> getRows() {
+        if (this.view == null) {
+            return null;
+        }
+
+        ArrayList<DataItem<E>> rows = new ArrayList<>(this.flatView.size());
+        flattenView(rows, this.view);
+        return rows;
+    }
+
+    /**
+     * Sets the view built by the given builder, which is <code>null</code> when there is no view.
+     *
+     * @param root    the group that holds the items of the view or <code>null</code>.
+     * @param builder the builder of the view.
+     */
+    void setView(DataItem<E> root, DataViewBuilder<E> builder) {
+        this.root = root;
+        if (root == null) {
+            this.view = null;
+            this.viewGroupDescriptors = Collections.emptyList();
+            this.itemGroups = new IdentityHashMap<>();
+        } else {
+            this.view = root.getItems();
+            this.viewGroupDescriptors = builder.getGroupDescriptors();
+            this.itemGroups = builder.getItemGroups();
+        }
+
+        this.viewDepth = this.viewGroupDescriptors.size();
+    }
+
+    static <E> boolean passesFilters(E entity, Iterable<? extends Function<E, Boolean>> filters) {
+        for (Function<E, Boolean> filter : filters) {
+            if (!filter.apply(entity)) {
+                return false;
             }
         }
 
-        return result;
+        return true;
+    }
+
+    /**
+     * Determines whether the view can be updated with the changes of the source instead of being rebuilt.
+     */
+    boolean canUpdateView() {
+        return !this.suspend && this.view != null && this.pendingUpdateTask == null;
     }
 
-    List<DataItem<E>> groupItems(List<DataItem<E>> view, int descriptorIndex) {
-        if(this.groupDescriptors.size() == 0) {
-            return view;
+    /**
+     * Removes the items that do not pass the given filters, which were added to the filter descriptors, from the
+     * current view with a single pass and notifies the listeners about the removed rows.
+     */
+    void applyAddedFilters(List<? extends Function<E, Boolean>> filters) {
+        ChangeRanges removed = new ChangeRanges();
+        // the groups can only be reordered when the items are sorted
+        List<DataItem<E>> previousRows = this.sortDescriptors.isEmpty() || this.viewDepth == 0 ? null : this.getRows();
+        this.root.validOffsetsCount = 0;
+        this.filterView(this.root, 0, 0, filters, removed);
+
+        if (this.reorderGroups(this.view, 0)) {
+            this.onDataChanged(new DataChangeInfo<E>(previousRows));
+        } else if (!removed.isEmpty()) {
+            this.onDataChanged(new DataChangeInfo<E>(CollectionChangeAction.REMOVE, removed.toArray(), Collections.<DataItem<E>>emptyList()));
         }
+    }
 
-        if(descriptorIndex >= this.groupDescriptors.size()) {
-            return view;
+    /**
+     * Sorts the groups of a list of the view and of its groups by their first items, which change when the first
+     * items of groups are filtered out.
+     *
+     * @return <code>true</code> if the order of any groups changed, <code>false</code> otherwise.
+     */
+    boolean reorderGroups(List<DataItem<E>> groups, final int depth) {
+        if (this.sortDescriptors.isEmpty() || depth == this.viewDepth) {
+            return false;
         }
 
-        Function<E, Object> groupDescriptor = this.groupDescriptors.get(descriptorIndex);
-        view = this.groupBy(view, groupDescriptor);
+        boolean reordered = false;
+        for (int i = 0, count = groups.size(); i < count; i++) {
+            reordered |= this.reorderGroups(groups.get(i).getItems(), depth + 1);
+        }
 
+        Comparator<DataItem<E>> groupComparator = new Comparator<DataItem<E>>() {
+            @Override
+            public int compare(DataItem<E> group1, DataItem<E> group2) {
+                return itemComparator.compare(getFirstItem(group1, depth), getFirstItem(group2, depth));
+            }
+        };
 
-        for(DataItem<E> group : view) {
-            group.setItems(this.groupItems(group.getItems(), descriptorIndex + 1));
+        for (int i = 1, count = groups.size(); i < count; i++) {
+            if (groupComparator.compare(groups.get(i - 1), groups.get(i)) > 0) {
+                Collections.sort(groups, groupComparator);
+                return true;
+            }
         }
 
-        return view;
+        return reordered;
     }
 
-    List<DataItem<E>> groupBy(List<DataItem<E>> view, Function<E, Object> groupDescriptor) {
-        LinkedHashMap<Object, DataItem<E>> groupsMap = new LinkedHashMap<>();
-        for (DataItem<E> sourceItem : view) {
-            Object groupKey = groupDescriptor.apply(sourceItem.entity());
-            if (!groupsMap.containsKey(groupKey)) {
-                DataItem<E> newGroup = new DataItem<>(null, groupKey);
-                newGroup.getItems().add(sourceItem);
-                groupsMap.put(groupKey, newGroup);
+    /**
+     * Removes the items that do not pass the given filters from a group of the view and the groups that become
+     * empty, recording the flat positions of the removed rows.
+     *
+     * @param group    the group or the root.
+     * @param depth    the grouping level of the items of the group.
+     * @param position the flat position of the first item.
+     * @param filters  the filters to apply.
+     * @param removed  the ranges the removed rows are added to.
+     * @return the flat position after the last item, before the removal.
+     */
+    int filterView(DataItem<E> group, int depth, int position, List<? extends Function<E, Boolean>> filters, ChangeRanges removed) {
+        List<DataItem<E>> items = group.getItems();
+        boolean isLeafLevel = depth == this.viewDepth;
+        int keptCount = 0;
+        for (int i = 0, count = items.size(); i < count; i++) {
+            DataItem<E> item = items.get(i);
+            boolean keep;
+            if (isLeafLevel) {
+                keep = passesFilters(item.entity(), filters);
+                if (!keep) {
+                    removed.add(position, 1);
+                    this.itemGroups.remove(item);
+                }
+
+                position++;
             } else {
-                DataItem<E> existingGroup = groupsMap.get(groupKey);
-                existingGroup.getItems().add(sourceItem);
+                item.validOffsetsCount = 0;
+                int end = this.filterView(item, depth + 1, position + 1, filters, removed);
+                keep = !item.getItems().isEmpty();
+                if (!keep) {
+                    // the header goes away together with all of its rows
+                    removed.replaceFrom(position, end - position);
+                    group.removeGroup(item);
+                }
+
+                position = end;
+            }
+
+            if (keep) {
+                items.set(keptCount++, item);
             }
         }
 
-        return new ArrayList<>(groupsMap.values());
+        if (keptCount < items.size()) {
+            items.subList(keptCount, items.size()).clear();
+        }
+
+        return position;
     }
 
-    List<DataItem<E>> sortItems(List<DataItem<E>> view) {
-        if(this.sortDescriptors.isEmpty()) {
-            return view;
+    void removeItem(CollectionChangedEvent<E> info) {
+        List<? extends E> oldItems = info.getOldItems();
+        boolean updateView = this.canUpdateView() && this.isSmallChange(oldItems.size());
+
+        List<DataItem<E>> removedItems = this.removeFromSource(oldItems, info.getOldIndex());
+        if (updateView) {
+            for (DataItem<E> dataItem : removedItems) {
+                this.removeFromView(dataItem);
+            }
+        } else {
+            this.invalidateDescriptors();
         }
+    }
 
-        List<DataItem<E>> list = new ArrayList<>(view.size());
-        for(DataItem<E> item : view) {
-            list.add(item);
+    /**
+     * Determines whether placing the given number of changed items one by one in the view is cheaper
+     * than rebuilding it.
+     */
+    boolean isSmallChange(int changedCount) {
+        return changedCount == 1 || changedCount * INCREMENTAL_CHANGE_RATIO <= this.sourceCollection.size();
+    }
+
+    /**
+     * Removes the items of the given entities from the source.
+     *
+     * @param entities the removed entities.
+     * @param index    the index of the first removed entity in the source or -1 if it is not known.
+     * @return the removed items.
+     */
+    List<DataItem<E>> removeFromSource(List<? extends E> entities, int index) {
+        int count = entities.size();
+
+        // the items removed at an index or by a range removal are all at that index
+        if (index >= 0 && index + count <= this.sourceCollection.size() && this.isAtIndex(entities, index)) {
+            List<DataItem<E>> range = this.sourceCollection.subList(index, index + count);
+            ArrayList<DataItem<E>> removedItems = new ArrayList<>(range);
+            range.clear();
+            for (DataItem<E> dataItem : removedItems) {
+                this.removeFromEntityIndex(dataItem);
+            }
+
+            return removedItems;
         }
 
-        Collections.sort(list, this.itemComparator);
+        HashSet<DataItem<E>> removedSet = new HashSet<>();
+        ArrayList<DataItem<E>> removedItems = new ArrayList<>(count);
+        for (E entity : entities) {
+            DataItem<E> dataItem = this.entityIndex.get(entity);
+            if (dataItem == null || removedSet.contains(dataItem)) {
+                dataItem = this.findDataItem(entity, removedSet);
+            }
+
+            if (dataItem != null) {
+                removedSet.add(dataItem);
+                removedItems.add(dataItem);
+                this.removeFromEntityIndex(dataItem);
+            }
+        }
+
+        if (removedItems.size() == 1) {
+            this.sourceCollection.remove(removedItems.get(0));
+        } else if (!removedItems.isEmpty()) {
+            int keptCount = 0;
+            for (int i = 0, size = this.sourceCollection.size(); i < size; i++) {
+                DataItem<E> dataItem = this.sourceCollection.get(i);
+                if (!removedSet.contains(dataItem)) {
+                    this.sourceCollection.set(keptCount++, dataItem);
+                }
+            }
+
+            this.sourceCollection.subList(keptCount, this.sourceCollection.size()).clear();
+        }
 
-        return list;
+        return removedItems;
     }
 
-    void removeItem(CollectionChangedEvent<E> info) {
-        for(E item : info.getOldItems()) {
-            DataItem<E> dataItem = this.findDataItem(this.sourceCollection, item);
-            this.sourceCollection.remove(dataItem);
+    boolean isAtIndex(List<? extends E> entities, int index) {
+        for (int i = 0, count = entities.size(); i < count; i++) {
+            if (!Objects.equals(this.sourceCollection.get(index + i).entity(), entities.get(i))) {
+                return false;
+            }
+        }
 
-            if (this.groupDescriptors.isEmpty()) {
-                dataItem = this.findDataItem(this.view, item);
-                this.view.remove(dataItem);
-            } else {
-                this.removeFromGroup(dataItem, this.view);
+        return true;
+    }
+
+    /**
+     * Finds an item of the source, other than the excluded ones, whose entity equals the given one.
+     */
+    DataItem<E> findDataItem(E entity, HashSet<DataItem<E>> excludedItems) {
+        for (DataItem<E> dataItem : this.sourceCollection) {
+            if (Objects.equals(dataItem.entity(), entity) && !excludedItems.contains(dataItem)) {
+                return dataItem;
             }
         }
 
-        this.removeEmptyGroups(this.view);
+        return null;
     }
 
-    void removeEmptyGroups(List<DataItem<E>> items) {
-        LinkedList<DataItem<E>> groupsToRemove = new LinkedList<>();
-        for(DataItem<E> item : items) {
-            if(item.groupKey() != null) {
-                if(item.getItems().isEmpty()) {
-                    groupsToRemove.add(item);
-                } else {
-                    this.removeEmptyGroups(item.getItems());
-                    if(item.getItems().isEmpty()) {
-                        groupsToRemove.add(item);
-                    }
-                }
+    void removeFromEntityIndex(DataItem<E> dataItem) {
+        // the index keeps one of the items of an entity that is in the source more than once
+        if (this.entityIndex.get(dataItem.entity()) == dataItem) {
+            this.entityIndex.remove(dataItem.entity());
+        }
+    }
+
+    /**
+     * Removes an item from the view together with the groups that become empty and notifies the listeners.
+     */
+    void removeFromView(DataItem<E> dataItem) {
+        int groupsCount = this.viewDepth;
+        int[] path = new int[groupsCount + 1];
+        if (!this.findPath(dataItem, path)) {
+            return;
+        }
+
+        ArrayList<DataItem<E>> parents = new ArrayList<>(groupsCount + 1);
+        DataItem<E> parent = this.root;
+        int removedDepth = -1;
+        for (int depth = 0; depth < groupsCount; depth++) {
+            parents.add(parent);
+            DataItem<E> group = parent.getItems().get(path[depth]);
+            if (group.getItems().size() > 1) {
+                removedDepth = -1;
+            } else if (removedDepth == -1) {
+                removedDepth = depth;
             }
+
+            parent = group;
         }
 
-        for(DataItem<E> group : groupsToRemove) {
-            items.remove(group);
+        parents.add(parent);
+
+        // an item that is the only one in its groups goes away together with them
+        int depth = removedDepth == -1 ? groupsCount : removedDepth;
+        int position = this.getFlatPosition(parents, path, depth);
+        this.invalidateOffsets(parents, path, depth);
+        DataItem<E> removed = parents.get(depth).getItems().remove(path[depth]);
+        if (removedDepth != -1) {
+            parents.get(depth).removeGroup(removed);
+        }
+
+        this.itemGroups.remove(dataItem);
+
+        this.onItemsRemoved(position, groupsCount - depth + 1);
+        this.sortGroups(parents, path, depth);
+    }
+
+    /**
+     * Finds the indexes of the groups that contain an item and the index of the item in its group.
+     *
+     * @return <code>true</code> if the item is in the view, <code>false</code> otherwise.
+     */
+    boolean findPath(DataItem<E> dataItem, int[] path) {
+        int groupsCount = this.viewDepth;
+        DataItem<E> group = groupsCount == 0 ? this.root : this.itemGroups.get(dataItem);
+        if (group == null || !this.findGroupPath(group, groupsCount, path)) {
+            return false;
         }
+
+        path[groupsCount] = this.indexOfItem(group.getItems(), dataItem, groupsCount);
+        return path[groupsCount] != -1;
     }
 
-    void removeFromGroup(DataItem<E> dataItem, List<DataItem<E>> groups) {
-        for(DataItem<E> group : groups) {
-            if(group.getItems().remove(dataItem)) {
-                return;
+    /**
+     * Finds the indexes of a group of the view and of the groups that contain it by following their parents.
+     *
+     * @param group the group or the root.
+     * @param depth the grouping level of the items of the group, which is the number of groups that contain it
+     *              together with the group itself.
+     * @param path  the indexes of the groups in their parents.
+     * @return <code>true</code> if the group is in the view, <code>false</code> otherwise.
+     */
+    boolean findGroupPath(DataItem<E> group, int depth, int[] path) {
+        for (int i = depth - 1; i >= 0; i--) {
+            DataItem<E> parent = group.parent;
+            if (parent == null) {
+                return false;
+            }
+
+            path[i] = this.indexOfItem(parent.getItems(), group, i);
+            if (path[i] == -1) {
+                return false;
             }
 
-            this.removeFromGroup(dataItem, group.getItems());
+            group = parent;
         }
+
+        return group == this.root;
     }
 
-    DataItem<E> findDataItem(Iterable<DataItem<E>> items, E item) {
-        for(DataItem<E> dataItem : items) {
-            if(dataItem.entity().equals(item)) {
-                return dataItem;
+    /**
+     * Gets the index of an item or a group in a list of the view, searching by the first item when the items
+     * are sorted.
+     *
+     * @param items    the items of the view or of a group.
+     * @param dataItem the item or group to search for.
+     * @param depth    the grouping level of the items.
+     */
+    int indexOfItem(List<DataItem<E>> items, DataItem<E> dataItem, int depth) {
+        if (this.sortDescriptors.isEmpty()) {
+            return items.indexOf(dataItem);
+        }
+
+        DataItem<E> firstItem = this.getFirstItem(dataItem, depth);
+        int low = 0;
+        int high = items.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (this.itemComparator.compare(this.getFirstItem(items.get(middle), depth), firstItem) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
             }
         }
 
-        return null;
+        for (int i = low, count = items.size(); i < count && this.itemComparator.compare(this.getFirstItem(items.get(i), depth), firstItem) == 0; i++) {
+            if (items.get(i) == dataItem) {
+                return i;
+            }
+        }
+
+        return items.indexOf(dataItem);
+    }
+
+    /**
+     * Gets the number of rows of the items of a group in the flat view, without the group itself.
+     *
+     * @param group the group or the root.
+     * @param depth the grouping level of the items of the group.
+     */
+    int getRowCount(DataItem<E> group, int depth) {
+        return this.getOffset(group, group.getItems().size(), depth);
+    }
+
+    /**
+     * Gets the flat position of an item of a group relative to the first item of the group. The positions are
+     * kept in the group and only the ones after a changed item are computed again.
+     *
+     * @param group the group or the root.
+     * @param index the index of the item or the number of items for the position after the last one.
+     * @param depth the grouping level of the items of the group.
+     */
+    int getOffset(DataItem<E> group, int index, int depth) {
+        if (depth == this.viewDepth) {
+            return index;
+        }
+
+        int[] offsets = group.offsets;
+        if (group.validOffsetsCount > index) {
+            return offsets[index];
+        }
+
+        List<DataItem<E>> items = group.getItems();
+        if (offsets == null || offsets.length <= items.size()) {
+            offsets = new int[items.size() + 1 + (items.size() >> 1)];
+            if (group.offsets != null) {
+                System.arraycopy(group.offsets, 0, offsets, 0, group.validOffsetsCount);
+            }
+
+            group.offsets = offsets;
+        }
+
+        int i = group.validOffsetsCount;
+        if (i == 0) {
+            offsets[0] = 0;
+            i = 1;
+        }
+
+        for (; i <= index; i++) {
+            offsets[i] = offsets[i - 1] + 1 + this.getRowCount(items.get(i - 1), depth + 1);
+        }
+
+        group.validOffsetsCount = index + 1;
+        return offsets[index];
+    }
+
+    /**
+     * Invalidates the flat positions that follow the items at the given indexes in their groups, after one of them
+     * or its rows changed.
+     */
+    void invalidateOffsets(List<DataItem<E>> parents, int[] indexes, int depth) {
+        for (int i = 0; i <= depth && i < this.viewDepth; i++) {
+            parents.get(i).invalidateOffsets(indexes[i]);
+        }
+    }
+
+    /**
+     * Gets the row at a position of the flat view, searching the flat positions of the groups at each level.
+     */
+    DataItem<E> getRow(int position) {
+        DataItem<E> group = this.root;
+        for (int depth = 0, groupsCount = this.viewDepth; depth < groupsCount; depth++) {
+            int count = group.getItems().size();
+            this.getOffset(group, count, depth);
+            int index = Arrays.binarySearch(group.offsets, 0, count, position);
+            if (index < 0) {
+                index = -index - 2;
+            }
+
+            DataItem<E> item = group.getItems().get(index);
+            position -= group.offsets[index];
+            if (position == 0) {
+                return item;
+            }
+
+            position--;
+            group = item;
+        }
+
+        return group.getItems().get(position);
     }
 
     void moveItem(CollectionChangedEvent<E> info) {
         DataItem<E> itemToMove = this.sourceCollection.get(info.getOldIndex());
         this.sourceCollection.remove(info.getOldIndex());
         this.sourceCollection.add(info.getNewIndex() - 1, itemToMove);
+
+        // without sorting the view follows the order of the source
+        if (this.sortDescriptors.isEmpty()) {
+            this.invalidateDescriptors();
+        }
     }
 
     void replaceItem(CollectionChangedEvent<E> info) {
@@ -445,50 +889,62 @@ public class RadDataSource<E> implements CollectionChangeListener<E>, Iterable<D
     }
 
     void insertNewItem(CollectionChangedEvent<E> info) {
-        for(E item : info.getNewItems()) {
-            for(Function<E, Boolean> filter : this.filterDescriptors) {
-                if(!filter.apply(item)){
-                    return;
-                }
-            }
+        List<? extends E> newItems = info.getNewItems();
+        boolean updateView = this.canUpdateView() && this.isSmallChange(newItems.size());
+
+        int newIndex = info.getNewIndex();
+        if (newIndex < 0 || newIndex > this.sourceCollection.size()) {
+            newIndex = this.sourceCollection.size();
+        }
 
+        for(E item : newItems) {
             DataItem<E> dataItem = new DataItem<>(item);
+            this.sourceCollection.add(newIndex, dataItem);
+            this.entityIndex.put(item, dataItem);
 
-            int newIndex = info.getNewIndex();
-            if(this.groupDescriptors.size() > 0) {
-                this.groupItem(dataItem);
-            } else {
-                this.insertInCollection(dataItem, newIndex, this.view);
+            if (updateView && passesFilters(item, this.filterDescriptors)) {
+                if (this.viewDepth == 0) {
+                    this.insertInView(dataItem, newIndex);
+                } else {
+                    this.groupItem(dataItem);
+                }
             }
 
-            this.sourceCollection.add(newIndex, dataItem);
+            newIndex++;
         }
-    }
 
-    void insertInCollection(DataItem<E> dataItem, int index, List<DataItem<E>> collection) {
-        int sortIndex = this.findSortIndex(dataItem, collection);
-        if(sortIndex != -1) {
-            index = sortIndex;
+        if (!updateView) {
+            this.invalidateDescriptors();
         }
-
-        collection.add(index, dataItem);
     }
 
-    int findSortIndex(DataItem<E> dataItem, List<DataItem<E>> collection) {
-        if(this.sortDescriptors.size() == 0) {
-            return -1;
+    void insertInView(DataItem<E> dataItem, int sourceIndex) {
+        int index;
+        if (!this.sortDescriptors.isEmpty()) {
+            index = this.findSortIndex(dataItem, this.view);
+        } else if (this.filterDescriptors.isEmpty()) {
+            index = sourceIndex;
+        } else {
+            // the view keeps the order of the source, so count the preceding items that are in the view
+            index = 0;
+            for (int i = 0; i < sourceIndex && index < this.view.size(); i++) {
+                if (this.sourceCollection.get(i) == this.view.get(index)) {
+                    index++;
+                }
+            }
         }
 
-        int sortIndex = binarySearch(collection, 0, collection.size() - 1, dataItem, this.itemComparator);
-        if(sortIndex == -1) {
-            return 0;
-        }
+        this.view.add(index, dataItem);
+        this.onItemsAdded(index, Collections.singletonList(dataItem));
+    }
 
-        return sortIndex;
+    int findSortIndex(DataItem<E> dataItem, List<DataItem<E>> collection) {
+        return binarySearch(collection, 0, collection.size() - 1, dataItem, this.itemComparator);
     }
 
     /**
      * Searches for the index at which the given DataItem should be inserted in the items collection.
+     * The index is after the items that are equal to the given one.
      * @param items The items collection in which the given item should be inserted.
      * @param startIndex The start index of the collection.
      * @param endIndex The end index of the collection.
@@ -498,70 +954,264 @@ public class RadDataSource<E> implements CollectionChangeListener<E>, Iterable<D
      * @return Returns the insert index of the given item.
      */
     static <E> int binarySearch(List<DataItem<E>> items, int startIndex, int endIndex, DataItem<E> item, Comparator<DataItem<E>> comparator) {
-        if(items.size() == 0) {
-            return 0;
+        int low = startIndex;
+        int high = endIndex + 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(item, items.get(middle)) < 0) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
         }
 
-        if(startIndex >= endIndex) {
-            if(startIndex == items.size()) {
-                return startIndex;
-            }
+        return low;
+    }
 
-            DataItem<E> existingItem = items.get(startIndex);
-            int comparison = comparator.compare(item, existingItem);
-            if(comparison <= 0) {
-                return startIndex;
+    /**
+     * Inserts an item in its group, creating the groups that do not exist yet, and notifies the listeners.
+     */
+    void groupItem(DataItem<E> dataItem) {
+        int groupsCount = this.viewDepth;
+        ArrayList<DataItem<E>> parents = new ArrayList<>(groupsCount + 1);
+        int[] indexes = new int[groupsCount + 1];
+        DataItem<E> parent = this.root;
+        DataItem<E> newGroup = null;
+        int newGroupDepth = groupsCount;
+        for (int depth = 0; depth < groupsCount; depth++) {
+            Object key = this.viewGroupDescriptors.get(depth).apply(dataItem.entity());
+            DataItem<E> group = newGroup == null ? parent.findGroup(key) : null;
+            int groupIndex;
+            if (group == null) {
+                group = new DataItem<>(null, key);
+                parent.addGroup(group);
+                groupIndex = this.findGroupInsertIndex(parent.getItems(), dataItem, depth);
+                if (newGroup == null) {
+                    newGroup = group;
+                    newGroupDepth = depth;
+                } else {
+                    parent.getItems().add(group);
+                }
             } else {
-                return startIndex + 1;
+                groupIndex = this.indexOfItem(parent.getItems(), group, depth);
             }
-        }
 
-        int middleIndex = startIndex + (endIndex - startIndex) / 2;
-        DataItem<E> middleItem = items.get(middleIndex);
+            parents.add(parent);
+            indexes[depth] = groupIndex;
+            parent = group;
+        }
 
-        int comparison = comparator.compare(item, middleItem);
-        if(comparison == -1) {
-            return binarySearch(items, startIndex, middleIndex - 1, item, comparator);
-        } else if (comparison == 1) {
-            return binarySearch(items, middleIndex + 1, endIndex, item, comparator);
+        parents.add(parent);
+        this.itemGroups.put(dataItem, parent);
+
+        List<DataItem<E>> rows;
+        if (newGroup != null) {
+            parent.getItems().add(dataItem);
+            rows = new ArrayList<>(groupsCount - newGroupDepth + 1);
+            rows.add(newGroup);
+            flattenView(rows, newGroup.getItems());
+        } else {
+            indexes[groupsCount] = this.sortDescriptors.isEmpty() ? parent.getItems().size() : this.findSortIndex(dataItem, parent.getItems());
+            rows = Collections.singletonList(dataItem);
         }
 
-        return middleIndex;
+        this.invalidateOffsets(parents, indexes, newGroupDepth);
+        parents.get(newGroupDepth).getItems().add(indexes[newGroupDepth], rows.get(0));
+        this.onItemsAdded(this.getFlatPosition(parents, indexes, newGroupDepth), rows);
+
+        this.sortGroups(parents, indexes, newGroupDepth);
     }
 
-    DataItem<E> findGroup(Iterable<DataItem<E>> groups, Object... keys) {
-        DataItem<E> result = null;
-        for(Object key : keys) {
-            for(DataItem<E> group : groups) {
-                if(group.groupKey() != null && group.groupKey().equals(key)) {
-                    groups = group.getItems();
-                    result = group;
-                }
+    /**
+     * Moves the groups that contain a changed item, starting from the innermost one, to keep the groups ordered
+     * by their first items after the first item of a group was added or removed, and notifies the listeners.
+     *
+     * @param parents     the root and the groups that contain the changed item.
+     * @param indexes     the indexes of the groups in their parents.
+     * @param depthsCount the number of levels to check.
+     */
+    void sortGroups(List<DataItem<E>> parents, int[] indexes, int depthsCount) {
+        if (this.sortDescriptors.isEmpty()) {
+            return;
+        }
+
+        for (int depth = depthsCount - 1; depth >= 0; depth--) {
+            DataItem<E> parent = parents.get(depth);
+            List<DataItem<E>> groups = parent.getItems();
+            int index = indexes[depth];
+            DataItem<E> group = groups.get(index);
+            DataItem<E> firstItem = this.getFirstItem(group, depth);
+            if ((index == 0 || this.itemComparator.compare(this.getFirstItem(groups.get(index - 1), depth), firstItem) <= 0) &&
+                    (index == groups.size() - 1 || this.itemComparator.compare(firstItem, this.getFirstItem(groups.get(index + 1), depth)) <= 0)) {
+                continue;
             }
+
+            int position = this.getFlatPosition(parents, indexes, depth);
+            parent.invalidateOffsets(index);
+            groups.remove(index);
+            ArrayList<DataItem<E>> rows = new ArrayList<>();
+            rows.add(group);
+            flattenView(rows, group.getItems());
+            this.onItemsRemoved(position, rows.size());
+
+            indexes[depth] = this.findGroupInsertIndex(groups, firstItem, depth);
+            parent.invalidateOffsets(indexes[depth]);
+            groups.add(indexes[depth], group);
+            this.onItemsAdded(this.getFlatPosition(parents, indexes, depth), rows);
+        }
+    }
+
+    /**
+     * Gets the flat position of an item or a group given the indexes of the groups that contain it.
+     *
+     * @param parents the root and the groups that contain the item.
+     * @param indexes the indexes of the groups and the item in their parents.
+     * @param depth   the grouping level of the item.
+     */
+    int getFlatPosition(List<DataItem<E>> parents, int[] indexes, int depth) {
+        int position = depth;
+        for (int i = 0; i <= depth; i++) {
+            position += this.getOffset(parents.get(i), indexes[i], i);
         }
 
-        return result;
+        return position;
     }
 
-    void groupItem(DataItem<E> dataItem) {
-        List<DataItem<E>> groups = this.view;
-        DataItem<E> group = null;
-        for(Function<E, Object> groupDescriptor : this.groupDescriptors) {
-            Object key = groupDescriptor.apply(dataItem.entity());
-            group = this.findGroup(groups, key);
-            if(group == null) {
-                group = new DataItem<>(null, key);
-                this.insertInCollection(group, groups.size(), groups);
+    DataItem<E> getFirstItem(DataItem<E> group, int depth) {
+        for (int i = depth, groupsCount = this.viewDepth; i < groupsCount; i++) {
+            group = group.getItems().get(0);
+        }
+
+        return group;
+    }
+
+    /**
+     * Gets the index of a new group for the given item. When the items are sorted the groups are ordered by
+     * their first items, as they are after grouping the sorted items, otherwise new groups are added last.
+     */
+    int findGroupInsertIndex(List<DataItem<E>> groups, DataItem<E> dataItem, int depth) {
+        if (this.sortDescriptors.isEmpty()) {
+            return groups.size();
+        }
+
+        int low = 0;
+        int high = groups.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (this.itemComparator.compare(dataItem, this.getFirstItem(groups.get(middle), depth)) < 0) {
+                high = middle;
+            } else {
+                low = middle + 1;
             }
-            groups = group.getItems();
         }
 
-        this.insertInCollection(dataItem, group.getItems().size(), group.getItems());
+        return low;
+    }
+
+    void onItemsAdded(int position, List<DataItem<E>> rows) {
+        this.onDataChanged(new DataChangeInfo<E>(CollectionChangeAction.ADD, new int[]{position, rows.size()}, rows));
+    }
+
+    void onItemsRemoved(int position, int count) {
+        this.onDataChanged(new DataChangeInfo<E>(CollectionChangeAction.REMOVE, new int[]{position, count}, Collections.<DataItem<E>>emptyList()));
     }
 
     protected void onDataChanged() {
+        this.onDataChanged(new DataChangeInfo<E>());
+    }
+
+    /**
+     * Notifies the listeners about a change of the view.
+     *
+     * @param info the description of the change.
+     */
+    protected void onDataChanged(DataChangeInfo<E> info) {
         for(DataChangedListener<E> listener : this.changedListeners) {
-            listener.dataChanged(new DataChangeInfo<E>());
+            listener.dataChanged(info);
+        }
+    }
+
+    class ViewUpdateTask extends AsyncTask<Void, Void, DataItem<E>> {
+        final DataViewBuilder<E> builder;
+        final List<DataItem<E>> items;
+
+        ViewUpdateTask(DataViewBuilder<E> builder, List<DataItem<E>> items) {
+            this.builder = builder;
+            this.items = items;
+        }
+
+        @Override
+        protected DataItem<E> doInBackground(Void... params) {
+            return this.builder.build(this.items);
+        }
+
+        @Override
+        protected void onPostExecute(DataItem<E> root) {
+            completeUpdate(this, root);
+        }
+    }
+
+    /**
+     * The flat view of the current view, which finds the rows by the flat positions kept in the groups.
+     */
+    class FlatView extends AbstractList<DataItem<E>> implements RandomAccess {
+        @Override
+        public DataItem<E> get(int location) {
+            if (location < 0 || location >= this.size()) {
+                throw new IndexOutOfBoundsException("location: " + location + ", size: " + this.size());
+            }
+
+            return getRow(location);
+        }
+
+        @Override
+        public int size() {
+            return root == null ? 0 : getRowCount(root, 0);
+        }
+
+        @Override
+        public int indexOf(Object object) {
+            if (!(object instanceof DataItem) || root == null) {
+                return -1;
+            }
+
+            @SuppressWarnings("unchecked")
+            DataItem<E> dataItem = (DataItem<E>) object;
+            int depth;
+            int[] path;
+            if (dataItem.isGroup()) {
+                // the level of a group is the number of groups that contain it
+                depth = 0;
+                for (DataItem<E> parent = dataItem.parent; parent != null && parent != root; parent = parent.parent) {
+                    depth++;
+                }
+
+                path = new int[depth + 1];
+                if (depth >= viewDepth || !findGroupPath(dataItem, depth + 1, path)) {
+                    return -1;
+                }
+            } else {
+                depth = viewDepth;
+                path = new int[depth + 1];
+                if (!findPath(dataItem, path)) {
+                    return -1;
+                }
+            }
+
+            ArrayList<DataItem<E>> parents = new ArrayList<>(depth + 1);
+            DataItem<E> parent = root;
+            for (int i = 0; i < depth; i++) {
+                parents.add(parent);
+                parent = parent.getItems().get(path[i]);
+            }
+
+            parents.add(parent);
+            return getFlatPosition(parents, path, depth);
+        }
+
+        @Override
+        public boolean contains(Object object) {
+            return this.indexOf(object) != -1;
         }
     }
 }
@@ -0,0 +1,430 @@
+package com.telerik.widget.list;
+
+import com.telerik.android.data.DataItem;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Compares two flat views of a {@link ListViewDataSourceAdapter} by the ids of their rows with the linear space
+ * variant of the Myers difference algorithm and describes the difference as a sequence of removed, inserted, moved
+ * and changed rows, which can be dispatched to the adapter one by one. The ids are taken on the UI thread, so the
+ * comparison itself can run on a background thread.
+ */
+class FlatViewDiff {
+    static final int REMOVE = 0;
+    static final int INSERT = 1;
+    static final int MOVE = 2;
+    static final int CHANGE = 3;
+
+    // Comparisons that need more steps than this give up, since refreshing all rows is cheaper than such a change.
+    private static final int MAX_STEPS = 20000000;
+
+    private final List<DataItem> oldRows;
+    private final long[] oldIds;
+    private final boolean[] oldHeaders;
+    private final List<DataItem> newRows;
+    private final long[] newIds;
+    private final boolean[] newHeaders;
+
+    private int[] oldToNew;
+    private int[] newToOld;
+    private int[] forward;
+    private int[] backward;
+    private int steps;
+    private volatile boolean cancelled;
+
+    // each operation is its type, its position and the number of rows or the position a row is moved to
+    private int[] operations = new int[24];
+    private int operationsCount;
+
+    FlatViewDiff(List<DataItem> oldRows, long[] oldIds, boolean[] oldHeaders, List<DataItem> newRows, long[] newIds, boolean[] newHeaders) {
+        this.oldRows = oldRows;
+        this.oldIds = oldIds;
+        this.oldHeaders = oldHeaders;
+        this.newRows = newRows;
+        this.newIds = newIds;
+        this.newHeaders = newHeaders;
+    }
+
+    void cancel() {
+        this.cancelled = true;
+    }
+
+    int getOperationsCount() {
+        return this.operationsCount;
+    }
+
+    int getOperationType(int index) {
+        return this.operations[index * 3];
+    }
+
+    int getOperationPosition(int index) {
+        return this.operations[index * 3 + 1];
+    }
+
+    /**
+     * Gets the number of rows of a removal, an insertion or a change, or the position a row is moved to.
+     */
+    int getOperationValue(int index) {
+        return this.operations[index * 3 + 2];
+    }
+
+    /**
+     * Compares the rows and creates the operations.
+     *
+     * @return <code>true</code> if the operations were created, <code>false</code> if the comparison was cancelled
+     * or the views are too different.
+     */
+    boolean compute() {
+        int oldCount = this.oldIds.length;
+        int newCount = this.newIds.length;
+        this.oldToNew = new int[oldCount];
+        this.newToOld = new int[newCount];
+        Arrays.fill(this.oldToNew, -1);
+        Arrays.fill(this.newToOld, -1);
+
+        int size = 2 * ((oldCount + newCount + 1) / 2) + 3;
+        this.forward = new int[size];
+        this.backward = new int[size];
+
+        if (!this.match(0, oldCount, 0, newCount)) {
+            return false;
+        }
+
+        this.forward = null;
+        this.backward = null;
+        this.createOperations();
+        return true;
+    }
+
+    private boolean isSame(int oldIndex, int newIndex) {
+        return this.oldIds[oldIndex] == this.newIds[newIndex] && this.oldHeaders[oldIndex] == this.newHeaders[newIndex];
+    }
+
+    private boolean isChanged(int oldIndex, int newIndex) {
+        DataItem oldRow = this.oldRows.get(oldIndex);
+        DataItem newRow = this.newRows.get(newIndex);
+        return oldRow != newRow && (oldRow.entity() != newRow.entity() || !Objects.equals(oldRow.groupKey(), newRow.groupKey()));
+    }
+
+    private void setMatch(int oldIndex, int newIndex) {
+        this.oldToNew[oldIndex] = newIndex;
+        this.newToOld[newIndex] = oldIndex;
+    }
+
+    /**
+     * Matches the rows of a part of the old view with the rows of a part of the new view by splitting them at the
+     * middle snake of their shortest edit script.
+     */
+    private boolean match(int oldStart, int oldEnd, int newStart, int newEnd) {
+        while (oldStart < oldEnd && newStart < newEnd && this.isSame(oldStart, newStart)) {
+            this.setMatch(oldStart++, newStart++);
+        }
+
+        while (oldStart < oldEnd && newStart < newEnd && this.isSame(oldEnd - 1, newEnd - 1)) {
+            this.setMatch(--oldEnd, --newEnd);
+        }
+
+        if (oldStart == oldEnd || newStart == newEnd) {
+            return true;
+        }
+
+        // rows that are only filtered out or in are matched in a single pass
+        if (this.matchSubsequence(oldStart, oldEnd, newStart, newEnd)) {
+            return true;
+        }
+
+        int[] snake = this.findMiddleSnake(oldStart, oldEnd, newStart, newEnd);
+        if (snake == null) {
+            return false;
+        }
+
+        if (!this.match(oldStart, snake[0], newStart, snake[1])) {
+            return false;
+        }
+
+        for (int x = snake[0], y = snake[1]; x < snake[2]; x++, y++) {
+            this.setMatch(x, y);
+        }
+
+        return this.match(snake[2], oldEnd, snake[3], newEnd);
+    }
+
+    /**
+     * Matches the rows of the shorter part with rows of the longer one if they are all in it in the same order.
+     *
+     * @return <code>true</code> if the rows were matched, <code>false</code> otherwise.
+     */
+    private boolean matchSubsequence(int oldStart, int oldEnd, int newStart, int newEnd) {
+        boolean isNewShorter = newEnd - newStart <= oldEnd - oldStart;
+        int x = oldStart;
+        int y = newStart;
+        while (x < oldEnd && y < newEnd) {
+            if (this.isSame(x, y)) {
+                x++;
+                y++;
+            } else if (isNewShorter) {
+                x++;
+            } else {
+                y++;
+            }
+        }
+
+        this.steps += (x - oldStart) + (y - newStart);
+        if (isNewShorter ? y < newEnd : x < oldEnd) {
+            return false;
+        }
+
+        for (x = oldStart, y = newStart; x < oldEnd && y < newEnd; ) {
+            if (this.isSame(x, y)) {
+                this.setMatch(x++, y++);
+            } else if (isNewShorter) {
+                x++;
+            } else {
+                y++;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Finds the middle snake of two parts that differ at both ends.
+     *
+     * @return the start and the end of the snake in both views or <code>null</code> if the comparison was cancelled
+     * or took too many steps.
+     */
+    private int[] findMiddleSnake(int oldStart, int oldEnd, int newStart, int newEnd) {
+        int n = oldEnd - oldStart;
+        int m = newEnd - newStart;
+        int delta = n - m;
+        boolean isOdd = (delta & 1) != 0;
+        int maxD = (n + m + 1) / 2;
+        int offset = maxD + 1;
+        int[] forward = this.forward;
+        int[] backward = this.backward;
+        forward[offset + 1] = 0;
+        backward[offset + 1] = 0;
+
+        for (int d = 0; d <= maxD; d++) {
+            if (this.cancelled) {
+                return null;
+            }
+
+            this.steps += 2 * d + 2;
+            if (this.steps > MAX_STEPS) {
+                return null;
+            }
+
+            for (int k = -d; k <= d; k += 2) {
+                int x = k == -d || (k != d && forward[offset + k - 1] < forward[offset + k + 1]) ? forward[offset + k + 1] : forward[offset + k - 1] + 1;
+                int y = x - k;
+                int startX = x;
+                int startY = y;
+                while (x < n && y < m && this.isSame(oldStart + x, newStart + y)) {
+                    x++;
+                    y++;
+                }
+
+                this.steps += x - startX;
+                forward[offset + k] = x;
+
+                int backwardK = delta - k;
+                if (isOdd && backwardK >= -(d - 1) && backwardK <= d - 1 && x + backward[offset + backwardK] >= n) {
+                    return new int[]{oldStart + startX, newStart + startY, oldStart + x, newStart + y};
+                }
+            }
+
+            for (int k = -d; k <= d; k += 2) {
+                int x = k == -d || (k != d && backward[offset + k - 1] < backward[offset + k + 1]) ? backward[offset + k + 1] : backward[offset + k - 1] + 1;
+                int y = x - k;
+                int startX = x;
+                int startY = y;
+                while (x < n && y < m && this.isSame(oldEnd - x - 1, newEnd - y - 1)) {
+                    x++;
+                    y++;
+                }
+
+                this.steps += x - startX;
+                backward[offset + k] = x;
+
+                int forwardK = delta - k;
+                if (!isOdd && forwardK >= -d && forwardK <= d && x + forward[offset + forwardK] >= n) {
+                    return new int[]{oldEnd - x, newEnd - y, oldEnd - startX, newEnd - startY};
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Creates the operations that turn the old view into the new one from the start, pairing the removed and
+     * inserted rows with the same ids as moves. A row that moves back is moved when its new position is reached,
+     * while a row that moves forward is left in place until then.
+     */
+    private void createOperations() {
+        int oldCount = this.oldIds.length;
+        int newCount = this.newIds.length;
+        int[] oldMoves = new int[oldCount];
+        int[] newMoves = new int[newCount];
+        Arrays.fill(oldMoves, -1);
+        Arrays.fill(newMoves, -1);
+        this.pairMoves(oldMoves, newMoves);
+
+        // the old rows moved back before their old positions were reached, counted with a binary indexed tree
+        boolean[] pulled = new boolean[oldCount];
+        int[] pulledTree = new int[oldCount + 1];
+        // the old rows moving forward that were passed, with their current positions
+        ArrayList<int[]> passed = new ArrayList<>();
+
+        int oldIndex = 0;
+        int position = 0;
+        for (int newIndex = 0; newIndex < newCount; newIndex++) {
+            while (oldIndex < oldCount) {
+                if (pulled[oldIndex]) {
+                    oldIndex++;
+                } else if (this.oldToNew[oldIndex] == -1 && oldMoves[oldIndex] == -1) {
+                    this.addOperation(REMOVE, position, 1);
+                    oldIndex++;
+                } else if (oldMoves[oldIndex] > newIndex) {
+                    passed.add(new int[]{oldIndex, position++});
+                    oldIndex++;
+                } else {
+                    break;
+                }
+            }
+
+            int movedIndex = newMoves[newIndex];
+            if (this.newToOld[newIndex] != -1) {
+                if (this.isChanged(oldIndex, newIndex)) {
+                    this.addOperation(CHANGE, position, 1);
+                }
+
+                oldIndex++;
+                position++;
+            } else if (movedIndex == -1) {
+                this.addOperation(INSERT, position++, 1);
+            } else if (movedIndex < oldIndex) {
+                int passedIndex = 0;
+                while (passed.get(passedIndex)[0] != movedIndex) {
+                    passedIndex++;
+                }
+
+                int from = passed.remove(passedIndex)[1];
+                for (int[] passedRow : passed) {
+                    if (passedRow[1] > from) {
+                        passedRow[1]--;
+                    }
+                }
+
+                this.addOperation(MOVE, from, position - 1);
+                if (this.isChanged(movedIndex, newIndex)) {
+                    this.addOperation(CHANGE, position - 1, 1);
+                }
+            } else {
+                int from = position + movedIndex - oldIndex - (countPulled(pulledTree, movedIndex) - countPulled(pulledTree, oldIndex));
+                if (from != position) {
+                    this.addOperation(MOVE, from, position);
+                }
+
+                pulled[movedIndex] = true;
+                for (int i = movedIndex + 1; i <= oldCount; i += i & -i) {
+                    pulledTree[i]++;
+                }
+
+                if (this.isChanged(movedIndex, newIndex)) {
+                    this.addOperation(CHANGE, position, 1);
+                }
+
+                position++;
+            }
+        }
+
+        for (; oldIndex < oldCount; oldIndex++) {
+            if (!pulled[oldIndex]) {
+                this.addOperation(REMOVE, position, 1);
+            }
+        }
+    }
+
+    /**
+     * Pairs the rows that are only in the old view with the rows that are only in the new one by their ids.
+     */
+    private void pairMoves(int[] oldMoves, int[] newMoves) {
+        HashMap<Long, ArrayList<Integer>> removedRows = new HashMap<>();
+        for (int i = 0; i < this.oldToNew.length; i++) {
+            if (this.oldToNew[i] == -1) {
+                ArrayList<Integer> rows = removedRows.get(this.oldIds[i]);
+                if (rows == null) {
+                    rows = new ArrayList<>(1);
+                    removedRows.put(this.oldIds[i], rows);
+                }
+
+                rows.add(i);
+            }
+        }
+
+        if (removedRows.isEmpty()) {
+            return;
+        }
+
+        for (int j = 0; j < this.newToOld.length; j++) {
+            if (this.newToOld[j] != -1) {
+                continue;
+            }
+
+            ArrayList<Integer> rows = removedRows.get(this.newIds[j]);
+            if (rows == null) {
+                continue;
+            }
+
+            for (int i = 0; i < rows.size(); i++) {
+                int oldIndex = rows.get(i);
+                if (this.oldHeaders[oldIndex] == this.newHeaders[j]) {
+                    rows.remove(i);
+                    oldMoves[oldIndex] = j;
+                    newMoves[j] = oldIndex;
+                    break;
+                }
+            }
+        }
+    }
+
+    private static int countPulled(int[] pulledTree, int end) {
+        int count = 0;
+        for (int i = end; i > 0; i -= i & -i) {
+            count += pulledTree[i];
+        }
+
+        return count;
+    }
+
+    private void addOperation(int type, int position, int value) {
+        if (this.operationsCount > 0 && type != MOVE) {
+            int last = (this.operationsCount - 1) * 3;
+            if (this.operations[last] == type) {
+                int lastPosition = this.operations[last + 1];
+                int lastCount = this.operations[last + 2];
+                if ((type == REMOVE && lastPosition == position) || (type != REMOVE && lastPosition + lastCount == position)) {
+                    this.operations[last + 2] += value;
+                    return;
+                }
+            }
+        }
+
+        int index = this.operationsCount * 3;
+        if (index + 3 > this.operations.length) {
+            this.operations = Arrays.copyOf(this.operations, this.operations.length * 2);
+        }
+
+        this.operations[index] = type;
+        this.operations[index + 1] = position;
+        this.operations[index + 2] = value;
+        this.operationsCount++;
+    }
+}
@@ -1,9 +1,11 @@
 package com.telerik.widget.list;
 
+import android.os.AsyncTask;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 
+import com.telerik.android.common.CollectionChangeAction;
 import com.telerik.android.common.Function;
 import com.telerik.android.common.Function2;
 import com.telerik.android.data.DataChangeInfo;
@@ -11,6 +13,7 @@ import com.telerik.android.data.DataChangedListener;
 import com.telerik.android.data.DataItem;
 import com.telerik.android.data.RadDataSource;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -25,10 +28,14 @@ public class ListViewDataSourceAdapter extends ListViewAdapter
 
     protected static int ITEM_VIEW_TYPE_GROUP = -123;
 
+    // Flat views with more rows than this in total are compared on a background thread after a reset.
+    private static final int ASYNC_DIFF_ROWS_COUNT = 2000;
+
     private List flatView;
     private RadDataSource dataSource;
 
     private boolean skipNextDataChangedEvent = false;
+    private DiffTask pendingDiffTask;
 
     /**
      * Creates an instance of the {@link com.telerik.widget.list.ListViewDataSourceAdapter} class.
@@ -156,6 +163,23 @@ public class ListViewDataSourceAdapter extends ListViewAdapter
         dataSource().invalidateDescriptors();
     }
 
+    /**
+     * Determines whether the descriptors are applied on a background thread.
+     */
+    public boolean isAsyncDataOperations() {
+        return dataSource().isAsyncDataOperations();
+    }
+
+    /**
+     * Sets whether the descriptors are applied on a background thread. The list keeps showing the current items
+     * until the items for the new descriptors are ready, so the descriptors should only read the items.
+     *
+     * @param value {@code true} to apply the descriptors on a background thread.
+     */
+    public void setAsyncDataOperations(boolean value) {
+        dataSource().setAsyncDataOperations(value);
+    }
+
     @Override
     public void add(Object item) {
         add(item, true);
@@ -192,6 +216,7 @@ public class ListViewDataSourceAdapter extends ListViewAdapter
         getItems().add(index, item);
         if(!invalidateDescriptors) {
             DataItem dataItem = new DataItem(item);
+            detachFlatView();
             flatView.add(index, dataItem);
             notifyItemInserted(index);
             skipNextDataChangedEvent = true;
@@ -229,6 +254,7 @@ public class ListViewDataSourceAdapter extends ListViewAdapter
         if(!result) {
             return result;
         }
+        detachFlatView();
         flatView.remove(itemIndex);
         notifyItemRemoved(itemIndex);
         skipNextDataChangedEvent = true;
@@ -309,7 +335,49 @@ public class ListViewDataSourceAdapter extends ListViewAdapter
             skipNextDataChangedEvent = false;
             return;
         }
-        updateFlatView();
+        if(pendingDiffTask != null) {
+            // the list still shows the rows the pending comparison started from
+            compareFlatView(pendingDiffTask.oldRows);
+            return;
+        }
+
+        // the flat view of the data source already contains the change, unless the items were reordered here
+        boolean isLive = flatView == dataSource().flatView();
+
+        if(info.action() == CollectionChangeAction.RESET || flatView == null) {
+            List previousRows = isLive ? info.getPreviousItems() : flatView;
+            if(previousRows == null) {
+                updateFlatView();
+            } else {
+                compareFlatView(previousRows);
+            }
+            return;
+        }
+
+        // the ranges of removed rows are positions before the change, so they are removed from the last one
+        int rangesCount = info.getRangesCount();
+        if(info.action() == CollectionChangeAction.REMOVE) {
+            for (int i = rangesCount - 1; i >= 0; i--) {
+                int start = info.getRangeStart(i);
+                int length = info.getRangeLength(i);
+                if(!isLive) {
+                    flatView.subList(start, start + length).clear();
+                }
+                notifyItemRangeRemoved(start, length);
+            }
+        } else if(info.action() == CollectionChangeAction.ADD) {
+            List items = info.getItems();
+            int itemIndex = 0;
+            for (int i = 0; i < rangesCount; i++) {
+                int start = info.getRangeStart(i);
+                int length = info.getRangeLength(i);
+                if(!isLive) {
+                    flatView.addAll(start, items.subList(itemIndex, itemIndex + length));
+                }
+                itemIndex += length;
+                notifyItemRangeInserted(start, length);
+            }
+        }
     }
 
     @Override
@@ -369,6 +437,7 @@ public class ListViewDataSourceAdapter extends ListViewAdapter
 
     @Override
     public boolean reorderItem(int oldPosition, int newPosition) {
+        detachFlatView();
         List items = flatView;
         Object removedItem = items.remove(oldPosition);
         items.add(newPosition, removedItem);
@@ -628,15 +697,140 @@ public class ListViewDataSourceAdapter extends ListViewAdapter
         return true;
     }
 
+    /**
+     * Copies the flat view of the data source, which cannot be modified, before the items are changed here.
+     */
+    private void detachFlatView() {
+        if(pendingDiffTask != null) {
+            pendingDiffTask.cancel();
+            pendingDiffTask = null;
+            updateFlatView();
+        }
+        if(flatView == dataSource().flatView()) {
+            flatView = new ArrayList(flatView);
+        }
+    }
+
     private void updateFlatView() {
         flatView = dataSource().flatView();
         notifyDataSetChanged();
     }
 
+    /**
+     * Compares the shown rows with the flat view of the data source and notifies about the removed, inserted,
+     * moved and changed rows. Large views are compared on a background thread and the shown rows are kept
+     * until the comparison completes.
+     *
+     * @param oldRows the shown rows, which are not changed afterwards.
+     */
+    private void compareFlatView(List oldRows) {
+        if(pendingDiffTask != null) {
+            pendingDiffTask.cancel();
+            pendingDiffTask = null;
+        }
+
+        List newRows = dataSource().flatView();
+        if(oldRows.size() + newRows.size() <= ASYNC_DIFF_ROWS_COUNT) {
+            FlatViewDiff diff = createDiff(oldRows, newRows);
+            flatView = newRows;
+            if(diff.compute()) {
+                dispatchDiff(diff);
+            } else {
+                notifyDataSetChanged();
+            }
+            return;
+        }
+
+        flatView = oldRows;
+        pendingDiffTask = new DiffTask(oldRows, createDiff(oldRows, new ArrayList(newRows)));
+        pendingDiffTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+    }
+
+    private void completeDiff(DiffTask task, boolean isComputed) {
+        if(pendingDiffTask != task) {
+            return;
+        }
+        pendingDiffTask = null;
+        flatView = dataSource().flatView();
+        if(isComputed) {
+            dispatchDiff(task.diff);
+        } else {
+            notifyDataSetChanged();
+        }
+    }
+
+    private FlatViewDiff createDiff(List oldRows, List newRows) {
+        int oldCount = oldRows.size();
+        long[] oldIds = new long[oldCount];
+        boolean[] oldHeaders = new boolean[oldCount];
+        for (int i = 0; i < oldCount; i++) {
+            DataItem dataItem = (DataItem)oldRows.get(i);
+            oldHeaders[i] = isGroupHeader(dataItem);
+            oldIds[i] = getItemId(oldHeaders[i] ? dataItem.groupKey() : dataItem.entity());
+        }
+
+        int newCount = newRows.size();
+        long[] newIds = new long[newCount];
+        boolean[] newHeaders = new boolean[newCount];
+        for (int i = 0; i < newCount; i++) {
+            DataItem dataItem = (DataItem)newRows.get(i);
+            newHeaders[i] = isGroupHeader(dataItem);
+            newIds[i] = getItemId(newHeaders[i] ? dataItem.groupKey() : dataItem.entity());
+        }
+
+        return new FlatViewDiff(oldRows, oldIds, oldHeaders, newRows, newIds, newHeaders);
+    }
+
+    private void dispatchDiff(FlatViewDiff diff) {
+        for (int i = 0, count = diff.getOperationsCount(); i < count; i++) {
+            int position = diff.getOperationPosition(i);
+            int value = diff.getOperationValue(i);
+            switch (diff.getOperationType(i)) {
+                case FlatViewDiff.REMOVE:
+                    notifyItemRangeRemoved(position, value);
+                    break;
+                case FlatViewDiff.INSERT:
+                    notifyItemRangeInserted(position, value);
+                    break;
+                case FlatViewDiff.MOVE:
+                    notifyItemMoved(position, value);
+                    break;
+                case FlatViewDiff.CHANGE:
+                    notifyItemRangeChanged(position, value);
+                    break;
+            }
+        }
+    }
+
     private boolean isPositionValid(int position) {
         if(position < 0 || position >= getItemCount()) {
             return false;
         }
         return true;
     }
+
+    private class DiffTask extends AsyncTask<Void, Void, Boolean> {
+        final List oldRows;
+        final FlatViewDiff diff;
+
+        DiffTask(List oldRows, FlatViewDiff diff) {
+            this.oldRows = oldRows;
+            this.diff = diff;
+        }
+
+        void cancel() {
+            this.diff.cancel();
+            this.cancel(false);
+        }
+
+        @Override
+        protected Boolean doInBackground(Void... params) {
+            return this.diff.compute();
+        }
+
+        @Override
+        protected void onPostExecute(Boolean isComputed) {
+            completeDiff(this, isComputed);
+        }
+    }
 }